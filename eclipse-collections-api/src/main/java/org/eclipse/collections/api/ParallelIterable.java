@@ -13,6 +13,7 @@ package org.eclipse.collections.api;
 import java.util.Comparator;
 
 import org.eclipse.collections.api.annotation.Beta;
+import org.eclipse.collections.api.bag.Bag;
 import org.eclipse.collections.api.bag.MutableBag;
 import org.eclipse.collections.api.bag.sorted.MutableSortedBag;
 import org.eclipse.collections.api.block.function.Function;
@@ -29,6 +30,7 @@ import org.eclipse.collections.api.block.procedure.Procedure2;
 import org.eclipse.collections.api.list.MutableList;
 import org.eclipse.collections.api.map.MapIterable;
 import org.eclipse.collections.api.map.MutableMap;
+import org.eclipse.collections.api.map.primitive.ObjectLongMap;
 import org.eclipse.collections.api.map.sorted.MutableSortedMap;
 import org.eclipse.collections.api.multimap.Multimap;
 import org.eclipse.collections.api.set.MutableSet;
@@ -79,6 +81,37 @@ public interface ParallelIterable<T>
      */
     <V> ParallelIterable<V> flatCollect(Function<? super T, ? extends Iterable<V>> function);
 
+    /**
+     * Creates a parallel int iterable for collecting elements from the current iterable. The values are never boxed,
+     * so later stages like select and summaryStatistics stay in primitive space.
+     *
+     * @since 14.0
+     */
+    default ParallelIntIterable collectInt(IntFunction<? super T> function)
+    {
+        throw new UnsupportedOperationException(this.getClass().getSimpleName() + ".collectInt() not implemented yet");
+    }
+
+    /**
+     * Creates a parallel long iterable for collecting elements from the current iterable.
+     *
+     * @since 14.0
+     */
+    default ParallelLongIterable collectLong(LongFunction<? super T> function)
+    {
+        throw new UnsupportedOperationException(this.getClass().getSimpleName() + ".collectLong() not implemented yet");
+    }
+
+    /**
+     * Creates a parallel double iterable for collecting elements from the current iterable.
+     *
+     * @since 14.0
+     */
+    default ParallelDoubleIterable collectDouble(DoubleFunction<? super T> function)
+    {
+        throw new UnsupportedOperationException(this.getClass().getSimpleName() + ".collectDouble() not implemented yet");
+    }
+
     void forEach(Procedure<? super T> procedure);
 
     <P> void forEachWith(Procedure2<? super T, ? super P> procedure, P parameter);
@@ -234,4 +267,60 @@ public interface ParallelIterable<T>
     <K, V> MapIterable<K, V> aggregateInPlaceBy(Function<? super T, ? extends K> groupBy, Function0<? extends V> zeroValueFactory, Procedure2<? super V, ? super T> mutatingAggregator);
 
     <K, V> MapIterable<K, V> aggregateBy(Function<? super T, ? extends K> groupBy, Function0<? extends V> zeroValueFactory, Function2<? super V, ? super T, ? extends V> nonMutatingAggregator);
+
+    /**
+     * Same as {@link #aggregateInPlaceBy(Function, Function0, Procedure2)}, but each batch aggregates its elements into
+     * values of its own, and {@code combiner} then adds the value of a key from a later batch to the value of the same
+     * key from an earlier batch. The combiner must be associative.
+     * <p>
+     * The default implementation ignores {@code combiner} and calls
+     * {@link #aggregateInPlaceBy(Function, Function0, Procedure2)}, which gives the same result without combining values.
+     *
+     * @since 14.0
+     */
+    default <K, V> MapIterable<K, V> aggregateInPlaceBy(
+            Function<? super T, ? extends K> groupBy,
+            Function0<? extends V> zeroValueFactory,
+            Procedure2<? super V, ? super T> mutatingAggregator,
+            Procedure2<? super V, ? super V> combiner)
+    {
+        return this.aggregateInPlaceBy(groupBy, zeroValueFactory, mutatingAggregator);
+    }
+
+    /**
+     * Same as {@link #aggregateBy(Function, Function0, Function2)}, but each batch aggregates its elements into values
+     * of its own, and {@code combiner} then combines the value of a key from an earlier batch with the value of the same
+     * key from a later batch. The combiner must be associative.
+     * <p>
+     * The default implementation ignores {@code combiner} and calls
+     * {@link #aggregateBy(Function, Function0, Function2)}, which gives the same result without combining values.
+     *
+     * @since 14.0
+     */
+    default <K, V> MapIterable<K, V> aggregateBy(
+            Function<? super T, ? extends K> groupBy,
+            Function0<? extends V> zeroValueFactory,
+            Function2<? super V, ? super T, ? extends V> nonMutatingAggregator,
+            Function2<? super V, ? super V, ? extends V> combiner)
+    {
+        return this.aggregateBy(groupBy, zeroValueFactory, nonMutatingAggregator);
+    }
+
+    /**
+     * @see RichIterable#countBy(Function)
+     * @since 14.0
+     */
+    default <V> Bag<V> countBy(Function<? super T, ? extends V> function)
+    {
+        return this.toList().countBy(function);
+    }
+
+    /**
+     * @see RichIterable#sumByLong(Function, LongFunction)
+     * @since 14.0
+     */
+    default <V> ObjectLongMap<V> sumByLong(Function<? super T, ? extends V> groupBy, LongFunction<? super T> function)
+    {
+        return this.toList().sumByLong(groupBy, function);
+    }
 }
@@ -16,8 +16,10 @@ import org.eclipse.collections.api.block.function.Function;
 import org.eclipse.collections.api.block.function.Function2;
 import org.eclipse.collections.api.block.predicate.Predicate;
 import org.eclipse.collections.api.block.predicate.Predicate2;
+import org.eclipse.collections.api.block.procedure.Procedure;
 import org.eclipse.collections.api.multimap.list.ListMultimap;
 import org.eclipse.collections.api.set.ParallelUnsortedSetIterable;
+import org.eclipse.collections.api.tuple.Pair;
 
 /**
  * A ParallelIterable is RichIterable which will defer evaluation for certain methods like select, reject, collect, etc.
@@ -80,4 +82,60 @@ public interface ParallelListIterable<T>
 
     @Override
     <V> ListMultimap<V, T> groupByEach(Function<? super T, ? extends Iterable<V>> function);
+
+    /**
+     * Evaluates the procedure for each element in encounter order, one element at a time on the calling thread. The
+     * stages before it, like select and collect, are still evaluated in parallel, and the procedure does not need to be
+     * thread-safe.
+     *
+     * @since 14.0
+     */
+    default void forEachOrdered(Procedure<? super T> procedure)
+    {
+        throw new UnsupportedOperationException(this.getClass().getSimpleName() + ".forEachOrdered() not implemented yet");
+    }
+
+    /**
+     * Returns the first element in encounter order which satisfies the predicate, or null if there is none. Unlike
+     * {@link #detect(Predicate)}, which may return any matching element, the result is the same as the sequential one.
+     *
+     * @since 14.0
+     */
+    default T detectFirst(Predicate<? super T> predicate)
+    {
+        throw new UnsupportedOperationException(this.getClass().getSimpleName() + ".detectFirst() not implemented yet");
+    }
+
+    /**
+     * Returns a list of the first {@code count} elements in encounter order. The batches after the last element taken
+     * are cancelled.
+     *
+     * @throws IllegalArgumentException if {@code count} is negative
+     * @since 14.0
+     */
+    default MutableList<T> take(int count)
+    {
+        throw new UnsupportedOperationException(this.getClass().getSimpleName() + ".take() not implemented yet");
+    }
+
+    /**
+     * Returns a list of all the elements in encounter order except the first {@code count}.
+     *
+     * @throws IllegalArgumentException if {@code count} is negative
+     * @since 14.0
+     */
+    default MutableList<T> drop(int count)
+    {
+        throw new UnsupportedOperationException(this.getClass().getSimpleName() + ".drop() not implemented yet");
+    }
+
+    /**
+     * Returns a list of pairs of each element with its index in encounter order.
+     *
+     * @since 14.0
+     */
+    default MutableList<Pair<T, Integer>> zipWithIndex()
+    {
+        throw new UnsupportedOperationException(this.getClass().getSimpleName() + ".zipWithIndex() not implemented yet");
+    }
 }
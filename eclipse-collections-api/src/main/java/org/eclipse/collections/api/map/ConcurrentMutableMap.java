@@ -12,10 +12,14 @@ package org.eclipse.collections.api.map;
 
 import java.util.Map;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
 import java.util.function.BiConsumer;
 import java.util.function.BiFunction;
 
+import org.eclipse.collections.api.block.predicate.Predicate2;
 import org.eclipse.collections.api.block.procedure.Procedure;
+import org.eclipse.collections.api.set.ParallelUnsortedSetIterable;
+import org.eclipse.collections.api.tuple.Pair;
 
 /**
  * A ConcurrentMutableMap provides an api which combines and supports both MutableMap and ConcurrentMap.
@@ -52,6 +56,44 @@ public interface ConcurrentMutableMap<K, V>
         MutableMap.super.forEach(action);
     }
 
+    /**
+     * Returns the number of mappings in this map without blocking. While other threads are modifying the map, the
+     * result is an approximation that may miss concurrent updates; implementations whose {@link #size()} is already
+     * non-blocking may simply return it.
+     *
+     * @since 14.0
+     */
+    default long sizeEstimate()
+    {
+        return this.size();
+    }
+
+    /**
+     * Returns a parallel iterable over the key-value pairs of this map, which executes its operations on
+     * {@code executorService} in batches of roughly {@code batchSize} entries. Implementations which can split their
+     * storage directly work on the live map and see every entry present for the whole of an operation; the default
+     * implementation works on a snapshot of the pairs.
+     *
+     * @since 14.0
+     */
+    default ParallelUnsortedSetIterable<Pair<K, V>> keyValuesAsParallel(ExecutorService executorService, int batchSize)
+    {
+        return this.keyValuesView().toSet().asParallel(executorService, batchSize);
+    }
+
+    /**
+     * Removes all of the entries of this map which satisfy the predicate, evaluating the predicate in parallel on
+     * {@code executorService}. An entry is only removed if it is still mapped to the value the predicate accepted.
+     * The default implementation is sequential.
+     *
+     * @return true if any entries were removed
+     * @since 14.0
+     */
+    default boolean removeIfInParallel(Predicate2<? super K, ? super V> predicate, ExecutorService executorService, int batchSize)
+    {
+        return this.removeIf(predicate);
+    }
+
     /**
      * A concurrent implementation of {@link ConcurrentMap#merge(Object, Object, BiFunction)} and {@link Map#merge(Object, Object, BiFunction)}. In the implementing classes, it is possible for the {@code remappingFunction} to be called multiple times. It is also possible for the {@code remappingFunction} to be called one or more times, but the result is not used (because the old entry was concurrently removed).
      */
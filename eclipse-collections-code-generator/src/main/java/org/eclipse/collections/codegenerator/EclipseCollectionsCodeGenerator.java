@@ -95,6 +95,10 @@ public class EclipseCollectionsCodeGenerator
                         {
                             continue;
                         }
+                        if (forSpecializedStream && (!primitive1.hasSpecializedStream() || !primitive2.hasSpecializedStream()))
+                        {
+                            continue;
+                        }
                         String sourceFileName = this.executeTemplate(templateFile, "fileName", primitive1, primitive2);
                         File outputFile = new File(targetPath, sourceFileName + this.fileExtension);
 
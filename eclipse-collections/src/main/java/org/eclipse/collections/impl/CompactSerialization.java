@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2024 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl;
+
+import java.io.IOException;
+import java.io.ObjectOutput;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+
+/**
+ * Selects the wire format written by the primitive hash maps and sets.
+ * <p>
+ * By default, primitive hash collections write their size followed by one {@code writeInt}, {@code writeLong}, etc.
+ * call per element. When they are written to a stream created by {@link #newObjectOutputStream(OutputStream)}, they
+ * instead write {@link #COMPACT_FORMAT_MARKER}, the size, and then the elements as one block of fixed-width big-endian
+ * records, which is written and read in large chunks. Both formats are always accepted when reading, but the compact
+ * format cannot be read by versions that predate it.
+ *
+ * @since 14.0
+ */
+public final class CompactSerialization
+{
+    /**
+     * Written in place of the size to mark the compact format. A size is never negative.
+     */
+    public static final int COMPACT_FORMAT_MARKER = -1;
+
+    /**
+     * The size of the chunks in which records are written and read.
+     */
+    public static final int CHUNK_BYTES = 8192;
+
+    private CompactSerialization()
+    {
+        throw new AssertionError("Suppress default constructor for noninstantiability");
+    }
+
+    /**
+     * Returns an ObjectOutputStream to which primitive hash collections write the compact format. Other streams, and
+     * other objects written to this stream, are not affected.
+     */
+    public static ObjectOutputStream newObjectOutputStream(OutputStream out) throws IOException
+    {
+        return new CompactObjectOutputStream(out);
+    }
+
+    public static boolean isCompact(ObjectOutput out)
+    {
+        return out instanceof CompactObjectOutputStream;
+    }
+
+    private static final class CompactObjectOutputStream extends ObjectOutputStream
+    {
+        private CompactObjectOutputStream(OutputStream out) throws IOException
+        {
+            super(out);
+        }
+    }
+}
@@ -0,0 +1,297 @@
+/*
+ * Copyright (c) 2024 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl;
+
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+
+/**
+ * A StripedCounter is a thread-safe long counter for write-heavy workloads. Updates are applied to a base value
+ * until two threads contend on it, after which each thread is steered by a per-thread probe to one of a growing set
+ * of cache-line-padded cells. The number of cells is bounded by the maximum number of stripes given at construction,
+ * which is rounded up to a power of two.
+ * <p>
+ * Reading the count never blocks. The value returned by {@link #sum()} is exact when there are no concurrent updates,
+ * but is otherwise a sum of the base and cells read one after the other, which may miss updates that race with it.
+ *
+ * @since 14.0
+ */
+public final class StripedCounter
+{
+    /**
+     * The default maximum number of stripes, which is the number of available processors rounded up to a power of two.
+     */
+    public static final int DEFAULT_MAX_STRIPES = StripedCounter.ceilingPowerOfTwo(Runtime.getRuntime().availableProcessors());
+
+    private static final AtomicLongFieldUpdater<StripedCounter> BASE_UPDATER = AtomicLongFieldUpdater.newUpdater(StripedCounter.class, "base");
+    private static final AtomicIntegerFieldUpdater<StripedCounter> CELLS_BUSY_UPDATER = AtomicIntegerFieldUpdater.newUpdater(StripedCounter.class, "cellsBusy");
+    private static final ThreadLocal<int[]> PROBE = ThreadLocal.withInitial(StripedCounter::initialProbe);
+
+    private final int maxStripes;
+
+    @SuppressWarnings("UnusedDeclaration")
+    private volatile long base; // updated via atomic field updater
+    private volatile Cell[] cells;
+    @SuppressWarnings("UnusedDeclaration")
+    private volatile int cellsBusy; // spin lock guarding the creation and growth of cells, updated via atomic field updater
+
+    public StripedCounter()
+    {
+        this(DEFAULT_MAX_STRIPES);
+    }
+
+    public StripedCounter(int maxStripes)
+    {
+        if (maxStripes < 1)
+        {
+            throw new IllegalArgumentException("maxStripes must be positive: " + maxStripes);
+        }
+        this.maxStripes = StripedCounter.ceilingPowerOfTwo(maxStripes);
+    }
+
+    public int getMaxStripes()
+    {
+        return this.maxStripes;
+    }
+
+    public void increment()
+    {
+        this.add(1L);
+    }
+
+    public void decrement()
+    {
+        this.add(-1L);
+    }
+
+    public void add(long value)
+    {
+        Cell[] localCells = this.cells;
+        long localBase = this.base;
+        if (localCells == null && BASE_UPDATER.compareAndSet(this, localBase, localBase + value))
+        {
+            return;
+        }
+        int[] probe = PROBE.get();
+        if (localCells != null)
+        {
+            Cell cell = localCells[probe[0] & localCells.length - 1];
+            if (cell != null && cell.compareAndSet(value))
+            {
+                return;
+            }
+        }
+        this.addContended(value, probe);
+    }
+
+    /**
+     * Handles an update that lost a race on the base or on its cell: creates the cell for this thread's probe if it is
+     * missing, and otherwise moves the thread to another cell, doubling the number of cells while below the maximum.
+     */
+    private void addContended(long value, int[] probe)
+    {
+        boolean collided = false;
+        while (true)
+        {
+            Cell[] localCells = this.cells;
+            if (localCells != null)
+            {
+                int index = probe[0] & localCells.length - 1;
+                Cell cell = localCells[index];
+                if (cell == null)
+                {
+                    if (this.cellsBusy == 0 && CELLS_BUSY_UPDATER.compareAndSet(this, 0, 1))
+                    {
+                        try
+                        {
+                            if (this.cells == localCells && localCells[index] == null)
+                            {
+                                localCells[index] = new Cell(value);
+                                return;
+                            }
+                        }
+                        finally
+                        {
+                            this.cellsBusy = 0;
+                        }
+                    }
+                    collided = false;
+                }
+                else if (cell.compareAndSet(value))
+                {
+                    return;
+                }
+                else if (localCells.length >= this.maxStripes || this.cells != localCells)
+                {
+                    collided = false;
+                }
+                else if (!collided)
+                {
+                    collided = true;
+                }
+                else if (this.cellsBusy == 0 && CELLS_BUSY_UPDATER.compareAndSet(this, 0, 1))
+                {
+                    try
+                    {
+                        if (this.cells == localCells)
+                        {
+                            Cell[] newCells = new Cell[localCells.length << 1];
+                            System.arraycopy(localCells, 0, newCells, 0, localCells.length);
+                            this.cells = newCells;
+                        }
+                    }
+                    finally
+                    {
+                        this.cellsBusy = 0;
+                    }
+                    collided = false;
+                    continue;
+                }
+                probe[0] = StripedCounter.advanceProbe(probe[0]);
+            }
+            else if (this.cellsBusy == 0 && this.cells == null && CELLS_BUSY_UPDATER.compareAndSet(this, 0, 1))
+            {
+                try
+                {
+                    if (this.cells == null)
+                    {
+                        Cell[] newCells = new Cell[Math.min(2, this.maxStripes)];
+                        newCells[probe[0] & newCells.length - 1] = new Cell(value);
+                        this.cells = newCells;
+                        return;
+                    }
+                }
+                finally
+                {
+                    this.cellsBusy = 0;
+                }
+            }
+            else
+            {
+                long localBase = this.base;
+                if (BASE_UPDATER.compareAndSet(this, localBase, localBase + value))
+                {
+                    return;
+                }
+            }
+        }
+    }
+
+    public long sum()
+    {
+        long sum = this.base;
+        Cell[] localCells = this.cells;
+        if (localCells != null)
+        {
+            for (Cell cell : localCells)
+            {
+                if (cell != null)
+                {
+                    sum += cell.value;
+                }
+            }
+        }
+        return sum;
+    }
+
+    /**
+     * Returns {@link #sum()} clamped to the range of an int, for use as the size of a collection.
+     */
+    public int intValue()
+    {
+        long sum = this.sum();
+        if (sum < 0L)
+        {
+            return 0;
+        }
+        return sum > Integer.MAX_VALUE ? Integer.MAX_VALUE : (int) sum;
+    }
+
+    /**
+     * Sets the count to zero. This is only exact when there are no concurrent updates.
+     */
+    public void reset()
+    {
+        this.base = 0L;
+        Cell[] localCells = this.cells;
+        if (localCells != null)
+        {
+            for (Cell cell : localCells)
+            {
+                if (cell != null)
+                {
+                    cell.value = 0L;
+                }
+            }
+        }
+    }
+
+    @Override
+    public String toString()
+    {
+        return String.valueOf(this.sum());
+    }
+
+    private static int[] initialProbe()
+    {
+        int h = (int) Thread.currentThread().getId() * 0x9E3779B9;
+        return new int[]{h == 0 ? 1 : h};
+    }
+
+    private static int advanceProbe(int probe)
+    {
+        probe ^= probe << 13;
+        probe ^= probe >>> 17;
+        probe ^= probe << 5;
+        return probe;
+    }
+
+    private static int ceilingPowerOfTwo(int value)
+    {
+        return value > 1 ? Integer.highestOneBit(value - 1) << 1 : 1;
+    }
+
+    /**
+     * A counter cell, padded on both sides so that cells allocated next to each other do not share a cache line.
+     */
+    @SuppressWarnings("unused")
+    private static final class Cell
+    {
+        private static final AtomicLongFieldUpdater<Cell> VALUE_UPDATER = AtomicLongFieldUpdater.newUpdater(Cell.class, "value");
+
+        private long p0;
+        private long p1;
+        private long p2;
+        private long p3;
+        private long p4;
+        private long p5;
+        private long p6;
+        private volatile long value;
+        private long q0;
+        private long q1;
+        private long q2;
+        private long q3;
+        private long q4;
+        private long q5;
+        private long q6;
+
+        private Cell(long value)
+        {
+            this.value = value;
+        }
+
+        private boolean compareAndSet(long delta)
+        {
+            long localValue = this.value;
+            return VALUE_UPDATER.compareAndSet(this, localValue, localValue + delta);
+        }
+    }
+}
@@ -0,0 +1,686 @@
+/*
+ * Copyright (c) 2024 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.bag.mutable;
+
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+
+import org.eclipse.collections.api.RichIterable;
+import org.eclipse.collections.api.bag.Bag;
+import org.eclipse.collections.api.bag.MutableBag;
+import org.eclipse.collections.api.block.function.Function;
+import org.eclipse.collections.api.block.function.primitive.IntFunction;
+import org.eclipse.collections.api.block.predicate.Predicate;
+import org.eclipse.collections.api.block.predicate.Predicate2;
+import org.eclipse.collections.api.block.predicate.primitive.IntPredicate;
+import org.eclipse.collections.api.block.predicate.primitive.ObjectIntPredicate;
+import org.eclipse.collections.api.block.procedure.Procedure;
+import org.eclipse.collections.api.block.procedure.primitive.ObjectIntProcedure;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.api.map.MutableMap;
+import org.eclipse.collections.api.tuple.primitive.ObjectIntPair;
+import org.eclipse.collections.impl.Counter;
+import org.eclipse.collections.impl.StripedCounter;
+import org.eclipse.collections.impl.map.mutable.ConcurrentHashMap;
+import org.eclipse.collections.impl.map.mutable.UnifiedMap;
+import org.eclipse.collections.impl.multimap.bag.HashBagMultimap;
+import org.eclipse.collections.impl.utility.ArrayIterate;
+import org.eclipse.collections.impl.utility.Iterate;
+
+/**
+ * A ConcurrentHashBag is a thread-safe MutableBag backed by a lock-free {@link ConcurrentHashMap} from each item to
+ * its own atomic counter. Writers to different items never contend, and writers to the same item only contend on the
+ * compare-and-set of its counter. The total size is kept in a {@link StripedCounter}.
+ * <p>
+ * {@link #addOccurrences(Object, int)}, {@link #removeOccurrences(Object, int)},
+ * {@link #setOccurrences(Object, int)} and {@link #occurrencesOf(Object)} are linearizable for each item. A counter
+ * which drops to zero is retired before its entry is removed from the map, and writers which find a retired counter
+ * replace it instead of adding to it, so that no occurrences are lost to a concurrent removal. Iteration,
+ * {@link #size()} and the bulk methods are weakly consistent, as for {@link ConcurrentHashMap}.
+ *
+ * @since 14.0
+ */
+public class ConcurrentHashBag<T>
+        extends AbstractMutableBag<T>
+        implements Externalizable
+{
+    private static final long serialVersionUID = 1L;
+
+    private static final Object NULL_ITEM = new Object();
+
+    private ConcurrentHashMap<Object, Occurrences> items;
+    private StripedCounter size;
+
+    public ConcurrentHashBag()
+    {
+        this(16);
+    }
+
+    public ConcurrentHashBag(int initialCapacity)
+    {
+        this.items = ConcurrentHashMap.newMap(initialCapacity);
+        this.size = new StripedCounter();
+    }
+
+    public static <E> ConcurrentHashBag<E> newBag()
+    {
+        return new ConcurrentHashBag<>();
+    }
+
+    public static <E> ConcurrentHashBag<E> newBag(int initialCapacity)
+    {
+        return new ConcurrentHashBag<>(initialCapacity);
+    }
+
+    public static <E> ConcurrentHashBag<E> newBag(Iterable<? extends E> source)
+    {
+        if (source instanceof Bag)
+        {
+            ConcurrentHashBag<E> result = ConcurrentHashBag.newBag(((Bag<? extends E>) source).sizeDistinct());
+            result.addAllBag((Bag<? extends E>) source);
+            return result;
+        }
+        ConcurrentHashBag<E> result = ConcurrentHashBag.newBag(Iterate.sizeOf(source));
+        Iterate.addAllTo(source, result);
+        return result;
+    }
+
+    public static <E> ConcurrentHashBag<E> newBagWith(E... elements)
+    {
+        ConcurrentHashBag<E> result = ConcurrentHashBag.newBag(elements.length);
+        ArrayIterate.addAllTo(elements, result);
+        return result;
+    }
+
+    private static Object toSentinelIfNull(Object item)
+    {
+        return item == null ? NULL_ITEM : item;
+    }
+
+    private static <T> T nonSentinel(Object key)
+    {
+        return key == NULL_ITEM ? null : (T) key;
+    }
+
+    @Override
+    public int addOccurrences(T item, int occurrences)
+    {
+        if (occurrences < 0)
+        {
+            throw new IllegalArgumentException("Cannot add a negative number of occurrences");
+        }
+        if (occurrences == 0)
+        {
+            return this.occurrencesOf(item);
+        }
+        Object key = ConcurrentHashBag.toSentinelIfNull(item);
+        while (true)
+        {
+            Occurrences counter = this.items.get(key);
+            if (counter == null)
+            {
+                counter = this.items.putIfAbsent(key, new Occurrences(occurrences));
+                if (counter == null)
+                {
+                    this.size.add(occurrences);
+                    return occurrences;
+                }
+            }
+            int updated = counter.addIfLive(occurrences);
+            if (updated > 0)
+            {
+                this.size.add(occurrences);
+                return updated;
+            }
+            if (this.items.replace(key, counter, new Occurrences(occurrences)))
+            {
+                this.size.add(occurrences);
+                return occurrences;
+            }
+        }
+    }
+
+    @Override
+    public boolean add(T item)
+    {
+        this.addOccurrences(item, 1);
+        return true;
+    }
+
+    @Override
+    public boolean removeOccurrences(Object item, int occurrences)
+    {
+        if (occurrences < 0)
+        {
+            throw new IllegalArgumentException("Cannot remove a negative number of occurrences");
+        }
+        if (occurrences == 0)
+        {
+            return false;
+        }
+        Object key = ConcurrentHashBag.toSentinelIfNull(item);
+        Occurrences counter = this.items.get(key);
+        int removed = 0;
+        while (counter != null && (removed = counter.subtract(occurrences)) == 0)
+        {
+            // the counter was retired, so retry on its replacement if another thread has added one
+            Occurrences current = this.items.get(key);
+            counter = current == counter ? null : current;
+        }
+        if (counter == null)
+        {
+            return false;
+        }
+        this.size.add(-removed);
+        if (counter.count == 0)
+        {
+            this.items.remove(key, counter);
+        }
+        return true;
+    }
+
+    @Override
+    public boolean remove(Object item)
+    {
+        return this.removeOccurrences(item, 1);
+    }
+
+    @Override
+    public boolean setOccurrences(T item, int occurrences)
+    {
+        if (occurrences < 0)
+        {
+            throw new IllegalArgumentException("Cannot set a negative number of occurrences");
+        }
+        Object key = ConcurrentHashBag.toSentinelIfNull(item);
+        while (true)
+        {
+            Occurrences counter = this.items.get(key);
+            if (counter == null)
+            {
+                if (occurrences == 0)
+                {
+                    return false;
+                }
+                counter = this.items.putIfAbsent(key, new Occurrences(occurrences));
+                if (counter == null)
+                {
+                    this.size.add(occurrences);
+                    return true;
+                }
+            }
+            int original = counter.count;
+            if (original == 0)
+            {
+                if (occurrences == 0)
+                {
+                    return false;
+                }
+                if (this.items.replace(key, counter, new Occurrences(occurrences)))
+                {
+                    this.size.add(occurrences);
+                    return true;
+                }
+            }
+            else if (counter.compareAndSet(original, occurrences))
+            {
+                this.size.add(occurrences - original);
+                if (occurrences == 0)
+                {
+                    this.items.remove(key, counter);
+                }
+                return original != occurrences;
+            }
+        }
+    }
+
+    /**
+     * Retires the counter of the given key and removes its entry, returning the number of occurrences removed.
+     */
+    private int removeAllOccurrences(Object key, Occurrences counter)
+    {
+        int removed = counter.subtract(Integer.MAX_VALUE);
+        if (removed > 0)
+        {
+            this.size.add(-removed);
+        }
+        this.items.remove(key, counter);
+        return removed;
+    }
+
+    @Override
+    public int occurrencesOf(Object item)
+    {
+        Occurrences counter = this.items.get(ConcurrentHashBag.toSentinelIfNull(item));
+        return counter == null ? 0 : counter.count;
+    }
+
+    @Override
+    public boolean contains(Object item)
+    {
+        return this.occurrencesOf(item) > 0;
+    }
+
+    @Override
+    public int size()
+    {
+        return this.size.intValue();
+    }
+
+    @Override
+    public boolean isEmpty()
+    {
+        return this.size() == 0;
+    }
+
+    @Override
+    public int sizeDistinct()
+    {
+        return this.items.size();
+    }
+
+    @Override
+    public void clear()
+    {
+        this.items.forEachKeyValue(this::removeAllOccurrences);
+    }
+
+    @Override
+    public boolean removeIf(Predicate<? super T> predicate)
+    {
+        Counter removed = new Counter();
+        this.items.forEachKeyValue((key, counter) ->
+        {
+            if (counter.count > 0 && predicate.accept(ConcurrentHashBag.nonSentinel(key)))
+            {
+                removed.add(this.removeAllOccurrences(key, counter));
+            }
+        });
+        return removed.getCount() > 0;
+    }
+
+    @Override
+    public <P> boolean removeIfWith(Predicate2<? super T, ? super P> predicate, P parameter)
+    {
+        return this.removeIf(each -> predicate.accept(each, parameter));
+    }
+
+    @Override
+    public boolean removeAllIterable(Iterable<?> iterable)
+    {
+        Counter removed = new Counter();
+        Iterable<?> distinct = iterable instanceof Bag ? ((Bag<?>) iterable).distinctView() : iterable;
+        for (Object each : distinct)
+        {
+            Object key = ConcurrentHashBag.toSentinelIfNull(each);
+            Occurrences counter = this.items.get(key);
+            if (counter != null)
+            {
+                removed.add(this.removeAllOccurrences(key, counter));
+            }
+        }
+        return removed.getCount() > 0;
+    }
+
+    @Override
+    public void forEachWithOccurrences(ObjectIntProcedure<? super T> procedure)
+    {
+        this.items.forEachKeyValue((key, counter) ->
+        {
+            int count = counter.count;
+            if (count > 0)
+            {
+                procedure.value(ConcurrentHashBag.nonSentinel(key), count);
+            }
+        });
+    }
+
+    @Override
+    public boolean anySatisfyWithOccurrences(ObjectIntPredicate<? super T> predicate)
+    {
+        return this.detectEntryWithOccurrences(predicate) != null;
+    }
+
+    @Override
+    public boolean allSatisfyWithOccurrences(ObjectIntPredicate<? super T> predicate)
+    {
+        return this.detectEntryWithOccurrences((each, count) -> !predicate.accept(each, count)) == null;
+    }
+
+    @Override
+    public boolean noneSatisfyWithOccurrences(ObjectIntPredicate<? super T> predicate)
+    {
+        return this.detectEntryWithOccurrences(predicate) == null;
+    }
+
+    @Override
+    public T detectWithOccurrences(ObjectIntPredicate<? super T> predicate)
+    {
+        Map.Entry<Object, Occurrences> entry = this.detectEntryWithOccurrences(predicate);
+        return entry == null ? null : ConcurrentHashBag.nonSentinel(entry.getKey());
+    }
+
+    private Map.Entry<Object, Occurrences> detectEntryWithOccurrences(ObjectIntPredicate<? super T> predicate)
+    {
+        for (Map.Entry<Object, Occurrences> entry : this.items.entrySet())
+        {
+            int count = entry.getValue().count;
+            if (count > 0 && predicate.accept(ConcurrentHashBag.nonSentinel(entry.getKey()), count))
+            {
+                return entry;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public MutableMap<T, Integer> toMapOfItemToCount()
+    {
+        MutableMap<T, Integer> map = UnifiedMap.newMap(this.items.size());
+        this.forEachWithOccurrences(map::put);
+        return map;
+    }
+
+    @Override
+    public MutableBag<T> selectByOccurrences(IntPredicate predicate)
+    {
+        ConcurrentHashBag<T> result = ConcurrentHashBag.newBag();
+        this.forEachWithOccurrences((each, occurrences) ->
+        {
+            if (predicate.accept(occurrences))
+            {
+                result.addOccurrences(each, occurrences);
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Sorts a snapshot of the items, since {@link #sizeDistinct()} may change while the snapshot is taken.
+     */
+    @Override
+    protected MutableList<ObjectIntPair<T>> occurrencesSortingBy(int n, IntFunction<ObjectIntPair<T>> function, MutableList<ObjectIntPair<T>> returnWhenEmpty)
+    {
+        if (n < 0)
+        {
+            throw new IllegalArgumentException("Cannot use a value of n < 0");
+        }
+        if (n == 0)
+        {
+            return returnWhenEmpty;
+        }
+        MutableList<ObjectIntPair<T>> sorted = this.toListWithOccurrences().sortThisByInt(function);
+        int keySize = Math.min(n, sorted.size());
+        if (keySize == 0)
+        {
+            return returnWhenEmpty;
+        }
+        MutableList<ObjectIntPair<T>> results = sorted.subList(0, keySize).toList();
+        while (keySize < sorted.size() && results.getLast().getTwo() == sorted.get(keySize).getTwo())
+        {
+            results.add(sorted.get(keySize));
+            keySize++;
+        }
+        return results;
+    }
+
+    @Override
+    protected RichIterable<T> getKeysView()
+    {
+        return this.items.keyValuesView()
+                .select(pair -> pair.getTwo().count > 0)
+                .collect(pair -> ConcurrentHashBag.nonSentinel(pair.getOne()));
+    }
+
+    /**
+     * Returns an unmodifiable snapshot of the distinct items, since the entries of the backing map hold the null item
+     * as a sentinel.
+     */
+    @Override
+    public RichIterable<T> distinctView()
+    {
+        return this.getKeysView().toSet().asUnmodifiable();
+    }
+
+    @Override
+    public void each(Procedure<? super T> procedure)
+    {
+        this.forEachWithOccurrences((each, occurrences) ->
+        {
+            for (int i = 0; i < occurrences; i++)
+            {
+                procedure.value(each);
+            }
+        });
+    }
+
+    @Override
+    public Iterator<T> iterator()
+    {
+        return new InternalIterator();
+    }
+
+    @Override
+    public <V> HashBagMultimap<V, T> groupBy(Function<? super T, ? extends V> function)
+    {
+        return this.groupBy(function, HashBagMultimap.newMultimap());
+    }
+
+    @Override
+    public <V> HashBagMultimap<V, T> groupByEach(Function<? super T, ? extends Iterable<V>> function)
+    {
+        return this.groupByEach(function, HashBagMultimap.newMultimap());
+    }
+
+    @Override
+    public MutableBag<T> newEmpty()
+    {
+        return ConcurrentHashBag.newBag();
+    }
+
+    @Override
+    public ConcurrentHashBag<T> with(T element)
+    {
+        this.add(element);
+        return this;
+    }
+
+    public ConcurrentHashBag<T> with(T... elements)
+    {
+        this.addAll(Arrays.asList(elements));
+        return this;
+    }
+
+    @Override
+    public ConcurrentHashBag<T> without(T element)
+    {
+        this.remove(element);
+        return this;
+    }
+
+    @Override
+    public ConcurrentHashBag<T> withAll(Iterable<? extends T> iterable)
+    {
+        this.addAllIterable(iterable);
+        return this;
+    }
+
+    @Override
+    public ConcurrentHashBag<T> withoutAll(Iterable<? extends T> iterable)
+    {
+        this.removeAllIterable(iterable);
+        return this;
+    }
+
+    @Override
+    public boolean equals(Object other)
+    {
+        if (this == other)
+        {
+            return true;
+        }
+        if (!(other instanceof Bag))
+        {
+            return false;
+        }
+        Bag<?> bag = (Bag<?>) other;
+        if (this.sizeDistinct() != bag.sizeDistinct())
+        {
+            return false;
+        }
+        return this.allSatisfyWithOccurrences((each, count) -> bag.occurrencesOf(each) == count);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        Counter counter = new Counter();
+        this.forEachWithOccurrences((each, count) -> counter.add((each == null ? 0 : each.hashCode()) ^ count));
+        return counter.getCount();
+    }
+
+    @Override
+    public void writeExternal(ObjectOutput out) throws IOException
+    {
+        MutableList<ObjectIntPair<T>> snapshot = this.toListWithOccurrences();
+        out.writeInt(snapshot.size());
+        for (ObjectIntPair<T> pair : snapshot)
+        {
+            out.writeObject(pair.getOne());
+            out.writeInt(pair.getTwo());
+        }
+    }
+
+    @Override
+    public void readExternal(ObjectInput in) throws IOException, ClassNotFoundException
+    {
+        int sizeDistinct = in.readInt();
+        this.items = ConcurrentHashMap.newMap(sizeDistinct);
+        this.size = new StripedCounter();
+        for (int i = 0; i < sizeDistinct; i++)
+        {
+            this.addOccurrences((T) in.readObject(), in.readInt());
+        }
+    }
+
+    /**
+     * The number of occurrences of one item. A count of zero marks a counter which has been retired from the map.
+     */
+    private static final class Occurrences
+    {
+        private static final AtomicIntegerFieldUpdater<Occurrences> COUNT_UPDATER = AtomicIntegerFieldUpdater.newUpdater(Occurrences.class, "count");
+
+        private volatile int count;
+
+        private Occurrences(int count)
+        {
+            this.count = count;
+        }
+
+        private boolean compareAndSet(int expected, int updated)
+        {
+            return COUNT_UPDATER.compareAndSet(this, expected, updated);
+        }
+
+        /**
+         * Adds to a live counter, returning the updated count, or 0 if the counter has been retired.
+         */
+        private int addIfLive(int delta)
+        {
+            while (true)
+            {
+                int current = this.count;
+                if (current == 0)
+                {
+                    return 0;
+                }
+                int updated = current + delta;
+                if (this.compareAndSet(current, updated))
+                {
+                    return updated;
+                }
+            }
+        }
+
+        /**
+         * Subtracts up to {@code delta} without going below zero, returning the amount actually subtracted.
+         */
+        private int subtract(int delta)
+        {
+            while (true)
+            {
+                int current = this.count;
+                if (current == 0)
+                {
+                    return 0;
+                }
+                int updated = Math.max(current - delta, 0);
+                if (this.compareAndSet(current, updated))
+                {
+                    return current - updated;
+                }
+            }
+        }
+    }
+
+    private class InternalIterator implements Iterator<T>
+    {
+        private final Iterator<Map.Entry<Object, Occurrences>> iterator = ConcurrentHashBag.this.items.entrySet().iterator();
+
+        private T nextItem;
+        private int remainingOccurrences;
+        private T currentItem;
+        private boolean canRemove;
+
+        @Override
+        public boolean hasNext()
+        {
+            while (this.remainingOccurrences == 0 && this.iterator.hasNext())
+            {
+                Map.Entry<Object, Occurrences> entry = this.iterator.next();
+                this.nextItem = ConcurrentHashBag.nonSentinel(entry.getKey());
+                this.remainingOccurrences = entry.getValue().count;
+            }
+            return this.remainingOccurrences > 0;
+        }
+
+        @Override
+        public T next()
+        {
+            if (!this.hasNext())
+            {
+                throw new NoSuchElementException();
+            }
+            this.remainingOccurrences--;
+            this.currentItem = this.nextItem;
+            this.canRemove = true;
+            return this.currentItem;
+        }
+
+        @Override
+        public void remove()
+        {
+            if (!this.canRemove)
+            {
+                throw new IllegalStateException();
+            }
+            ConcurrentHashBag.this.remove(this.currentItem);
+            this.canRemove = false;
+        }
+    }
+}
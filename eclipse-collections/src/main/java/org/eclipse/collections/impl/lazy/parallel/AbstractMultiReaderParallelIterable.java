@@ -13,7 +13,11 @@ package org.eclipse.collections.impl.lazy.parallel;
 import java.util.Comparator;
 import java.util.concurrent.locks.ReadWriteLock;
 
+import org.eclipse.collections.api.ParallelDoubleIterable;
+import org.eclipse.collections.api.ParallelIntIterable;
 import org.eclipse.collections.api.ParallelIterable;
+import org.eclipse.collections.api.ParallelLongIterable;
+import org.eclipse.collections.api.bag.Bag;
 import org.eclipse.collections.api.bag.MutableBag;
 import org.eclipse.collections.api.bag.sorted.MutableSortedBag;
 import org.eclipse.collections.api.block.function.Function;
@@ -31,6 +35,7 @@ import org.eclipse.collections.api.list.MutableList;
 import org.eclipse.collections.api.list.ParallelListIterable;
 import org.eclipse.collections.api.map.MapIterable;
 import org.eclipse.collections.api.map.MutableMap;
+import org.eclipse.collections.api.map.primitive.ObjectLongMap;
 import org.eclipse.collections.api.map.sorted.MutableSortedMap;
 import org.eclipse.collections.api.set.MutableSet;
 import org.eclipse.collections.api.set.ParallelUnsortedSetIterable;
@@ -778,6 +783,108 @@ public abstract class AbstractMultiReaderParallelIterable<T, PI extends Parallel
         }
     }
 
+    @Override
+    public <K, V> MapIterable<K, V> aggregateInPlaceBy(Function<? super T, ? extends K> groupBy, Function0<? extends V> zeroValueFactory, Procedure2<? super V, ? super T> mutatingAggregator, Procedure2<? super V, ? super V> combiner)
+    {
+        this.lock.readLock().lock();
+        try
+        {
+            return this.delegate.aggregateInPlaceBy(groupBy, zeroValueFactory, mutatingAggregator, combiner);
+        }
+        finally
+        {
+            this.lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public <K, V> MapIterable<K, V> aggregateBy(Function<? super T, ? extends K> groupBy, Function0<? extends V> zeroValueFactory, Function2<? super V, ? super T, ? extends V> nonMutatingAggregator, Function2<? super V, ? super V, ? extends V> combiner)
+    {
+        this.lock.readLock().lock();
+        try
+        {
+            return this.delegate.aggregateBy(groupBy, zeroValueFactory, nonMutatingAggregator, combiner);
+        }
+        finally
+        {
+            this.lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public <V> Bag<V> countBy(Function<? super T, ? extends V> function)
+    {
+        this.lock.readLock().lock();
+        try
+        {
+            return this.delegate.countBy(function);
+        }
+        finally
+        {
+            this.lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public <V> ObjectLongMap<V> sumByLong(Function<? super T, ? extends V> groupBy, LongFunction<? super T> function)
+    {
+        this.lock.readLock().lock();
+        try
+        {
+            return this.delegate.sumByLong(groupBy, function);
+        }
+        finally
+        {
+            this.lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * The primitive iterable is not wrapped, so the read lock is only held while it is created and not while it is
+     * evaluated.
+     */
+    @Override
+    public ParallelIntIterable collectInt(IntFunction<? super T> function)
+    {
+        this.lock.readLock().lock();
+        try
+        {
+            return this.delegate.collectInt(function);
+        }
+        finally
+        {
+            this.lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public ParallelLongIterable collectLong(LongFunction<? super T> function)
+    {
+        this.lock.readLock().lock();
+        try
+        {
+            return this.delegate.collectLong(function);
+        }
+        finally
+        {
+            this.lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public ParallelDoubleIterable collectDouble(DoubleFunction<? super T> function)
+    {
+        this.lock.readLock().lock();
+        try
+        {
+            return this.delegate.collectDouble(function);
+        }
+        finally
+        {
+            this.lock.readLock().unlock();
+        }
+    }
+
     @Override
     public String toString()
     {
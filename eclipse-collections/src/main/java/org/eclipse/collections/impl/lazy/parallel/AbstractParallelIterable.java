@@ -11,20 +11,25 @@
 package org.eclipse.collections.impl.lazy.parallel;
 
 import java.io.IOException;
-import java.util.Collections;
+import java.lang.reflect.Array;
 import java.util.Comparator;
 import java.util.NoSuchElementException;
-import java.util.Set;
 import java.util.concurrent.Callable;
 import java.util.concurrent.CompletionService;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorCompletionService;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.eclipse.collections.api.LazyIterable;
+import org.eclipse.collections.api.ParallelDoubleIterable;
+import org.eclipse.collections.api.ParallelIntIterable;
 import org.eclipse.collections.api.ParallelIterable;
+import org.eclipse.collections.api.ParallelLongIterable;
 import org.eclipse.collections.api.annotation.Beta;
+import org.eclipse.collections.api.bag.Bag;
 import org.eclipse.collections.api.bag.MutableBag;
 import org.eclipse.collections.api.bag.sorted.MutableSortedBag;
 import org.eclipse.collections.api.block.function.Function;
@@ -38,12 +43,15 @@ import org.eclipse.collections.api.block.predicate.Predicate;
 import org.eclipse.collections.api.block.predicate.Predicate2;
 import org.eclipse.collections.api.block.procedure.Procedure;
 import org.eclipse.collections.api.block.procedure.Procedure2;
+import org.eclipse.collections.api.block.procedure.primitive.ObjectIntProcedure;
 import org.eclipse.collections.api.factory.Sets;
-import org.eclipse.collections.api.factory.SortedBags;
 import org.eclipse.collections.api.list.MutableList;
 import org.eclipse.collections.api.map.MapIterable;
 import org.eclipse.collections.api.map.MutableMap;
+import org.eclipse.collections.api.map.primitive.MutableObjectLongMap;
+import org.eclipse.collections.api.map.primitive.ObjectLongMap;
 import org.eclipse.collections.api.map.sorted.MutableSortedMap;
+import org.eclipse.collections.api.multimap.MutableMultimap;
 import org.eclipse.collections.api.set.MutableSet;
 import org.eclipse.collections.api.set.sorted.MutableSortedSet;
 import org.eclipse.collections.impl.Counter;
@@ -56,16 +64,16 @@ import org.eclipse.collections.impl.block.factory.Procedures;
 import org.eclipse.collections.impl.block.procedure.CollectionAddProcedure;
 import org.eclipse.collections.impl.block.procedure.DoubleSumResultHolder;
 import org.eclipse.collections.impl.block.procedure.MapCollectProcedure;
-import org.eclipse.collections.impl.block.procedure.MutatingAggregationProcedure;
-import org.eclipse.collections.impl.block.procedure.NonMutatingAggregationProcedure;
 import org.eclipse.collections.impl.block.procedure.checked.CheckedProcedure2;
+import org.eclipse.collections.impl.lazy.parallel.primitive.ParallelCollectObjectToDoubleIterable;
+import org.eclipse.collections.impl.lazy.parallel.primitive.ParallelCollectObjectToIntIterable;
+import org.eclipse.collections.impl.lazy.parallel.primitive.ParallelCollectObjectToLongIterable;
 import org.eclipse.collections.impl.list.mutable.CompositeFastList;
 import org.eclipse.collections.impl.list.mutable.FastList;
-import org.eclipse.collections.impl.map.mutable.ConcurrentHashMap;
-import org.eclipse.collections.impl.map.mutable.ConcurrentHashMapUnsafe;
 import org.eclipse.collections.impl.map.mutable.UnifiedMap;
+import org.eclipse.collections.impl.map.mutable.primitive.ObjectLongHashMap;
 import org.eclipse.collections.impl.map.sorted.mutable.TreeSortedMap;
-import org.eclipse.collections.impl.set.mutable.SetAdapter;
+import org.eclipse.collections.impl.set.mutable.ConcurrentUnifiedSet;
 import org.eclipse.collections.impl.set.sorted.mutable.TreeSortedSet;
 
 @Beta
@@ -73,6 +81,14 @@ public abstract class AbstractParallelIterable<T, B extends Batch<T>> implements
 {
     protected static <T> void forEach(AbstractParallelIterable<T, ? extends RootBatch<T>> parallelIterable, Procedure<? super T> procedure)
     {
+        if (parallelIterable.isForkJoin())
+        {
+            AbstractParallelIterable.forkJoin(parallelIterable, batch -> {
+                batch.forEach(procedure);
+                return null;
+            }, (left, right) -> null, null, null);
+            return;
+        }
         LazyIterable<Future<?>> futures =
                 parallelIterable.split().collect(chunk -> parallelIterable.getExecutorService().submit(() -> chunk.forEach(procedure)));
         // The call to toList() is important to stop the lazy evaluation and force all the Runnables to start executing.
@@ -97,24 +113,55 @@ public abstract class AbstractParallelIterable<T, B extends Batch<T>> implements
 
     protected static <T> boolean anySatisfy(AbstractParallelIterable<T, ? extends RootBatch<T>> parallelIterable, Predicate<? super T> predicate)
     {
+        return AbstractParallelIterable.search(parallelIterable, predicate).isStopped();
+    }
+
+    protected static <T> boolean allSatisfy(AbstractParallelIterable<T, ? extends RootBatch<T>> parallelIterable, Predicate<? super T> predicate)
+    {
+        return !AbstractParallelIterable.search(parallelIterable, Predicates.not(predicate)).isStopped();
+    }
+
+    protected static <T> T detect(AbstractParallelIterable<T, ? extends RootBatch<T>> parallelIterable, Predicate<? super T> predicate)
+    {
+        return AbstractParallelIterable.search(parallelIterable, predicate).getResult();
+    }
+
+    /**
+     * Searches all the batches for an element which satisfies the predicate, and returns the predicate the batches
+     * shared, which holds the element found. The first match stops the batches which are still running at their next
+     * element, and the batches which have not started yet are cancelled.
+     */
+    private static <T> ShortCircuitPredicate<T> search(AbstractParallelIterable<T, ? extends RootBatch<T>> parallelIterable, Predicate<? super T> predicate)
+    {
+        ShortCircuitPredicate<T> shortCircuit = new ShortCircuitPredicate<>(predicate);
+        if (parallelIterable.isForkJoin())
+        {
+            AbstractParallelIterable.forkJoin(
+                    parallelIterable,
+                    batch -> batch.anySatisfy(shortCircuit),
+                    (left, right) -> left || right,
+                    Boolean.FALSE,
+                    Boolean::booleanValue);
+            return shortCircuit;
+        }
         CompletionService<Boolean> completionService = new ExecutorCompletionService<>(parallelIterable.getExecutorService());
         MutableSet<Future<Boolean>> futures =
-                parallelIterable.split().collect(batch -> completionService.submit(() -> batch.anySatisfy(predicate)), Sets.mutable.empty());
+                parallelIterable.split().collect(batch -> completionService.submit(() -> batch.anySatisfy(shortCircuit)), Sets.mutable.empty());
 
         while (futures.notEmpty())
         {
             try
             {
                 Future<Boolean> future = completionService.take();
+                futures.remove(future);
                 if (future.get())
                 {
                     for (Future<Boolean> eachFuture : futures)
                     {
                         eachFuture.cancel(true);
                     }
-                    return true;
+                    return shortCircuit;
                 }
-                futures.remove(future);
             }
             catch (InterruptedException e)
             {
@@ -126,79 +173,97 @@ public abstract class AbstractParallelIterable<T, B extends Batch<T>> implements
                 throw new RuntimeException(e);
             }
         }
-        return false;
+        return shortCircuit;
     }
 
-    protected static <T> boolean allSatisfy(AbstractParallelIterable<T, ? extends RootBatch<T>> parallelIterable, Predicate<? super T> predicate)
+    /**
+     * Returns the first element in the order of the batches which satisfies the predicate, using
+     * {@code detectFunction} to search each batch with a predicate derived from {@code predicate}. Once a batch has
+     * found a match, the batches after it return at their next element and are cancelled if they have not started,
+     * while the batches before it still run, as one of them may hold an earlier match. See
+     * {@link DetectFirstPredicate}.
+     */
+    protected static <T, B extends Batch<T>> T detectFirst(
+            AbstractParallelIterable<T, B> parallelIterable,
+            Predicate<? super T> predicate,
+            Function2<? super B, Predicate<? super T>, ? extends T> detectFunction)
     {
-        CompletionService<Boolean> completionService = new ExecutorCompletionService<>(parallelIterable.getExecutorService());
-        MutableSet<Future<Boolean>> futures =
-                parallelIterable.split().collect(batch -> completionService.submit(() -> batch.allSatisfy(predicate)), Sets.mutable.empty());
-
-        while (futures.notEmpty())
+        AtomicInteger firstFound = new AtomicInteger(Integer.MAX_VALUE);
+        MutableList<Future<T>> futures = FastList.newList();
+        for (B batch : parallelIterable.split())
         {
-            try
-            {
-                Future<Boolean> future = completionService.take();
-                if (!future.get())
+            int index = futures.size();
+            futures.add(parallelIterable.getExecutorService().submit(() -> {
+                DetectFirstPredicate<T> batchPredicate = new DetectFirstPredicate<>(predicate, index, firstFound);
+                T result = detectFunction.value(batch, batchPredicate);
+                if (batchPredicate.isStopped())
                 {
-                    for (Future<Boolean> eachFuture : futures)
-                    {
-                        eachFuture.cancel(true);
-                    }
-                    return false;
+                    return null;
                 }
-                futures.remove(future);
-            }
-            catch (InterruptedException e)
-            {
-                Thread.currentThread().interrupt();
-                throw new RuntimeException(e);
-            }
-            catch (ExecutionException e)
+                if (result != null)
+                {
+                    firstFound.accumulateAndGet(index, Math::min);
+                }
+                return result;
+            }));
+        }
+        for (int i = 0; i < futures.size(); i++)
+        {
+            T result = AbstractParallelIterable.getResult(futures.get(i));
+            if (result != null)
             {
-                throw new RuntimeException(e);
+                for (int j = i + 1; j < futures.size(); j++)
+                {
+                    futures.get(j).cancel(true);
+                }
+                return result;
             }
         }
-        return true;
+        return null;
     }
 
-    protected static <T> T detect(AbstractParallelIterable<T, ? extends RootBatch<T>> parallelIterable, Predicate<? super T> predicate)
+    /**
+     * Maps every batch and combines the results in the order of the batches on the work-stealing backend. See
+     * {@link ForkJoinBatchTask}.
+     */
+    private static <T, B extends Batch<T>, V> V forkJoin(
+            AbstractParallelIterable<T, B> parallelIterable,
+            Function<? super B, ? extends V> function,
+            Function2<V, V, V> combineFunction,
+            V empty,
+            Predicate<? super V> shortCircuit)
     {
-        LazyIterable<? extends RootBatch<T>> chunks = parallelIterable.split();
-        LazyIterable<Future<T>> futures =
-                chunks.collect(chunk -> parallelIterable.getExecutorService().submit(() -> chunk.detect(predicate)));
-        // The call to toList() is important to stop the lazy evaluation and force all the Runnables to start executing.
-        MutableList<Future<T>> futuresList = futures.toList();
-        for (Future<T> future : futuresList)
+        try
         {
-            try
-            {
-                T eachResult = future.get();
-                if (eachResult != null)
-                {
-                    for (Future<T> eachFutureToCancel : futuresList)
-                    {
-                        eachFutureToCancel.cancel(true);
-                    }
-                    return eachResult;
-                }
-            }
-            catch (InterruptedException e)
-            {
-                Thread.currentThread().interrupt();
-                throw new RuntimeException(e);
-            }
-            catch (ExecutionException e)
+            ForkJoinPool pool = (ForkJoinPool) parallelIterable.getExecutorService();
+            return ForkJoinBatchTask.invoke(pool, parallelIterable.split().toList(), function, combineFunction, empty, shortCircuit);
+        }
+        catch (InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        }
+        catch (ExecutionException e)
+        {
+            if (e.getCause() instanceof NullPointerException)
             {
-                throw new RuntimeException(e);
+                throw (NullPointerException) e.getCause();
             }
+            throw new RuntimeException(e);
         }
-        return null;
     }
 
     public abstract ExecutorService getExecutorService();
 
+    /**
+     * Returns true if the batches are run by recursive splitting with work stealing, which is the case whenever the
+     * executor is a {@link ForkJoinPool}, as passed to {@code asParallel(ForkJoinPool, batchSize)}.
+     */
+    protected boolean isForkJoin()
+    {
+        return this.getExecutorService() instanceof ForkJoinPool;
+    }
+
     public abstract int getBatchSize();
 
     public abstract LazyIterable<B> split();
@@ -207,7 +272,11 @@ public abstract class AbstractParallelIterable<T, B extends Batch<T>> implements
 
     protected <S, V> void collectCombine(Function<Batch<T>, V> function, Procedure2<S, V> combineProcedure, S state)
     {
-        if (this.isOrdered())
+        if (this.isForkJoin())
+        {
+            this.collectBatches(function).each(each -> combineProcedure.value(state, each));
+        }
+        else if (this.isOrdered())
         {
             this.collectCombineOrdered(function, combineProcedure, state);
         }
@@ -271,8 +340,210 @@ public abstract class AbstractParallelIterable<T, B extends Batch<T>> implements
         }
     }
 
+    /**
+     * Evaluates the function against every batch on the executor and returns the results in the order of the batches.
+     */
+    protected <V> MutableList<V> collectBatches(Function<? super B, V> function)
+    {
+        if (this.isForkJoin())
+        {
+            return AbstractParallelIterable.<T, B, MutableList<V>>forkJoin(
+                    this,
+                    batch -> FastList.newListWith(function.valueOf(batch)),
+                    (left, right) -> left.withAll(right),
+                    FastList.newList(),
+                    null);
+        }
+        return this.submitBatches(function).collect(AbstractParallelIterable::getResult);
+    }
+
+    /**
+     * Submits the function for every batch to the executor and returns the futures in the order of the batches, so
+     * the caller can consume the results in encounter order while later batches are still running.
+     */
+    protected <V> MutableList<Future<V>> submitBatches(Function<? super B, V> function)
+    {
+        LazyIterable<Future<V>> futures =
+                this.split().collect(batch -> this.getExecutorService().submit(() -> function.valueOf(batch)));
+        // The call to toList() is important to stop the lazy evaluation and force all the Runnables to start executing.
+        return futures.toList();
+    }
+
+    /**
+     * Combines adjacent pairs of values on the executor, one round at a time, until a single value remains. The
+     * relative order of the values is preserved, so the function does not need to be commutative. Returns null if
+     * there are no values.
+     */
+    protected <V> V reduceInParallel(MutableList<V> values, Function2<V, V, V> function)
+    {
+        if (this.isForkJoin())
+        {
+            try
+            {
+                return ForkJoinBatchTask.invoke((ForkJoinPool) this.getExecutorService(), values, each -> each, function, null, null);
+            }
+            catch (InterruptedException e)
+            {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException(e);
+            }
+            catch (ExecutionException e)
+            {
+                if (e.getCause() instanceof NullPointerException)
+                {
+                    throw (NullPointerException) e.getCause();
+                }
+                throw new RuntimeException(e);
+            }
+        }
+        MutableList<V> current = values;
+        while (current.size() > 1)
+        {
+            MutableList<Future<V>> futures = FastList.newList(current.size() / 2);
+            for (int i = 0; i + 1 < current.size(); i += 2)
+            {
+                V left = current.get(i);
+                V right = current.get(i + 1);
+                futures.add(this.getExecutorService().submit(() -> function.value(left, right)));
+            }
+            MutableList<V> next = futures.collect(AbstractParallelIterable::getResult);
+            if (current.size() % 2 == 1)
+            {
+                next.add(current.getLast());
+            }
+            current = next;
+        }
+        return current.getFirst();
+    }
+
+    protected static <V> V getResult(Future<V> future)
+    {
+        try
+        {
+            return future.get();
+        }
+        catch (InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        }
+        catch (ExecutionException e)
+        {
+            if (e.getCause() instanceof NullPointerException)
+            {
+                throw (NullPointerException) e.getCause();
+            }
+            throw new RuntimeException(e);
+        }
+    }
+
+    protected static <T> FastList<T> batchToList(Batch<T> batch)
+    {
+        FastList<T> list = FastList.newList();
+        batch.forEach(CollectionAddProcedure.on(list));
+        return list;
+    }
+
+    private static <T> FastList<T> merge(FastList<T> left, FastList<T> right, Comparator<? super T> comparator)
+    {
+        int leftSize = left.size();
+        int rightSize = right.size();
+        FastList<T> result = FastList.newList(leftSize + rightSize);
+        int leftIndex = 0;
+        int rightIndex = 0;
+        while (leftIndex < leftSize && rightIndex < rightSize)
+        {
+            // Ties are taken from the left to keep the merge stable
+            if (comparator.compare(right.get(rightIndex), left.get(leftIndex)) < 0)
+            {
+                result.add(right.get(rightIndex++));
+            }
+            else
+            {
+                result.add(left.get(leftIndex++));
+            }
+        }
+        while (leftIndex < leftSize)
+        {
+            result.add(left.get(leftIndex++));
+        }
+        while (rightIndex < rightSize)
+        {
+            result.add(right.get(rightIndex++));
+        }
+        return result;
+    }
+
+    /**
+     * Calls the procedure once for each run of elements that are equal according to the comparator, with the first
+     * element of the run and the length of the run.
+     */
+    private static <T> void forEachRun(MutableList<T> sorted, Comparator<? super T> comparator, ObjectIntProcedure<T> procedure)
+    {
+        int size = sorted.size();
+        int start = 0;
+        while (start < size)
+        {
+            T first = sorted.get(start);
+            int end = start + 1;
+            while (end < size && comparator.compare(first, sorted.get(end)) == 0)
+            {
+                end++;
+            }
+            procedure.value(first, end - start);
+            start = end;
+        }
+    }
+
+    protected static <T> MutableBag<T> mergeBags(MutableBag<T> left, MutableBag<T> right)
+    {
+        if (left.sizeDistinct() < right.sizeDistinct())
+        {
+            left.forEachWithOccurrences(right::addOccurrences);
+            return right;
+        }
+        right.forEachWithOccurrences(left::addOccurrences);
+        return left;
+    }
+
+    /**
+     * Sorts each batch into a local list and then merges the sorted runs pairwise on the executor.
+     */
+    private FastList<T> toSortedFastList(Comparator<? super T> comparator)
+    {
+        MutableList<FastList<T>> sortedRuns = this.collectBatches(batch -> AbstractParallelIterable.batchToList(batch).sortThis(comparator));
+        FastList<T> result = this.reduceInParallel(sortedRuns, (left, right) -> AbstractParallelIterable.merge(left, right, comparator));
+        return result == null ? FastList.newList() : result;
+    }
+
+    private MutableSortedSet<T> fillSortedSet(MutableSortedSet<T> result, Comparator<? super T> comparator)
+    {
+        AbstractParallelIterable.forEachRun(this.toSortedFastList(comparator), comparator, (each, occurrences) -> result.add(each));
+        return result;
+    }
+
+    private MutableSortedBag<T> fillSortedBag(MutableSortedBag<T> result, Comparator<? super T> comparator)
+    {
+        AbstractParallelIterable.forEachRun(this.toSortedFastList(comparator), comparator, result::addOccurrences);
+        return result;
+    }
+
     private T collectReduce(Function<Batch<T>, T> map, Function2<T, T, T> function2)
     {
+        if (this.isForkJoin())
+        {
+            T result = AbstractParallelIterable.forkJoin(
+                    this,
+                    map,
+                    (left, right) -> left == null ? right : right == null ? left : function2.value(left, right),
+                    null,
+                    null);
+            if (result == null)
+            {
+                throw new NoSuchElementException();
+            }
+            return result;
+        }
         return this.isOrdered()
                 ? this.collectReduceOrdered(map, function2)
                 : this.collectReduceUnordered(map, function2);
@@ -467,10 +738,43 @@ public abstract class AbstractParallelIterable<T, B extends Batch<T>> implements
         return this.detectIfNone(Predicates.bind(predicate, parameter), function);
     }
 
+    @Override
+    public Object[] toArray()
+    {
+        return this.toArray(new Object[0]);
+    }
+
     @Override
     public <E> E[] toArray(E[] array)
     {
-        throw new UnsupportedOperationException(this.getClass().getSimpleName() + ".toArray() not implemented yet");
+        MutableList<FastList<T>> lists = this.collectBatches(AbstractParallelIterable::batchToList);
+        int[] offsets = new int[lists.size()];
+        int size = 0;
+        for (int i = 0; i < lists.size(); i++)
+        {
+            offsets[i] = size;
+            size += lists.get(i).size();
+        }
+        E[] result = array.length < size
+                ? (E[]) Array.newInstance(array.getClass().getComponentType(), size)
+                : array;
+
+        MutableList<Future<E[]>> futures = FastList.newList(lists.size());
+        for (int i = 0; i < lists.size(); i++)
+        {
+            FastList<T> list = lists.get(i);
+            int offset = offsets[i];
+            if (list.notEmpty())
+            {
+                futures.add(this.getExecutorService().submit(() -> list.toArray(result, 0, list.size() - 1, offset)));
+            }
+        }
+        futures.each(AbstractParallelIterable::getResult);
+        if (size < result.length)
+        {
+            result[size] = null;
+        }
+        return result;
     }
 
     @Override
@@ -486,10 +790,16 @@ public abstract class AbstractParallelIterable<T, B extends Batch<T>> implements
         return state;
     }
 
+    @Override
+    public MutableList<T> toSortedList()
+    {
+        return this.toSortedFastList(Comparators.naturalOrder());
+    }
+
     @Override
     public MutableList<T> toSortedList(Comparator<? super T> comparator)
     {
-        return this.toList().toSortedList(comparator);
+        return this.toSortedFastList(comparator == null ? Comparators.naturalOrder() : comparator);
     }
 
     @Override
@@ -501,18 +811,15 @@ public abstract class AbstractParallelIterable<T, B extends Batch<T>> implements
     @Override
     public MutableSet<T> toSet()
     {
-        ConcurrentHashMapUnsafe<T, Boolean> map = ConcurrentHashMapUnsafe.newMap();
-        Set<T> result = Collections.newSetFromMap(map);
+        MutableSet<T> result = ConcurrentUnifiedSet.newSet();
         this.forEach(CollectionAddProcedure.on(result));
-        return SetAdapter.adapt(map.keySet());
+        return result;
     }
 
     @Override
     public MutableSortedSet<T> toSortedSet()
     {
-        MutableSortedSet<T> result = TreeSortedSet.<T>newSet().asSynchronized();
-        this.forEach(CollectionAddProcedure.on(result));
-        return result;
+        return this.fillSortedSet(TreeSortedSet.newSet(), Comparators.naturalOrder());
     }
 
     @Override
@@ -524,26 +831,25 @@ public abstract class AbstractParallelIterable<T, B extends Batch<T>> implements
     @Override
     public MutableBag<T> toBag()
     {
-        MutableBag<T> result = HashBag.<T>newBag().asSynchronized();
-        this.forEach(CollectionAddProcedure.on(result));
-        return result;
+        MutableList<MutableBag<T>> bags = this.collectBatches(batch -> {
+            MutableBag<T> bag = HashBag.newBag();
+            batch.forEach(CollectionAddProcedure.on(bag));
+            return bag;
+        });
+        MutableBag<T> result = this.reduceInParallel(bags, AbstractParallelIterable::mergeBags);
+        return result == null ? HashBag.newBag() : result;
     }
 
     @Override
     public MutableSortedBag<T> toSortedBag()
     {
-        MutableSortedBag<T> result = TreeBag.<T>newBag().asSynchronized();
-        this.forEach(CollectionAddProcedure.on(result));
-        return result;
+        return this.fillSortedBag(TreeBag.newBag(), Comparators.naturalOrder());
     }
 
     @Override
     public MutableSortedBag<T> toSortedBag(Comparator<? super T> comparator)
     {
-        MutableSortedBag<T> result = SortedBags.mutable.empty(comparator);
-        result = result.asSynchronized();
-        this.forEach(CollectionAddProcedure.on(result));
-        return result;
+        return this.fillSortedBag(TreeBag.newBag(comparator), comparator == null ? Comparators.naturalOrder() : comparator);
     }
 
     @Override
@@ -555,10 +861,7 @@ public abstract class AbstractParallelIterable<T, B extends Batch<T>> implements
     @Override
     public MutableSortedSet<T> toSortedSet(Comparator<? super T> comparator)
     {
-        MutableSortedSet<T> result = TreeSortedSet.newSet(comparator);
-        result = result.asSynchronized();
-        this.forEach(CollectionAddProcedure.on(result));
-        return result;
+        return this.fillSortedSet(TreeSortedSet.newSet(comparator), comparator == null ? Comparators.naturalOrder() : comparator);
     }
 
     @Override
@@ -598,9 +901,11 @@ public abstract class AbstractParallelIterable<T, B extends Batch<T>> implements
             Function0<? extends V> zeroValueFactory,
             Function2<? super V, ? super T, ? extends V> nonMutatingAggregator)
     {
-        MutableMap<K, V> map = ConcurrentHashMapUnsafe.newMap();
-        this.forEach(new NonMutatingAggregationProcedure<>(map, groupBy, zeroValueFactory, nonMutatingAggregator));
-        return map;
+        // the values of two batches cannot be combined without a combiner, so each key is aggregated by one task
+        return ParallelGrouping.<T, K, V>aggregateByPartition(
+                this,
+                groupBy,
+                map -> (key, each) -> map.updateValueWith(key, zeroValueFactory, nonMutatingAggregator, each));
     }
 
     @Override
@@ -609,9 +914,111 @@ public abstract class AbstractParallelIterable<T, B extends Batch<T>> implements
             Function0<? extends V> zeroValueFactory,
             Procedure2<? super V, ? super T> mutatingAggregator)
     {
-        MutableMap<K, V> map = ConcurrentHashMapUnsafe.newMap();
-        this.forEach(new MutatingAggregationProcedure<>(map, groupBy, zeroValueFactory, mutatingAggregator));
-        return map;
+        return ParallelGrouping.<T, K, V>aggregateByPartition(
+                this,
+                groupBy,
+                map -> (key, each) -> mutatingAggregator.value(map.getIfAbsentPut(key, zeroValueFactory), each));
+    }
+
+    @Override
+    public <K, V> MapIterable<K, V> aggregateBy(
+            Function<? super T, ? extends K> groupBy,
+            Function0<? extends V> zeroValueFactory,
+            Function2<? super V, ? super T, ? extends V> nonMutatingAggregator,
+            Function2<? super V, ? super V, ? extends V> combiner)
+    {
+        return ParallelGrouping.<T, MutableMap<K, V>>aggregate(
+                this,
+                UnifiedMap::newMap,
+                (each, partials) -> {
+                    K key = groupBy.valueOf(each);
+                    partials.forKey(key).updateValueWith(key, zeroValueFactory, nonMutatingAggregator, each);
+                },
+                (target, source) -> source.forEachKeyValue((key, value) ->
+                        target.put(key, target.containsKey(key) ? combiner.value(target.get(key), value) : value)));
+    }
+
+    @Override
+    public <K, V> MapIterable<K, V> aggregateInPlaceBy(
+            Function<? super T, ? extends K> groupBy,
+            Function0<? extends V> zeroValueFactory,
+            Procedure2<? super V, ? super T> mutatingAggregator,
+            Procedure2<? super V, ? super V> combiner)
+    {
+        return ParallelGrouping.<T, MutableMap<K, V>>aggregate(
+                this,
+                UnifiedMap::newMap,
+                (each, partials) -> {
+                    K key = groupBy.valueOf(each);
+                    mutatingAggregator.value(partials.forKey(key).getIfAbsentPut(key, zeroValueFactory), each);
+                },
+                (target, source) -> source.forEachKeyValue((key, value) -> {
+                    V existing = target.getIfAbsentPut(key, value);
+                    if (existing != value)
+                    {
+                        combiner.value(existing, value);
+                    }
+                }));
+    }
+
+    @Override
+    public <V> Bag<V> countBy(Function<? super T, ? extends V> function)
+    {
+        return ParallelGrouping.<T, MutableBag<V>>aggregate(
+                this,
+                HashBag::newBag,
+                (each, partials) -> {
+                    V key = function.valueOf(each);
+                    partials.forKey(key).add(key);
+                },
+                (target, source) -> source.forEachWithOccurrences(target::addOccurrences));
+    }
+
+    @Override
+    public <V> ObjectLongMap<V> sumByLong(Function<? super T, ? extends V> groupBy, LongFunction<? super T> function)
+    {
+        return ParallelGrouping.<T, MutableObjectLongMap<V>>aggregate(
+                this,
+                ObjectLongHashMap::newMap,
+                (each, partials) -> {
+                    V key = groupBy.valueOf(each);
+                    partials.forKey(key).addToValue(key, function.longValueOf(each));
+                },
+                (target, source) -> source.forEachKeyValue(target::addToValue));
+    }
+
+    /**
+     * Groups the elements into multimaps created by {@code factory}. Each batch groups its elements into multimaps of
+     * its own, which are then merged in encounter order, so the result matches a serial groupBy.
+     */
+    protected <V, R extends MutableMultimap<V, T>> R groupByInParallel(Function<? super T, ? extends V> function, Function0<R> factory)
+    {
+        return ParallelGrouping.aggregate(
+                this,
+                factory,
+                (each, partials) -> {
+                    V key = function.valueOf(each);
+                    partials.forKey(key).put(key, each);
+                },
+                (target, source) -> target.putAll(source));
+    }
+
+    /**
+     * Same as {@link #groupByInParallel(Function, Function0)}, for a function which returns any number of keys.
+     */
+    protected <V, R extends MutableMultimap<V, T>> R groupByEachInParallel(Function<? super T, ? extends Iterable<V>> function, Function0<R> factory)
+    {
+        return ParallelGrouping.aggregate(
+                this,
+                factory,
+                (each, partials) -> {
+                    Iterable<V> keys = function.valueOf(each);
+                    for (V key : keys)
+                    {
+                        partials.forKey(key).put(key, each);
+                    }
+                },
+                (target, source) -> target.putAll(source));
     }
 
     @Override
@@ -670,6 +1077,24 @@ public abstract class AbstractParallelIterable<T, B extends Batch<T>> implements
         return this.collectReduce(map, Functions2.maxBy(function));
     }
 
+    @Override
+    public ParallelIntIterable collectInt(IntFunction<? super T> function)
+    {
+        return new ParallelCollectObjectToIntIterable<>(this, function);
+    }
+
+    @Override
+    public ParallelLongIterable collectLong(LongFunction<? super T> function)
+    {
+        return new ParallelCollectObjectToLongIterable<>(this, function);
+    }
+
+    @Override
+    public ParallelDoubleIterable collectDouble(DoubleFunction<? super T> function)
+    {
+        return new ParallelCollectObjectToDoubleIterable<>(this, function);
+    }
+
     @Override
     public long sumOfInt(IntFunction<? super T> function)
     {
@@ -696,6 +1121,10 @@ public abstract class AbstractParallelIterable<T, B extends Batch<T>> implements
 
     private long sumOfLongOrdered(LongFunction<Batch<T>> map)
     {
+        if (this.isForkJoin())
+        {
+            return AbstractParallelIterable.forkJoin(this, map::longValueOf, Long::sum, 0L, null);
+        }
         LazyIterable<? extends Batch<T>> chunks = this.split();
         LazyIterable<Future<Long>> futures =
                 chunks.collect(chunk -> this.getExecutorService().submit(() -> map.longValueOf(chunk)));
@@ -723,6 +1152,10 @@ public abstract class AbstractParallelIterable<T, B extends Batch<T>> implements
 
     private double sumOfDoubleOrdered(Function<Batch<T>, DoubleSumResultHolder> map)
     {
+        if (this.isForkJoin())
+        {
+            return AbstractParallelIterable.sumOfDoubleResults(this.collectBatches(map));
+        }
         LazyIterable<? extends Batch<T>> chunks = this.split();
         LazyIterable<Future<DoubleSumResultHolder>> futures =
                 chunks.collect(chunk -> this.getExecutorService().submit(() -> map.valueOf(chunk)));
@@ -753,17 +1186,40 @@ public abstract class AbstractParallelIterable<T, B extends Batch<T>> implements
         }
     }
 
+    private static double sumOfDoubleResults(MutableList<DoubleSumResultHolder> results)
+    {
+        double sum = 0.0d;
+        double compensation = 0.0d;
+        for (int i = 0; i < results.size(); i++)
+        {
+            compensation += results.get(i).getCompensation();
+            double adjustedValue = results.get(i).getResult() - compensation;
+            double nextSum = sum + adjustedValue;
+            compensation = nextSum - sum - adjustedValue;
+            sum = nextSum;
+        }
+        return sum;
+    }
+
     @Override
     public <V> MapIterable<V, T> groupByUniqueKey(Function<? super T, ? extends V> function)
     {
-        MutableMap<V, T> result = ConcurrentHashMap.newMap(this.getBatchSize());
-        this.forEach(value -> {
-            V key = function.valueOf(value);
-            if (result.put(key, value) != null)
-            {
-                throw new IllegalStateException("Key " + key + " already exists in map!");
-            }
-        });
-        return result;
+        return ParallelGrouping.<T, MutableMap<V, T>>aggregate(
+                this,
+                UnifiedMap::newMap,
+                (each, partials) -> {
+                    V key = function.valueOf(each);
+                    AbstractParallelIterable.putUniqueKey(partials.forKey(key), key, each);
+                },
+                (target, source) -> source.forEachKeyValue((key, value) -> AbstractParallelIterable.putUniqueKey(target, key, value)));
+    }
+
+    private static <K, V> void putUniqueKey(MutableMap<K, V> map, K key, V value)
+    {
+        if (map.containsKey(key))
+        {
+            throw new IllegalStateException("Key " + key + " already exists in map!");
+        }
+        map.put(key, value);
     }
 }
@@ -16,14 +16,13 @@ import org.eclipse.collections.api.block.function.Function;
 import org.eclipse.collections.api.block.function.Function2;
 import org.eclipse.collections.api.block.predicate.Predicate;
 import org.eclipse.collections.api.block.predicate.Predicate2;
-import org.eclipse.collections.api.multimap.bag.MutableBagMultimap;
 import org.eclipse.collections.api.multimap.bag.UnsortedBagMultimap;
 import org.eclipse.collections.api.set.ParallelUnsortedSetIterable;
 import org.eclipse.collections.impl.block.factory.Functions;
 import org.eclipse.collections.impl.block.factory.Predicates;
 import org.eclipse.collections.impl.lazy.parallel.set.ParallelCollectIterable;
 import org.eclipse.collections.impl.lazy.parallel.set.ParallelFlatCollectIterable;
-import org.eclipse.collections.impl.multimap.bag.SynchronizedPutHashBagMultimap;
+import org.eclipse.collections.impl.multimap.bag.HashBagMultimap;
 
 @Beta
 public abstract class AbstractParallelIterableImpl<T, B extends Batch<T>> extends AbstractParallelIterable<T, B>
@@ -97,25 +96,12 @@ public abstract class AbstractParallelIterableImpl<T, B extends Batch<T>> extend
     @Override
     public <V> UnsortedBagMultimap<V, T> groupBy(Function<? super T, ? extends V> function)
     {
-        MutableBagMultimap<V, T> result = SynchronizedPutHashBagMultimap.newMultimap();
-        this.forEach(each -> {
-            V key = function.valueOf(each);
-            result.put(key, each);
-        });
-        return result;
+        return this.<V, HashBagMultimap<V, T>>groupByInParallel(function, HashBagMultimap::newMultimap);
     }
 
     @Override
     public <V> UnsortedBagMultimap<V, T> groupByEach(Function<? super T, ? extends Iterable<V>> function)
     {
-        MutableBagMultimap<V, T> result = SynchronizedPutHashBagMultimap.newMultimap();
-        this.forEach(each -> {
-            Iterable<V> keys = function.valueOf(each);
-            for (V key : keys)
-            {
-                result.put(key, each);
-            }
-        });
-        return result;
+        return this.<V, HashBagMultimap<V, T>>groupByEachInParallel(function, HashBagMultimap::newMultimap);
     }
 }
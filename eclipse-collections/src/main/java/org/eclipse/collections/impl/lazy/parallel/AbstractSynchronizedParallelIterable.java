@@ -12,7 +12,11 @@ package org.eclipse.collections.impl.lazy.parallel;
 
 import java.util.Comparator;
 
+import org.eclipse.collections.api.ParallelDoubleIterable;
+import org.eclipse.collections.api.ParallelIntIterable;
 import org.eclipse.collections.api.ParallelIterable;
+import org.eclipse.collections.api.ParallelLongIterable;
+import org.eclipse.collections.api.bag.Bag;
 import org.eclipse.collections.api.bag.MutableBag;
 import org.eclipse.collections.api.bag.sorted.MutableSortedBag;
 import org.eclipse.collections.api.block.function.Function;
@@ -30,6 +34,7 @@ import org.eclipse.collections.api.list.MutableList;
 import org.eclipse.collections.api.list.ParallelListIterable;
 import org.eclipse.collections.api.map.MapIterable;
 import org.eclipse.collections.api.map.MutableMap;
+import org.eclipse.collections.api.map.primitive.ObjectLongMap;
 import org.eclipse.collections.api.map.sorted.MutableSortedMap;
 import org.eclipse.collections.api.set.MutableSet;
 import org.eclipse.collections.api.set.ParallelUnsortedSetIterable;
@@ -520,6 +525,72 @@ public abstract class AbstractSynchronizedParallelIterable<T, PI extends Paralle
         }
     }
 
+    @Override
+    public <K, V> MapIterable<K, V> aggregateInPlaceBy(Function<? super T, ? extends K> groupBy, Function0<? extends V> zeroValueFactory, Procedure2<? super V, ? super T> mutatingAggregator, Procedure2<? super V, ? super V> combiner)
+    {
+        synchronized (this.lock)
+        {
+            return this.delegate.aggregateInPlaceBy(groupBy, zeroValueFactory, mutatingAggregator, combiner);
+        }
+    }
+
+    @Override
+    public <K, V> MapIterable<K, V> aggregateBy(Function<? super T, ? extends K> groupBy, Function0<? extends V> zeroValueFactory, Function2<? super V, ? super T, ? extends V> nonMutatingAggregator, Function2<? super V, ? super V, ? extends V> combiner)
+    {
+        synchronized (this.lock)
+        {
+            return this.delegate.aggregateBy(groupBy, zeroValueFactory, nonMutatingAggregator, combiner);
+        }
+    }
+
+    @Override
+    public <V> Bag<V> countBy(Function<? super T, ? extends V> function)
+    {
+        synchronized (this.lock)
+        {
+            return this.delegate.countBy(function);
+        }
+    }
+
+    @Override
+    public <V> ObjectLongMap<V> sumByLong(Function<? super T, ? extends V> groupBy, LongFunction<? super T> function)
+    {
+        synchronized (this.lock)
+        {
+            return this.delegate.sumByLong(groupBy, function);
+        }
+    }
+
+    /**
+     * The primitive iterable is not wrapped, so the lock is only held while it is created and not while it is evaluated.
+     */
+    @Override
+    public ParallelIntIterable collectInt(IntFunction<? super T> function)
+    {
+        synchronized (this.lock)
+        {
+            return this.delegate.collectInt(function);
+        }
+    }
+
+    @Override
+    public ParallelLongIterable collectLong(LongFunction<? super T> function)
+    {
+        synchronized (this.lock)
+        {
+            return this.delegate.collectLong(function);
+        }
+    }
+
+    @Override
+    public ParallelDoubleIterable collectDouble(DoubleFunction<? super T> function)
+    {
+        synchronized (this.lock)
+        {
+            return this.delegate.collectDouble(function);
+        }
+    }
+
     @Override
     public String toString()
     {
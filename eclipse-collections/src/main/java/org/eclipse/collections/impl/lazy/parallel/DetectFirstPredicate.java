@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) 2024 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.lazy.parallel;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.collections.api.annotation.Beta;
+import org.eclipse.collections.api.block.predicate.Predicate;
+
+/**
+ * The predicate of one batch of a parallel detectFirst. {@code firstFound} holds the lowest index of a batch which
+ * has found a match. Once it is below the index of this batch, this predicate accepts the next element without
+ * evaluating the wrapped one and records that it stopped, so the batch returns at once and its result is discarded.
+ */
+@Beta
+final class DetectFirstPredicate<T> implements Predicate<T>
+{
+    private static final long serialVersionUID = 1L;
+
+    private final Predicate<? super T> predicate;
+    private final int batchIndex;
+    private final AtomicInteger firstFound;
+    private boolean stopped;
+
+    DetectFirstPredicate(Predicate<? super T> predicate, int batchIndex, AtomicInteger firstFound)
+    {
+        this.predicate = predicate;
+        this.batchIndex = batchIndex;
+        this.firstFound = firstFound;
+    }
+
+    @Override
+    public boolean accept(T each)
+    {
+        if (this.batchIndex > this.firstFound.get())
+        {
+            this.stopped = true;
+            return true;
+        }
+        return this.predicate.accept(each);
+    }
+
+    /**
+     * Returns whether this predicate stopped its batch because an earlier batch had found a match. Only the thread
+     * which ran the batch may call this.
+     */
+    boolean isStopped()
+    {
+        return this.stopped;
+    }
+}
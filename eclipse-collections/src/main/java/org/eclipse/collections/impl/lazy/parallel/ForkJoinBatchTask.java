@@ -0,0 +1,171 @@
+/*
+ * Copyright (c) 2024 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.lazy.parallel;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.eclipse.collections.api.annotation.Beta;
+import org.eclipse.collections.api.block.function.Function;
+import org.eclipse.collections.api.block.function.Function2;
+import org.eclipse.collections.api.block.predicate.Predicate;
+import org.eclipse.collections.api.list.ListIterable;
+
+/**
+ * Maps a list of batches and combines the results on a {@link ForkJoinPool}. The range of batches is split in half
+ * recursively, so idle workers steal the pending halves of skewed ranges instead of waiting on them. A task stops
+ * splitting and runs its range sequentially once the worker already has more queued tasks than it is likely to be
+ * robbed of, so the effective batch size adapts to the load of the pool while {@code batchSize} remains the smallest
+ * unit of work.
+ * <p>
+ * Results are always combined left to right, so the combine function does not need to be commutative.
+ */
+@Beta
+final class ForkJoinBatchTask<B, V> extends RecursiveTask<V>
+{
+    private static final long serialVersionUID = 1L;
+
+    private static final int SURPLUS_QUEUED_TASK_THRESHOLD = 3;
+
+    private final State<B, V> state;
+    private final int from;
+    private final int to;
+
+    private ForkJoinBatchTask(State<B, V> state, int from, int to)
+    {
+        this.state = state;
+        this.from = from;
+        this.to = to;
+    }
+
+    /**
+     * Returns the combined result of mapping every batch, or {@code empty} if there are no batches. If the
+     * {@code shortCircuit} predicate is not null and accepts the result of a batch, the batches which have not started
+     * yet are skipped and contribute {@code empty} instead. An exception thrown by any batch stops the remaining
+     * batches and is rethrown as the cause of an {@link ExecutionException}.
+     */
+    static <B, V> V invoke(
+            ForkJoinPool pool,
+            ListIterable<B> batches,
+            Function<? super B, ? extends V> function,
+            Function2<V, V, V> combineFunction,
+            V empty,
+            Predicate<? super V> shortCircuit) throws InterruptedException, ExecutionException
+    {
+        if (batches.isEmpty())
+        {
+            return empty;
+        }
+        State<B, V> state = new State<>(batches, function, combineFunction, empty, shortCircuit);
+        V result = pool.submit(new ForkJoinBatchTask<>(state, 0, batches.size())).get();
+        Throwable failure = state.failure.get();
+        if (failure != null)
+        {
+            throw new ExecutionException(failure);
+        }
+        return result;
+    }
+
+    @Override
+    protected V compute()
+    {
+        if (this.to - this.from > 1 && ForkJoinBatchTask.getSurplusQueuedTaskCount() <= SURPLUS_QUEUED_TASK_THRESHOLD)
+        {
+            int middle = (this.from + this.to) >>> 1;
+            ForkJoinBatchTask<B, V> left = new ForkJoinBatchTask<>(this.state, this.from, middle);
+            left.fork();
+            V rightResult = new ForkJoinBatchTask<>(this.state, middle, this.to).compute();
+            return this.state.combine(left.join(), rightResult);
+        }
+        V result = this.state.valueOf(this.from);
+        for (int i = this.from + 1; i < this.to; i++)
+        {
+            result = this.state.combine(result, this.state.valueOf(i));
+        }
+        return result;
+    }
+
+    private static final class State<B, V>
+    {
+        private final ListIterable<B> batches;
+        private final Function<? super B, ? extends V> function;
+        private final Function2<V, V, V> combineFunction;
+        private final V empty;
+        private final Predicate<? super V> shortCircuit;
+        private final AtomicReference<Throwable> failure = new AtomicReference<>();
+        private volatile boolean done;
+
+        private State(
+                ListIterable<B> batches,
+                Function<? super B, ? extends V> function,
+                Function2<V, V, V> combineFunction,
+                V empty,
+                Predicate<? super V> shortCircuit)
+        {
+            this.batches = batches;
+            this.function = function;
+            this.combineFunction = combineFunction;
+            this.empty = empty;
+            this.shortCircuit = shortCircuit;
+        }
+
+        private V valueOf(int index)
+        {
+            if (this.done)
+            {
+                return this.empty;
+            }
+            try
+            {
+                V result = this.function.valueOf(this.batches.get(index));
+                if (this.shortCircuit != null && this.shortCircuit.accept(result))
+                {
+                    this.done = true;
+                }
+                return result;
+            }
+            catch (RuntimeException | Error e)
+            {
+                return this.fail(e);
+            }
+        }
+
+        private V combine(V left, V right)
+        {
+            // after a failure the partial results are discarded, and may not be valid inputs to the combine function
+            if (this.failure.get() != null)
+            {
+                return this.empty;
+            }
+            try
+            {
+                return this.combineFunction.value(left, right);
+            }
+            catch (RuntimeException | Error e)
+            {
+                return this.fail(e);
+            }
+        }
+
+        /**
+         * Records the first failure, keeping the original exception rather than the copy which ForkJoinTask makes when
+         * rethrowing across threads.
+         */
+        private V fail(Throwable e)
+        {
+            this.failure.compareAndSet(null, e);
+            this.done = true;
+            return this.empty;
+        }
+    }
+}
@@ -12,8 +12,12 @@ package org.eclipse.collections.impl.lazy.parallel;
 
 import java.util.Comparator;
 
+import org.eclipse.collections.api.ParallelDoubleIterable;
+import org.eclipse.collections.api.ParallelIntIterable;
 import org.eclipse.collections.api.ParallelIterable;
+import org.eclipse.collections.api.ParallelLongIterable;
 import org.eclipse.collections.api.RichIterable;
+import org.eclipse.collections.api.bag.Bag;
 import org.eclipse.collections.api.bag.MutableBag;
 import org.eclipse.collections.api.bag.sorted.MutableSortedBag;
 import org.eclipse.collections.api.block.function.Function;
@@ -30,9 +34,13 @@ import org.eclipse.collections.api.block.procedure.Procedure2;
 import org.eclipse.collections.api.list.MutableList;
 import org.eclipse.collections.api.map.MapIterable;
 import org.eclipse.collections.api.map.MutableMap;
+import org.eclipse.collections.api.map.primitive.ObjectLongMap;
 import org.eclipse.collections.api.map.sorted.MutableSortedMap;
 import org.eclipse.collections.api.set.MutableSet;
 import org.eclipse.collections.api.set.sorted.MutableSortedSet;
+import org.eclipse.collections.impl.lazy.parallel.primitive.NonParallelDoubleIterable;
+import org.eclipse.collections.impl.lazy.parallel.primitive.NonParallelIntIterable;
+import org.eclipse.collections.impl.lazy.parallel.primitive.NonParallelLongIterable;
 
 public abstract class NonParallelIterable<T, RI extends RichIterable<T>> implements ParallelIterable<T>
 {
@@ -289,6 +297,24 @@ public abstract class NonParallelIterable<T, RI extends RichIterable<T>> impleme
         return this.delegate.sumOfDouble(function);
     }
 
+    @Override
+    public ParallelIntIterable collectInt(IntFunction<? super T> function)
+    {
+        return new NonParallelIntIterable(this.delegate.asLazy().collectInt(function));
+    }
+
+    @Override
+    public ParallelLongIterable collectLong(LongFunction<? super T> function)
+    {
+        return new NonParallelLongIterable(this.delegate.asLazy().collectLong(function));
+    }
+
+    @Override
+    public ParallelDoubleIterable collectDouble(DoubleFunction<? super T> function)
+    {
+        return new NonParallelDoubleIterable(this.delegate.asLazy().collectDouble(function));
+    }
+
     @Override
     public String toString()
     {
@@ -348,4 +374,16 @@ public abstract class NonParallelIterable<T, RI extends RichIterable<T>> impleme
     {
         return this.delegate.aggregateBy(groupBy, zeroValueFactory, nonMutatingAggregator);
     }
+
+    @Override
+    public <V> Bag<V> countBy(Function<? super T, ? extends V> function)
+    {
+        return this.delegate.countBy(function);
+    }
+
+    @Override
+    public <V> ObjectLongMap<V> sumByLong(Function<? super T, ? extends V> groupBy, LongFunction<? super T> function)
+    {
+        return this.delegate.sumByLong(groupBy, function);
+    }
 }
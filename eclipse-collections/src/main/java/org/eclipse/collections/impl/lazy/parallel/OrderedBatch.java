@@ -13,7 +13,7 @@ package org.eclipse.collections.impl.lazy.parallel;
 import org.eclipse.collections.api.block.function.Function;
 import org.eclipse.collections.api.block.predicate.Predicate;
 import org.eclipse.collections.impl.lazy.parallel.list.ListBatch;
-import org.eclipse.collections.impl.map.mutable.ConcurrentHashMap;
+import org.eclipse.collections.impl.set.mutable.ConcurrentUnifiedSet;
 
 public interface OrderedBatch<T> extends Batch<T>
 {
@@ -26,5 +26,5 @@ public interface OrderedBatch<T> extends Batch<T>
     @Override
     <V> ListBatch<V> flatCollect(Function<? super T, ? extends Iterable<V>> function);
 
-    Batch<T> distinct(ConcurrentHashMap<T, Boolean> distinct);
+    Batch<T> distinct(ConcurrentUnifiedSet<T> distinct);
 }
@@ -0,0 +1,267 @@
+/*
+ * Copyright (c) 2024 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.lazy.parallel;
+
+import java.util.concurrent.Future;
+
+import org.eclipse.collections.api.block.function.Function;
+import org.eclipse.collections.api.block.function.Function0;
+import org.eclipse.collections.api.block.procedure.Procedure2;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.api.map.MutableMap;
+import org.eclipse.collections.impl.list.mutable.FastList;
+import org.eclipse.collections.impl.map.mutable.UnifiedMap;
+
+/**
+ * Groups the elements of a parallel iterable by key without sharing a mutable result between threads. Each batch
+ * accumulates its elements into partial results of its own, one for each partition of the key space. The partials are
+ * then merged in one of two ways:
+ * <ul>
+ * <li>pairwise in a merge tree, when the batches only saw a few keys and the partials are small.</li>
+ * <li>by one task per key partition, when there are many keys. Each task owns a range of keys, so no two tasks ever
+ * merge the same key and the large partials are merged concurrently rather than at the root of a tree.</li>
+ * </ul>
+ * Batches are always merged in encounter order, so the values of each key keep their relative order.
+ * <p>
+ * Values which cannot be merged, such as those of aggregateBy and aggregateInPlaceBy without a combiner, are
+ * aggregated by key partition instead, see {@link #aggregateByPartition(AbstractParallelIterable, Function, Function)}.
+ */
+final class ParallelGrouping
+{
+    static final int PARTITION_BITS = 5;
+    static final int PARTITION_COUNT = 1 << PARTITION_BITS;
+
+    private ParallelGrouping()
+    {
+        throw new AssertionError("Suppress default constructor for noninstantiability");
+    }
+
+    /**
+     * Uses the high bits of a multiplicative hash, so the keys of a partition do not share the low bits which the
+     * hashed collections use to find their slot.
+     */
+    static int partitionOf(Object key)
+    {
+        int hashCode = key == null ? 0 : key.hashCode();
+        return (hashCode * 0x9E3779B9) >>> (Integer.SIZE - PARTITION_BITS);
+    }
+
+    /**
+     * Returns the result of accumulating every element with {@code accumulator} into the partials of its batch, and
+     * then merging all the partials with {@code merger}, which adds the contents of its second argument to its first.
+     */
+    static <T, R> R aggregate(
+            AbstractParallelIterable<T, ?> parallelIterable,
+            Function0<? extends R> factory,
+            Procedure2<? super T, Partials<R>> accumulator,
+            Procedure2<R, R> merger)
+    {
+        MutableList<Partials<R>> batches = parallelIterable.collectBatches(batch -> {
+            Partials<R> partials = new Partials<>(factory);
+            batch.forEach(each -> accumulator.value(each, partials));
+            return partials;
+        });
+
+        int occupied = 0;
+        for (int i = 0; i < batches.size(); i++)
+        {
+            occupied += batches.get(i).occupied;
+        }
+
+        if (occupied <= batches.size() * (PARTITION_COUNT / 4))
+        {
+            Partials<R> root = parallelIterable.reduceInParallel(batches, (left, right) -> left.mergeFrom(right, merger));
+            return root == null ? factory.value() : ParallelGrouping.concatenate(root.partials, factory, merger);
+        }
+
+        MutableList<Future<R>> futures = FastList.newList(PARTITION_COUNT);
+        for (int i = 0; i < PARTITION_COUNT; i++)
+        {
+            int partition = i;
+            futures.add(parallelIterable.getExecutorService().submit(() -> ParallelGrouping.mergePartition(batches, partition, merger)));
+        }
+        return ParallelGrouping.concatenate(futures.collect(AbstractParallelIterable::getResult).toArray(), factory, merger);
+    }
+
+    /**
+     * Returns the map of aggregating every element into the value of its key, where {@code aggregator} returns the
+     * procedure which aggregates a key and an element into a given map. The batches only split their elements by the
+     * partition of their key, and then one task per partition aggregates the elements of its partition from every batch
+     * in encounter order. Each key is aggregated by a single task, so the values of two batches never need combining.
+     */
+    static <T, K, V> MutableMap<K, V> aggregateByPartition(
+            AbstractParallelIterable<T, ?> parallelIterable,
+            Function<? super T, ? extends K> groupBy,
+            Function<MutableMap<K, V>, Procedure2<K, T>> aggregator)
+    {
+        MutableList<Partials<KeyedElements<K, T>>> batches = parallelIterable.collectBatches(batch -> {
+            Partials<KeyedElements<K, T>> partials = new Partials<>(KeyedElements::new);
+            batch.forEach(each -> {
+                K key = groupBy.valueOf(each);
+                partials.forKey(key).add(key, each);
+            });
+            return partials;
+        });
+
+        MutableList<Future<MutableMap<K, V>>> futures = FastList.newList(PARTITION_COUNT);
+        for (int i = 0; i < PARTITION_COUNT; i++)
+        {
+            int partition = i;
+            futures.add(parallelIterable.getExecutorService().submit(() -> ParallelGrouping.aggregatePartition(batches, partition, aggregator)));
+        }
+        MutableMap<K, V> result = UnifiedMap.newMap();
+        for (int i = 0; i < PARTITION_COUNT; i++)
+        {
+            result.putAll(AbstractParallelIterable.getResult(futures.get(i)));
+        }
+        return result;
+    }
+
+    private static <T, K, V> MutableMap<K, V> aggregatePartition(
+            MutableList<Partials<KeyedElements<K, T>>> batches,
+            int partition,
+            Function<MutableMap<K, V>, Procedure2<K, T>> aggregator)
+    {
+        MutableMap<K, V> result = UnifiedMap.newMap();
+        Procedure2<K, T> procedure = aggregator.valueOf(result);
+        for (int i = 0; i < batches.size(); i++)
+        {
+            KeyedElements<K, T> elements = batches.get(i).get(partition);
+            if (elements != null)
+            {
+                elements.forEach(procedure);
+            }
+        }
+        return result;
+    }
+
+    private static <R> R mergePartition(MutableList<Partials<R>> batches, int partition, Procedure2<R, R> merger)
+    {
+        R result = null;
+        for (int i = 0; i < batches.size(); i++)
+        {
+            R partial = batches.get(i).get(partition);
+            if (partial != null)
+            {
+                if (result == null)
+                {
+                    result = partial;
+                }
+                else
+                {
+                    merger.value(result, partial);
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Merges results which hold disjoint ranges of keys.
+     */
+    private static <R> R concatenate(Object[] results, Function0<? extends R> factory, Procedure2<R, R> merger)
+    {
+        R result = null;
+        for (Object each : results)
+        {
+            if (each != null)
+            {
+                if (result == null)
+                {
+                    result = (R) each;
+                }
+                else
+                {
+                    merger.value(result, (R) each);
+                }
+            }
+        }
+        return result == null ? factory.value() : result;
+    }
+
+    /**
+     * The partial results of one batch, one per key partition. Partials are created when the first key of their
+     * partition is seen, so a batch which sees few keys allocates few of them.
+     */
+    static final class Partials<R>
+    {
+        private final Function0<? extends R> factory;
+        private final Object[] partials = new Object[PARTITION_COUNT];
+        private int occupied;
+
+        Partials(Function0<? extends R> factory)
+        {
+            this.factory = factory;
+        }
+
+        R forKey(Object key)
+        {
+            int partition = ParallelGrouping.partitionOf(key);
+            R partial = (R) this.partials[partition];
+            if (partial == null)
+            {
+                partial = this.factory.value();
+                this.partials[partition] = partial;
+                this.occupied++;
+            }
+            return partial;
+        }
+
+        R get(int partition)
+        {
+            return (R) this.partials[partition];
+        }
+
+        Partials<R> mergeFrom(Partials<R> other, Procedure2<R, R> merger)
+        {
+            for (int i = 0; i < PARTITION_COUNT; i++)
+            {
+                R partial = other.get(i);
+                if (partial != null)
+                {
+                    R target = this.get(i);
+                    if (target == null)
+                    {
+                        this.partials[i] = partial;
+                        this.occupied++;
+                    }
+                    else
+                    {
+                        merger.value(target, partial);
+                    }
+                }
+            }
+            return this;
+        }
+    }
+
+    /**
+     * The elements of one batch in one key partition, each stored next to its key so that the key is computed once.
+     */
+    static final class KeyedElements<K, T>
+    {
+        private final MutableList<Object> keysAndElements = FastList.newList();
+
+        void add(K key, T each)
+        {
+            this.keysAndElements.add(key);
+            this.keysAndElements.add(each);
+        }
+
+        void forEach(Procedure2<K, T> procedure)
+        {
+            for (int i = 0; i < this.keysAndElements.size(); i += 2)
+            {
+                procedure.value((K) this.keysAndElements.get(i), (T) this.keysAndElements.get(i + 1));
+            }
+        }
+    }
+}
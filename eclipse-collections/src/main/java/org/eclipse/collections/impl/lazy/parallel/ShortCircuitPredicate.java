@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2024 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.lazy.parallel;
+
+import org.eclipse.collections.api.annotation.Beta;
+import org.eclipse.collections.api.block.predicate.Predicate;
+
+/**
+ * A predicate shared by all the batches of one parallel search. The first element to satisfy the wrapped predicate
+ * is recorded and raises a stop flag, after which this predicate accepts every element without evaluating the wrapped
+ * one. A batch passed to {@link RootBatch#anySatisfy(Predicate)} therefore returns at its next element once any other
+ * batch has found a match, and a batch which has not started yet returns at its first.
+ */
+@Beta
+final class ShortCircuitPredicate<T> implements Predicate<T>
+{
+    private static final long serialVersionUID = 1L;
+
+    private final Predicate<? super T> predicate;
+    private volatile boolean stopped;
+    private T result;
+
+    ShortCircuitPredicate(Predicate<? super T> predicate)
+    {
+        this.predicate = predicate;
+    }
+
+    @Override
+    public boolean accept(T each)
+    {
+        if (this.stopped)
+        {
+            return true;
+        }
+        if (this.predicate.accept(each))
+        {
+            this.stop(each);
+            return true;
+        }
+        return false;
+    }
+
+    private synchronized void stop(T each)
+    {
+        if (!this.stopped)
+        {
+            this.result = each;
+            this.stopped = true;
+        }
+    }
+
+    boolean isStopped()
+    {
+        return this.stopped;
+    }
+
+    /**
+     * Returns the first element found to satisfy the wrapped predicate, or null if none was found.
+     */
+    synchronized T getResult()
+    {
+        return this.result;
+    }
+}
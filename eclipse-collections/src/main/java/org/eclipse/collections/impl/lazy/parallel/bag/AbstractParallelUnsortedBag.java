@@ -17,7 +17,7 @@ import org.eclipse.collections.api.block.function.Function;
 import org.eclipse.collections.api.block.function.Function2;
 import org.eclipse.collections.api.block.predicate.Predicate;
 import org.eclipse.collections.api.block.predicate.Predicate2;
-import org.eclipse.collections.api.multimap.bag.MutableBagMultimap;
+import org.eclipse.collections.api.list.MutableList;
 import org.eclipse.collections.api.multimap.bag.UnsortedBagMultimap;
 import org.eclipse.collections.api.set.ParallelUnsortedSetIterable;
 import org.eclipse.collections.impl.bag.mutable.HashBag;
@@ -25,7 +25,7 @@ import org.eclipse.collections.impl.block.factory.Functions;
 import org.eclipse.collections.impl.block.factory.Predicates;
 import org.eclipse.collections.impl.block.procedure.BagAddOccurrencesProcedure;
 import org.eclipse.collections.impl.lazy.parallel.AbstractParallelIterable;
-import org.eclipse.collections.impl.multimap.bag.SynchronizedPutHashBagMultimap;
+import org.eclipse.collections.impl.multimap.bag.HashBagMultimap;
 
 @Beta
 public abstract class AbstractParallelUnsortedBag<T, B extends UnsortedBagBatch<T>> extends AbstractParallelIterable<T, B> implements ParallelUnsortedBag<T>
@@ -99,39 +99,24 @@ public abstract class AbstractParallelUnsortedBag<T, B extends UnsortedBagBatch<
     @Override
     public MutableBag<T> toBag()
     {
-        MutableBag<T> result = HashBag.<T>newBag().asSynchronized();
-        this.forEachWithOccurrences(BagAddOccurrencesProcedure.on(result));
-        return result;
+        MutableList<MutableBag<T>> bags = this.collectBatches(batch -> {
+            MutableBag<T> bag = HashBag.newBag();
+            batch.forEachWithOccurrences(BagAddOccurrencesProcedure.on(bag));
+            return bag;
+        });
+        MutableBag<T> result = this.reduceInParallel(bags, AbstractParallelIterable::mergeBags);
+        return result == null ? HashBag.newBag() : result;
     }
 
     @Override
     public <V> UnsortedBagMultimap<V, T> groupBy(Function<? super T, ? extends V> function)
     {
-        MutableBagMultimap<V, T> result = SynchronizedPutHashBagMultimap.newMultimap();
-        this.forEachWithOccurrences((each, occurrences) -> {
-            V key = function.valueOf(each);
-            for (int i = 0; i < occurrences; i++)
-            {
-                result.put(key, each);
-            }
-        });
-        return result;
+        return this.<V, HashBagMultimap<V, T>>groupByInParallel(function, HashBagMultimap::newMultimap);
     }
 
     @Override
     public <V> UnsortedBagMultimap<V, T> groupByEach(Function<? super T, ? extends Iterable<V>> function)
     {
-        MutableBagMultimap<V, T> result = SynchronizedPutHashBagMultimap.newMultimap();
-        this.forEachWithOccurrences((each, occurrences) -> {
-            Iterable<V> keys = function.valueOf(each);
-            for (V key : keys)
-            {
-                for (int i = 0; i < occurrences; i++)
-                {
-                    result.put(key, each);
-                }
-            }
-        });
-        return result;
+        return this.<V, HashBagMultimap<V, T>>groupByEachInParallel(function, HashBagMultimap::newMultimap);
     }
 }
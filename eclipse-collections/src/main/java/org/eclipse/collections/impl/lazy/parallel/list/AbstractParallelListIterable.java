@@ -10,18 +10,25 @@
 
 package org.eclipse.collections.impl.lazy.parallel.list;
 
+import java.util.concurrent.Future;
+
 import org.eclipse.collections.api.annotation.Beta;
 import org.eclipse.collections.api.block.function.Function;
 import org.eclipse.collections.api.block.function.Function2;
 import org.eclipse.collections.api.block.predicate.Predicate;
 import org.eclipse.collections.api.block.predicate.Predicate2;
+import org.eclipse.collections.api.block.procedure.Procedure;
+import org.eclipse.collections.api.list.MutableList;
 import org.eclipse.collections.api.list.ParallelListIterable;
-import org.eclipse.collections.api.map.MapIterable;
 import org.eclipse.collections.api.multimap.list.ListMultimap;
 import org.eclipse.collections.api.set.ParallelUnsortedSetIterable;
+import org.eclipse.collections.api.tuple.Pair;
 import org.eclipse.collections.impl.block.factory.Functions;
 import org.eclipse.collections.impl.block.factory.Predicates;
 import org.eclipse.collections.impl.lazy.parallel.AbstractParallelIterable;
+import org.eclipse.collections.impl.list.mutable.FastList;
+import org.eclipse.collections.impl.multimap.list.FastListMultimap;
+import org.eclipse.collections.impl.tuple.Tuples;
 
 @Beta
 public abstract class AbstractParallelListIterable<T, B extends ListBatch<T>> extends AbstractParallelIterable<T, B> implements ParallelListIterable<T>
@@ -95,35 +102,143 @@ public abstract class AbstractParallelListIterable<T, B extends ListBatch<T>> ex
     @Override
     public <V> ListMultimap<V, T> groupBy(Function<? super T, ? extends V> function)
     {
-        // TODO: Implement in parallel
-        return this.toList().groupBy(function);
+        return this.<V, FastListMultimap<V, T>>groupByInParallel(function, FastListMultimap::newMultimap);
     }
 
     @Override
     public <V> ListMultimap<V, T> groupByEach(Function<? super T, ? extends Iterable<V>> function)
     {
-        // TODO: Implement in parallel
-        return this.toList().groupByEach(function);
-    }
-
-    @Override
-    public <V> MapIterable<V, T> groupByUniqueKey(Function<? super T, ? extends V> function)
-    {
-        // TODO: Implement in parallel
-        return this.toList().groupByUniqueKey(function);
-    }
-
-    @Override
-    public Object[] toArray()
-    {
-        // TODO: Implement in parallel
-        return this.toList().toArray();
-    }
-
-    @Override
-    public <E> E[] toArray(E[] array)
-    {
-        // TODO: Implement in parallel
-        return this.toList().toArray(array);
+        return this.<V, FastListMultimap<V, T>>groupByEachInParallel(function, FastListMultimap::newMultimap);
+    }
+
+    /**
+     * Copies the batches into a single FastList in parallel, so the result has constant time access by index.
+     */
+    @Override
+    public MutableList<T> toList()
+    {
+        return FastList.newListWith((T[]) this.toArray());
+    }
+
+    @Override
+    public void forEachOrdered(Procedure<? super T> procedure)
+    {
+        MutableList<Future<FastList<T>>> futures = this.submitBatches(AbstractParallelIterable::batchToList);
+        for (int i = 0; i < futures.size(); i++)
+        {
+            try
+            {
+                AbstractParallelIterable.getResult(futures.get(i)).each(procedure);
+            }
+            catch (RuntimeException | Error e)
+            {
+                for (int j = i + 1; j < futures.size(); j++)
+                {
+                    futures.get(j).cancel(true);
+                }
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * Batches cannot stop early in general, so each batch evaluates the predicate until it or an earlier batch finds a
+     * match and then ignores the rest of its elements. Subclasses whose batches can stop early override this.
+     */
+    @Override
+    public T detectFirst(Predicate<? super T> predicate)
+    {
+        return AbstractParallelIterable.detectFirst(this, predicate, (batch, batchPredicate) -> {
+            MutableList<T> result = FastList.newList(1);
+            batch.forEach(each -> {
+                if (result.isEmpty() && batchPredicate.accept(each))
+                {
+                    result.add(each);
+                }
+            });
+            return result.getFirst();
+        });
+    }
+
+    @Override
+    public MutableList<T> take(int count)
+    {
+        if (count < 0)
+        {
+            throw new IllegalArgumentException("Count must be greater than zero, but was: " + count);
+        }
+        MutableList<T> result = FastList.newList();
+        if (count == 0)
+        {
+            return result;
+        }
+        MutableList<Future<FastList<T>>> futures = this.submitBatches(AbstractParallelIterable::batchToList);
+        int index = 0;
+        while (index < futures.size() && result.size() < count)
+        {
+            FastList<T> batch = AbstractParallelIterable.getResult(futures.get(index));
+            index++;
+            int remaining = count - result.size();
+            result.addAll(batch.size() <= remaining ? batch : batch.subList(0, remaining));
+        }
+        for (int i = index; i < futures.size(); i++)
+        {
+            futures.get(i).cancel(true);
+        }
+        return result;
+    }
+
+    @Override
+    public MutableList<T> drop(int count)
+    {
+        if (count < 0)
+        {
+            throw new IllegalArgumentException("Count must be greater than zero, but was: " + count);
+        }
+        MutableList<FastList<T>> batches = this.collectBatches(AbstractParallelIterable::batchToList);
+        int size = (int) batches.sumOfInt(FastList::size);
+        MutableList<T> result = FastList.newList(Math.max(size - count, 0));
+        int toSkip = count;
+        for (int i = 0; i < batches.size(); i++)
+        {
+            FastList<T> batch = batches.get(i);
+            if (toSkip >= batch.size())
+            {
+                toSkip -= batch.size();
+            }
+            else
+            {
+                result.addAll(toSkip == 0 ? batch : batch.subList(toSkip, batch.size()));
+                toSkip = 0;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Evaluates the batches once to learn where each one starts, and then pairs the elements of each batch with their
+     * indices in parallel.
+     */
+    @Override
+    public MutableList<Pair<T, Integer>> zipWithIndex()
+    {
+        MutableList<FastList<T>> batches = this.collectBatches(AbstractParallelIterable::batchToList);
+        int[] offsets = new int[batches.size()];
+        int size = 0;
+        for (int i = 0; i < batches.size(); i++)
+        {
+            offsets[i] = size;
+            size += batches.get(i).size();
+        }
+        Pair<T, Integer>[] result = new Pair[size];
+        MutableList<Future<?>> futures = FastList.newList(batches.size());
+        for (int i = 0; i < batches.size(); i++)
+        {
+            FastList<T> batch = batches.get(i);
+            int offset = offsets[i];
+            futures.add(this.getExecutorService().submit(() -> batch.forEachWithIndex((each, index) -> result[offset + index] = Tuples.pair(each, offset + index))));
+        }
+        futures.each(AbstractParallelIterable::getResult);
+        return FastList.newListWith(result);
     }
 }
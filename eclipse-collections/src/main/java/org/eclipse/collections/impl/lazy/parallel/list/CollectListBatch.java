@@ -18,7 +18,7 @@ import org.eclipse.collections.impl.block.factory.Functions;
 import org.eclipse.collections.impl.lazy.parallel.AbstractBatch;
 import org.eclipse.collections.impl.lazy.parallel.Batch;
 import org.eclipse.collections.impl.lazy.parallel.set.UnsortedSetBatch;
-import org.eclipse.collections.impl.map.mutable.ConcurrentHashMap;
+import org.eclipse.collections.impl.set.mutable.ConcurrentUnifiedSet;
 
 @Beta
 public class CollectListBatch<T, V> extends AbstractBatch<V> implements ListBatch<V>
@@ -58,7 +58,7 @@ public class CollectListBatch<T, V> extends AbstractBatch<V> implements ListBatc
     }
 
     @Override
-    public UnsortedSetBatch<V> distinct(ConcurrentHashMap<V, Boolean> distinct)
+    public UnsortedSetBatch<V> distinct(ConcurrentUnifiedSet<V> distinct)
     {
         return new DistinctBatch<>(this, distinct);
     }
@@ -21,15 +21,15 @@ import org.eclipse.collections.impl.lazy.parallel.bag.FlatCollectUnsortedBagBatc
 import org.eclipse.collections.impl.lazy.parallel.bag.UnsortedBagBatch;
 import org.eclipse.collections.impl.lazy.parallel.set.SelectUnsortedSetBatch;
 import org.eclipse.collections.impl.lazy.parallel.set.UnsortedSetBatch;
-import org.eclipse.collections.impl.map.mutable.ConcurrentHashMap;
+import org.eclipse.collections.impl.set.mutable.ConcurrentUnifiedSet;
 
 @Beta
 public class DistinctBatch<T> extends AbstractBatch<T> implements UnsortedSetBatch<T>
 {
     private final Batch<T> batch;
-    private final ConcurrentHashMap<T, Boolean> distinct;
+    private final ConcurrentUnifiedSet<T> distinct;
 
-    public DistinctBatch(Batch<T> batch, ConcurrentHashMap<T, Boolean> distinct)
+    public DistinctBatch(Batch<T> batch, ConcurrentUnifiedSet<T> distinct)
     {
         this.batch = batch;
         this.distinct = distinct;
@@ -39,7 +39,7 @@ public class DistinctBatch<T> extends AbstractBatch<T> implements UnsortedSetBat
     public void forEach(Procedure<? super T> procedure)
     {
         this.batch.forEach(each -> {
-            if (this.distinct.put(each, true) == null)
+            if (this.distinct.add(each))
             {
                 procedure.value(each);
             }
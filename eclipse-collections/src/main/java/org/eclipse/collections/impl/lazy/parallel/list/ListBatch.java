@@ -14,7 +14,7 @@ import org.eclipse.collections.api.annotation.Beta;
 import org.eclipse.collections.api.block.predicate.Predicate;
 import org.eclipse.collections.impl.lazy.parallel.OrderedBatch;
 import org.eclipse.collections.impl.lazy.parallel.set.UnsortedSetBatch;
-import org.eclipse.collections.impl.map.mutable.ConcurrentHashMap;
+import org.eclipse.collections.impl.set.mutable.ConcurrentUnifiedSet;
 
 @Beta
 public interface ListBatch<T> extends OrderedBatch<T>
@@ -23,5 +23,5 @@ public interface ListBatch<T> extends OrderedBatch<T>
     ListBatch<T> select(Predicate<? super T> predicate);
 
     @Override
-    UnsortedSetBatch<T> distinct(ConcurrentHashMap<T, Boolean> distinct);
+    UnsortedSetBatch<T> distinct(ConcurrentUnifiedSet<T> distinct);
 }
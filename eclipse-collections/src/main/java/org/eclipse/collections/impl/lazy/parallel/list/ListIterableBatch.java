@@ -17,7 +17,7 @@ import org.eclipse.collections.api.block.procedure.Procedure;
 import org.eclipse.collections.api.list.ListIterable;
 import org.eclipse.collections.impl.lazy.parallel.AbstractBatch;
 import org.eclipse.collections.impl.lazy.parallel.set.UnsortedSetBatch;
-import org.eclipse.collections.impl.map.mutable.ConcurrentHashMap;
+import org.eclipse.collections.impl.set.mutable.ConcurrentUnifiedSet;
 
 @Beta
 public class ListIterableBatch<T> extends AbstractBatch<T> implements RootListBatch<T>
@@ -114,7 +114,7 @@ public class ListIterableBatch<T> extends AbstractBatch<T> implements RootListBa
     }
 
     @Override
-    public UnsortedSetBatch<T> distinct(ConcurrentHashMap<T, Boolean> distinct)
+    public UnsortedSetBatch<T> distinct(ConcurrentUnifiedSet<T> distinct)
     {
         return new DistinctBatch<>(this, distinct);
     }
@@ -17,9 +17,12 @@ import org.eclipse.collections.api.block.function.Function;
 import org.eclipse.collections.api.block.function.Function2;
 import org.eclipse.collections.api.block.predicate.Predicate;
 import org.eclipse.collections.api.block.predicate.Predicate2;
+import org.eclipse.collections.api.block.procedure.Procedure;
+import org.eclipse.collections.api.list.MutableList;
 import org.eclipse.collections.api.list.ParallelListIterable;
 import org.eclipse.collections.api.multimap.list.ListMultimap;
 import org.eclipse.collections.api.set.ParallelUnsortedSetIterable;
+import org.eclipse.collections.api.tuple.Pair;
 import org.eclipse.collections.impl.lazy.parallel.AbstractMultiReaderParallelIterable;
 
 @Beta
@@ -117,4 +120,74 @@ public final class MultiReaderParallelListIterable<T> extends AbstractMultiReade
             this.lock.readLock().unlock();
         }
     }
+
+    @Override
+    public void forEachOrdered(Procedure<? super T> procedure)
+    {
+        this.lock.readLock().lock();
+        try
+        {
+            this.delegate.forEachOrdered(procedure);
+        }
+        finally
+        {
+            this.lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public T detectFirst(Predicate<? super T> predicate)
+    {
+        this.lock.readLock().lock();
+        try
+        {
+            return this.delegate.detectFirst(predicate);
+        }
+        finally
+        {
+            this.lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public MutableList<T> take(int count)
+    {
+        this.lock.readLock().lock();
+        try
+        {
+            return this.delegate.take(count);
+        }
+        finally
+        {
+            this.lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public MutableList<T> drop(int count)
+    {
+        this.lock.readLock().lock();
+        try
+        {
+            return this.delegate.drop(count);
+        }
+        finally
+        {
+            this.lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public MutableList<Pair<T, Integer>> zipWithIndex()
+    {
+        this.lock.readLock().lock();
+        try
+        {
+            return this.delegate.zipWithIndex();
+        }
+        finally
+        {
+            this.lock.readLock().unlock();
+        }
+    }
 }
@@ -14,10 +14,13 @@ import org.eclipse.collections.api.block.function.Function;
 import org.eclipse.collections.api.block.function.Function2;
 import org.eclipse.collections.api.block.predicate.Predicate;
 import org.eclipse.collections.api.block.predicate.Predicate2;
+import org.eclipse.collections.api.block.procedure.Procedure;
 import org.eclipse.collections.api.list.ListIterable;
+import org.eclipse.collections.api.list.MutableList;
 import org.eclipse.collections.api.list.ParallelListIterable;
 import org.eclipse.collections.api.multimap.list.ListMultimap;
 import org.eclipse.collections.api.set.ParallelUnsortedSetIterable;
+import org.eclipse.collections.api.tuple.Pair;
 import org.eclipse.collections.impl.lazy.parallel.NonParallelIterable;
 import org.eclipse.collections.impl.lazy.parallel.set.NonParallelUnsortedSetIterable;
 
@@ -99,4 +102,34 @@ public class NonParallelListIterable<T> extends NonParallelIterable<T, ListItera
     {
         return this.delegate.groupByEach(function);
     }
+
+    @Override
+    public void forEachOrdered(Procedure<? super T> procedure)
+    {
+        this.delegate.forEach(procedure);
+    }
+
+    @Override
+    public T detectFirst(Predicate<? super T> predicate)
+    {
+        return this.delegate.detect(predicate);
+    }
+
+    @Override
+    public MutableList<T> take(int count)
+    {
+        return this.delegate.asLazy().take(count).toList();
+    }
+
+    @Override
+    public MutableList<T> drop(int count)
+    {
+        return this.delegate.asLazy().drop(count).toList();
+    }
+
+    @Override
+    public MutableList<Pair<T, Integer>> zipWithIndex()
+    {
+        return this.delegate.asLazy().zipWithIndex().toList();
+    }
 }
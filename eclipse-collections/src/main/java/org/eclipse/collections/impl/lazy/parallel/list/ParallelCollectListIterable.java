@@ -17,6 +17,7 @@ import org.eclipse.collections.api.annotation.Beta;
 import org.eclipse.collections.api.block.function.Function;
 import org.eclipse.collections.api.block.predicate.Predicate;
 import org.eclipse.collections.api.block.procedure.Procedure;
+import org.eclipse.collections.api.list.ParallelListIterable;
 import org.eclipse.collections.impl.block.factory.Functions;
 import org.eclipse.collections.impl.block.factory.Predicates;
 import org.eclipse.collections.impl.lazy.parallel.AbstractParallelIterable;
@@ -76,4 +77,18 @@ public class ParallelCollectListIterable<T, V> extends AbstractParallelListItera
         T resultItem = this.parallelIterable.detect(Predicates.attributePredicate(this.function, predicate));
         return resultItem == null ? null : this.function.valueOf(resultItem);
     }
+
+    /**
+     * Searches the list this was collected from when it is a list too, so that its batches can stop early.
+     */
+    @Override
+    public V detectFirst(Predicate<? super V> predicate)
+    {
+        if (!(this.parallelIterable instanceof ParallelListIterable))
+        {
+            return super.detectFirst(predicate);
+        }
+        T resultItem = ((ParallelListIterable<T>) this.parallelIterable).detectFirst(Predicates.attributePredicate(this.function, predicate));
+        return resultItem == null ? null : this.function.valueOf(resultItem);
+    }
 }
@@ -15,9 +15,12 @@ import org.eclipse.collections.api.block.function.Function;
 import org.eclipse.collections.api.block.function.Function2;
 import org.eclipse.collections.api.block.predicate.Predicate;
 import org.eclipse.collections.api.block.predicate.Predicate2;
+import org.eclipse.collections.api.block.procedure.Procedure;
+import org.eclipse.collections.api.list.MutableList;
 import org.eclipse.collections.api.list.ParallelListIterable;
 import org.eclipse.collections.api.multimap.list.ListMultimap;
 import org.eclipse.collections.api.set.ParallelUnsortedSetIterable;
+import org.eclipse.collections.api.tuple.Pair;
 import org.eclipse.collections.impl.lazy.parallel.AbstractSynchronizedParallelIterable;
 
 @Beta
@@ -105,4 +108,49 @@ public final class SynchronizedParallelListIterable<T> extends AbstractSynchroni
             return this.delegate.groupByEach(function);
         }
     }
+
+    @Override
+    public void forEachOrdered(Procedure<? super T> procedure)
+    {
+        synchronized (this.lock)
+        {
+            this.delegate.forEachOrdered(procedure);
+        }
+    }
+
+    @Override
+    public T detectFirst(Predicate<? super T> predicate)
+    {
+        synchronized (this.lock)
+        {
+            return this.delegate.detectFirst(predicate);
+        }
+    }
+
+    @Override
+    public MutableList<T> take(int count)
+    {
+        synchronized (this.lock)
+        {
+            return this.delegate.take(count);
+        }
+    }
+
+    @Override
+    public MutableList<T> drop(int count)
+    {
+        synchronized (this.lock)
+        {
+            return this.delegate.drop(count);
+        }
+    }
+
+    @Override
+    public MutableList<Pair<T, Integer>> zipWithIndex()
+    {
+        synchronized (this.lock)
+        {
+            return this.delegate.zipWithIndex();
+        }
+    }
 }
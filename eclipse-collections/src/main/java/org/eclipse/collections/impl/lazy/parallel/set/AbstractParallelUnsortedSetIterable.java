@@ -16,13 +16,12 @@ import org.eclipse.collections.api.block.function.Function;
 import org.eclipse.collections.api.block.function.Function2;
 import org.eclipse.collections.api.block.predicate.Predicate;
 import org.eclipse.collections.api.block.predicate.Predicate2;
-import org.eclipse.collections.api.multimap.set.MutableSetMultimap;
 import org.eclipse.collections.api.multimap.set.UnsortedSetMultimap;
 import org.eclipse.collections.api.set.ParallelUnsortedSetIterable;
 import org.eclipse.collections.impl.block.factory.Functions;
 import org.eclipse.collections.impl.block.factory.Predicates;
 import org.eclipse.collections.impl.lazy.parallel.AbstractParallelIterable;
-import org.eclipse.collections.impl.multimap.set.SynchronizedPutUnifiedSetMultimap;
+import org.eclipse.collections.impl.multimap.set.UnifiedSetMultimap;
 
 @Beta
 public abstract class AbstractParallelUnsortedSetIterable<T, B extends UnsortedSetBatch<T>> extends AbstractParallelIterable<T, B> implements ParallelUnsortedSetIterable<T>
@@ -96,25 +95,12 @@ public abstract class AbstractParallelUnsortedSetIterable<T, B extends UnsortedS
     @Override
     public <V> UnsortedSetMultimap<V, T> groupBy(Function<? super T, ? extends V> function)
     {
-        MutableSetMultimap<V, T> result = SynchronizedPutUnifiedSetMultimap.newMultimap();
-        this.forEach(each -> {
-            V key = function.valueOf(each);
-            result.put(key, each);
-        });
-        return result;
+        return this.<V, UnifiedSetMultimap<V, T>>groupByInParallel(function, UnifiedSetMultimap::newMultimap);
     }
 
     @Override
     public <V> UnsortedSetMultimap<V, T> groupByEach(Function<? super T, ? extends Iterable<V>> function)
     {
-        MutableSetMultimap<V, T> result = SynchronizedPutUnifiedSetMultimap.newMultimap();
-        this.forEach(each -> {
-            Iterable<V> keys = function.valueOf(each);
-            for (V key : keys)
-            {
-                result.put(key, each);
-            }
-        });
-        return result;
+        return this.<V, UnifiedSetMultimap<V, T>>groupByEachInParallel(function, UnifiedSetMultimap::newMultimap);
     }
 }
@@ -81,20 +81,6 @@ public class ParallelCollectIterable<T, V> extends AbstractParallelIterableImpl<
         return resultItem == null ? null : this.function.valueOf(resultItem);
     }
 
-    @Override
-    public Object[] toArray()
-    {
-        // TODO: Implement in parallel
-        return this.delegate.toList().collect(this.function).toArray();
-    }
-
-    @Override
-    public <E> E[] toArray(E[] array)
-    {
-        // TODO: Implement in parallel
-        return this.delegate.toList().collect(this.function).toArray(array);
-    }
-
     @Override
     public <V1> UnsortedBagMultimap<V1, V> groupBy(Function<? super V, ? extends V1> function)
     {
@@ -90,20 +90,6 @@ public class ParallelFlatCollectIterable<T, V> extends AbstractParallelIterableI
         return this.delegate.allSatisfy(each -> Iterate.allSatisfy(this.function.valueOf(each), predicate));
     }
 
-    @Override
-    public Object[] toArray()
-    {
-        // TODO: Implement in parallel
-        return this.delegate.toList().flatCollect(this.function).toArray();
-    }
-
-    @Override
-    public <E> E[] toArray(E[] array)
-    {
-        // TODO: Implement in parallel
-        return this.delegate.toList().flatCollect(this.function).toArray(array);
-    }
-
     @Override
     public <V1> UnsortedBagMultimap<V1, V> groupBy(Function<? super V, ? extends V1> function)
     {
@@ -16,8 +16,6 @@ import org.eclipse.collections.api.block.function.Function2;
 import org.eclipse.collections.api.block.predicate.Predicate;
 import org.eclipse.collections.api.block.predicate.Predicate2;
 import org.eclipse.collections.api.list.ParallelListIterable;
-import org.eclipse.collections.api.map.MapIterable;
-import org.eclipse.collections.api.multimap.sortedset.MutableSortedSetMultimap;
 import org.eclipse.collections.api.multimap.sortedset.SortedSetMultimap;
 import org.eclipse.collections.api.set.sorted.ParallelSortedSetIterable;
 import org.eclipse.collections.impl.block.factory.Functions;
@@ -25,7 +23,7 @@ import org.eclipse.collections.impl.block.factory.Predicates;
 import org.eclipse.collections.impl.lazy.parallel.AbstractParallelIterable;
 import org.eclipse.collections.impl.lazy.parallel.list.ParallelCollectListIterable;
 import org.eclipse.collections.impl.lazy.parallel.list.ParallelFlatCollectListIterable;
-import org.eclipse.collections.impl.multimap.set.sorted.SynchronizedPutTreeSortedSetMultimap;
+import org.eclipse.collections.impl.multimap.set.sorted.TreeSortedSetMultimap;
 
 @Beta
 public abstract class AbstractParallelSortedSetIterable<T, B extends SortedSetBatch<T>> extends AbstractParallelIterable<T, B> implements ParallelSortedSetIterable<T>
@@ -99,46 +97,12 @@ public abstract class AbstractParallelSortedSetIterable<T, B extends SortedSetBa
     @Override
     public <V> SortedSetMultimap<V, T> groupBy(Function<? super T, ? extends V> function)
     {
-        MutableSortedSetMultimap<V, T> result = SynchronizedPutTreeSortedSetMultimap.newMultimap();
-        this.forEach(each -> {
-            V key = function.valueOf(each);
-            result.put(key, each);
-        });
-        return result;
+        return this.<V, TreeSortedSetMultimap<V, T>>groupByInParallel(function, TreeSortedSetMultimap::newMultimap);
     }
 
     @Override
     public <V> SortedSetMultimap<V, T> groupByEach(Function<? super T, ? extends Iterable<V>> function)
     {
-        MutableSortedSetMultimap<V, T> result = SynchronizedPutTreeSortedSetMultimap.newMultimap();
-        this.forEach(each -> {
-            Iterable<V> keys = function.valueOf(each);
-            for (V key : keys)
-            {
-                result.put(key, each);
-            }
-        });
-        return result;
-    }
-
-    @Override
-    public <V> MapIterable<V, T> groupByUniqueKey(Function<? super T, ? extends V> function)
-    {
-        // TODO: Implement in parallel
-        return this.toList().groupByUniqueKey(function);
-    }
-
-    @Override
-    public Object[] toArray()
-    {
-        // TODO: Implement in parallel
-        return this.toList().toArray();
-    }
-
-    @Override
-    public <E> E[] toArray(E[] array)
-    {
-        // TODO: Implement in parallel
-        return this.toList().toArray(array);
+        return this.<V, TreeSortedSetMultimap<V, T>>groupByEachInParallel(function, TreeSortedSetMultimap::newMultimap);
     }
 }
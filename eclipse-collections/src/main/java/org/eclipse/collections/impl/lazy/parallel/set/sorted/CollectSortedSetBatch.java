@@ -22,7 +22,7 @@ import org.eclipse.collections.impl.lazy.parallel.list.FlatCollectListBatch;
 import org.eclipse.collections.impl.lazy.parallel.list.ListBatch;
 import org.eclipse.collections.impl.lazy.parallel.list.SelectListBatch;
 import org.eclipse.collections.impl.lazy.parallel.set.UnsortedSetBatch;
-import org.eclipse.collections.impl.map.mutable.ConcurrentHashMap;
+import org.eclipse.collections.impl.set.mutable.ConcurrentUnifiedSet;
 
 @Beta
 public class CollectSortedSetBatch<T, V> extends AbstractBatch<V> implements ListBatch<V>
@@ -61,7 +61,7 @@ public class CollectSortedSetBatch<T, V> extends AbstractBatch<V> implements Lis
     }
 
     @Override
-    public UnsortedSetBatch<V> distinct(ConcurrentHashMap<V, Boolean> distinct)
+    public UnsortedSetBatch<V> distinct(ConcurrentUnifiedSet<V> distinct)
     {
         return new DistinctBatch<>(this, distinct);
     }
@@ -17,7 +17,7 @@ import org.eclipse.collections.api.block.procedure.Procedure;
 import org.eclipse.collections.impl.block.procedure.IfProcedure;
 import org.eclipse.collections.impl.lazy.parallel.AbstractBatch;
 import org.eclipse.collections.impl.lazy.parallel.list.ListBatch;
-import org.eclipse.collections.impl.map.mutable.ConcurrentHashMap;
+import org.eclipse.collections.impl.set.mutable.ConcurrentUnifiedSet;
 
 @Beta
 public class SelectSortedSetBatch<T> extends AbstractBatch<T> implements SortedSetBatch<T>
@@ -56,7 +56,7 @@ public class SelectSortedSetBatch<T> extends AbstractBatch<T> implements SortedS
     }
 
     @Override
-    public SortedSetBatch<T> distinct(ConcurrentHashMap<T, Boolean> distinct)
+    public SortedSetBatch<T> distinct(ConcurrentUnifiedSet<T> distinct)
     {
         return this;
     }
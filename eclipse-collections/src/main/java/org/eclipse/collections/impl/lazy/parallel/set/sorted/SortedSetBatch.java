@@ -13,7 +13,7 @@ package org.eclipse.collections.impl.lazy.parallel.set.sorted;
 import org.eclipse.collections.api.annotation.Beta;
 import org.eclipse.collections.api.block.predicate.Predicate;
 import org.eclipse.collections.impl.lazy.parallel.OrderedBatch;
-import org.eclipse.collections.impl.map.mutable.ConcurrentHashMap;
+import org.eclipse.collections.impl.set.mutable.ConcurrentUnifiedSet;
 
 @Beta
 public interface SortedSetBatch<T> extends OrderedBatch<T>
@@ -22,5 +22,5 @@ public interface SortedSetBatch<T> extends OrderedBatch<T>
     SortedSetBatch<T> select(Predicate<? super T> predicate);
 
     @Override
-    SortedSetBatch<T> distinct(ConcurrentHashMap<T, Boolean> distinct);
+    SortedSetBatch<T> distinct(ConcurrentUnifiedSet<T> distinct);
 }
@@ -0,0 +1,704 @@
+/*
+ * Copyright (c) 2024 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.list.immutable;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.RandomAccess;
+import java.util.Set;
+
+import org.eclipse.collections.api.block.procedure.Procedure;
+import org.eclipse.collections.api.block.procedure.primitive.ObjectIntProcedure;
+import org.eclipse.collections.api.list.ImmutableList;
+import org.eclipse.collections.impl.set.mutable.UnifiedSet;
+
+/**
+ * An ImmutableTrieList is a persistent ImmutableList: a new version made by {@link #newWith(Object)},
+ * {@link #newWithout(Object)}, {@link #newWithAll(Iterable)} or {@link #subList(int, int)} shares almost all of its
+ * structure with the version it was made from, so each of them takes O(log n) time and space instead of copying the
+ * whole list, and many versions of a large list can be kept alive cheaply.
+ * <p>
+ * The elements are stored in a tree of nodes with up to 32 children, in which every leaf is at the same depth, like
+ * the relaxed radix balanced trees of other persistent vectors. Every node keeps the cumulative sizes of its children,
+ * so {@link #get(int)} walks down one path of the tree. Every node except the root has at least 16 children, which
+ * bounds the depth of the tree to O(log n) however the list was built, and concatenating or splitting two trees only
+ * merges or splits the nodes along the seam. The last elements are kept in a separate tail array of up to 32 elements,
+ * so most appends only copy the tail.
+ * <p>
+ * Lists are made by {@link #empty()}, {@link #newList(Iterable)} and {@link #newListWith(Object[])}, or by a
+ * {@link Builder}, which collects elements without making a new version for each of them.
+ *
+ * @since 14.0
+ */
+public final class ImmutableTrieList<T>
+        extends AbstractImmutableList<T>
+        implements Serializable, RandomAccess
+{
+    private static final long serialVersionUID = 1L;
+
+    private static final int MAX_WIDTH = 32;
+    private static final int MIN_WIDTH = MAX_WIDTH / 2;
+    private static final Object[] EMPTY_TAIL = {};
+    private static final ImmutableTrieList<?> EMPTY = new ImmutableTrieList<>(Tree.EMPTY, EMPTY_TAIL);
+
+    private final Tree tree;
+    private final Object[] tail;
+
+    private ImmutableTrieList(Tree tree, Object[] tail)
+    {
+        this.tree = tree;
+        this.tail = tail;
+    }
+
+    public static <E> ImmutableTrieList<E> empty()
+    {
+        return (ImmutableTrieList<E>) EMPTY;
+    }
+
+    public static <E> ImmutableTrieList<E> newList(Iterable<? extends E> iterable)
+    {
+        if (iterable instanceof ImmutableTrieList<?>)
+        {
+            return (ImmutableTrieList<E>) iterable;
+        }
+        return ImmutableTrieList.<E>newBuilder().addAll(iterable).build();
+    }
+
+    public static <E> ImmutableTrieList<E> newListWith(E... elements)
+    {
+        return ImmutableTrieList.fromTree(Tree.bulkLoad(elements, elements.length));
+    }
+
+    public static <E> Builder<E> newBuilder()
+    {
+        return new Builder<>(Tree.EMPTY);
+    }
+
+    private static <E> ImmutableTrieList<E> fromTree(Tree tree)
+    {
+        return tree.isEmpty() ? ImmutableTrieList.empty() : new ImmutableTrieList<>(tree, EMPTY_TAIL);
+    }
+
+    /**
+     * Returns a builder which starts with the elements of this list.
+     */
+    public Builder<T> toBuilder()
+    {
+        return new Builder<>(this.fullTree());
+    }
+
+    /**
+     * Returns the whole list as one tree, with the tail as its last leaf.
+     */
+    private Tree fullTree()
+    {
+        return this.tail.length == 0 ? this.tree : Tree.join(this.tree, Tree.of(this.tail, 0));
+    }
+
+    @Override
+    public int size()
+    {
+        return this.tree.size + this.tail.length;
+    }
+
+    @Override
+    public T get(int index)
+    {
+        if (index < 0 || index >= this.size())
+        {
+            throw new IndexOutOfBoundsException("Index: " + index + " Size: " + this.size());
+        }
+        if (index >= this.tree.size)
+        {
+            return (T) this.tail[index - this.tree.size];
+        }
+        Object node = this.tree.root;
+        int localIndex = index;
+        for (int height = this.tree.height; height > 0; height--)
+        {
+            Branch branch = (Branch) node;
+            int childIndex = branch.childIndex(localIndex);
+            localIndex -= branch.sizeBefore(childIndex);
+            node = branch.children[childIndex];
+        }
+        return (T) ((Object[]) node)[localIndex];
+    }
+
+    @Override
+    public ImmutableTrieList<T> newWith(T newItem)
+    {
+        if (this.tail.length < MAX_WIDTH)
+        {
+            Object[] newTail = Arrays.copyOf(this.tail, this.tail.length + 1);
+            newTail[this.tail.length] = newItem;
+            return new ImmutableTrieList<>(this.tree, newTail);
+        }
+        return new ImmutableTrieList<>(this.fullTree(), new Object[]{newItem});
+    }
+
+    @Override
+    public ImmutableTrieList<T> newWithout(T element)
+    {
+        int index = this.indexOf(element);
+        if (index < 0)
+        {
+            return this;
+        }
+        if (index >= this.tree.size)
+        {
+            int tailIndex = index - this.tree.size;
+            Object[] newTail = new Object[this.tail.length - 1];
+            System.arraycopy(this.tail, 0, newTail, 0, tailIndex);
+            System.arraycopy(this.tail, tailIndex + 1, newTail, tailIndex, newTail.length - tailIndex);
+            return this.tree.isEmpty() && newTail.length == 0 ? ImmutableTrieList.empty() : new ImmutableTrieList<>(this.tree, newTail);
+        }
+        Tree[] before = Tree.split(this.fullTree(), index);
+        Tree[] after = Tree.split(before[1], 1);
+        return ImmutableTrieList.fromTree(Tree.join(before[0], after[1]));
+    }
+
+    /**
+     * Returns a list with the elements of this list followed by the elements of {@code elements}. Appending another
+     * ImmutableTrieList joins the two trees in O(log n) time, and appending anything else costs O(log n) plus the
+     * number of elements appended.
+     */
+    @Override
+    public ImmutableTrieList<T> newWithAll(Iterable<? extends T> elements)
+    {
+        if (elements instanceof ImmutableTrieList<?>)
+        {
+            ImmutableTrieList<T> other = (ImmutableTrieList<T>) elements;
+            if (other.isEmpty())
+            {
+                return this;
+            }
+            if (this.isEmpty())
+            {
+                return other;
+            }
+            return new ImmutableTrieList<>(Tree.join(this.fullTree(), other.tree), other.tail);
+        }
+        return this.toBuilder().addAll(elements).build();
+    }
+
+    @Override
+    public ImmutableTrieList<T> newWithoutAll(Iterable<? extends T> elements)
+    {
+        Set<? extends T> toRemove = UnifiedSet.newSet(elements);
+        Builder<T> builder = ImmutableTrieList.newBuilder();
+        this.each(each -> {
+            if (!toRemove.contains(each))
+            {
+                builder.add(each);
+            }
+        });
+        return builder.size() == this.size() ? this : builder.build();
+    }
+
+    @Override
+    public ImmutableTrieList<T> subList(int fromIndex, int toIndex)
+    {
+        if (fromIndex < 0)
+        {
+            throw new IndexOutOfBoundsException("fromIndex = " + fromIndex);
+        }
+        if (toIndex > this.size())
+        {
+            throw new IndexOutOfBoundsException("toIndex = " + toIndex);
+        }
+        if (fromIndex > toIndex)
+        {
+            throw new IllegalArgumentException("fromIndex(" + fromIndex + ") > toIndex(" + toIndex + ')');
+        }
+        if (fromIndex == 0 && toIndex == this.size())
+        {
+            return this;
+        }
+        Tree suffix = Tree.split(this.fullTree(), fromIndex)[1];
+        return ImmutableTrieList.fromTree(Tree.split(suffix, toIndex - fromIndex)[0]);
+    }
+
+    @Override
+    public ImmutableTrieList<T> take(int count)
+    {
+        if (count < 0)
+        {
+            throw new IllegalArgumentException("Count must be greater than zero, but was: " + count);
+        }
+        return this.subList(0, Math.min(count, this.size()));
+    }
+
+    @Override
+    public ImmutableTrieList<T> drop(int count)
+    {
+        if (count < 0)
+        {
+            throw new IllegalArgumentException("Count must be greater than zero, but was: " + count);
+        }
+        return this.subList(Math.min(count, this.size()), this.size());
+    }
+
+    @Override
+    public T getFirst()
+    {
+        return this.isEmpty() ? null : this.get(0);
+    }
+
+    @Override
+    public T getLast()
+    {
+        return this.isEmpty() ? null : this.get(this.size() - 1);
+    }
+
+    @Override
+    public void each(Procedure<? super T> procedure)
+    {
+        if (!this.tree.isEmpty())
+        {
+            ImmutableTrieList.forEach(this.tree.root, this.tree.height, procedure);
+        }
+        for (Object each : this.tail)
+        {
+            procedure.value((T) each);
+        }
+    }
+
+    private static <T> void forEach(Object node, int height, Procedure<? super T> procedure)
+    {
+        if (height == 0)
+        {
+            for (Object each : (Object[]) node)
+            {
+                procedure.value((T) each);
+            }
+        }
+        else
+        {
+            for (Object child : ((Branch) node).children)
+            {
+                ImmutableTrieList.forEach(child, height - 1, procedure);
+            }
+        }
+    }
+
+    @Override
+    public void forEachWithIndex(ObjectIntProcedure<? super T> objectIntProcedure)
+    {
+        int index = 0;
+        for (Iterator<T> iterator = this.iterator(); iterator.hasNext(); index++)
+        {
+            objectIntProcedure.value(iterator.next(), index);
+        }
+    }
+
+    @Override
+    public Iterator<T> iterator()
+    {
+        return new LeafIterator();
+    }
+
+    private Object writeReplace()
+    {
+        return new ImmutableTrieListSerializationProxy<>(this);
+    }
+
+    /**
+     * Walks the leaves of the tree and then the tail, looking up the next leaf only when the current one is done.
+     */
+    private final class LeafIterator implements Iterator<T>
+    {
+        private int index;
+        private Object[] leaf = EMPTY_TAIL;
+        private int leafStart;
+
+        @Override
+        public boolean hasNext()
+        {
+            return this.index < ImmutableTrieList.this.size();
+        }
+
+        @Override
+        public T next()
+        {
+            if (!this.hasNext())
+            {
+                throw new NoSuchElementException();
+            }
+            if (this.index - this.leafStart >= this.leaf.length)
+            {
+                this.findLeaf();
+            }
+            return (T) this.leaf[this.index++ - this.leafStart];
+        }
+
+        private void findLeaf()
+        {
+            Tree tree = ImmutableTrieList.this.tree;
+            if (this.index >= tree.size)
+            {
+                this.leaf = ImmutableTrieList.this.tail;
+                this.leafStart = tree.size;
+                return;
+            }
+            Object node = tree.root;
+            int localIndex = this.index;
+            for (int height = tree.height; height > 0; height--)
+            {
+                Branch branch = (Branch) node;
+                int childIndex = branch.childIndex(localIndex);
+                localIndex -= branch.sizeBefore(childIndex);
+                node = branch.children[childIndex];
+            }
+            this.leaf = (Object[]) node;
+            this.leafStart = this.index - localIndex;
+        }
+    }
+
+    /**
+     * Collects elements for a new ImmutableTrieList. Adding an element only stores it in a buffer, and
+     * {@link #build()} then builds the leaves and branches for all of them at once, bottom up, and joins them to the
+     * elements the builder started with. A builder can keep adding elements after {@link #build()}, and the lists built
+     * before are not affected.
+     */
+    public static final class Builder<T>
+    {
+        private Tree prefix;
+        private Object[] buffer = new Object[MAX_WIDTH];
+        private int bufferSize;
+
+        private Builder(Tree prefix)
+        {
+            this.prefix = prefix;
+        }
+
+        public Builder<T> add(T element)
+        {
+            if (this.bufferSize == this.buffer.length)
+            {
+                this.buffer = Arrays.copyOf(this.buffer, this.buffer.length << 1);
+            }
+            this.buffer[this.bufferSize++] = element;
+            return this;
+        }
+
+        public Builder<T> addAll(Iterable<? extends T> elements)
+        {
+            for (T each : elements)
+            {
+                this.add(each);
+            }
+            return this;
+        }
+
+        public int size()
+        {
+            return this.prefix.size + this.bufferSize;
+        }
+
+        public ImmutableTrieList<T> build()
+        {
+            if (this.bufferSize > 0)
+            {
+                this.prefix = Tree.join(this.prefix, Tree.bulkLoad(this.buffer, this.bufferSize));
+                this.buffer = new Object[MAX_WIDTH];
+                this.bufferSize = 0;
+            }
+            return ImmutableTrieList.fromTree(this.prefix);
+        }
+    }
+
+    /**
+     * An inner node: its children, which are leaves (Object arrays of elements) or branches one level further down,
+     * and the number of elements in the first {@code i + 1} children at {@code sizes[i]}.
+     */
+    private static final class Branch
+    {
+        private final Object[] children;
+        private final int[] sizes;
+
+        private Branch(Object[] children, int childHeight)
+        {
+            this.children = children;
+            this.sizes = new int[children.length];
+            int total = 0;
+            for (int i = 0; i < children.length; i++)
+            {
+                total += Tree.sizeOf(children[i], childHeight);
+                this.sizes[i] = total;
+            }
+        }
+
+        private int size()
+        {
+            return this.sizes[this.sizes.length - 1];
+        }
+
+        private int sizeBefore(int childIndex)
+        {
+            return childIndex == 0 ? 0 : this.sizes[childIndex - 1];
+        }
+
+        /**
+         * Returns the index of the child which holds the element at {@code index}.
+         */
+        private int childIndex(int index)
+        {
+            int low = 0;
+            int high = this.sizes.length - 1;
+            while (low < high)
+            {
+                int middle = (low + high) >>> 1;
+                if (this.sizes[middle] > index)
+                {
+                    high = middle;
+                }
+                else
+                {
+                    low = middle + 1;
+                }
+            }
+            return low;
+        }
+    }
+
+    /**
+     * A root node with its height, where a leaf has height 0, and the number of elements below it. The join and split
+     * operations keep every node except the root between {@link #MIN_WIDTH} and {@link #MAX_WIDTH} wide.
+     */
+    private static final class Tree
+    {
+        private static final Tree EMPTY = new Tree(null, 0, 0);
+
+        private final Object root;
+        private final int height;
+        private final int size;
+
+        private Tree(Object root, int height, int size)
+        {
+            this.root = root;
+            this.height = height;
+            this.size = size;
+        }
+
+        /**
+         * Returns the tree below {@code root}, skipping any branches with a single child.
+         */
+        private static Tree of(Object root, int height)
+        {
+            Object node = root;
+            int nodeHeight = height;
+            while (nodeHeight > 0 && ((Branch) node).children.length == 1)
+            {
+                node = ((Branch) node).children[0];
+                nodeHeight--;
+            }
+            if (nodeHeight == 0 && ((Object[]) node).length == 0)
+            {
+                return EMPTY;
+            }
+            return new Tree(node, nodeHeight, Tree.sizeOf(node, nodeHeight));
+        }
+
+        private boolean isEmpty()
+        {
+            return this.root == null;
+        }
+
+        private static int sizeOf(Object node, int height)
+        {
+            return height == 0 ? ((Object[]) node).length : ((Branch) node).size();
+        }
+
+        private static Object[] itemsOf(Object node, int height)
+        {
+            return height == 0 ? (Object[]) node : ((Branch) node).children;
+        }
+
+        private static Object nodeOf(Object[] items, int height)
+        {
+            return height == 0 ? items : new Branch(items, height - 1);
+        }
+
+        /**
+         * Builds a tree from the first {@code size} elements of {@code elements} one level at a time, with every level
+         * split into nodes of as even a width as possible.
+         */
+        private static Tree bulkLoad(Object[] elements, int size)
+        {
+            if (size == 0)
+            {
+                return EMPTY;
+            }
+            Object[] nodes = Tree.group(elements, size, 0);
+            int height = 0;
+            while (nodes.length > 1)
+            {
+                height++;
+                nodes = Tree.group(nodes, nodes.length, height);
+            }
+            return Tree.of(nodes[0], height);
+        }
+
+        private static Object[] group(Object[] items, int size, int height)
+        {
+            int groupCount = (size + MAX_WIDTH - 1) / MAX_WIDTH;
+            Object[] groups = new Object[groupCount];
+            int start = 0;
+            for (int i = 0; i < groupCount; i++)
+            {
+                int end = (int) ((long) size * (i + 1) / groupCount);
+                groups[i] = Tree.nodeOf(Arrays.copyOfRange(items, start, end), height);
+                start = end;
+            }
+            return groups;
+        }
+
+        /**
+         * Returns a tree with the elements of {@code left} followed by the elements of {@code right}.
+         */
+        private static Tree join(Tree left, Tree right)
+        {
+            if (left.isEmpty())
+            {
+                return right;
+            }
+            if (right.isEmpty())
+            {
+                return left;
+            }
+            int height = Math.max(left.height, right.height);
+            Object[] nodes = left.height >= right.height
+                    ? Tree.joinRight(left.root, left.height, right.root, right.height)
+                    : Tree.joinLeft(left.root, left.height, right.root, right.height);
+            return nodes.length == 1 ? Tree.of(nodes[0], height) : Tree.of(new Branch(nodes, height), height + 1);
+        }
+
+        /**
+         * Joins {@code right} onto the right edge of {@code node}, which is at least as high, and returns one or two
+         * nodes at the height of {@code node}.
+         */
+        private static Object[] joinRight(Object node, int height, Object right, int rightHeight)
+        {
+            if (height == rightHeight)
+            {
+                return Tree.mergeOrPair(node, right, height);
+            }
+            Object[] children = ((Branch) node).children;
+            int last = children.length - 1;
+            Object[] joined = Tree.joinRight(children[last], height - 1, right, rightHeight);
+            Object[] newChildren = Arrays.copyOf(children, last + joined.length);
+            System.arraycopy(joined, 0, newChildren, last, joined.length);
+            return Tree.branches(newChildren, height);
+        }
+
+        /**
+         * Joins {@code left} onto the left edge of {@code node}, which is higher, and returns one or two nodes at the
+         * height of {@code node}.
+         */
+        private static Object[] joinLeft(Object left, int leftHeight, Object node, int height)
+        {
+            if (height == leftHeight)
+            {
+                return Tree.mergeOrPair(left, node, height);
+            }
+            Object[] children = ((Branch) node).children;
+            Object[] joined = Tree.joinLeft(left, leftHeight, children[0], height - 1);
+            Object[] newChildren = new Object[joined.length + children.length - 1];
+            System.arraycopy(joined, 0, newChildren, 0, joined.length);
+            System.arraycopy(children, 1, newChildren, joined.length, children.length - 1);
+            return Tree.branches(newChildren, height);
+        }
+
+        private static Object[] branches(Object[] children, int height)
+        {
+            if (children.length <= MAX_WIDTH)
+            {
+                return new Object[]{new Branch(children, height - 1)};
+            }
+            int half = children.length / 2;
+            return new Object[]{
+                    new Branch(Arrays.copyOfRange(children, 0, half), height - 1),
+                    new Branch(Arrays.copyOfRange(children, half, children.length), height - 1)};
+        }
+
+        /**
+         * Returns the two neighbouring nodes as they are if both are wide enough, and otherwise one node with the
+         * items of both, or two nodes with the items spread evenly between them.
+         */
+        private static Object[] mergeOrPair(Object left, Object right, int height)
+        {
+            Object[] leftItems = Tree.itemsOf(left, height);
+            Object[] rightItems = Tree.itemsOf(right, height);
+            if (leftItems.length >= MIN_WIDTH && rightItems.length >= MIN_WIDTH)
+            {
+                return new Object[]{left, right};
+            }
+            Object[] items = Arrays.copyOf(leftItems, leftItems.length + rightItems.length);
+            System.arraycopy(rightItems, 0, items, leftItems.length, rightItems.length);
+            if (items.length <= MAX_WIDTH)
+            {
+                return new Object[]{Tree.nodeOf(items, height)};
+            }
+            int half = items.length / 2;
+            return new Object[]{
+                    Tree.nodeOf(Arrays.copyOfRange(items, 0, half), height),
+                    Tree.nodeOf(Arrays.copyOfRange(items, half, items.length), height)};
+        }
+
+        /**
+         * Returns the trees with the elements of {@code tree} before {@code index} and from {@code index} on.
+         */
+        private static Tree[] split(Tree tree, int index)
+        {
+            if (index == 0)
+            {
+                return new Tree[]{EMPTY, tree};
+            }
+            if (index == tree.size)
+            {
+                return new Tree[]{tree, EMPTY};
+            }
+            return Tree.split(tree.root, tree.height, index);
+        }
+
+        private static Tree[] split(Object node, int height, int index)
+        {
+            if (height == 0)
+            {
+                Object[] leaf = (Object[]) node;
+                return new Tree[]{
+                        Tree.of(Arrays.copyOfRange(leaf, 0, index), 0),
+                        Tree.of(Arrays.copyOfRange(leaf, index, leaf.length), 0)};
+            }
+            Branch branch = (Branch) node;
+            int childIndex = branch.childIndex(index);
+            int childOffset = index - branch.sizeBefore(childIndex);
+            Object child = branch.children[childIndex];
+            Tree[] childSplit = childOffset == 0
+                    ? new Tree[]{EMPTY, Tree.of(child, height - 1)}
+                    : Tree.split(child, height - 1, childOffset);
+            Tree before = Tree.children(branch.children, 0, childIndex, height);
+            Tree after = Tree.children(branch.children, childIndex + 1, branch.children.length, height);
+            return new Tree[]{Tree.join(before, childSplit[0]), Tree.join(childSplit[1], after)};
+        }
+
+        private static Tree children(Object[] children, int from, int to, int height)
+        {
+            if (from == to)
+            {
+                return EMPTY;
+            }
+            return Tree.of(new Branch(Arrays.copyOfRange(children, from, to), height - 1), height);
+        }
+    }
+}
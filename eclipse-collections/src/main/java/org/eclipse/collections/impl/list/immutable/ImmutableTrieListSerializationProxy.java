@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2024 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.list.immutable;
+
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+
+class ImmutableTrieListSerializationProxy<T> implements Externalizable
+{
+    private static final long serialVersionUID = 1L;
+
+    private ImmutableTrieList<T> list;
+
+    @SuppressWarnings("UnusedDeclaration")
+    public ImmutableTrieListSerializationProxy()
+    {
+        // Empty constructor for Externalizable class
+    }
+
+    ImmutableTrieListSerializationProxy(ImmutableTrieList<T> list)
+    {
+        this.list = list;
+    }
+
+    @Override
+    public void writeExternal(ObjectOutput out) throws IOException
+    {
+        out.writeInt(this.list.size());
+        for (T each : this.list)
+        {
+            out.writeObject(each);
+        }
+    }
+
+    @Override
+    public void readExternal(ObjectInput in) throws IOException, ClassNotFoundException
+    {
+        int size = in.readInt();
+        ImmutableTrieList.Builder<T> builder = ImmutableTrieList.newBuilder();
+        for (int i = 0; i < size; i++)
+        {
+            builder.add((T) in.readObject());
+        }
+        this.list = builder.build();
+    }
+
+    protected Object readResolve()
+    {
+        return this.list;
+    }
+}
@@ -28,6 +28,7 @@ import java.util.Optional;
 import java.util.RandomAccess;
 import java.util.Spliterator;
 import java.util.Spliterators;
+import java.util.concurrent.Executor;
 import java.util.function.BiConsumer;
 import java.util.function.BinaryOperator;
 import java.util.function.Supplier;
@@ -88,6 +89,7 @@ import org.eclipse.collections.impl.block.factory.Procedures2;
 import org.eclipse.collections.impl.map.mutable.UnifiedMap;
 import org.eclipse.collections.impl.multimap.list.FastListMultimap;
 import org.eclipse.collections.impl.parallel.BatchIterable;
+import org.eclipse.collections.impl.parallel.ParallelArrayIterate;
 import org.eclipse.collections.impl.partition.list.PartitionFastList;
 import org.eclipse.collections.impl.utility.ArrayIterate;
 import org.eclipse.collections.impl.utility.ArrayListIterate;
@@ -95,6 +97,7 @@ import org.eclipse.collections.impl.utility.Iterate;
 import org.eclipse.collections.impl.utility.ListIterate;
 import org.eclipse.collections.impl.utility.internal.InternalArrayIterate;
 import org.eclipse.collections.impl.utility.internal.RandomAccessListIterate;
+import org.eclipse.collections.impl.utility.primitive.IntMergeSort;
 
 /**
  * FastList is an attempt to provide the same functionality as ArrayList without the support for concurrent
@@ -300,6 +303,110 @@ public class FastList<T>
         return (FastList<T>) super.sortThis();
     }
 
+    /**
+     * Sorts this list with {@link ParallelArrayIterate#sort(Object[], int, int, Comparator, Executor)}, using tasks on
+     * {@code executor}. Like {@link #sortThis(Comparator)} the sort is stable, and a null comparator sorts into the
+     * natural order of the elements.
+     *
+     * @since 14.0
+     */
+    public FastList<T> parallelSortThis(Comparator<? super T> comparator, Executor executor)
+    {
+        ParallelArrayIterate.sort(this.items, 0, this.size, comparator, executor);
+        return this;
+    }
+
+    /**
+     * Overrides default method from MutableList to compute the key of each element once instead of on every
+     * comparison, which matters when the function is expensive.
+     *
+     * @since 14.0 - Overridden for efficiency
+     */
+    @Override
+    public <V extends Comparable<? super V>> FastList<T> sortThisBy(Function<? super T, ? extends V> function)
+    {
+        SortKey<T, V>[] keys = new SortKey[this.size];
+        for (int i = 0; i < this.size; i++)
+        {
+            T item = this.items[i];
+            keys[i] = new SortKey<>(function.valueOf(item), item);
+        }
+        Arrays.sort(keys);
+        for (int i = 0; i < this.size; i++)
+        {
+            this.items[i] = keys[i].item;
+        }
+        return this;
+    }
+
+    /**
+     * @since 14.0 - Overridden for efficiency
+     */
+    @Override
+    public FastList<T> sortThisByInt(IntFunction<? super T> function)
+    {
+        // each key is packed above the index of its element, so sorting the longs keeps equal keys in order
+        long[] keys = new long[this.size];
+        for (int i = 0; i < this.size; i++)
+        {
+            keys[i] = (long) function.intValueOf(this.items[i]) << 32 | i;
+        }
+        Arrays.sort(keys);
+        int[] indexes = new int[this.size];
+        for (int i = 0; i < this.size; i++)
+        {
+            indexes[i] = (int) keys[i];
+        }
+        return this.reorder(indexes);
+    }
+
+    /**
+     * @since 14.0 - Overridden for efficiency
+     */
+    @Override
+    public FastList<T> sortThisByLong(LongFunction<? super T> function)
+    {
+        long[] keys = new long[this.size];
+        int[] indexes = new int[this.size];
+        for (int i = 0; i < this.size; i++)
+        {
+            keys[i] = function.longValueOf(this.items[i]);
+            indexes[i] = i;
+        }
+        IntMergeSort.sort(indexes, 0, this.size, (i1, i2) -> Long.compare(keys[i1], keys[i2]));
+        return this.reorder(indexes);
+    }
+
+    /**
+     * @since 14.0 - Overridden for efficiency
+     */
+    @Override
+    public FastList<T> sortThisByDouble(DoubleFunction<? super T> function)
+    {
+        double[] keys = new double[this.size];
+        int[] indexes = new int[this.size];
+        for (int i = 0; i < this.size; i++)
+        {
+            keys[i] = function.doubleValueOf(this.items[i]);
+            indexes[i] = i;
+        }
+        IntMergeSort.sort(indexes, 0, this.size, (i1, i2) -> Double.compare(keys[i1], keys[i2]));
+        return this.reorder(indexes);
+    }
+
+    /**
+     * Moves the element at {@code indexes[i]} to position {@code i}.
+     */
+    private FastList<T> reorder(int[] indexes)
+    {
+        T[] elements = Arrays.copyOf(this.items, this.size);
+        for (int i = 0; i < this.size; i++)
+        {
+            this.items[i] = elements[indexes[i]];
+        }
+        return this;
+    }
+
     @Override
     public FastList<T> reverseThis()
     {
@@ -1637,4 +1744,23 @@ public class FastList<T>
             this.items[i] = (T) in.readObject();
         }
     }
+
+    private static final class SortKey<T, V extends Comparable<? super V>>
+            implements Comparable<SortKey<T, V>>
+    {
+        private final V key;
+        private final T item;
+
+        private SortKey(V key, T item)
+        {
+            this.key = key;
+            this.item = item;
+        }
+
+        @Override
+        public int compareTo(SortKey<T, V> other)
+        {
+            return this.key.compareTo(other.key);
+        }
+    }
 }
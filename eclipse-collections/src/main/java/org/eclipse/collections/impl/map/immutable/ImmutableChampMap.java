@@ -0,0 +1,960 @@
+/*
+ * Copyright (c) 2024 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.map.immutable;
+
+import java.io.Serializable;
+import java.util.AbstractCollection;
+import java.util.AbstractSet;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+
+import org.eclipse.collections.api.RichIterable;
+import org.eclipse.collections.api.block.function.Function;
+import org.eclipse.collections.api.block.function.Function0;
+import org.eclipse.collections.api.block.procedure.Procedure;
+import org.eclipse.collections.api.block.procedure.Procedure2;
+import org.eclipse.collections.api.map.MapIterable;
+import org.eclipse.collections.api.tuple.Pair;
+import org.eclipse.collections.impl.tuple.Tuples;
+import org.eclipse.collections.impl.utility.LazyIterate;
+
+/**
+ * An ImmutableChampMap is a persistent ImmutableMap: {@link #newWithKeyValue(Object, Object)} and
+ * {@link #newWithoutKey(Object)} copy only the O(log n) nodes on the path to the key, and the new map shares all the
+ * other nodes with the map it was made from, so single-key updates of a large map are cheap and the versions before
+ * them stay valid.
+ * <p>
+ * The entries are stored in a compressed hash-array mapped prefix tree (CHAMP). Each node covers five bits of the
+ * hash code of its keys, and keeps a bitmap of the slots which hold an entry and a bitmap of the slots which hold a
+ * child node, with the entries and then the children packed into one array in slot order. A node never holds a child
+ * with a single entry, so every map with the same entries has the same tree. Keys whose hash codes are equal in all
+ * 32 bits are kept together in a collision node.
+ * <p>
+ * Maps are made by {@link #empty()}, {@link #newMap(Map)} and {@link #newMapWith(Pair[])}, or by a {@link Builder},
+ * which changes the nodes it has copied in place instead of copying them again for every key.
+ *
+ * @since 14.0
+ */
+public final class ImmutableChampMap<K, V>
+        extends AbstractImmutableMap<K, V>
+        implements Serializable
+{
+    private static final long serialVersionUID = 1L;
+
+    private static final int BITS_PER_LEVEL = 5;
+    private static final int LEVEL_MASK = (1 << BITS_PER_LEVEL) - 1;
+    private static final int HASH_BITS = 32;
+    // seven bitmap levels cover the 32 bits of the hash, and a collision node may sit below them
+    private static final int MAX_DEPTH = 8;
+    private static final Object NOT_FOUND = new Object();
+    private static final ImmutableChampMap<?, ?> EMPTY = new ImmutableChampMap<>(BitmapNode.EMPTY, 0);
+
+    private final Node root;
+    private final int size;
+
+    private ImmutableChampMap(Node root, int size)
+    {
+        this.root = root;
+        this.size = size;
+    }
+
+    public static <K, V> ImmutableChampMap<K, V> empty()
+    {
+        return (ImmutableChampMap<K, V>) EMPTY;
+    }
+
+    public static <K, V> ImmutableChampMap<K, V> newMap(Map<? extends K, ? extends V> map)
+    {
+        if (map instanceof ImmutableChampMap<?, ?>)
+        {
+            return (ImmutableChampMap<K, V>) map;
+        }
+        return ImmutableChampMap.<K, V>newBuilder().putAll(map).build();
+    }
+
+    public static <K, V> ImmutableChampMap<K, V> newMapWith(Pair<? extends K, ? extends V>... pairs)
+    {
+        Builder<K, V> builder = ImmutableChampMap.newBuilder();
+        for (Pair<? extends K, ? extends V> pair : pairs)
+        {
+            builder.put(pair.getOne(), pair.getTwo());
+        }
+        return builder.build();
+    }
+
+    public static <K, V> Builder<K, V> newBuilder()
+    {
+        return new Builder<>(BitmapNode.EMPTY, 0);
+    }
+
+    /**
+     * Returns a builder which starts with the entries of this map.
+     */
+    public Builder<K, V> toBuilder()
+    {
+        return new Builder<>(this.root, this.size);
+    }
+
+    private static int hash(Object key)
+    {
+        return key == null ? 0 : key.hashCode();
+    }
+
+    private static int bit(int hash, int shift)
+    {
+        return 1 << ((hash >>> shift) & LEVEL_MASK);
+    }
+
+    @Override
+    public int size()
+    {
+        return this.size;
+    }
+
+    @Override
+    public boolean containsKey(Object key)
+    {
+        return this.root.find(key, ImmutableChampMap.hash(key), 0) != NOT_FOUND;
+    }
+
+    @Override
+    public boolean containsValue(Object value)
+    {
+        for (V each : this.valuesView())
+        {
+            if (Objects.equals(each, value))
+            {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public V get(Object key)
+    {
+        Object value = this.root.find(key, ImmutableChampMap.hash(key), 0);
+        return value == NOT_FOUND ? null : (V) value;
+    }
+
+    @Override
+    public V getIfAbsent(K key, Function0<? extends V> function)
+    {
+        Object value = this.root.find(key, ImmutableChampMap.hash(key), 0);
+        return value == NOT_FOUND ? function.value() : (V) value;
+    }
+
+    @Override
+    public V getIfAbsentValue(K key, V value)
+    {
+        Object result = this.root.find(key, ImmutableChampMap.hash(key), 0);
+        return result == NOT_FOUND ? value : (V) result;
+    }
+
+    @Override
+    public <P> V getIfAbsentWith(K key, Function<? super P, ? extends V> function, P parameter)
+    {
+        Object value = this.root.find(key, ImmutableChampMap.hash(key), 0);
+        return value == NOT_FOUND ? function.valueOf(parameter) : (V) value;
+    }
+
+    @Override
+    public <A> A ifPresentApply(K key, Function<? super V, ? extends A> function)
+    {
+        Object value = this.root.find(key, ImmutableChampMap.hash(key), 0);
+        return value == NOT_FOUND ? null : function.valueOf((V) value);
+    }
+
+    @Override
+    public ImmutableChampMap<K, V> newWithKeyValue(K key, V value)
+    {
+        Change change = new Change();
+        Node newRoot = this.root.put(null, key, value, ImmutableChampMap.hash(key), 0, change);
+        if (!change.modified)
+        {
+            return this;
+        }
+        return new ImmutableChampMap<>(newRoot, change.added ? this.size + 1 : this.size);
+    }
+
+    @Override
+    public ImmutableChampMap<K, V> newWithoutKey(K key)
+    {
+        Change change = new Change();
+        Node newRoot = this.root.remove(null, key, ImmutableChampMap.hash(key), 0, change);
+        if (!change.modified)
+        {
+            return this;
+        }
+        return this.size == 1 ? ImmutableChampMap.empty() : new ImmutableChampMap<>(newRoot, this.size - 1);
+    }
+
+    @Override
+    public ImmutableChampMap<K, V> newWithAllKeyValues(Iterable<? extends Pair<? extends K, ? extends V>> keyValues)
+    {
+        Builder<K, V> builder = this.toBuilder();
+        for (Pair<? extends K, ? extends V> keyValuePair : keyValues)
+        {
+            builder.put(keyValuePair.getOne(), keyValuePair.getTwo());
+        }
+        return builder.build();
+    }
+
+    @Override
+    public ImmutableChampMap<K, V> newWithAllKeyValueArguments(Pair<? extends K, ? extends V>... keyValuePairs)
+    {
+        Builder<K, V> builder = this.toBuilder();
+        for (Pair<? extends K, ? extends V> keyValuePair : keyValuePairs)
+        {
+            builder.put(keyValuePair.getOne(), keyValuePair.getTwo());
+        }
+        return builder.build();
+    }
+
+    @Override
+    public ImmutableChampMap<K, V> newWithMap(Map<? extends K, ? extends V> map)
+    {
+        return this.toBuilder().putAll(map).build();
+    }
+
+    @Override
+    public ImmutableChampMap<K, V> newWithMapIterable(MapIterable<? extends K, ? extends V> mapIterable)
+    {
+        Builder<K, V> builder = this.toBuilder();
+        mapIterable.forEachKeyValue(builder::put);
+        return builder.build();
+    }
+
+    @Override
+    public ImmutableChampMap<K, V> newWithoutAllKeys(Iterable<? extends K> keys)
+    {
+        Builder<K, V> builder = this.toBuilder();
+        for (K key : keys)
+        {
+            builder.removeKey(key);
+        }
+        return builder.build();
+    }
+
+    @Override
+    public void forEachKeyValue(Procedure2<? super K, ? super V> procedure)
+    {
+        this.root.forEach(procedure);
+    }
+
+    @Override
+    public void forEachKey(Procedure<? super K> procedure)
+    {
+        this.forEachKeyValue((key, value) -> procedure.value(key));
+    }
+
+    @Override
+    public void forEachValue(Procedure<? super V> procedure)
+    {
+        this.forEachKeyValue((key, value) -> procedure.value(value));
+    }
+
+    @Override
+    public void each(Procedure<? super V> procedure)
+    {
+        this.forEachValue(procedure);
+    }
+
+    @Override
+    public Iterator<V> iterator()
+    {
+        return new EntryIterator<V>(this.root)
+        {
+            @Override
+            protected V element(Object[] content, int keyIndex)
+            {
+                return (V) content[keyIndex + 1];
+            }
+        };
+    }
+
+    private Iterator<K> keyIterator()
+    {
+        return new EntryIterator<K>(this.root)
+        {
+            @Override
+            protected K element(Object[] content, int keyIndex)
+            {
+                return (K) content[keyIndex];
+            }
+        };
+    }
+
+    private Iterator<Pair<K, V>> keyValueIterator()
+    {
+        return new EntryIterator<Pair<K, V>>(this.root)
+        {
+            @Override
+            protected Pair<K, V> element(Object[] content, int keyIndex)
+            {
+                return Tuples.pair((K) content[keyIndex], (V) content[keyIndex + 1]);
+            }
+        };
+    }
+
+    @Override
+    public RichIterable<K> keysView()
+    {
+        return LazyIterate.adapt(this::keyIterator);
+    }
+
+    @Override
+    public RichIterable<V> valuesView()
+    {
+        return LazyIterate.adapt(this::iterator);
+    }
+
+    @Override
+    public RichIterable<Pair<K, V>> keyValuesView()
+    {
+        return LazyIterate.adapt(this::keyValueIterator);
+    }
+
+    @Override
+    public Set<K> keySet()
+    {
+        return new AbstractSet<K>()
+        {
+            @Override
+            public Iterator<K> iterator()
+            {
+                return ImmutableChampMap.this.keyIterator();
+            }
+
+            @Override
+            public int size()
+            {
+                return ImmutableChampMap.this.size;
+            }
+
+            @Override
+            public boolean contains(Object key)
+            {
+                return ImmutableChampMap.this.containsKey(key);
+            }
+        };
+    }
+
+    @Override
+    public Collection<V> values()
+    {
+        return new AbstractCollection<V>()
+        {
+            @Override
+            public Iterator<V> iterator()
+            {
+                return ImmutableChampMap.this.iterator();
+            }
+
+            @Override
+            public int size()
+            {
+                return ImmutableChampMap.this.size;
+            }
+        };
+    }
+
+    @Override
+    public boolean equals(Object other)
+    {
+        if (this == other)
+        {
+            return true;
+        }
+        if (!(other instanceof Map))
+        {
+            return false;
+        }
+        Map<K, V> that = (Map<K, V>) other;
+        if (that.size() != this.size)
+        {
+            return false;
+        }
+        Iterator<Pair<K, V>> iterator = this.keyValueIterator();
+        while (iterator.hasNext())
+        {
+            Pair<K, V> pair = iterator.next();
+            if (!this.keyAndValueEquals(pair.getOne(), pair.getTwo(), that))
+            {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int[] hashCode = new int[1];
+        this.forEachKeyValue((key, value) -> hashCode[0] += this.keyAndValueHashCode(key, value));
+        return hashCode[0];
+    }
+
+    @Override
+    public String toString()
+    {
+        StringBuilder builder = new StringBuilder("{");
+        this.forEachKeyValue((key, value) -> {
+            if (builder.length() > 1)
+            {
+                builder.append(", ");
+            }
+            builder.append(key == this ? "(this Map)" : key).append('=').append(value == this ? "(this Map)" : value);
+        });
+        return builder.append('}').toString();
+    }
+
+    private Object writeReplace()
+    {
+        return new ImmutableChampMapSerializationProxy<>(this);
+    }
+
+    /**
+     * Collects entries for a new ImmutableChampMap. The builder copies each node the first time it changes it and
+     * then changes its copy in place, so a batch of updates copies every node at most once. {@link #build()} hands
+     * the nodes over to the new map, and later changes to the builder copy them again.
+     */
+    public static final class Builder<K, V>
+    {
+        private Object edit = new Object();
+        private Node root;
+        private int size;
+
+        private Builder(Node root, int size)
+        {
+            this.root = root;
+            this.size = size;
+        }
+
+        public Builder<K, V> put(K key, V value)
+        {
+            Change change = new Change();
+            this.root = this.root.put(this.edit, key, value, ImmutableChampMap.hash(key), 0, change);
+            if (change.added)
+            {
+                this.size++;
+            }
+            return this;
+        }
+
+        public Builder<K, V> putAll(Map<? extends K, ? extends V> map)
+        {
+            for (Map.Entry<? extends K, ? extends V> entry : map.entrySet())
+            {
+                this.put(entry.getKey(), entry.getValue());
+            }
+            return this;
+        }
+
+        public Builder<K, V> removeKey(K key)
+        {
+            Change change = new Change();
+            this.root = this.root.remove(this.edit, key, ImmutableChampMap.hash(key), 0, change);
+            if (change.modified)
+            {
+                this.size--;
+            }
+            return this;
+        }
+
+        public int size()
+        {
+            return this.size;
+        }
+
+        public ImmutableChampMap<K, V> build()
+        {
+            this.edit = new Object();
+            return this.size == 0 ? ImmutableChampMap.empty() : new ImmutableChampMap<>(this.root, this.size);
+        }
+    }
+
+    /**
+     * Tells the caller of {@link Node#put} or {@link Node#remove} whether the tree changed, and whether a key was
+     * added.
+     */
+    private static final class Change
+    {
+        private boolean modified;
+        private boolean added;
+    }
+
+    /**
+     * A node of the tree. Its entries are stored as alternating keys and values at the start of {@link #content}, and
+     * a node which the builder with the {@code edit} token copied may be changed in place by that builder.
+     */
+    private abstract static class Node
+    {
+        protected Object edit;
+        protected Object[] content;
+
+        protected Node(Object edit, Object[] content)
+        {
+            this.edit = edit;
+            this.content = content;
+        }
+
+        protected boolean isEditable(Object edit)
+        {
+            return edit != null && this.edit == edit;
+        }
+
+        protected abstract int dataCount();
+
+        protected abstract int nodeCount();
+
+        protected abstract Node nodeAt(int index);
+
+        protected boolean hasSingleEntry()
+        {
+            return this.nodeCount() == 0 && this.dataCount() == 1;
+        }
+
+        protected abstract Object find(Object key, int hash, int shift);
+
+        protected abstract Node put(Object edit, Object key, Object value, int hash, int shift, Change change);
+
+        protected abstract Node remove(Object edit, Object key, int hash, int shift, Change change);
+
+        protected <K, V> void forEach(Procedure2<? super K, ? super V> procedure)
+        {
+            int dataEnd = this.dataCount() << 1;
+            for (int i = 0; i < dataEnd; i += 2)
+            {
+                procedure.value((K) this.content[i], (V) this.content[i + 1]);
+            }
+            for (int i = 0; i < this.nodeCount(); i++)
+            {
+                this.nodeAt(i).forEach(procedure);
+            }
+        }
+    }
+
+    private static final class BitmapNode extends Node
+    {
+        private static final BitmapNode EMPTY = new BitmapNode(null, 0, 0, new Object[0]);
+
+        private int dataMap;
+        private int nodeMap;
+
+        private BitmapNode(Object edit, int dataMap, int nodeMap, Object[] content)
+        {
+            super(edit, content);
+            this.dataMap = dataMap;
+            this.nodeMap = nodeMap;
+        }
+
+        /**
+         * Returns a node with the two entries, at the first level from {@code shift} on where their hashes differ.
+         */
+        private static Node of(Object edit, Object key1, Object value1, int hash1, Object key2, Object value2, int hash2, int shift)
+        {
+            if (shift >= HASH_BITS)
+            {
+                return new CollisionNode(edit, hash1, new Object[]{key1, value1, key2, value2});
+            }
+            int bit1 = ImmutableChampMap.bit(hash1, shift);
+            int bit2 = ImmutableChampMap.bit(hash2, shift);
+            if (bit1 == bit2)
+            {
+                Node node = BitmapNode.of(edit, key1, value1, hash1, key2, value2, hash2, shift + BITS_PER_LEVEL);
+                return new BitmapNode(edit, 0, bit1, new Object[]{node});
+            }
+            Object[] content = Integer.compareUnsigned(bit1, bit2) < 0
+                    ? new Object[]{key1, value1, key2, value2}
+                    : new Object[]{key2, value2, key1, value1};
+            return new BitmapNode(edit, bit1 | bit2, 0, content);
+        }
+
+        @Override
+        protected int dataCount()
+        {
+            return Integer.bitCount(this.dataMap);
+        }
+
+        @Override
+        protected int nodeCount()
+        {
+            return Integer.bitCount(this.nodeMap);
+        }
+
+        @Override
+        protected Node nodeAt(int index)
+        {
+            return (Node) this.content[(this.dataCount() << 1) + index];
+        }
+
+        private int dataIndex(int bit)
+        {
+            return Integer.bitCount(this.dataMap & (bit - 1));
+        }
+
+        private int nodeIndex(int bit)
+        {
+            return Integer.bitCount(this.nodeMap & (bit - 1));
+        }
+
+        @Override
+        protected Object find(Object key, int hash, int shift)
+        {
+            int bit = ImmutableChampMap.bit(hash, shift);
+            if ((this.dataMap & bit) != 0)
+            {
+                int keyIndex = this.dataIndex(bit) << 1;
+                return Objects.equals(this.content[keyIndex], key) ? this.content[keyIndex + 1] : NOT_FOUND;
+            }
+            if ((this.nodeMap & bit) != 0)
+            {
+                return this.nodeAt(this.nodeIndex(bit)).find(key, hash, shift + BITS_PER_LEVEL);
+            }
+            return NOT_FOUND;
+        }
+
+        @Override
+        protected Node put(Object edit, Object key, Object value, int hash, int shift, Change change)
+        {
+            int bit = ImmutableChampMap.bit(hash, shift);
+            if ((this.dataMap & bit) != 0)
+            {
+                int keyIndex = this.dataIndex(bit) << 1;
+                Object existingKey = this.content[keyIndex];
+                if (Objects.equals(existingKey, key))
+                {
+                    if (this.content[keyIndex + 1] == value)
+                    {
+                        return this;
+                    }
+                    change.modified = true;
+                    return this.withSlot(edit, keyIndex + 1, value);
+                }
+                change.modified = true;
+                change.added = true;
+                Node node = BitmapNode.of(
+                        edit,
+                        existingKey,
+                        this.content[keyIndex + 1],
+                        ImmutableChampMap.hash(existingKey),
+                        key,
+                        value,
+                        hash,
+                        shift + BITS_PER_LEVEL);
+                return this.withDataMovedToNode(edit, bit, node);
+            }
+            if ((this.nodeMap & bit) != 0)
+            {
+                int nodeSlot = (this.dataCount() << 1) + this.nodeIndex(bit);
+                Node node = (Node) this.content[nodeSlot];
+                Node newNode = node.put(edit, key, value, hash, shift + BITS_PER_LEVEL, change);
+                return newNode == node ? this : this.withSlot(edit, nodeSlot, newNode);
+            }
+            change.modified = true;
+            change.added = true;
+            return this.withData(edit, bit, key, value);
+        }
+
+        @Override
+        protected Node remove(Object edit, Object key, int hash, int shift, Change change)
+        {
+            int bit = ImmutableChampMap.bit(hash, shift);
+            if ((this.dataMap & bit) != 0)
+            {
+                int keyIndex = this.dataIndex(bit) << 1;
+                if (!Objects.equals(this.content[keyIndex], key))
+                {
+                    return this;
+                }
+                change.modified = true;
+                return this.withoutData(edit, bit);
+            }
+            if ((this.nodeMap & bit) != 0)
+            {
+                int nodeSlot = (this.dataCount() << 1) + this.nodeIndex(bit);
+                Node node = (Node) this.content[nodeSlot];
+                Node newNode = node.remove(edit, key, hash, shift + BITS_PER_LEVEL, change);
+                if (!change.modified)
+                {
+                    return this;
+                }
+                if (newNode.hasSingleEntry())
+                {
+                    // a lone entry moves up, so that every set of entries has one shape of tree
+                    if (shift > 0 && this.dataMap == 0 && Integer.bitCount(this.nodeMap) == 1)
+                    {
+                        return newNode;
+                    }
+                    return this.withNodeMovedToData(edit, bit, newNode.content[0], newNode.content[1]);
+                }
+                return newNode == node ? this : this.withSlot(edit, nodeSlot, newNode);
+            }
+            return this;
+        }
+
+        private BitmapNode withSlot(Object edit, int slot, Object item)
+        {
+            if (this.isEditable(edit))
+            {
+                this.content[slot] = item;
+                return this;
+            }
+            Object[] newContent = this.content.clone();
+            newContent[slot] = item;
+            return new BitmapNode(edit, this.dataMap, this.nodeMap, newContent);
+        }
+
+        private BitmapNode withContent(Object edit, int dataMap, int nodeMap, Object[] content)
+        {
+            if (this.isEditable(edit))
+            {
+                this.dataMap = dataMap;
+                this.nodeMap = nodeMap;
+                this.content = content;
+                return this;
+            }
+            return new BitmapNode(edit, dataMap, nodeMap, content);
+        }
+
+        private BitmapNode withData(Object edit, int bit, Object key, Object value)
+        {
+            int keyIndex = this.dataIndex(bit) << 1;
+            Object[] newContent = new Object[this.content.length + 2];
+            System.arraycopy(this.content, 0, newContent, 0, keyIndex);
+            newContent[keyIndex] = key;
+            newContent[keyIndex + 1] = value;
+            System.arraycopy(this.content, keyIndex, newContent, keyIndex + 2, this.content.length - keyIndex);
+            return this.withContent(edit, this.dataMap | bit, this.nodeMap, newContent);
+        }
+
+        private BitmapNode withoutData(Object edit, int bit)
+        {
+            int keyIndex = this.dataIndex(bit) << 1;
+            Object[] newContent = new Object[this.content.length - 2];
+            System.arraycopy(this.content, 0, newContent, 0, keyIndex);
+            System.arraycopy(this.content, keyIndex + 2, newContent, keyIndex, newContent.length - keyIndex);
+            return this.withContent(edit, this.dataMap ^ bit, this.nodeMap, newContent);
+        }
+
+        private BitmapNode withDataMovedToNode(Object edit, int bit, Node node)
+        {
+            int keyIndex = this.dataIndex(bit) << 1;
+            int dataEnd = this.dataCount() << 1;
+            int nodeSlot = dataEnd - 2 + this.nodeIndex(bit);
+            Object[] newContent = new Object[this.content.length - 1];
+            System.arraycopy(this.content, 0, newContent, 0, keyIndex);
+            System.arraycopy(this.content, keyIndex + 2, newContent, keyIndex, nodeSlot - keyIndex);
+            newContent[nodeSlot] = node;
+            System.arraycopy(this.content, nodeSlot + 2, newContent, nodeSlot + 1, this.content.length - nodeSlot - 2);
+            return this.withContent(edit, this.dataMap ^ bit, this.nodeMap | bit, newContent);
+        }
+
+        private BitmapNode withNodeMovedToData(Object edit, int bit, Object key, Object value)
+        {
+            int keyIndex = this.dataIndex(bit) << 1;
+            int nodeSlot = (this.dataCount() << 1) + this.nodeIndex(bit);
+            Object[] newContent = new Object[this.content.length + 1];
+            System.arraycopy(this.content, 0, newContent, 0, keyIndex);
+            newContent[keyIndex] = key;
+            newContent[keyIndex + 1] = value;
+            System.arraycopy(this.content, keyIndex, newContent, keyIndex + 2, nodeSlot - keyIndex);
+            System.arraycopy(this.content, nodeSlot + 1, newContent, nodeSlot + 2, this.content.length - nodeSlot - 1);
+            return this.withContent(edit, this.dataMap | bit, this.nodeMap ^ bit, newContent);
+        }
+    }
+
+    /**
+     * Holds the entries whose keys have the same 32-bit hash code, in no particular order.
+     */
+    private static final class CollisionNode extends Node
+    {
+        private final int hash;
+
+        private CollisionNode(Object edit, int hash, Object[] content)
+        {
+            super(edit, content);
+            this.hash = hash;
+        }
+
+        @Override
+        protected int dataCount()
+        {
+            return this.content.length >> 1;
+        }
+
+        @Override
+        protected int nodeCount()
+        {
+            return 0;
+        }
+
+        @Override
+        protected Node nodeAt(int index)
+        {
+            throw new IndexOutOfBoundsException("Index: " + index + " Size: 0");
+        }
+
+        private int keyIndex(Object key)
+        {
+            for (int i = 0; i < this.content.length; i += 2)
+            {
+                if (Objects.equals(this.content[i], key))
+                {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        @Override
+        protected Object find(Object key, int hash, int shift)
+        {
+            int keyIndex = this.keyIndex(key);
+            return keyIndex < 0 ? NOT_FOUND : this.content[keyIndex + 1];
+        }
+
+        @Override
+        protected Node put(Object edit, Object key, Object value, int hash, int shift, Change change)
+        {
+            int keyIndex = this.keyIndex(key);
+            if (keyIndex >= 0)
+            {
+                if (this.content[keyIndex + 1] == value)
+                {
+                    return this;
+                }
+                change.modified = true;
+                if (this.isEditable(edit))
+                {
+                    this.content[keyIndex + 1] = value;
+                    return this;
+                }
+                Object[] newContent = this.content.clone();
+                newContent[keyIndex + 1] = value;
+                return new CollisionNode(edit, this.hash, newContent);
+            }
+            change.modified = true;
+            change.added = true;
+            Object[] newContent = new Object[this.content.length + 2];
+            System.arraycopy(this.content, 0, newContent, 0, this.content.length);
+            newContent[this.content.length] = key;
+            newContent[this.content.length + 1] = value;
+            return this.withContent(edit, newContent);
+        }
+
+        @Override
+        protected Node remove(Object edit, Object key, int hash, int shift, Change change)
+        {
+            int keyIndex = this.keyIndex(key);
+            if (keyIndex < 0)
+            {
+                return this;
+            }
+            change.modified = true;
+            if (this.content.length == 4)
+            {
+                int remaining = keyIndex == 0 ? 2 : 0;
+                return new BitmapNode(
+                        edit,
+                        ImmutableChampMap.bit(this.hash, 0),
+                        0,
+                        new Object[]{this.content[remaining], this.content[remaining + 1]});
+            }
+            Object[] newContent = new Object[this.content.length - 2];
+            System.arraycopy(this.content, 0, newContent, 0, keyIndex);
+            System.arraycopy(this.content, keyIndex + 2, newContent, keyIndex, newContent.length - keyIndex);
+            return this.withContent(edit, newContent);
+        }
+
+        private CollisionNode withContent(Object edit, Object[] content)
+        {
+            if (this.isEditable(edit))
+            {
+                this.content = content;
+                return this;
+            }
+            return new CollisionNode(edit, this.hash, content);
+        }
+    }
+
+    /**
+     * Walks the tree depth first, returning the entries of each node before those of its children.
+     */
+    private abstract static class EntryIterator<E> implements Iterator<E>
+    {
+        private final Node[] nodeStack = new Node[MAX_DEPTH];
+        private final int[] nodeCursors = new int[MAX_DEPTH];
+        private int depth = -1;
+        private Node dataNode;
+        private int dataCursor;
+        private int dataCount;
+
+        protected EntryIterator(Node root)
+        {
+            this.visit(root);
+        }
+
+        private void visit(Node node)
+        {
+            if (node.nodeCount() > 0)
+            {
+                this.depth++;
+                this.nodeStack[this.depth] = node;
+                this.nodeCursors[this.depth] = 0;
+            }
+            this.dataNode = node;
+            this.dataCursor = 0;
+            this.dataCount = node.dataCount();
+        }
+
+        protected abstract E element(Object[] content, int keyIndex);
+
+        @Override
+        public boolean hasNext()
+        {
+            while (this.dataCursor >= this.dataCount)
+            {
+                if (this.depth < 0)
+                {
+                    return false;
+                }
+                Node node = this.nodeStack[this.depth];
+                int cursor = this.nodeCursors[this.depth];
+                if (cursor < node.nodeCount())
+                {
+                    this.nodeCursors[this.depth] = cursor + 1;
+                    this.visit(node.nodeAt(cursor));
+                }
+                else
+                {
+                    this.depth--;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public E next()
+        {
+            if (!this.hasNext())
+            {
+                throw new NoSuchElementException();
+            }
+            return this.element(this.dataNode.content, this.dataCursor++ << 1);
+        }
+    }
+}
@@ -25,21 +25,22 @@ import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.Set;
 import java.util.Spliterator;
-import java.util.Spliterators;
 import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.FutureTask;
 import java.util.concurrent.atomic.AtomicInteger;
-import java.util.concurrent.atomic.AtomicIntegerArray;
-import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
 import java.util.concurrent.atomic.AtomicReferenceArray;
 import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 import java.util.function.BiFunction;
-import java.util.function.Predicate;
+import java.util.function.Consumer;
 
+import org.eclipse.collections.api.LazyIterable;
 import org.eclipse.collections.api.block.function.Function;
 import org.eclipse.collections.api.block.function.Function0;
 import org.eclipse.collections.api.block.function.Function2;
 import org.eclipse.collections.api.block.function.Function3;
+import org.eclipse.collections.api.block.predicate.Predicate;
+import org.eclipse.collections.api.block.predicate.Predicate2;
 import org.eclipse.collections.api.block.procedure.Procedure;
 import org.eclipse.collections.api.block.procedure.Procedure2;
 import org.eclipse.collections.api.block.procedure.primitive.ObjectIntProcedure;
@@ -48,9 +49,22 @@ import org.eclipse.collections.api.map.ConcurrentMutableMap;
 import org.eclipse.collections.api.map.ImmutableMap;
 import org.eclipse.collections.api.map.MapIterable;
 import org.eclipse.collections.api.map.MutableMap;
+import org.eclipse.collections.api.set.ParallelUnsortedSetIterable;
 import org.eclipse.collections.api.tuple.Pair;
+import org.eclipse.collections.impl.StripedCounter;
 import org.eclipse.collections.impl.block.procedure.MapEntryToProcedure2;
+import org.eclipse.collections.impl.lazy.AbstractLazyIterable;
+import org.eclipse.collections.impl.lazy.parallel.AbstractBatch;
+import org.eclipse.collections.impl.lazy.parallel.AbstractParallelIterable;
+import org.eclipse.collections.impl.lazy.parallel.bag.CollectUnsortedBagBatch;
+import org.eclipse.collections.impl.lazy.parallel.bag.FlatCollectUnsortedBagBatch;
+import org.eclipse.collections.impl.lazy.parallel.bag.UnsortedBagBatch;
+import org.eclipse.collections.impl.lazy.parallel.set.AbstractParallelUnsortedSetIterable;
+import org.eclipse.collections.impl.lazy.parallel.set.RootUnsortedSetBatch;
+import org.eclipse.collections.impl.lazy.parallel.set.SelectUnsortedSetBatch;
+import org.eclipse.collections.impl.lazy.parallel.set.UnsortedSetBatch;
 import org.eclipse.collections.impl.list.mutable.FastList;
+import org.eclipse.collections.impl.tuple.Tuples;
 import org.eclipse.collections.impl.utility.Iterate;
 import org.eclipse.collections.impl.utility.MapIterate;
 import org.eclipse.collections.impl.utility.internal.IterableIterate;
@@ -73,21 +87,18 @@ public final class ConcurrentHashMap<K, V>
     private static final int MAXIMUM_CAPACITY = 1 << 30;
 
     private static final AtomicReferenceFieldUpdater<ConcurrentHashMap, AtomicReferenceArray> TABLE_UPDATER = AtomicReferenceFieldUpdater.newUpdater(ConcurrentHashMap.class, AtomicReferenceArray.class, "table");
-    private static final AtomicIntegerFieldUpdater<ConcurrentHashMap> SIZE_UPDATER = AtomicIntegerFieldUpdater.newUpdater(ConcurrentHashMap.class, "size");
     private static final Object RESIZED = new Object();
     private static final Object RESIZING = new Object();
-    private static final int PARTITIONED_SIZE_THRESHOLD = 4096; // chosen to keep size below 1% of the total size of the map
-    private static final int SIZE_BUCKETS = 7;
 
     /**
      * The table, resized as necessary. Length MUST Always be a power of two.
      */
     private volatile AtomicReferenceArray table;
 
-    private AtomicIntegerArray partitionedSize;
-
-    @SuppressWarnings("UnusedDeclaration")
-    private volatile int size; // updated via atomic field updater
+    /**
+     * The number of mappings, striped across cache-line-padded cells once threads contend on it.
+     */
+    private final StripedCounter size;
 
     public ConcurrentHashMap()
     {
@@ -95,6 +106,17 @@ public final class ConcurrentHashMap<K, V>
     }
 
     public ConcurrentHashMap(int initialCapacity)
+    {
+        this(initialCapacity, StripedCounter.DEFAULT_MAX_STRIPES);
+    }
+
+    /**
+     * Creates a map whose size counter spreads contended updates over at most {@code maxSizeStripes} cells, rounded
+     * up to a power of two. The default is the number of available processors.
+     *
+     * @since 14.0
+     */
+    public ConcurrentHashMap(int initialCapacity, int maxSizeStripes)
     {
         if (initialCapacity < 0)
         {
@@ -113,10 +135,7 @@ public final class ConcurrentHashMap<K, V>
         {
             capacity <<= 1;
         }
-        if (capacity >= PARTITIONED_SIZE_THRESHOLD)
-        {
-            this.partitionedSize = new AtomicIntegerArray(SIZE_BUCKETS * 16); // we want 7 extra slots and 64 bytes for each slot. int is 4 bytes, so 64 bytes is 16 ints.
-        }
+        this.size = new StripedCounter(maxSizeStripes);
         this.table = new AtomicReferenceArray(capacity + 1);
     }
 
@@ -130,6 +149,14 @@ public final class ConcurrentHashMap<K, V>
         return new ConcurrentHashMap<>(newSize);
     }
 
+    /**
+     * @since 14.0
+     */
+    public static <K, V> ConcurrentHashMap<K, V> newMap(int newSize, int maxSizeStripes)
+    {
+        return new ConcurrentHashMap<>(newSize, maxSizeStripes);
+    }
+
     private static int indexFor(int h, int length)
     {
         return h & length - 2;
@@ -251,10 +278,6 @@ public final class ConcurrentHashMap<K, V>
                 if (oldTable.get(end) == null)
                 {
                     oldTable.set(end, RESIZE_SENTINEL);
-                    if (this.partitionedSize == null && newSize >= PARTITIONED_SIZE_THRESHOLD)
-                    {
-                        this.partitionedSize = new AtomicIntegerArray(SIZE_BUCKETS * 16);
-                    }
                     resizeContainer = new ResizeContainer(new AtomicReferenceArray(newSize), oldTable.length() - 1);
                     oldTable.set(end, resizeContainer);
                     ownResize = true;
@@ -591,60 +614,26 @@ public final class ConcurrentHashMap<K, V>
 
     private void addToSize(int value)
     {
-        if (this.partitionedSize != null)
-        {
-            if (this.incrementPartitionedSize(value))
-            {
-                return;
-            }
-        }
-        this.incrementLocalSize(value);
-    }
-
-    private boolean incrementPartitionedSize(int value)
-    {
-        int h = (int) Thread.currentThread().getId();
-        h ^= (h >>> 18) ^ (h >>> 12);
-        h = (h ^ (h >>> 10)) & SIZE_BUCKETS;
-        if (h != 0)
-        {
-            h = (h - 1) << 4;
-            while (true)
-            {
-                int localSize = this.partitionedSize.get(h);
-                if (this.partitionedSize.compareAndSet(h, localSize, localSize + value))
-                {
-                    return true;
-                }
-            }
-        }
-        return false;
+        this.size.add(value);
     }
 
-    private void incrementLocalSize(int value)
+    @Override
+    public int size()
     {
-        while (true)
-        {
-            int localSize = this.size;
-            if (SIZE_UPDATER.compareAndSet(this, localSize, localSize + value))
-            {
-                break;
-            }
-        }
+        return this.size.intValue();
     }
 
+    /**
+     * Returns the number of mappings without blocking or retrying. Concurrent writers update the size counter in
+     * separate cells, and this reads those cells one after the other, so the result may miss updates made while it is
+     * running. It is exact when there are no concurrent updates.
+     *
+     * @since 14.0
+     */
     @Override
-    public int size()
+    public long sizeEstimate()
     {
-        int localSize = this.size;
-        if (this.partitionedSize != null)
-        {
-            for (int i = 0; i < SIZE_BUCKETS; i++)
-            {
-                localSize += this.partitionedSize.get(i << 4);
-            }
-        }
-        return localSize;
+        return Math.max(this.size.sum(), 0L);
     }
 
     @Override
@@ -901,21 +890,11 @@ public final class ConcurrentHashMap<K, V>
 
     private void sequentialPutAll(AtomicReferenceArray currentArray, int start, int end)
     {
-        for (int i = start; i < end; i++)
+        EntryIterator iterator = new EntryIterator(currentArray, start, Math.min(end, currentArray.length() - 1));
+        while (iterator.hasNext())
         {
-            Object o = currentArray.get(i);
-            if (o == RESIZED || o == RESIZING)
-            {
-                throw new ConcurrentModificationException("can't iterate while resizing!");
-            }
-            Entry<K, V> e = (Entry<K, V>) o;
-            while (e != null)
-            {
-                Object key = e.getKey();
-                Object value = e.getValue();
-                this.put((K) key, (V) value);
-                e = e.getNext();
-            }
+            Entry<K, V> e = iterator.nextEntry();
+            this.put(e.key, e.value);
         }
     }
 
@@ -1237,21 +1216,11 @@ public final class ConcurrentHashMap<K, V>
 
     private void sequentialForEachKeyValue(Procedure2<? super K, ? super V> block, AtomicReferenceArray currentArray, int start, int end)
     {
-        for (int i = start; i < end; i++)
+        EntryIterator iterator = new EntryIterator(currentArray, start, Math.min(end, currentArray.length() - 1));
+        while (iterator.hasNext())
         {
-            Object o = currentArray.get(i);
-            if (o == RESIZED || o == RESIZING)
-            {
-                throw new ConcurrentModificationException("can't iterate while resizing!");
-            }
-            Entry<K, V> e = (Entry<K, V>) o;
-            while (e != null)
-            {
-                Object key = e.getKey();
-                Object value = e.getValue();
-                block.value((K) key, (V) value);
-                e = e.getNext();
-            }
+            Entry<K, V> e = iterator.nextEntry();
+            block.value(e.key, e.value);
         }
     }
 
@@ -1295,23 +1264,39 @@ public final class ConcurrentHashMap<K, V>
 
     private void sequentialForEachValue(Procedure<V> block, AtomicReferenceArray currentArray, int start, int end)
     {
-        for (int i = start; i < end; i++)
+        EntryIterator iterator = new EntryIterator(currentArray, start, Math.min(end, currentArray.length() - 1));
+        while (iterator.hasNext())
         {
-            Object o = currentArray.get(i);
-            if (o == RESIZED || o == RESIZING)
-            {
-                throw new ConcurrentModificationException("can't iterate while resizing!");
-            }
-            Entry<K, V> e = (Entry<K, V>) o;
-            while (e != null)
-            {
-                Object value = e.getValue();
-                block.value((V) value);
-                e = e.getNext();
-            }
+            block.value(iterator.nextEntry().value);
         }
     }
 
+    /**
+     * Returns a parallel iterable over the key-value pairs of this map. The hash table is split into batches of
+     * {@code batchSize} slots, and a batch which meets a slot moved by an in-flight resize helps to finish the resize and
+     * follows the slot into the new table, so that no entry present for the whole of the operation is missed.
+     */
+    @Override
+    public ParallelUnsortedSetIterable<Pair<K, V>> keyValuesAsParallel(ExecutorService executorService, int batchSize)
+    {
+        if (executorService == null)
+        {
+            throw new NullPointerException();
+        }
+        if (batchSize < 1)
+        {
+            throw new IllegalArgumentException();
+        }
+        return new KeyValuesParallelIterable(executorService, batchSize);
+    }
+
+    @Override
+    public boolean removeIfInParallel(Predicate2<? super K, ? super V> predicate, ExecutorService executorService, int batchSize)
+    {
+        return this.keyValuesAsParallel(executorService, batchSize)
+                .count(pair -> predicate.accept(pair.getOne(), pair.getTwo()) && this.remove(pair.getOne(), pair.getTwo())) > 0;
+    }
+
     @Override
     public int hashCode()
     {
@@ -1483,6 +1468,17 @@ public final class ConcurrentHashMap<K, V>
             this.findNext();
         }
 
+        /**
+         * Iterates over the slots [start, end) of the given table, following slots which are moved by a resize into
+         * the next table.
+         */
+        protected HashIterator(AtomicReferenceArray table, int start, int end)
+        {
+            this.currentState = new IteratorState(table, start, end);
+            this.index = start;
+            this.findNext();
+        }
+
         private void findNext()
         {
             while (this.index < this.currentState.end)
@@ -1611,6 +1607,15 @@ public final class ConcurrentHashMap<K, V>
 
     private final class EntryIterator extends HashIterator<Map.Entry<K, V>>
     {
+        private EntryIterator()
+        {
+        }
+
+        private EntryIterator(AtomicReferenceArray table, int start, int end)
+        {
+            super(table, start, end);
+        }
+
         @Override
         public Map.Entry<K, V> next()
         {
@@ -1635,7 +1640,7 @@ public final class ConcurrentHashMap<K, V>
         @Override
         public Spliterator<K> spliterator()
         {
-            return Spliterators.spliteratorUnknownSize(this.iterator(), Spliterator.CONCURRENT | Spliterator.DISTINCT | Spliterator.NONNULL);
+            return new TableSpliterator<>(Map.Entry::getKey, Spliterator.CONCURRENT | Spliterator.DISTINCT | Spliterator.NONNULL);
         }
 
         @Override
@@ -1674,7 +1679,7 @@ public final class ConcurrentHashMap<K, V>
         @Override
         public Spliterator<V> spliterator()
         {
-            return Spliterators.spliteratorUnknownSize(this.iterator(), Spliterator.CONCURRENT | Spliterator.NONNULL);
+            return new TableSpliterator<>(Map.Entry::getValue, Spliterator.CONCURRENT | Spliterator.NONNULL);
         }
 
         @Override
@@ -1694,7 +1699,7 @@ public final class ConcurrentHashMap<K, V>
         }
 
         @Override
-        public boolean removeIf(Predicate<? super V> filter)
+        public boolean removeIf(java.util.function.Predicate<? super V> filter)
         {
             Objects.requireNonNull(filter);
             boolean removed = false;
@@ -1739,7 +1744,7 @@ public final class ConcurrentHashMap<K, V>
         @Override
         public Spliterator<Map.Entry<K, V>> spliterator()
         {
-            return Spliterators.spliteratorUnknownSize(this.iterator(), Spliterator.CONCURRENT | Spliterator.DISTINCT | Spliterator.NONNULL);
+            return new TableSpliterator<>(entry -> entry, Spliterator.CONCURRENT | Spliterator.DISTINCT | Spliterator.NONNULL);
         }
 
         @Override
@@ -1769,7 +1774,7 @@ public final class ConcurrentHashMap<K, V>
         }
 
         @Override
-        public boolean removeIf(Predicate<? super Map.Entry<K, V>> filter)
+        public boolean removeIf(java.util.function.Predicate<? super Map.Entry<K, V>> filter)
         {
             Objects.requireNonNull(filter);
             boolean removed = false;
@@ -1820,6 +1825,284 @@ public final class ConcurrentHashMap<K, V>
         }
     }
 
+    /**
+     * Splits the hash table by ranges of slots, following slots which are moved by a resize into the next table.
+     */
+    private final class TableSpliterator<E> implements Spliterator<E>
+    {
+        private final Function<Map.Entry<K, V>, E> function;
+        private final int characteristics;
+        private final AtomicReferenceArray table;
+        private int start;
+        private final int end;
+        private EntryIterator iterator;
+
+        private TableSpliterator(Function<Map.Entry<K, V>, E> function, int characteristics)
+        {
+            this(function, characteristics, ConcurrentHashMap.this.table, 0, ConcurrentHashMap.this.table.length() - 1);
+        }
+
+        private TableSpliterator(Function<Map.Entry<K, V>, E> function, int characteristics, AtomicReferenceArray table, int start, int end)
+        {
+            this.function = function;
+            this.characteristics = characteristics;
+            this.table = table;
+            this.start = start;
+            this.end = end;
+        }
+
+        private EntryIterator getIterator()
+        {
+            if (this.iterator == null)
+            {
+                this.iterator = new EntryIterator(this.table, this.start, this.end);
+            }
+            return this.iterator;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super E> action)
+        {
+            EntryIterator localIterator = this.getIterator();
+            if (localIterator.hasNext())
+            {
+                action.accept(this.function.valueOf(localIterator.next()));
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super E> action)
+        {
+            EntryIterator localIterator = this.getIterator();
+            while (localIterator.hasNext())
+            {
+                action.accept(this.function.valueOf(localIterator.next()));
+            }
+        }
+
+        @Override
+        public Spliterator<E> trySplit()
+        {
+            if (this.iterator != null || this.end - this.start < 2)
+            {
+                return null;
+            }
+            int middle = this.start + this.end >>> 1;
+            Spliterator<E> prefix = new TableSpliterator<>(this.function, this.characteristics, this.table, this.start, middle);
+            this.start = middle;
+            return prefix;
+        }
+
+        @Override
+        public long estimateSize()
+        {
+            return (long) ConcurrentHashMap.this.size() * (this.end - this.start) / (this.table.length() - 1);
+        }
+
+        @Override
+        public int characteristics()
+        {
+            return this.characteristics;
+        }
+    }
+
+    private final class KeyValueBatch extends AbstractBatch<Pair<K, V>> implements RootUnsortedSetBatch<Pair<K, V>>
+    {
+        private final AtomicReferenceArray table;
+        private final int chunkStartIndex;
+        private final int chunkEndIndex;
+
+        private KeyValueBatch(AtomicReferenceArray table, int chunkStartIndex, int chunkEndIndex)
+        {
+            this.table = table;
+            this.chunkStartIndex = chunkStartIndex;
+            this.chunkEndIndex = chunkEndIndex;
+        }
+
+        private EntryIterator iterator()
+        {
+            return new EntryIterator(this.table, this.chunkStartIndex, this.chunkEndIndex);
+        }
+
+        @Override
+        public void forEach(Procedure<? super Pair<K, V>> procedure)
+        {
+            EntryIterator iterator = this.iterator();
+            while (iterator.hasNext())
+            {
+                Entry<K, V> e = iterator.nextEntry();
+                procedure.value(Tuples.pair(e.key, e.value));
+            }
+        }
+
+        @Override
+        public boolean anySatisfy(Predicate<? super Pair<K, V>> predicate)
+        {
+            return this.detectEntry(predicate, true) != null;
+        }
+
+        @Override
+        public boolean allSatisfy(Predicate<? super Pair<K, V>> predicate)
+        {
+            return this.detectEntry(predicate, false) == null;
+        }
+
+        @Override
+        public Pair<K, V> detect(Predicate<? super Pair<K, V>> predicate)
+        {
+            return this.detectEntry(predicate, true);
+        }
+
+        private Pair<K, V> detectEntry(Predicate<? super Pair<K, V>> predicate, boolean expected)
+        {
+            EntryIterator iterator = this.iterator();
+            while (iterator.hasNext())
+            {
+                Entry<K, V> e = iterator.nextEntry();
+                Pair<K, V> pair = Tuples.pair(e.key, e.value);
+                if (predicate.accept(pair) == expected)
+                {
+                    return pair;
+                }
+            }
+            return null;
+        }
+
+        @Override
+        public UnsortedSetBatch<Pair<K, V>> select(Predicate<? super Pair<K, V>> predicate)
+        {
+            return new SelectUnsortedSetBatch<>(this, predicate);
+        }
+
+        @Override
+        public <VV> UnsortedBagBatch<VV> collect(Function<? super Pair<K, V>, ? extends VV> function)
+        {
+            return new CollectUnsortedBagBatch<>(this, function);
+        }
+
+        @Override
+        public <VV> UnsortedBagBatch<VV> flatCollect(Function<? super Pair<K, V>, ? extends Iterable<VV>> function)
+        {
+            return new FlatCollectUnsortedBagBatch<>(this, function);
+        }
+    }
+
+    private final class KeyValuesParallelIterable extends AbstractParallelUnsortedSetIterable<Pair<K, V>, RootUnsortedSetBatch<Pair<K, V>>>
+    {
+        private final ExecutorService executorService;
+        private final int batchSize;
+
+        private KeyValuesParallelIterable(ExecutorService executorService, int batchSize)
+        {
+            this.executorService = executorService;
+            this.batchSize = batchSize;
+        }
+
+        @Override
+        public ExecutorService getExecutorService()
+        {
+            return this.executorService;
+        }
+
+        @Override
+        public int getBatchSize()
+        {
+            return this.batchSize;
+        }
+
+        @Override
+        public LazyIterable<RootUnsortedSetBatch<Pair<K, V>>> split()
+        {
+            return new KeyValuesSplitLazyIterable(ConcurrentHashMap.this.table);
+        }
+
+        @Override
+        public void forEach(Procedure<? super Pair<K, V>> procedure)
+        {
+            AbstractParallelIterable.forEach(this, procedure);
+        }
+
+        @Override
+        public boolean anySatisfy(Predicate<? super Pair<K, V>> predicate)
+        {
+            return AbstractParallelIterable.anySatisfy(this, predicate);
+        }
+
+        @Override
+        public boolean allSatisfy(Predicate<? super Pair<K, V>> predicate)
+        {
+            return AbstractParallelIterable.allSatisfy(this, predicate);
+        }
+
+        @Override
+        public Pair<K, V> detect(Predicate<? super Pair<K, V>> predicate)
+        {
+            return AbstractParallelIterable.detect(this, predicate);
+        }
+
+        @Override
+        public Object[] toArray()
+        {
+            return ConcurrentHashMap.this.keyValuesView().toArray();
+        }
+
+        @Override
+        public <E> E[] toArray(E[] array)
+        {
+            return ConcurrentHashMap.this.keyValuesView().toArray(array);
+        }
+
+        private final class KeyValuesSplitLazyIterable extends AbstractLazyIterable<RootUnsortedSetBatch<Pair<K, V>>>
+        {
+            private final AtomicReferenceArray table;
+
+            private KeyValuesSplitLazyIterable(AtomicReferenceArray table)
+            {
+                this.table = table;
+            }
+
+            @Override
+            public void each(Procedure<? super RootUnsortedSetBatch<Pair<K, V>>> procedure)
+            {
+                for (RootUnsortedSetBatch<Pair<K, V>> chunk : this)
+                {
+                    procedure.value(chunk);
+                }
+            }
+
+            @Override
+            public Iterator<RootUnsortedSetBatch<Pair<K, V>>> iterator()
+            {
+                return new Iterator<RootUnsortedSetBatch<Pair<K, V>>>()
+                {
+                    private int chunkStartIndex;
+
+                    @Override
+                    public boolean hasNext()
+                    {
+                        return this.chunkStartIndex < KeyValuesSplitLazyIterable.this.table.length() - 1;
+                    }
+
+                    @Override
+                    public RootUnsortedSetBatch<Pair<K, V>> next()
+                    {
+                        if (!this.hasNext())
+                        {
+                            throw new NoSuchElementException();
+                        }
+                        AtomicReferenceArray localTable = KeyValuesSplitLazyIterable.this.table;
+                        int chunkEndIndex = (int) Math.min((long) this.chunkStartIndex + KeyValuesParallelIterable.this.batchSize, localTable.length() - 1);
+                        RootUnsortedSetBatch<Pair<K, V>> batch = new KeyValueBatch(localTable, this.chunkStartIndex, chunkEndIndex);
+                        this.chunkStartIndex = chunkEndIndex;
+                        return batch;
+                    }
+                };
+            }
+        }
+    }
+
     private static final class Entry<K, V> implements Map.Entry<K, V>
     {
         private final K key;
@@ -49,6 +49,7 @@ import org.eclipse.collections.api.map.ConcurrentMutableMap;
 import org.eclipse.collections.api.map.ImmutableMap;
 import org.eclipse.collections.api.map.MutableMap;
 import org.eclipse.collections.api.tuple.Pair;
+import org.eclipse.collections.impl.StripedCounter;
 import org.eclipse.collections.impl.block.procedure.MapEntryToProcedure2;
 import org.eclipse.collections.impl.list.mutable.FastList;
 import org.eclipse.collections.impl.utility.Iterate;
@@ -77,15 +78,10 @@ public class ConcurrentHashMapUnsafe<K, V>
     private static final AtomicReferenceFieldUpdater<ConcurrentHashMapUnsafe, Object[]> TABLE_UPDATER = AtomicReferenceFieldUpdater.newUpdater(ConcurrentHashMapUnsafe.class, Object[].class, "table");
     private static final Object RESIZED = new Object();
     private static final Object RESIZING = new Object();
-    private static final int PARTITIONED_SIZE_THRESHOLD = 4096; // chosen to keep size below 1% of the total size of the map
 
     private static final Unsafe UNSAFE;
     private static final long OBJECT_ARRAY_BASE;
     private static final int OBJECT_ARRAY_SHIFT;
-    private static final long INT_ARRAY_BASE;
-    private static final int INT_ARRAY_SHIFT;
-    private static final long SIZE_OFFSET;
-    private static final int SIZE_BUCKETS = 7;
 
     static
     {
@@ -100,20 +96,8 @@ public class ConcurrentHashMapUnsafe<K, V>
                 throw new AssertionError("data type scale not a power of two");
             }
             OBJECT_ARRAY_SHIFT = 31 - Integer.numberOfLeadingZeros(objectArrayScale);
-
-            Class<?> intArrayClass = int[].class;
-            INT_ARRAY_BASE = UNSAFE.arrayBaseOffset(intArrayClass);
-            int intArrayScale = UNSAFE.arrayIndexScale(intArrayClass);
-            if ((intArrayScale & (intArrayScale - 1)) != 0)
-            {
-                throw new AssertionError("data type scale not a power of two");
-            }
-            INT_ARRAY_SHIFT = 31 - Integer.numberOfLeadingZeros(intArrayScale);
-
-            Class<?> mapClass = ConcurrentHashMapUnsafe.class;
-            SIZE_OFFSET = UNSAFE.objectFieldOffset(mapClass.getDeclaredField("size"));
         }
-        catch (NoSuchFieldException | SecurityException e)
+        catch (SecurityException e)
         {
             throw new AssertionError(e);
         }
@@ -124,10 +108,10 @@ public class ConcurrentHashMapUnsafe<K, V>
      */
     private volatile Object[] table;
 
-    private int[] partitionedSize;
-
-    @SuppressWarnings("UnusedDeclaration")
-    private volatile int size; // updated via atomic field updater
+    /**
+     * The number of mappings, striped across cache-line-padded cells once threads contend on it.
+     */
+    private final StripedCounter size;
 
     public ConcurrentHashMapUnsafe()
     {
@@ -135,6 +119,17 @@ public class ConcurrentHashMapUnsafe<K, V>
     }
 
     public ConcurrentHashMapUnsafe(int initialCapacity)
+    {
+        this(initialCapacity, StripedCounter.DEFAULT_MAX_STRIPES);
+    }
+
+    /**
+     * Creates a map whose size counter spreads contended updates over at most {@code maxSizeStripes} cells, rounded
+     * up to a power of two. The default is the number of available processors.
+     *
+     * @since 14.0
+     */
+    public ConcurrentHashMapUnsafe(int initialCapacity, int maxSizeStripes)
     {
         if (initialCapacity < 0)
         {
@@ -153,10 +148,7 @@ public class ConcurrentHashMapUnsafe<K, V>
         {
             capacity <<= 1;
         }
-        if (capacity >= PARTITIONED_SIZE_THRESHOLD)
-        {
-            this.partitionedSize = new int[SIZE_BUCKETS * 16]; // we want 7 extra slots and 64 bytes for each slot. int is 4 bytes, so 64 bytes is 16 ints.
-        }
+        this.size = new StripedCounter(maxSizeStripes);
         this.table = new Object[capacity + 1];
     }
 
@@ -170,6 +162,14 @@ public class ConcurrentHashMapUnsafe<K, V>
         return new ConcurrentHashMapUnsafe<>(newSize);
     }
 
+    /**
+     * @since 14.0
+     */
+    public static <K, V> ConcurrentHashMapUnsafe<K, V> newMap(int newSize, int maxSizeStripes)
+    {
+        return new ConcurrentHashMapUnsafe<>(newSize, maxSizeStripes);
+    }
+
     private static Object arrayAt(Object[] array, int index)
     {
         return UNSAFE.getObjectVolatile(array, ((long) index << OBJECT_ARRAY_SHIFT) + OBJECT_ARRAY_BASE);
@@ -305,10 +305,6 @@ public class ConcurrentHashMapUnsafe<K, V>
                 if (ConcurrentHashMapUnsafe.arrayAt(oldTable, end) == null)
                 {
                     ConcurrentHashMapUnsafe.setArrayAt(oldTable, end, RESIZE_SENTINEL);
-                    if (this.partitionedSize == null && newSize >= PARTITIONED_SIZE_THRESHOLD)
-                    {
-                        this.partitionedSize = new int[SIZE_BUCKETS * 16];
-                    }
                     resizeContainer = new ResizeContainer(new Object[newSize], oldTable.length - 1);
                     ConcurrentHashMapUnsafe.setArrayAt(oldTable, end, resizeContainer);
                     ownResize = true;
@@ -703,61 +699,26 @@ public class ConcurrentHashMapUnsafe<K, V>
 
     private void addToSize(int value)
     {
-        if (this.partitionedSize != null)
-        {
-            if (this.incrementPartitionedSize(value))
-            {
-                return;
-            }
-        }
-        this.incrementLocalSize(value);
+        this.size.add(value);
     }
 
-    private boolean incrementPartitionedSize(int value)
-    {
-        int h = (int) Thread.currentThread().getId();
-        h ^= (h >>> 18) ^ (h >>> 12);
-        h = (h ^ (h >>> 10)) & SIZE_BUCKETS;
-        if (h != 0)
-        {
-            h = (h - 1) << 4;
-            long address = ((long) h << INT_ARRAY_SHIFT) + INT_ARRAY_BASE;
-            while (true)
-            {
-                int localSize = UNSAFE.getIntVolatile(this.partitionedSize, address);
-                if (UNSAFE.compareAndSwapInt(this.partitionedSize, address, localSize, localSize + value))
-                {
-                    return true;
-                }
-            }
-        }
-        return false;
-    }
-
-    private void incrementLocalSize(int value)
+    @Override
+    public int size()
     {
-        while (true)
-        {
-            int localSize = this.size;
-            if (UNSAFE.compareAndSwapInt(this, SIZE_OFFSET, localSize, localSize + value))
-            {
-                break;
-            }
-        }
+        return this.size.intValue();
     }
 
+    /**
+     * Returns the number of mappings without blocking or retrying. Concurrent writers update the size counter in
+     * separate cells, and this reads those cells one after the other, so the result may miss updates made while it is
+     * running. It is exact when there are no concurrent updates.
+     *
+     * @since 14.0
+     */
     @Override
-    public int size()
+    public long sizeEstimate()
     {
-        int localSize = this.size;
-        if (this.partitionedSize != null)
-        {
-            for (int i = 0; i < SIZE_BUCKETS; i++)
-            {
-                localSize += this.partitionedSize[i << 4];
-            }
-        }
-        return localSize;
+        return Math.max(this.size.sum(), 0L);
     }
 
     @Override
@@ -0,0 +1,1115 @@
+/*
+ * Copyright (c) 2024 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.map.mutable;
+
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.util.AbstractCollection;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiFunction;
+
+import org.eclipse.collections.api.block.function.Function;
+import org.eclipse.collections.api.block.function.Function0;
+import org.eclipse.collections.api.block.function.Function2;
+import org.eclipse.collections.api.block.predicate.Predicate2;
+import org.eclipse.collections.api.block.procedure.Procedure;
+import org.eclipse.collections.api.block.procedure.Procedure2;
+import org.eclipse.collections.api.map.MutableMap;
+import org.eclipse.collections.api.tuple.Pair;
+import org.eclipse.collections.impl.block.procedure.MapCollectProcedure;
+import org.eclipse.collections.impl.parallel.BatchIterable;
+import org.eclipse.collections.impl.utility.Iterate;
+
+/**
+ * SwissTableMap is an open-addressing map modelled after the "Swiss table" layout. Keys and values live in two flat
+ * arrays with no chaining, and a separate byte array holds one control byte per slot. A control byte is either
+ * {@link #EMPTY}, {@link #DELETED} or the low 7 bits of the hash of the key stored in the slot.
+ * <p>
+ * Slots are grouped in runs of 8, and a whole group of control bytes is read as a single long. All candidate slots
+ * in a group are then found at once with SWAR (SIMD within a register) bit tricks, so most lookups compare only one
+ * key and touch a single cache line of control bytes. Groups are probed triangularly, which visits every group of a
+ * power-of-two table exactly once.
+ * <p>
+ * A removed slot only becomes a {@link #DELETED} tombstone when its group is completely full. Otherwise it is marked
+ * {@link #EMPTY} straight away, because no probe sequence can have continued past that group.
+ * <p>
+ * This class can be used anywhere a {@link UnifiedMap} is used. It supports null keys and null values.
+ *
+ * @since 14.0
+ */
+@SuppressWarnings("ObjectEquality")
+public class SwissTableMap<K, V> extends AbstractMutableMap<K, V>
+        implements Externalizable, BatchIterable<V>
+{
+    protected static final int DEFAULT_INITIAL_CAPACITY = 8;
+
+    private static final long serialVersionUID = 1L;
+
+    private static final Object NULL_KEY = new Object()
+    {
+        @Override
+        public boolean equals(Object obj)
+        {
+            return this == obj;
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return 0;
+        }
+
+        @Override
+        public String toString()
+        {
+            return "SwissTableMap.NULL_KEY";
+        }
+    };
+
+    private static final int GROUP_WIDTH = 8;
+    private static final int GROUP_SHIFT = 3;
+
+    private static final byte EMPTY = (byte) 0x80;
+    private static final byte DELETED = (byte) 0xFE;
+
+    private static final long LSBS = 0x0101010101010101L;
+    private static final long MSBS = 0x8080808080808080L;
+
+    private static final VarHandle CONTROL_WORD =
+            MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+
+    private transient byte[] controls;
+    private transient Object[] keys;
+    private transient Object[] values;
+
+    private transient int occupied;
+    private transient int growthLeft;
+
+    public SwissTableMap()
+    {
+        this.allocate(DEFAULT_INITIAL_CAPACITY);
+    }
+
+    public SwissTableMap(int initialCapacity)
+    {
+        if (initialCapacity < 0)
+        {
+            throw new IllegalArgumentException("initial capacity cannot be less than 0");
+        }
+        this.allocate(SwissTableMap.capacityFor(initialCapacity));
+    }
+
+    public SwissTableMap(Map<? extends K, ? extends V> map)
+    {
+        this(Math.max(map.size(), DEFAULT_INITIAL_CAPACITY));
+
+        this.putAll(map);
+    }
+
+    public SwissTableMap(Pair<K, V>... pairs)
+    {
+        this(Math.max(pairs.length, DEFAULT_INITIAL_CAPACITY));
+        for (Pair<K, V> pair : pairs)
+        {
+            this.put(pair.getOne(), pair.getTwo());
+        }
+    }
+
+    public static <K, V> SwissTableMap<K, V> newMap()
+    {
+        return new SwissTableMap<>();
+    }
+
+    public static <K, V> SwissTableMap<K, V> newMap(int size)
+    {
+        return new SwissTableMap<>(size);
+    }
+
+    public static <K, V> SwissTableMap<K, V> newMap(Map<? extends K, ? extends V> map)
+    {
+        return new SwissTableMap<>(map);
+    }
+
+    public static <K, V> SwissTableMap<K, V> newMapWith(Pair<K, V>... pairs)
+    {
+        return new SwissTableMap<>(pairs);
+    }
+
+    public static <K, V> SwissTableMap<K, V> newMapWith(Iterable<Pair<K, V>> inputIterable)
+    {
+        SwissTableMap<K, V> outputMap = SwissTableMap.newMap();
+        for (Pair<K, V> single : inputIterable)
+        {
+            outputMap.add(single);
+        }
+        return outputMap;
+    }
+
+    public static <K, V> SwissTableMap<K, V> newWithKeysValues(K key, V value)
+    {
+        return new SwissTableMap<K, V>(1).withKeysValues(key, value);
+    }
+
+    public static <K, V> SwissTableMap<K, V> newWithKeysValues(K key1, V value1, K key2, V value2)
+    {
+        return new SwissTableMap<K, V>(2).withKeysValues(key1, value1, key2, value2);
+    }
+
+    public static <K, V> SwissTableMap<K, V> newWithKeysValues(K key1, V value1, K key2, V value2, K key3, V value3)
+    {
+        return new SwissTableMap<K, V>(3).withKeysValues(key1, value1, key2, value2, key3, value3);
+    }
+
+    public static <K, V> SwissTableMap<K, V> newWithKeysValues(
+            K key1, V value1,
+            K key2, V value2,
+            K key3, V value3,
+            K key4, V value4)
+    {
+        return new SwissTableMap<K, V>(4).withKeysValues(key1, value1, key2, value2, key3, value3, key4, value4);
+    }
+
+    public SwissTableMap<K, V> withKeysValues(K key, V value)
+    {
+        this.put(key, value);
+        return this;
+    }
+
+    public SwissTableMap<K, V> withKeysValues(K key1, V value1, K key2, V value2)
+    {
+        this.put(key1, value1);
+        this.put(key2, value2);
+        return this;
+    }
+
+    public SwissTableMap<K, V> withKeysValues(K key1, V value1, K key2, V value2, K key3, V value3)
+    {
+        this.put(key1, value1);
+        this.put(key2, value2);
+        this.put(key3, value3);
+        return this;
+    }
+
+    public SwissTableMap<K, V> withKeysValues(K key1, V value1, K key2, V value2, K key3, V value3, K key4, V value4)
+    {
+        this.put(key1, value1);
+        this.put(key2, value2);
+        this.put(key3, value3);
+        this.put(key4, value4);
+        return this;
+    }
+
+    @Override
+    public SwissTableMap<K, V> clone()
+    {
+        return new SwissTableMap<>(this);
+    }
+
+    @Override
+    public MutableMap<K, V> newEmpty()
+    {
+        return new SwissTableMap<>();
+    }
+
+    @Override
+    public <K2, V2> MutableMap<K2, V2> newEmpty(int capacity)
+    {
+        return new SwissTableMap<>(capacity);
+    }
+
+    /**
+     * Returns the smallest power of two table capacity that holds {@code size} entries at a 7/8 load factor.
+     */
+    private static int capacityFor(int size)
+    {
+        long minimumCapacity = (size * 8L + 6L) / 7L;
+        int capacity = DEFAULT_INITIAL_CAPACITY;
+        while (capacity < minimumCapacity)
+        {
+            capacity <<= 1;
+        }
+        return capacity;
+    }
+
+    private static int maxOccupancy(int capacity)
+    {
+        return capacity - (capacity >>> 3);
+    }
+
+    private void allocate(int capacity)
+    {
+        this.controls = new byte[capacity];
+        Arrays.fill(this.controls, EMPTY);
+        this.keys = new Object[capacity];
+        this.values = new Object[capacity];
+        this.growthLeft = SwissTableMap.maxOccupancy(capacity) - this.occupied;
+    }
+
+    private static int hash(Object key)
+    {
+        int h = key.hashCode() * 0x9E3779B9;
+        return h ^ h >>> 16;
+    }
+
+    private static long controlWord(byte[] controls, int groupStart)
+    {
+        return (long) CONTROL_WORD.get(controls, groupStart);
+    }
+
+    /**
+     * Returns a word with the high bit of every byte set where the corresponding control byte equals the tag
+     * replicated in {@code pattern}. Bytes directly above a true match may be reported as false positives; every
+     * candidate is confirmed by comparing keys, so that is harmless.
+     */
+    private static long matchTag(long word, long pattern)
+    {
+        long x = word ^ pattern;
+        return x - LSBS & ~x & MSBS;
+    }
+
+    private static long matchEmpty(long word)
+    {
+        return word & ~(word << 6) & MSBS;
+    }
+
+    private static long matchEmptyOrDeleted(long word)
+    {
+        return word & ~(word << 7) & MSBS;
+    }
+
+    private static int firstSlot(long matches)
+    {
+        return Long.numberOfTrailingZeros(matches) >>> 3;
+    }
+
+    /**
+     * Returns the slot holding {@code key}, which must already be converted to its sentinel form, or -1.
+     */
+    private int findSlot(Object key, int hash)
+    {
+        byte[] controls = this.controls;
+        Object[] keys = this.keys;
+        long pattern = LSBS * (hash & 0x7F);
+        int groupMask = (controls.length >>> GROUP_SHIFT) - 1;
+        int group = hash >>> 7 & groupMask;
+        for (int step = 1; ; step++)
+        {
+            int groupStart = group << GROUP_SHIFT;
+            long word = SwissTableMap.controlWord(controls, groupStart);
+            for (long matches = SwissTableMap.matchTag(word, pattern); matches != 0L; matches &= matches - 1L)
+            {
+                int slot = groupStart + SwissTableMap.firstSlot(matches);
+                Object cur = keys[slot];
+                if (cur == key || key != NULL_KEY && cur.equals(key))
+                {
+                    return slot;
+                }
+            }
+            if (SwissTableMap.matchEmpty(word) != 0L)
+            {
+                return -1;
+            }
+            group = group + step & groupMask;
+        }
+    }
+
+    /**
+     * Returns the first empty or deleted slot on the probe sequence of {@code hash}.
+     */
+    private int findInsertSlot(int hash)
+    {
+        byte[] controls = this.controls;
+        int groupMask = (controls.length >>> GROUP_SHIFT) - 1;
+        int group = hash >>> 7 & groupMask;
+        for (int step = 1; ; step++)
+        {
+            int groupStart = group << GROUP_SHIFT;
+            long matches = SwissTableMap.matchEmptyOrDeleted(SwissTableMap.controlWord(controls, groupStart));
+            if (matches != 0L)
+            {
+                return groupStart + SwissTableMap.firstSlot(matches);
+            }
+            group = group + step & groupMask;
+        }
+    }
+
+    /**
+     * Stores a key that is known to be absent.
+     */
+    private void insert(Object key, int hash, Object value)
+    {
+        int slot = this.findInsertSlot(hash);
+        if (this.growthLeft == 0 && this.controls[slot] == EMPTY)
+        {
+            this.rehash();
+            slot = this.findInsertSlot(hash);
+        }
+        if (this.controls[slot] == EMPTY)
+        {
+            this.growthLeft--;
+        }
+        this.controls[slot] = (byte) (hash & 0x7F);
+        this.keys[slot] = key;
+        this.values[slot] = value;
+        this.occupied++;
+    }
+
+    /**
+     * Grows the table, or rebuilds it at the same capacity when most of the used slots are tombstones.
+     */
+    private void rehash()
+    {
+        int capacity = this.controls.length;
+        int newCapacity = this.occupied * 2L >= SwissTableMap.maxOccupancy(capacity) ? capacity << 1 : capacity;
+        this.rehash(newCapacity);
+    }
+
+    private void rehash(int newCapacity)
+    {
+        byte[] oldControls = this.controls;
+        Object[] oldKeys = this.keys;
+        Object[] oldValues = this.values;
+        this.allocate(newCapacity);
+        for (int i = 0; i < oldControls.length; i++)
+        {
+            if (oldControls[i] >= 0)
+            {
+                Object key = oldKeys[i];
+                int hash = SwissTableMap.hash(key);
+                int slot = this.findInsertSlot(hash);
+                this.controls[slot] = (byte) (hash & 0x7F);
+                this.keys[slot] = key;
+                this.values[slot] = oldValues[i];
+            }
+        }
+        this.growthLeft = SwissTableMap.maxOccupancy(newCapacity) - this.occupied;
+    }
+
+    private void removeSlot(int slot)
+    {
+        int groupStart = slot & -GROUP_WIDTH;
+        if (SwissTableMap.matchEmpty(SwissTableMap.controlWord(this.controls, groupStart)) != 0L)
+        {
+            this.controls[slot] = EMPTY;
+            this.growthLeft++;
+        }
+        else
+        {
+            this.controls[slot] = DELETED;
+        }
+        this.keys[slot] = null;
+        this.values[slot] = null;
+        this.occupied--;
+    }
+
+    @Override
+    public void clear()
+    {
+        if (this.occupied == 0)
+        {
+            return;
+        }
+        this.occupied = 0;
+        Arrays.fill(this.controls, EMPTY);
+        Arrays.fill(this.keys, null);
+        Arrays.fill(this.values, null);
+        this.growthLeft = SwissTableMap.maxOccupancy(this.controls.length);
+    }
+
+    @Override
+    public V put(K key, V value)
+    {
+        Object sentinelKey = SwissTableMap.toSentinelIfNull(key);
+        int hash = SwissTableMap.hash(sentinelKey);
+        int slot = this.findSlot(sentinelKey, hash);
+        if (slot >= 0)
+        {
+            V oldValue = (V) this.values[slot];
+            this.values[slot] = value;
+            return oldValue;
+        }
+        this.insert(sentinelKey, hash, value);
+        return null;
+    }
+
+    @Override
+    public V get(Object key)
+    {
+        Object sentinelKey = SwissTableMap.toSentinelIfNull(key);
+        int slot = this.findSlot(sentinelKey, SwissTableMap.hash(sentinelKey));
+        return slot < 0 ? null : (V) this.values[slot];
+    }
+
+    @Override
+    public boolean containsKey(Object key)
+    {
+        Object sentinelKey = SwissTableMap.toSentinelIfNull(key);
+        return this.findSlot(sentinelKey, SwissTableMap.hash(sentinelKey)) >= 0;
+    }
+
+    @Override
+    public boolean containsValue(Object value)
+    {
+        for (int i = 0; i < this.controls.length; i++)
+        {
+            if (this.controls[i] >= 0 && Objects.equals(value, this.values[i]))
+            {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public V remove(Object key)
+    {
+        Object sentinelKey = SwissTableMap.toSentinelIfNull(key);
+        int slot = this.findSlot(sentinelKey, SwissTableMap.hash(sentinelKey));
+        if (slot < 0)
+        {
+            return null;
+        }
+        V oldValue = (V) this.values[slot];
+        this.removeSlot(slot);
+        return oldValue;
+    }
+
+    @Override
+    public V removeKey(K key)
+    {
+        return this.remove(key);
+    }
+
+    @Override
+    public boolean removeIf(Predicate2<? super K, ? super V> predicate)
+    {
+        int previousOccupied = this.occupied;
+        for (int i = 0; i < this.controls.length; i++)
+        {
+            if (this.controls[i] >= 0 && predicate.accept(this.nonSentinel(this.keys[i]), (V) this.values[i]))
+            {
+                this.removeSlot(i);
+            }
+        }
+        return previousOccupied > this.occupied;
+    }
+
+    @Override
+    public V getIfAbsentPut(K key, Function0<? extends V> function)
+    {
+        Object sentinelKey = SwissTableMap.toSentinelIfNull(key);
+        int hash = SwissTableMap.hash(sentinelKey);
+        int slot = this.findSlot(sentinelKey, hash);
+        if (slot >= 0)
+        {
+            return (V) this.values[slot];
+        }
+        V value = function.value();
+        this.insert(sentinelKey, hash, value);
+        return value;
+    }
+
+    @Override
+    public V getIfAbsentPut(K key, V value)
+    {
+        Object sentinelKey = SwissTableMap.toSentinelIfNull(key);
+        int hash = SwissTableMap.hash(sentinelKey);
+        int slot = this.findSlot(sentinelKey, hash);
+        if (slot >= 0)
+        {
+            return (V) this.values[slot];
+        }
+        this.insert(sentinelKey, hash, value);
+        return value;
+    }
+
+    @Override
+    public <P> V getIfAbsentPutWith(K key, Function<? super P, ? extends V> function, P parameter)
+    {
+        Object sentinelKey = SwissTableMap.toSentinelIfNull(key);
+        int hash = SwissTableMap.hash(sentinelKey);
+        int slot = this.findSlot(sentinelKey, hash);
+        if (slot >= 0)
+        {
+            return (V) this.values[slot];
+        }
+        V value = function.valueOf(parameter);
+        this.insert(sentinelKey, hash, value);
+        return value;
+    }
+
+    @Override
+    public V updateValue(K key, Function0<? extends V> factory, Function<? super V, ? extends V> function)
+    {
+        Object sentinelKey = SwissTableMap.toSentinelIfNull(key);
+        int hash = SwissTableMap.hash(sentinelKey);
+        int slot = this.findSlot(sentinelKey, hash);
+        if (slot >= 0)
+        {
+            V newValue = function.valueOf((V) this.values[slot]);
+            this.values[slot] = newValue;
+            return newValue;
+        }
+        V newValue = function.valueOf(factory.value());
+        this.insert(sentinelKey, hash, newValue);
+        return newValue;
+    }
+
+    @Override
+    public <P> V updateValueWith(K key, Function0<? extends V> factory, Function2<? super V, ? super P, ? extends V> function, P parameter)
+    {
+        Object sentinelKey = SwissTableMap.toSentinelIfNull(key);
+        int hash = SwissTableMap.hash(sentinelKey);
+        int slot = this.findSlot(sentinelKey, hash);
+        if (slot >= 0)
+        {
+            V newValue = function.value((V) this.values[slot], parameter);
+            this.values[slot] = newValue;
+            return newValue;
+        }
+        V newValue = function.value(factory.value(), parameter);
+        this.insert(sentinelKey, hash, newValue);
+        return newValue;
+    }
+
+    @Override
+    public V merge(K key, V value, BiFunction<? super V, ? super V, ? extends V> remappingFunction)
+    {
+        Objects.requireNonNull(value);
+        Objects.requireNonNull(remappingFunction);
+        Object sentinelKey = SwissTableMap.toSentinelIfNull(key);
+        int hash = SwissTableMap.hash(sentinelKey);
+        int slot = this.findSlot(sentinelKey, hash);
+        if (slot < 0)
+        {
+            this.insert(sentinelKey, hash, value);
+            return value;
+        }
+        V oldValue = (V) this.values[slot];
+        V newValue = oldValue == null ? value : remappingFunction.apply(oldValue, value);
+        if (newValue == null)
+        {
+            this.removeSlot(slot);
+        }
+        else
+        {
+            this.values[slot] = newValue;
+        }
+        return newValue;
+    }
+
+    @Override
+    public void putAll(Map<? extends K, ? extends V> map)
+    {
+        int required = this.occupied + map.size();
+        if (required > SwissTableMap.maxOccupancy(this.controls.length))
+        {
+            this.rehash(SwissTableMap.capacityFor(required));
+        }
+        if (map instanceof MutableMap<?, ?>)
+        {
+            ((MutableMap<K, V>) map).forEachKeyValue(this::put);
+        }
+        else
+        {
+            for (Entry<? extends K, ? extends V> entry : map.entrySet())
+            {
+                this.put(entry.getKey(), entry.getValue());
+            }
+        }
+    }
+
+    @Override
+    public <E> MutableMap<K, V> collectKeysAndValues(
+            Iterable<E> iterable,
+            Function<? super E, ? extends K> keyFunction,
+            Function<? super E, ? extends V> valueFunction)
+    {
+        Iterate.forEach(iterable, new MapCollectProcedure<>(this, keyFunction, valueFunction));
+        return this;
+    }
+
+    @Override
+    public int size()
+    {
+        return this.occupied;
+    }
+
+    @Override
+    public boolean isEmpty()
+    {
+        return this.occupied == 0;
+    }
+
+    @Override
+    public void forEachKeyValue(Procedure2<? super K, ? super V> procedure)
+    {
+        for (int i = 0; i < this.controls.length; i++)
+        {
+            if (this.controls[i] >= 0)
+            {
+                procedure.value(this.nonSentinel(this.keys[i]), (V) this.values[i]);
+            }
+        }
+    }
+
+    @Override
+    public void forEachKey(Procedure<? super K> procedure)
+    {
+        for (int i = 0; i < this.controls.length; i++)
+        {
+            if (this.controls[i] >= 0)
+            {
+                procedure.value(this.nonSentinel(this.keys[i]));
+            }
+        }
+    }
+
+    @Override
+    public void forEachValue(Procedure<? super V> procedure)
+    {
+        for (int i = 0; i < this.controls.length; i++)
+        {
+            if (this.controls[i] >= 0)
+            {
+                procedure.value((V) this.values[i]);
+            }
+        }
+    }
+
+    @Override
+    public void each(Procedure<? super V> procedure)
+    {
+        this.forEachValue(procedure);
+    }
+
+    @Override
+    public int getBatchCount(int batchSize)
+    {
+        return Math.max(1, this.controls.length / batchSize);
+    }
+
+    @Override
+    public void batchForEach(Procedure<? super V> procedure, int sectionIndex, int sectionCount)
+    {
+        int sectionSize = this.controls.length / sectionCount;
+        int start = sectionIndex * sectionSize;
+        int end = sectionIndex == sectionCount - 1 ? this.controls.length : start + sectionSize;
+        for (int i = start; i < end; i++)
+        {
+            if (this.controls[i] >= 0)
+            {
+                procedure.value((V) this.values[i]);
+            }
+        }
+    }
+
+    @Override
+    public void replaceAll(BiFunction<? super K, ? super V, ? extends V> function)
+    {
+        Objects.requireNonNull(function);
+        for (int i = 0; i < this.controls.length; i++)
+        {
+            if (this.controls[i] >= 0)
+            {
+                this.values[i] = function.apply(this.nonSentinel(this.keys[i]), (V) this.values[i]);
+            }
+        }
+    }
+
+    @Override
+    public Iterator<V> iterator()
+    {
+        return new ValuesIterator();
+    }
+
+    @Override
+    public Set<K> keySet()
+    {
+        return new KeySet();
+    }
+
+    @Override
+    public Collection<V> values()
+    {
+        return new ValuesCollection();
+    }
+
+    @Override
+    public Set<Entry<K, V>> entrySet()
+    {
+        return new EntrySet();
+    }
+
+    @Override
+    public boolean equals(Object object)
+    {
+        if (this == object)
+        {
+            return true;
+        }
+
+        if (!(object instanceof Map))
+        {
+            return false;
+        }
+
+        Map<?, ?> other = (Map<?, ?>) object;
+        if (this.size() != other.size())
+        {
+            return false;
+        }
+
+        for (int i = 0; i < this.controls.length; i++)
+        {
+            if (this.controls[i] >= 0)
+            {
+                K key = this.nonSentinel(this.keys[i]);
+                Object value = this.values[i];
+                Object otherValue = other.get(key);
+                if (!Objects.equals(otherValue, value) || value == null && !other.containsKey(key))
+                {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int hashCode = 0;
+        for (int i = 0; i < this.controls.length; i++)
+        {
+            if (this.controls[i] >= 0)
+            {
+                Object key = this.keys[i];
+                Object value = this.values[i];
+                hashCode += (key == NULL_KEY ? 0 : key.hashCode()) ^ (value == null ? 0 : value.hashCode());
+            }
+        }
+        return hashCode;
+    }
+
+    @Override
+    public String toString()
+    {
+        StringBuilder builder = new StringBuilder();
+        builder.append('{');
+        boolean first = true;
+        for (int i = 0; i < this.controls.length; i++)
+        {
+            if (this.controls[i] >= 0)
+            {
+                if (first)
+                {
+                    first = false;
+                }
+                else
+                {
+                    builder.append(", ");
+                }
+                K key = this.nonSentinel(this.keys[i]);
+                Object value = this.values[i];
+                builder.append(key == this ? "(this Map)" : key);
+                builder.append('=');
+                builder.append(value == this ? "(this Map)" : value);
+            }
+        }
+        builder.append('}');
+        return builder.toString();
+    }
+
+    @Override
+    public void readExternal(ObjectInput in) throws IOException, ClassNotFoundException
+    {
+        int size = in.readInt();
+        this.occupied = 0;
+        this.allocate(SwissTableMap.capacityFor(size));
+        for (int i = 0; i < size; i++)
+        {
+            this.put((K) in.readObject(), (V) in.readObject());
+        }
+    }
+
+    @Override
+    public void writeExternal(ObjectOutput out) throws IOException
+    {
+        out.writeInt(this.size());
+        for (int i = 0; i < this.controls.length; i++)
+        {
+            if (this.controls[i] >= 0)
+            {
+                out.writeObject(this.nonSentinel(this.keys[i]));
+                out.writeObject(this.values[i]);
+            }
+        }
+    }
+
+    private K nonSentinel(Object key)
+    {
+        return key == NULL_KEY ? null : (K) key;
+    }
+
+    private static Object toSentinelIfNull(Object key)
+    {
+        return key == null ? NULL_KEY : key;
+    }
+
+    protected abstract class SlotIterator<T> implements Iterator<T>
+    {
+        protected int count;
+        protected int position;
+        protected int lastReturned = -1;
+
+        @Override
+        public boolean hasNext()
+        {
+            return this.count < SwissTableMap.this.size();
+        }
+
+        protected int nextSlot()
+        {
+            if (!this.hasNext())
+            {
+                throw new NoSuchElementException();
+            }
+            byte[] controls = SwissTableMap.this.controls;
+            while (controls[this.position] < 0)
+            {
+                this.position++;
+            }
+            this.lastReturned = this.position;
+            this.position++;
+            this.count++;
+            return this.lastReturned;
+        }
+
+        @Override
+        public void remove()
+        {
+            if (this.lastReturned < 0)
+            {
+                throw new IllegalStateException("next() must be called as many times as remove()");
+            }
+            SwissTableMap.this.removeSlot(this.lastReturned);
+            this.lastReturned = -1;
+            this.count--;
+        }
+    }
+
+    protected class KeySetIterator extends SlotIterator<K>
+    {
+        @Override
+        public K next()
+        {
+            return SwissTableMap.this.nonSentinel(SwissTableMap.this.keys[this.nextSlot()]);
+        }
+    }
+
+    protected class ValuesIterator extends SlotIterator<V>
+    {
+        @Override
+        public V next()
+        {
+            return (V) SwissTableMap.this.values[this.nextSlot()];
+        }
+    }
+
+    protected class EntrySetIterator extends SlotIterator<Entry<K, V>>
+    {
+        @Override
+        public Entry<K, V> next()
+        {
+            int slot = this.nextSlot();
+            return new SwissTableEntry(SwissTableMap.this.nonSentinel(SwissTableMap.this.keys[slot]), (V) SwissTableMap.this.values[slot]);
+        }
+    }
+
+    protected class KeySet extends AbstractSet<K>
+    {
+        @Override
+        public Iterator<K> iterator()
+        {
+            return new KeySetIterator();
+        }
+
+        @Override
+        public int size()
+        {
+            return SwissTableMap.this.size();
+        }
+
+        @Override
+        public boolean contains(Object key)
+        {
+            return SwissTableMap.this.containsKey(key);
+        }
+
+        @Override
+        public boolean remove(Object key)
+        {
+            int sizeBefore = SwissTableMap.this.size();
+            SwissTableMap.this.remove(key);
+            return sizeBefore != SwissTableMap.this.size();
+        }
+
+        @Override
+        public void clear()
+        {
+            SwissTableMap.this.clear();
+        }
+    }
+
+    protected class ValuesCollection extends AbstractCollection<V>
+    {
+        @Override
+        public Iterator<V> iterator()
+        {
+            return new ValuesIterator();
+        }
+
+        @Override
+        public int size()
+        {
+            return SwissTableMap.this.size();
+        }
+
+        @Override
+        public boolean contains(Object value)
+        {
+            return SwissTableMap.this.containsValue(value);
+        }
+
+        @Override
+        public void clear()
+        {
+            SwissTableMap.this.clear();
+        }
+    }
+
+    protected class EntrySet extends AbstractSet<Entry<K, V>>
+    {
+        @Override
+        public Iterator<Entry<K, V>> iterator()
+        {
+            return new EntrySetIterator();
+        }
+
+        @Override
+        public int size()
+        {
+            return SwissTableMap.this.size();
+        }
+
+        @Override
+        public boolean contains(Object o)
+        {
+            if (!(o instanceof Entry))
+            {
+                return false;
+            }
+            Entry<?, ?> entry = (Entry<?, ?>) o;
+            Object sentinelKey = SwissTableMap.toSentinelIfNull(entry.getKey());
+            int slot = SwissTableMap.this.findSlot(sentinelKey, SwissTableMap.hash(sentinelKey));
+            return slot >= 0 && Objects.equals(SwissTableMap.this.values[slot], entry.getValue());
+        }
+
+        @Override
+        public boolean remove(Object o)
+        {
+            if (!this.contains(o))
+            {
+                return false;
+            }
+            SwissTableMap.this.remove(((Entry<?, ?>) o).getKey());
+            return true;
+        }
+
+        @Override
+        public void clear()
+        {
+            SwissTableMap.this.clear();
+        }
+    }
+
+    protected class SwissTableEntry implements Entry<K, V>
+    {
+        private final K key;
+        private V value;
+
+        protected SwissTableEntry(K key, V value)
+        {
+            this.key = key;
+            this.value = value;
+        }
+
+        @Override
+        public K getKey()
+        {
+            return this.key;
+        }
+
+        @Override
+        public V getValue()
+        {
+            return this.value;
+        }
+
+        @Override
+        public V setValue(V value)
+        {
+            this.value = value;
+            if (SwissTableMap.this.containsKey(this.key))
+            {
+                return SwissTableMap.this.put(this.key, value);
+            }
+            return null;
+        }
+
+        @Override
+        public boolean equals(Object obj)
+        {
+            if (obj instanceof Entry)
+            {
+                Entry<?, ?> other = (Entry<?, ?>) obj;
+                return Objects.equals(this.key, other.getKey()) && Objects.equals(this.value, other.getValue());
+            }
+            return false;
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return (this.key == null ? 0 : this.key.hashCode())
+                    ^ (this.value == null ? 0 : this.value.hashCode());
+        }
+
+        @Override
+        public String toString()
+        {
+            return this.key + "=" + this.value;
+        }
+    }
+}
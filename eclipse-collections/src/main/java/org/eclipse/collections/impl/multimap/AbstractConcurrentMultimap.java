@@ -0,0 +1,623 @@
+/*
+ * Copyright (c) 2024 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.multimap;
+
+import java.io.IOException;
+import java.io.ObjectOutput;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+
+import org.eclipse.collections.api.collection.MutableCollection;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.api.map.MutableMap;
+import org.eclipse.collections.api.tuple.Pair;
+import org.eclipse.collections.impl.StripedCounter;
+import org.eclipse.collections.impl.list.mutable.FastList;
+import org.eclipse.collections.impl.map.mutable.ConcurrentHashMap;
+import org.eclipse.collections.impl.tuple.Tuples;
+import org.eclipse.collections.impl.utility.Iterate;
+
+/**
+ * A base class for multimaps which can be written to and read from by many threads without locking. The keys are held
+ * in a {@link ConcurrentHashMap}, and the values of each key are held in a collection backed by a
+ * {@link ConcurrentValues}, which is updated with compare-and-set rather than by synchronizing on the collection.
+ * <p>
+ * A collection that becomes empty is retired before its key is removed, so that a concurrent put which still holds a
+ * reference to it will notice and retry against the map instead of adding to a collection which is no longer mapped.
+ * Reads and iteration see a snapshot of the values of each key, and are weakly consistent across keys.
+ *
+ * @since 14.0
+ */
+public abstract class AbstractConcurrentMultimap<K, V, C extends MutableCollection<V>>
+        extends AbstractMutableMultimap<K, V, C>
+{
+    private final StripedCounter atomicTotalSize = new StripedCounter();
+
+    protected AbstractConcurrentMultimap()
+    {
+    }
+
+    protected AbstractConcurrentMultimap(MutableMap<K, C> newMap)
+    {
+        super(newMap);
+    }
+
+    /**
+     * Returns the concurrent values backing a collection created by {@link #createCollection()}.
+     */
+    protected abstract ConcurrentValues<V> valuesOf(C collection);
+
+    @Override
+    protected MutableMap<K, C> createMap()
+    {
+        return ConcurrentHashMap.newMap();
+    }
+
+    @Override
+    protected MutableMap<K, C> createMapWithKeyCount(int keyCount)
+    {
+        return ConcurrentHashMap.newMap(keyCount);
+    }
+
+    @Override
+    public int size()
+    {
+        return this.atomicTotalSize.intValue();
+    }
+
+    @Override
+    protected void incrementTotalSize()
+    {
+        this.atomicTotalSize.increment();
+    }
+
+    @Override
+    protected void decrementTotalSize()
+    {
+        this.atomicTotalSize.decrement();
+    }
+
+    @Override
+    protected void addToTotalSize(int value)
+    {
+        this.atomicTotalSize.add(value);
+    }
+
+    @Override
+    protected void subtractFromTotalSize(int value)
+    {
+        this.atomicTotalSize.add(-value);
+    }
+
+    @Override
+    protected void clearTotalSize()
+    {
+        this.atomicTotalSize.reset();
+    }
+
+    @Override
+    public boolean put(K key, V value)
+    {
+        while (true)
+        {
+            C collection = this.map.get(key);
+            if (collection == null)
+            {
+                C newCollection = this.createCollection();
+                newCollection.add(value);
+                if (this.map.putIfAbsent(key, newCollection) == null)
+                {
+                    this.incrementTotalSize();
+                    return true;
+                }
+            }
+            else
+            {
+                int result = this.valuesOf(collection).add(value);
+                if (result == ConcurrentValues.ADDED)
+                {
+                    this.incrementTotalSize();
+                    return true;
+                }
+                if (result == ConcurrentValues.UNCHANGED)
+                {
+                    return false;
+                }
+                this.map.remove(key, collection);
+            }
+        }
+    }
+
+    @Override
+    public boolean putAll(K key, Iterable<? extends V> values)
+    {
+        if (Iterate.isEmpty(values))
+        {
+            return false;
+        }
+        if (!this.map.containsKey(key))
+        {
+            C newCollection = Iterate.addAllTo(values, this.createCollection());
+            if (this.map.putIfAbsent(key, newCollection) == null)
+            {
+                this.addToTotalSize(newCollection.size());
+                return true;
+            }
+        }
+        boolean changed = false;
+        for (V value : values)
+        {
+            changed |= this.put(key, value);
+        }
+        return changed;
+    }
+
+    @Override
+    public boolean remove(Object key, Object value)
+    {
+        C collection = this.map.get(key);
+        if (collection == null)
+        {
+            return false;
+        }
+        ConcurrentValues<V> values = this.valuesOf(collection);
+        int removed = values.remove(value);
+        if (removed == 0)
+        {
+            return false;
+        }
+        this.subtractFromTotalSize(removed);
+        if (values.isRetired())
+        {
+            this.map.remove(key, collection);
+        }
+        return true;
+    }
+
+    @Override
+    public C replaceValues(K key, Iterable<? extends V> values)
+    {
+        if (Iterate.isEmpty(values))
+        {
+            return this.removeAll(key);
+        }
+
+        C newValues = Iterate.addAllTo(values, this.createCollection());
+        this.addToTotalSize(newValues.size());
+        C oldValues = this.map.put(key, newValues);
+        return this.retire(oldValues);
+    }
+
+    @Override
+    public C removeAll(Object key)
+    {
+        return this.retire(this.map.remove(key));
+    }
+
+    private C retire(C collection)
+    {
+        C result = this.createCollection();
+        if (collection != null)
+        {
+            MutableList<V> removed = this.valuesOf(collection).retire();
+            this.subtractFromTotalSize(removed.size());
+            result.addAll(removed);
+        }
+        return (C) result.asUnmodifiable();
+    }
+
+    @Override
+    public void clear()
+    {
+        // Retire each collection, to make previously returned collections empty.
+        this.map.forEachKey(this::removeAll);
+    }
+
+    @Override
+    public C getIfAbsentPutAll(K key, Iterable<? extends V> values)
+    {
+        if (Iterate.isEmpty(values))
+        {
+            return this.get(key);
+        }
+
+        C existing = this.map.get(key);
+        C newCollection = null;
+        while (true)
+        {
+            if (existing != null && !this.valuesOf(existing).isRetired())
+            {
+                return (C) existing.asUnmodifiable();
+            }
+            if (newCollection == null)
+            {
+                newCollection = Iterate.addAllTo(values, this.createCollection());
+            }
+            if (existing == null)
+            {
+                existing = this.map.putIfAbsent(key, newCollection);
+                if (existing == null)
+                {
+                    this.addToTotalSize(newCollection.size());
+                    return (C) newCollection.asUnmodifiable();
+                }
+            }
+            else if (this.map.replace(key, existing, newCollection))
+            {
+                this.addToTotalSize(newCollection.size());
+                return (C) newCollection.asUnmodifiable();
+            }
+            else
+            {
+                existing = this.map.get(key);
+            }
+        }
+    }
+
+    @Override
+    public void writeExternal(ObjectOutput out) throws IOException
+    {
+        MutableList<Pair<K, Object[]>> snapshot = FastList.newList(this.map.size());
+        this.map.forEachKeyValue((key, collection) -> {
+            Object[] values = this.valuesOf(collection).toArray();
+            if (values.length > 0)
+            {
+                snapshot.add(Tuples.pair(key, values));
+            }
+        });
+        out.writeInt(snapshot.size());
+        for (Pair<K, Object[]> pair : snapshot)
+        {
+            out.writeObject(pair.getOne());
+            Object[] values = pair.getTwo();
+            out.writeInt(values.length);
+            for (Object value : values)
+            {
+                out.writeObject(value);
+            }
+        }
+    }
+
+    /**
+     * The values of one key of a concurrent multimap. Up to a small threshold the values are kept in an immutable
+     * array which is replaced with compare-and-set on every write. Past the threshold they are promoted to a lock-free
+     * store, a {@link ConcurrentLinkedQueue} for lists and a set view of a {@link ConcurrentHashMap} for sets, so that
+     * keys with many values do not pay for a copy on every write.
+     * <p>
+     * Removing the last value, or removing all of the values of the key, retires the values. Once retired they are
+     * permanently empty, and {@link #add(Object)} returns {@link #RETIRED} so that the caller can replace them in the
+     * map and retry.
+     */
+    protected static final class ConcurrentValues<V>
+    {
+        public static final int UNCHANGED = 0;
+        public static final int ADDED = 1;
+        public static final int RETIRED = -1;
+
+        private static final int PROMOTION_THRESHOLD = 16;
+        private static final Object[] EMPTY = {};
+        private static final Object RETIRED_STATE = new Object();
+        private static final Object NULL_VALUE = new Object();
+
+        private static final AtomicReferenceFieldUpdater<ConcurrentValues, Object> STATE_UPDATER =
+                AtomicReferenceFieldUpdater.newUpdater(ConcurrentValues.class, Object.class, "state");
+
+        private final boolean distinct;
+
+        /**
+         * Either an immutable Object[] of the values, a {@link Store} once promoted, or {@link #RETIRED_STATE}.
+         */
+        private volatile Object state = EMPTY;
+
+        public ConcurrentValues(boolean distinct)
+        {
+            this.distinct = distinct;
+        }
+
+        public boolean isRetired()
+        {
+            return this.state == RETIRED_STATE;
+        }
+
+        /**
+         * Adds the value, returning {@link #ADDED}, {@link #UNCHANGED} if the values are distinct and already contain
+         * it, or {@link #RETIRED} if the values were retired before the value could be added.
+         */
+        public int add(V value)
+        {
+            while (true)
+            {
+                Object localState = this.state;
+                if (localState == RETIRED_STATE)
+                {
+                    return RETIRED;
+                }
+                if (localState instanceof Store)
+                {
+                    return this.addToStore((Store) localState, value);
+                }
+                Object[] items = (Object[]) localState;
+                if (this.distinct && ConcurrentValues.indexOf(items, value) >= 0)
+                {
+                    return UNCHANGED;
+                }
+                Object newState;
+                if (items.length < PROMOTION_THRESHOLD)
+                {
+                    Object[] newItems = Arrays.copyOf(items, items.length + 1);
+                    newItems[items.length] = value;
+                    newState = newItems;
+                }
+                else
+                {
+                    newState = this.promote(items, value);
+                }
+                if (STATE_UPDATER.compareAndSet(this, localState, newState))
+                {
+                    return ADDED;
+                }
+            }
+        }
+
+        private Store promote(Object[] items, V value)
+        {
+            Collection<Object> store = this.distinct
+                    ? Collections.newSetFromMap(ConcurrentHashMap.newMap(items.length << 1))
+                    : new ConcurrentLinkedQueue<>();
+            for (Object item : items)
+            {
+                store.add(ConcurrentValues.mask(item));
+            }
+            store.add(ConcurrentValues.mask(value));
+            return new Store(store, items.length + 1);
+        }
+
+        private int addToStore(Store store, V value)
+        {
+            Object masked = ConcurrentValues.mask(value);
+            if (!store.items.add(masked))
+            {
+                return UNCHANGED;
+            }
+            store.add(1);
+            if (this.state == store)
+            {
+                return ADDED;
+            }
+            // Retired while adding: take the value back out, unless whoever retired the store has already drained it.
+            if (store.items.remove(masked))
+            {
+                store.add(-1);
+                return RETIRED;
+            }
+            return ADDED;
+        }
+
+        /**
+         * Removes one occurrence of the value, returning the number of values removed. This is zero if the value was
+         * not found, and may be more than one if removing it retired the values and drained values concurrently added
+         * to them.
+         */
+        public int remove(Object value)
+        {
+            while (true)
+            {
+                Object localState = this.state;
+                if (localState == RETIRED_STATE)
+                {
+                    return 0;
+                }
+                if (localState instanceof Store)
+                {
+                    Store store = (Store) localState;
+                    if (!store.items.remove(ConcurrentValues.mask(value)))
+                    {
+                        return 0;
+                    }
+                    if (store.add(-1) <= 0 && STATE_UPDATER.compareAndSet(this, store, RETIRED_STATE))
+                    {
+                        return 1 + ConcurrentValues.drain(store).size();
+                    }
+                    return 1;
+                }
+                Object[] items = (Object[]) localState;
+                int index = ConcurrentValues.indexOf(items, value);
+                if (index < 0)
+                {
+                    return 0;
+                }
+                Object newState = items.length == 1 ? RETIRED_STATE : ConcurrentValues.without(items, index);
+                if (STATE_UPDATER.compareAndSet(this, localState, newState))
+                {
+                    return 1;
+                }
+            }
+        }
+
+        /**
+         * Retires the values and returns the values removed by doing so.
+         */
+        public MutableList<V> retire()
+        {
+            while (true)
+            {
+                Object localState = this.state;
+                if (localState == RETIRED_STATE)
+                {
+                    return FastList.newList();
+                }
+                if (STATE_UPDATER.compareAndSet(this, localState, RETIRED_STATE))
+                {
+                    if (localState instanceof Store)
+                    {
+                        return ConcurrentValues.drain((Store) localState);
+                    }
+                    return FastList.wrapCopy((V[]) localState);
+                }
+            }
+        }
+
+        /**
+         * Removes all of the values without retiring them.
+         */
+        public void clear()
+        {
+            while (true)
+            {
+                Object localState = this.state;
+                if (localState == RETIRED_STATE || STATE_UPDATER.compareAndSet(this, localState, EMPTY))
+                {
+                    return;
+                }
+            }
+        }
+
+        public int size()
+        {
+            Object localState = this.state;
+            if (localState == RETIRED_STATE)
+            {
+                return 0;
+            }
+            if (localState instanceof Store)
+            {
+                return Math.max(((Store) localState).size, 0);
+            }
+            return ((Object[]) localState).length;
+        }
+
+        public boolean contains(Object value)
+        {
+            Object localState = this.state;
+            if (localState == RETIRED_STATE)
+            {
+                return false;
+            }
+            if (localState instanceof Store)
+            {
+                return ((Store) localState).items.contains(ConcurrentValues.mask(value));
+            }
+            return ConcurrentValues.indexOf((Object[]) localState, value) >= 0;
+        }
+
+        /**
+         * Returns the values without copying them, unless they have been promoted to a store and have to be copied out
+         * of it. The array may be shared with this and other readers, so the caller must not modify it.
+         */
+        public Object[] items()
+        {
+            Object localState = this.state;
+            if (localState instanceof Object[])
+            {
+                return (Object[]) localState;
+            }
+            return this.toArray();
+        }
+
+        /**
+         * Returns a snapshot of the values. The array is not shared and may be modified by the caller.
+         */
+        public Object[] toArray()
+        {
+            Object localState = this.state;
+            if (localState == RETIRED_STATE)
+            {
+                return EMPTY;
+            }
+            if (localState instanceof Store)
+            {
+                Object[] result = ((Store) localState).items.toArray();
+                for (int i = 0; i < result.length; i++)
+                {
+                    result[i] = ConcurrentValues.unmask(result[i]);
+                }
+                return result;
+            }
+            return ((Object[]) localState).clone();
+        }
+
+        private static <V> MutableList<V> drain(Store store)
+        {
+            MutableList<V> result = FastList.newList();
+            while (!store.items.isEmpty())
+            {
+                for (Iterator<Object> iterator = store.items.iterator(); iterator.hasNext(); )
+                {
+                    Object each = iterator.next();
+                    if (store.items.remove(each))
+                    {
+                        result.add((V) ConcurrentValues.unmask(each));
+                    }
+                }
+            }
+            return result;
+        }
+
+        private static int indexOf(Object[] items, Object value)
+        {
+            for (int i = 0; i < items.length; i++)
+            {
+                Object item = items[i];
+                if (item == null ? value == null : item.equals(value))
+                {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        private static Object[] without(Object[] items, int index)
+        {
+            Object[] result = new Object[items.length - 1];
+            System.arraycopy(items, 0, result, 0, index);
+            System.arraycopy(items, index + 1, result, index, result.length - index);
+            return result;
+        }
+
+        private static Object mask(Object value)
+        {
+            return value == null ? NULL_VALUE : value;
+        }
+
+        private static Object unmask(Object value)
+        {
+            return value == NULL_VALUE ? null : value;
+        }
+
+        /**
+         * A promoted lock-free store and a count of its items, which is kept alongside because the size of a
+         * {@link ConcurrentLinkedQueue} is linear to compute.
+         */
+        private static final class Store
+        {
+            private static final AtomicIntegerFieldUpdater<Store> SIZE_UPDATER = AtomicIntegerFieldUpdater.newUpdater(Store.class, "size");
+
+            private final Collection<Object> items;
+            private volatile int size;
+
+            private Store(Collection<Object> items, int size)
+            {
+                this.items = items;
+                this.size = size;
+            }
+
+            private int add(int delta)
+            {
+                return SIZE_UPDATER.addAndGet(this, delta);
+            }
+        }
+    }
+}
@@ -0,0 +1,342 @@
+/*
+ * Copyright (c) 2024 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.multimap.list;
+
+import java.io.Externalizable;
+import java.util.Collection;
+import java.util.Iterator;
+
+import org.eclipse.collections.api.RichIterable;
+import org.eclipse.collections.api.block.function.Function;
+import org.eclipse.collections.api.block.function.Function2;
+import org.eclipse.collections.api.block.predicate.Predicate2;
+import org.eclipse.collections.api.block.procedure.Procedure;
+import org.eclipse.collections.api.block.procedure.Procedure2;
+import org.eclipse.collections.api.factory.Maps;
+import org.eclipse.collections.api.list.ImmutableList;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.api.map.MutableMap;
+import org.eclipse.collections.api.multimap.Multimap;
+import org.eclipse.collections.api.multimap.bag.MutableBagMultimap;
+import org.eclipse.collections.api.multimap.list.ImmutableListMultimap;
+import org.eclipse.collections.api.multimap.list.MutableListMultimap;
+import org.eclipse.collections.api.tuple.Pair;
+import org.eclipse.collections.impl.list.mutable.AbstractMutableList;
+import org.eclipse.collections.impl.list.mutable.FastList;
+import org.eclipse.collections.impl.map.mutable.ConcurrentHashMap;
+import org.eclipse.collections.impl.multimap.AbstractConcurrentMultimap;
+import org.eclipse.collections.impl.multimap.bag.HashBagMultimap;
+import org.eclipse.collections.impl.utility.ArrayIterate;
+import org.eclipse.collections.impl.utility.Iterate;
+
+/**
+ * A ListMultimap which can be written to and read from by many threads without locking. The values of each key are
+ * held in insertion order in a list which is updated with compare-and-set, see {@link AbstractConcurrentMultimap}.
+ * The lists returned by {@link #get(Object)} are unmodifiable live views, which read the values in place until a key
+ * has enough values to be promoted to a concurrent store, and from a snapshot of that store afterwards.
+ *
+ * @since 14.0
+ */
+public final class ConcurrentFastListMultimap<K, V>
+        extends AbstractConcurrentMultimap<K, V, MutableList<V>>
+        implements MutableListMultimap<K, V>, Externalizable
+{
+    private static final long serialVersionUID = 1L;
+
+    public ConcurrentFastListMultimap()
+    {
+    }
+
+    public ConcurrentFastListMultimap(int initialCapacity)
+    {
+        super(ConcurrentHashMap.newMap(initialCapacity));
+    }
+
+    public ConcurrentFastListMultimap(Multimap<? extends K, ? extends V> multimap)
+    {
+        this.putAll(multimap);
+    }
+
+    public ConcurrentFastListMultimap(Pair<K, V>... pairs)
+    {
+        this();
+        ArrayIterate.forEach(pairs, pair -> this.put(pair.getOne(), pair.getTwo()));
+    }
+
+    public ConcurrentFastListMultimap(Iterable<Pair<K, V>> inputIterable)
+    {
+        this();
+        Iterate.forEach(inputIterable, this::add);
+    }
+
+    public static <K, V> ConcurrentFastListMultimap<K, V> newMultimap()
+    {
+        return new ConcurrentFastListMultimap<>();
+    }
+
+    public static <K, V> ConcurrentFastListMultimap<K, V> newMultimap(int initialCapacity)
+    {
+        return new ConcurrentFastListMultimap<>(initialCapacity);
+    }
+
+    public static <K, V> ConcurrentFastListMultimap<K, V> newMultimap(Multimap<? extends K, ? extends V> multimap)
+    {
+        return new ConcurrentFastListMultimap<>(multimap);
+    }
+
+    public static <K, V> ConcurrentFastListMultimap<K, V> newMultimap(Pair<K, V>... pairs)
+    {
+        return new ConcurrentFastListMultimap<>(pairs);
+    }
+
+    public static <K, V> ConcurrentFastListMultimap<K, V> newMultimap(Iterable<Pair<K, V>> inputIterable)
+    {
+        return new ConcurrentFastListMultimap<>(inputIterable);
+    }
+
+    @Override
+    public ConcurrentFastListMultimap<K, V> withKeyMultiValues(K key, V... values)
+    {
+        return (ConcurrentFastListMultimap<K, V>) super.withKeyMultiValues(key, values);
+    }
+
+    @Override
+    protected MutableList<V> createCollection()
+    {
+        return new ConcurrentValueList<>();
+    }
+
+    @Override
+    protected ConcurrentValues<V> valuesOf(MutableList<V> collection)
+    {
+        return ((ConcurrentValueList<V>) collection).values;
+    }
+
+    @Override
+    public void forEachKeyMutableList(Procedure2<? super K, ? super MutableList<V>> procedure)
+    {
+        this.getMap().forEachKeyValue((key, value) -> procedure.value(key, value.asUnmodifiable()));
+    }
+
+    @Override
+    public ConcurrentFastListMultimap<K, V> newEmpty()
+    {
+        return new ConcurrentFastListMultimap<>();
+    }
+
+    @Override
+    public MutableListMultimap<K, V> toMutable()
+    {
+        return new ConcurrentFastListMultimap<>(this);
+    }
+
+    @Override
+    public ImmutableListMultimap<K, V> toImmutable()
+    {
+        MutableMap<K, ImmutableList<V>> map = Maps.mutable.empty();
+
+        this.map.forEachKeyValue((key, list) -> {
+            if (list.notEmpty())
+            {
+                map.put(key, list.toImmutable());
+            }
+        });
+
+        return new ImmutableListMultimapImpl<>(map);
+    }
+
+    @Override
+    public MutableBagMultimap<V, K> flip()
+    {
+        return Iterate.flip(this);
+    }
+
+    @Override
+    public FastListMultimap<K, V> selectKeysValues(Predicate2<? super K, ? super V> predicate)
+    {
+        return this.selectKeysValues(predicate, FastListMultimap.newMultimap());
+    }
+
+    @Override
+    public FastListMultimap<K, V> rejectKeysValues(Predicate2<? super K, ? super V> predicate)
+    {
+        return this.rejectKeysValues(predicate, FastListMultimap.newMultimap());
+    }
+
+    @Override
+    public FastListMultimap<K, V> selectKeysMultiValues(Predicate2<? super K, ? super RichIterable<V>> predicate)
+    {
+        return this.selectKeysMultiValues(predicate, FastListMultimap.newMultimap());
+    }
+
+    @Override
+    public FastListMultimap<K, V> rejectKeysMultiValues(Predicate2<? super K, ? super RichIterable<V>> predicate)
+    {
+        return this.rejectKeysMultiValues(predicate, FastListMultimap.newMultimap());
+    }
+
+    @Override
+    public <K2, V2> HashBagMultimap<K2, V2> collectKeysValues(Function2<? super K, ? super V, Pair<K2, V2>> function)
+    {
+        return this.collectKeysValues(function, HashBagMultimap.newMultimap());
+    }
+
+    @Override
+    public <K2, V2> HashBagMultimap<K2, V2> collectKeyMultiValues(Function<? super K, ? extends K2> keyFunction, Function<? super V, ? extends V2> valueFunction)
+    {
+        return this.collectKeyMultiValues(keyFunction, valueFunction, HashBagMultimap.newMultimap());
+    }
+
+    @Override
+    public <V2> FastListMultimap<K, V2> collectValues(Function<? super V, ? extends V2> function)
+    {
+        return this.collectValues(function, FastListMultimap.newMultimap());
+    }
+
+    @Override
+    public MutableListMultimap<K, V> asSynchronized()
+    {
+        throw new UnsupportedOperationException("Cannot call asSynchronized() on " + this.getClass().getSimpleName());
+    }
+
+    /**
+     * The values of one key. Reads work on the current array of the values without copying it, or on a snapshot once
+     * the values are promoted to a store, and positional writes are not supported.
+     */
+    private static final class ConcurrentValueList<V> extends AbstractMutableList<V>
+    {
+        private final ConcurrentValues<V> values = new ConcurrentValues<>(false);
+
+        private FastList<V> snapshot()
+        {
+            return FastList.wrapCopy((V[]) this.values.toArray());
+        }
+
+        /**
+         * Returns a list sharing the array of the values, which must not be modified.
+         */
+        private FastList<V> view()
+        {
+            return FastList.newListWith((V[]) this.values.items());
+        }
+
+        @Override
+        public boolean add(V value)
+        {
+            if (this.values.add(value) == ConcurrentValues.RETIRED)
+            {
+                throw new IllegalStateException("Cannot add to the values of a key which has been removed");
+            }
+            return true;
+        }
+
+        @Override
+        public boolean remove(Object value)
+        {
+            return this.values.remove(value) > 0;
+        }
+
+        @Override
+        public void clear()
+        {
+            this.values.clear();
+        }
+
+        @Override
+        public int size()
+        {
+            return this.values.size();
+        }
+
+        @Override
+        public boolean contains(Object value)
+        {
+            return this.values.contains(value);
+        }
+
+        @Override
+        public V get(int index)
+        {
+            Object[] items = this.values.items();
+            if (index < 0 || index >= items.length)
+            {
+                throw new IndexOutOfBoundsException("Index: " + index + " Size: " + items.length);
+            }
+            return (V) items[index];
+        }
+
+        @Override
+        public Iterator<V> iterator()
+        {
+            return this.view().asUnmodifiable().iterator();
+        }
+
+        @Override
+        public void each(Procedure<? super V> procedure)
+        {
+            ArrayIterate.forEach((V[]) this.values.items(), procedure);
+        }
+
+        @Override
+        public Object[] toArray()
+        {
+            return this.values.toArray();
+        }
+
+        @Override
+        public boolean equals(Object that)
+        {
+            return this == that || this.view().equals(that);
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return this.view().hashCode();
+        }
+
+        @Override
+        public MutableList<V> clone()
+        {
+            return this.snapshot();
+        }
+
+        @Override
+        public ImmutableList<V> toImmutable()
+        {
+            return this.snapshot().toImmutable();
+        }
+
+        @Override
+        public void add(int index, V element)
+        {
+            throw new UnsupportedOperationException("Cannot call add(int, Object) on " + this.getClass().getSimpleName());
+        }
+
+        @Override
+        public boolean addAll(int index, Collection<? extends V> collection)
+        {
+            throw new UnsupportedOperationException("Cannot call addAll(int, Collection) on " + this.getClass().getSimpleName());
+        }
+
+        @Override
+        public V remove(int index)
+        {
+            throw new UnsupportedOperationException("Cannot call remove(int) on " + this.getClass().getSimpleName());
+        }
+
+        @Override
+        public V set(int index, V element)
+        {
+            throw new UnsupportedOperationException("Cannot call set(int, Object) on " + this.getClass().getSimpleName());
+        }
+    }
+}
@@ -0,0 +1,337 @@
+/*
+ * Copyright (c) 2024 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.multimap.set;
+
+import java.io.Externalizable;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+
+import org.eclipse.collections.api.RichIterable;
+import org.eclipse.collections.api.block.function.Function;
+import org.eclipse.collections.api.block.function.Function2;
+import org.eclipse.collections.api.block.predicate.Predicate2;
+import org.eclipse.collections.api.block.procedure.Procedure;
+import org.eclipse.collections.api.block.procedure.Procedure2;
+import org.eclipse.collections.api.factory.Maps;
+import org.eclipse.collections.api.map.MutableMap;
+import org.eclipse.collections.api.multimap.Multimap;
+import org.eclipse.collections.api.multimap.set.ImmutableSetMultimap;
+import org.eclipse.collections.api.multimap.set.MutableSetMultimap;
+import org.eclipse.collections.api.set.ImmutableSet;
+import org.eclipse.collections.api.set.MutableSet;
+import org.eclipse.collections.api.set.ParallelUnsortedSetIterable;
+import org.eclipse.collections.api.tuple.Pair;
+import org.eclipse.collections.impl.list.mutable.FastList;
+import org.eclipse.collections.impl.map.mutable.ConcurrentHashMap;
+import org.eclipse.collections.impl.multimap.AbstractConcurrentMultimap;
+import org.eclipse.collections.impl.multimap.bag.HashBagMultimap;
+import org.eclipse.collections.impl.set.mutable.AbstractMutableSet;
+import org.eclipse.collections.impl.set.mutable.UnifiedSet;
+import org.eclipse.collections.impl.utility.ArrayIterate;
+import org.eclipse.collections.impl.utility.Iterate;
+
+/**
+ * A SetMultimap which can be written to and read from by many threads without locking. The values of each key are
+ * held in a set which is updated with compare-and-set, see {@link AbstractConcurrentMultimap}.
+ * The sets returned by {@link #get(Object)} are unmodifiable live views, which read the values in place until a key
+ * has enough values to be promoted to a concurrent store, and from a snapshot of that store afterwards.
+ *
+ * @since 14.0
+ */
+public final class ConcurrentUnifiedSetMultimap<K, V>
+        extends AbstractConcurrentMultimap<K, V, MutableSet<V>>
+        implements MutableSetMultimap<K, V>, Externalizable
+{
+    private static final long serialVersionUID = 1L;
+
+    public ConcurrentUnifiedSetMultimap()
+    {
+    }
+
+    public ConcurrentUnifiedSetMultimap(int initialCapacity)
+    {
+        super(ConcurrentHashMap.newMap(initialCapacity));
+    }
+
+    public ConcurrentUnifiedSetMultimap(Multimap<? extends K, ? extends V> multimap)
+    {
+        this.putAll(multimap);
+    }
+
+    public ConcurrentUnifiedSetMultimap(Pair<K, V>... pairs)
+    {
+        this();
+        ArrayIterate.forEach(pairs, pair -> this.put(pair.getOne(), pair.getTwo()));
+    }
+
+    public ConcurrentUnifiedSetMultimap(Iterable<Pair<K, V>> inputIterable)
+    {
+        this();
+        Iterate.forEach(inputIterable, this::add);
+    }
+
+    public static <K, V> ConcurrentUnifiedSetMultimap<K, V> newMultimap()
+    {
+        return new ConcurrentUnifiedSetMultimap<>();
+    }
+
+    public static <K, V> ConcurrentUnifiedSetMultimap<K, V> newMultimap(int initialCapacity)
+    {
+        return new ConcurrentUnifiedSetMultimap<>(initialCapacity);
+    }
+
+    public static <K, V> ConcurrentUnifiedSetMultimap<K, V> newMultimap(Multimap<? extends K, ? extends V> multimap)
+    {
+        return new ConcurrentUnifiedSetMultimap<>(multimap);
+    }
+
+    public static <K, V> ConcurrentUnifiedSetMultimap<K, V> newMultimap(Pair<K, V>... pairs)
+    {
+        return new ConcurrentUnifiedSetMultimap<>(pairs);
+    }
+
+    public static <K, V> ConcurrentUnifiedSetMultimap<K, V> newMultimap(Iterable<Pair<K, V>> inputIterable)
+    {
+        return new ConcurrentUnifiedSetMultimap<>(inputIterable);
+    }
+
+    @Override
+    public ConcurrentUnifiedSetMultimap<K, V> withKeyMultiValues(K key, V... values)
+    {
+        return (ConcurrentUnifiedSetMultimap<K, V>) super.withKeyMultiValues(key, values);
+    }
+
+    @Override
+    protected MutableSet<V> createCollection()
+    {
+        return new ConcurrentValueSet<>();
+    }
+
+    @Override
+    protected ConcurrentValues<V> valuesOf(MutableSet<V> collection)
+    {
+        return ((ConcurrentValueSet<V>) collection).values;
+    }
+
+    @Override
+    public void forEachKeyMutableSet(Procedure2<? super K, ? super MutableSet<V>> procedure)
+    {
+        this.getMap().forEachKeyValue((key, value) -> procedure.value(key, value.asUnmodifiable()));
+    }
+
+    @Override
+    public ConcurrentUnifiedSetMultimap<K, V> newEmpty()
+    {
+        return new ConcurrentUnifiedSetMultimap<>();
+    }
+
+    @Override
+    public MutableSetMultimap<K, V> toMutable()
+    {
+        return new ConcurrentUnifiedSetMultimap<>(this);
+    }
+
+    @Override
+    public ImmutableSetMultimap<K, V> toImmutable()
+    {
+        MutableMap<K, ImmutableSet<V>> map = Maps.mutable.empty();
+
+        this.map.forEachKeyValue((key, set) -> {
+            if (set.notEmpty())
+            {
+                map.put(key, set.toImmutable());
+            }
+        });
+
+        return new ImmutableSetMultimapImpl<>(map);
+    }
+
+    @Override
+    public MutableSetMultimap<V, K> flip()
+    {
+        return Iterate.flip(this);
+    }
+
+    @Override
+    public UnifiedSetMultimap<K, V> selectKeysValues(Predicate2<? super K, ? super V> predicate)
+    {
+        return this.selectKeysValues(predicate, UnifiedSetMultimap.newMultimap());
+    }
+
+    @Override
+    public UnifiedSetMultimap<K, V> rejectKeysValues(Predicate2<? super K, ? super V> predicate)
+    {
+        return this.rejectKeysValues(predicate, UnifiedSetMultimap.newMultimap());
+    }
+
+    @Override
+    public UnifiedSetMultimap<K, V> selectKeysMultiValues(Predicate2<? super K, ? super RichIterable<V>> predicate)
+    {
+        return this.selectKeysMultiValues(predicate, UnifiedSetMultimap.newMultimap());
+    }
+
+    @Override
+    public UnifiedSetMultimap<K, V> rejectKeysMultiValues(Predicate2<? super K, ? super RichIterable<V>> predicate)
+    {
+        return this.rejectKeysMultiValues(predicate, UnifiedSetMultimap.newMultimap());
+    }
+
+    @Override
+    public <K2, V2> HashBagMultimap<K2, V2> collectKeysValues(Function2<? super K, ? super V, Pair<K2, V2>> function)
+    {
+        return this.collectKeysValues(function, HashBagMultimap.newMultimap());
+    }
+
+    @Override
+    public <K2, V2> HashBagMultimap<K2, V2> collectKeyMultiValues(Function<? super K, ? extends K2> keyFunction, Function<? super V, ? extends V2> valueFunction)
+    {
+        return this.collectKeyMultiValues(keyFunction, valueFunction, HashBagMultimap.newMultimap());
+    }
+
+    @Override
+    public <V2> HashBagMultimap<K, V2> collectValues(Function<? super V, ? extends V2> function)
+    {
+        return this.collectValues(function, HashBagMultimap.newMultimap());
+    }
+
+    @Override
+    public MutableSetMultimap<K, V> asSynchronized()
+    {
+        throw new UnsupportedOperationException("Cannot call asSynchronized() on " + this.getClass().getSimpleName());
+    }
+
+    /**
+     * The values of one key. Reads work on the current array of the values without copying it, or on a snapshot once
+     * the values are promoted to a store.
+     */
+    private static final class ConcurrentValueSet<V> extends AbstractMutableSet<V>
+    {
+        private final ConcurrentValues<V> values = new ConcurrentValues<>(true);
+
+        private UnifiedSet<V> snapshot()
+        {
+            return UnifiedSet.newSetWith((V[]) this.values.toArray());
+        }
+
+        @Override
+        public boolean add(V value)
+        {
+            int result = this.values.add(value);
+            if (result == ConcurrentValues.RETIRED)
+            {
+                throw new IllegalStateException("Cannot add to the values of a key which has been removed");
+            }
+            return result == ConcurrentValues.ADDED;
+        }
+
+        @Override
+        public boolean remove(Object value)
+        {
+            return this.values.remove(value) > 0;
+        }
+
+        @Override
+        public void clear()
+        {
+            this.values.clear();
+        }
+
+        @Override
+        public int size()
+        {
+            return this.values.size();
+        }
+
+        @Override
+        public boolean contains(Object value)
+        {
+            return this.values.contains(value);
+        }
+
+        @Override
+        public V getFirst()
+        {
+            Object[] items = this.values.items();
+            return items.length == 0 ? null : (V) items[0];
+        }
+
+        @Override
+        public V getLast()
+        {
+            Object[] items = this.values.items();
+            return items.length == 0 ? null : (V) items[items.length - 1];
+        }
+
+        @Override
+        public Iterator<V> iterator()
+        {
+            return FastList.newListWith((V[]) this.values.items()).asUnmodifiable().iterator();
+        }
+
+        @Override
+        public void each(Procedure<? super V> procedure)
+        {
+            ArrayIterate.forEach((V[]) this.values.items(), procedure);
+        }
+
+        @Override
+        public Object[] toArray()
+        {
+            return this.values.toArray();
+        }
+
+        @Override
+        public boolean equals(Object that)
+        {
+            if (this == that)
+            {
+                return true;
+            }
+            if (!(that instanceof Set))
+            {
+                return false;
+            }
+            Set<?> other = (Set<?>) that;
+            Object[] items = this.values.items();
+            return items.length == other.size() && ArrayIterate.allSatisfy(items, other::contains);
+        }
+
+        @Override
+        public int hashCode()
+        {
+            int hashCode = 0;
+            for (Object each : this.values.items())
+            {
+                hashCode += each == null ? 0 : each.hashCode();
+            }
+            return hashCode;
+        }
+
+        @Override
+        public MutableSet<V> clone()
+        {
+            return this.snapshot();
+        }
+
+        @Override
+        public ImmutableSet<V> toImmutable()
+        {
+            return this.snapshot().toImmutable();
+        }
+
+        @Override
+        public ParallelUnsortedSetIterable<V> asParallel(ExecutorService executorService, int batchSize)
+        {
+            return this.snapshot().asParallel(executorService, batchSize);
+        }
+    }
+}
@@ -0,0 +1,155 @@
+/*
+ * Copyright (c) 2024 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.parallel;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.collections.api.annotation.Beta;
+import org.eclipse.collections.api.block.procedure.Procedure;
+
+/**
+ * The settings of {@link ParallelIterate#forEachAdaptive(Iterable, Procedure, AdaptiveBatchSize, Executor)}, which
+ * chooses its batch size from the measured cost of the procedure instead of a fixed guess.
+ * <p>
+ * The first elements are run on the calling thread, in runs which double in length until they have taken the target
+ * task duration or reached the share of one task. The remaining elements are then split into batches which are
+ * expected to take the target task duration each, so cheap procedures get large batches and expensive ones get small
+ * batches. The chosen size is lowered where needed so that every task gets at least one batch, and is then clamped to
+ * the configured range. The tasks take batches from a shared counter, so a task which runs into slow elements simply
+ * takes fewer batches.
+ * <p>
+ * Instances are immutable, and the {@code with} methods return modified copies.
+ *
+ * @since 14.0
+ */
+@Beta
+public final class AdaptiveBatchSize
+{
+    private static final long DEFAULT_TARGET_TASK_NANOS = TimeUnit.MILLISECONDS.toNanos(1L);
+
+    private static final AdaptiveBatchSize DEFAULT = new AdaptiveBatchSize(
+            DEFAULT_TARGET_TASK_NANOS,
+            1,
+            Integer.MAX_VALUE,
+            ParallelIterate.getDefaultTaskCount(),
+            null);
+
+    private final long targetTaskNanos;
+    private final int minBatchSize;
+    private final int maxBatchSize;
+    private final int taskCount;
+    private final BatchSizeListener listener;
+
+    private AdaptiveBatchSize(long targetTaskNanos, int minBatchSize, int maxBatchSize, int taskCount, BatchSizeListener listener)
+    {
+        this.targetTaskNanos = targetTaskNanos;
+        this.minBatchSize = minBatchSize;
+        this.maxBatchSize = maxBatchSize;
+        this.taskCount = taskCount;
+        this.listener = listener;
+    }
+
+    /**
+     * Returns the default settings: a target task duration of one millisecond, no limits on the batch size, and
+     * {@link ParallelIterate#getDefaultTaskCount()} tasks.
+     */
+    public static AdaptiveBatchSize defaultBatchSize()
+    {
+        return DEFAULT;
+    }
+
+    public AdaptiveBatchSize withTargetTaskDuration(long duration, TimeUnit unit)
+    {
+        long targetTaskNanos = unit.toNanos(duration);
+        if (targetTaskNanos <= 0L)
+        {
+            throw new IllegalArgumentException("Target task duration must be positive: " + duration + ' ' + unit);
+        }
+        return new AdaptiveBatchSize(targetTaskNanos, this.minBatchSize, this.maxBatchSize, this.taskCount, this.listener);
+    }
+
+    public AdaptiveBatchSize withBatchSizeRange(int minBatchSize, int maxBatchSize)
+    {
+        if (minBatchSize < 1 || maxBatchSize < minBatchSize)
+        {
+            throw new IllegalArgumentException("Invalid batch size range: [" + minBatchSize + ", " + maxBatchSize + ']');
+        }
+        return new AdaptiveBatchSize(this.targetTaskNanos, minBatchSize, maxBatchSize, this.taskCount, this.listener);
+    }
+
+    public AdaptiveBatchSize withTaskCount(int taskCount)
+    {
+        if (taskCount < 1)
+        {
+            throw new IllegalArgumentException("Task count must be positive: " + taskCount);
+        }
+        return new AdaptiveBatchSize(this.targetTaskNanos, this.minBatchSize, this.maxBatchSize, taskCount, this.listener);
+    }
+
+    public AdaptiveBatchSize withListener(BatchSizeListener listener)
+    {
+        return new AdaptiveBatchSize(this.targetTaskNanos, this.minBatchSize, this.maxBatchSize, this.taskCount, listener);
+    }
+
+    public long getTargetTaskNanos()
+    {
+        return this.targetTaskNanos;
+    }
+
+    public int getMinBatchSize()
+    {
+        return this.minBatchSize;
+    }
+
+    public int getMaxBatchSize()
+    {
+        return this.maxBatchSize;
+    }
+
+    public int getTaskCount()
+    {
+        return this.taskCount;
+    }
+
+    /**
+     * Returns the size of the batches for the {@code remaining} elements, given that the first {@code sampleSize}
+     * elements took {@code sampleNanos}.
+     */
+    public int batchSizeFor(int remaining, int sampleSize, long sampleNanos)
+    {
+        double nanosPerElement = Math.max(1L, sampleNanos) / (double) Math.max(1, sampleSize);
+        long batchSize = (long) (this.targetTaskNanos / nanosPerElement);
+        long batchSizeForEveryTask = ((long) remaining + this.taskCount - 1L) / this.taskCount;
+        batchSize = Math.min(batchSize, batchSizeForEveryTask);
+        batchSize = Math.max(this.minBatchSize, Math.min(this.maxBatchSize, batchSize));
+        return (int) Math.max(1L, Math.min(batchSize, remaining));
+    }
+
+    void batchSizeChosen(int size, int sampleSize, long sampleNanos, int batchSize, int taskCount)
+    {
+        if (this.listener != null)
+        {
+            this.listener.batchSizeChosen(size, sampleSize, sampleNanos, batchSize, taskCount);
+        }
+    }
+
+    @Override
+    public String toString()
+    {
+        return "AdaptiveBatchSize{"
+                + "targetTaskNanos=" + this.targetTaskNanos
+                + ", minBatchSize=" + this.minBatchSize
+                + ", maxBatchSize=" + this.maxBatchSize
+                + ", taskCount=" + this.taskCount
+                + '}';
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2024 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.parallel;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.eclipse.collections.api.block.procedure.Procedure;
+import org.eclipse.collections.impl.utility.ListIterate;
+
+/**
+ * Runs a procedure over a random access list with the batch size chosen by an {@link AdaptiveBatchSize}. The calling
+ * thread measures the procedure on the first elements and then works through batches alongside the tasks it submits.
+ */
+final class AdaptiveProcedureRunner<T>
+{
+    private final List<T> list;
+    private final Procedure<? super T> procedure;
+    private final AdaptiveBatchSize adaptiveBatchSize;
+    private final AtomicLong nextIndex = new AtomicLong();
+    private final AtomicReference<Throwable> error = new AtomicReference<>();
+    private int batchSize;
+
+    AdaptiveProcedureRunner(List<T> list, Procedure<? super T> procedure, AdaptiveBatchSize adaptiveBatchSize)
+    {
+        this.list = list;
+        this.procedure = procedure;
+        this.adaptiveBatchSize = adaptiveBatchSize;
+    }
+
+    void execute(Executor executor)
+    {
+        int size = this.list.size();
+        int sampleLimit = Math.max(1, size / this.adaptiveBatchSize.getTaskCount());
+        long targetTaskNanos = this.adaptiveBatchSize.getTargetTaskNanos();
+
+        int sampleSize = 0;
+        long sampleNanos = 0L;
+        long start = System.nanoTime();
+        for (int run = 1; sampleSize < sampleLimit && sampleNanos < targetTaskNanos; run <<= 1)
+        {
+            int end = (int) Math.min(sampleLimit, (long) sampleSize + run);
+            this.forEach(sampleSize, end);
+            sampleSize = end;
+            sampleNanos = System.nanoTime() - start;
+        }
+
+        int remaining = size - sampleSize;
+        if (remaining == 0)
+        {
+            this.adaptiveBatchSize.batchSizeChosen(size, sampleSize, sampleNanos, 0, 0);
+            return;
+        }
+        this.batchSize = this.adaptiveBatchSize.batchSizeFor(remaining, sampleSize, sampleNanos);
+        int batchCount = (int) (((long) remaining + this.batchSize - 1L) / this.batchSize);
+        int taskCount = Math.min(this.adaptiveBatchSize.getTaskCount(), batchCount);
+        this.adaptiveBatchSize.batchSizeChosen(size, sampleSize, sampleNanos, this.batchSize, taskCount);
+
+        this.nextIndex.set(sampleSize);
+        CountDownLatch latch = new CountDownLatch(taskCount - 1);
+        for (int i = 1; i < taskCount; i++)
+        {
+            executor.execute(() -> {
+                try
+                {
+                    this.runBatches();
+                }
+                finally
+                {
+                    latch.countDown();
+                }
+            });
+        }
+        this.runBatches();
+        try
+        {
+            latch.await();
+        }
+        catch (InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Combine failed", e);
+        }
+        if (this.error.get() != null)
+        {
+            throw new RuntimeException("One or more parallel tasks failed", this.error.get());
+        }
+    }
+
+    private void runBatches()
+    {
+        try
+        {
+            int size = this.list.size();
+            for (long start = this.nextIndex.getAndAdd(this.batchSize); start < size; start = this.nextIndex.getAndAdd(this.batchSize))
+            {
+                this.forEach((int) start, (int) Math.min(size, start + this.batchSize));
+            }
+        }
+        catch (Throwable newError)
+        {
+            this.error.compareAndSet(null, newError);
+            // the other tasks stop at their next batch
+            this.nextIndex.set(this.list.size());
+        }
+    }
+
+    private void forEach(int from, int to)
+    {
+        if (from < to)
+        {
+            ListIterate.forEach(this.list, from, to - 1, this.procedure);
+        }
+    }
+}
@@ -0,0 +1,35 @@
+/*
+ * Copyright (c) 2024 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.parallel;
+
+import org.eclipse.collections.api.annotation.Beta;
+
+/**
+ * Receives the batch size which {@link AdaptiveBatchSize} chose for one parallel iteration, for example to record it as
+ * a metric. It is called once per iteration on the calling thread, before the batches are submitted.
+ *
+ * @see AdaptiveBatchSize#withListener(BatchSizeListener)
+ * @since 14.0
+ */
+@Beta
+@FunctionalInterface
+public interface BatchSizeListener
+{
+    /**
+     * @param size        the number of elements in the iterable
+     * @param sampleSize  the number of elements which were run on the calling thread to measure the procedure
+     * @param sampleNanos the time which the sample took
+     * @param batchSize   the size chosen for the remaining batches, or zero if the sample covered every element
+     * @param taskCount   the number of tasks which run the remaining batches, or zero if the sample covered every
+     *                    element
+     */
+    void batchSizeChosen(int size, int sampleSize, long sampleNanos, int batchSize, int taskCount);
+}
@@ -0,0 +1,200 @@
+/*
+ * Copyright (c) 2024 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.parallel;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.collections.api.annotation.Beta;
+
+/**
+ * An ExecutorService for blocking procedures, which lets at most {@code maxConcurrency} tasks run at the same time.
+ * The submitting thread is never blocked or made to run the task itself.
+ * <p>
+ * When the runtime supports virtual threads, every task starts on a new virtual thread and waits there for a permit,
+ * so waiting tasks and tasks blocked on I/O only cost a small heap allocation. Procedures which block should avoid doing
+ * so while holding a monitor, as that pins the virtual thread to its carrier. On older runtimes the tasks are queued
+ * for a pool of at most {@code maxConcurrency} daemon platform threads instead, as a platform thread per waiting task
+ * would be far too expensive.
+ *
+ * @see ParallelIterate#newVirtualThreadExecutor(int)
+ * @since 14.0
+ */
+@Beta
+public final class ConcurrencyLimitedExecutorService extends AbstractExecutorService
+{
+    private static final MethodHandle NEW_VIRTUAL_THREAD_PER_TASK_EXECUTOR = ConcurrencyLimitedExecutorService.findVirtualThreadPerTaskExecutor();
+
+    private final ExecutorService delegate;
+    private final Semaphore permits;
+    private final int maxConcurrency;
+
+    private ConcurrencyLimitedExecutorService(ExecutorService delegate, int maxConcurrency)
+    {
+        this.delegate = delegate;
+        this.permits = new Semaphore(ConcurrencyLimitedExecutorService.checkMaxConcurrency(maxConcurrency));
+        this.maxConcurrency = maxConcurrency;
+    }
+
+    private static int checkMaxConcurrency(int maxConcurrency)
+    {
+        if (maxConcurrency < 1)
+        {
+            throw new IllegalArgumentException("maxConcurrency must be positive: " + maxConcurrency);
+        }
+        return maxConcurrency;
+    }
+
+    /**
+     * Returns a new executor which runs each task on a virtual thread if the runtime supports them, or else on a pool
+     * of at most {@code maxConcurrency} daemon threads named after {@code poolName}, which queues the tasks that
+     * cannot start yet. The pool threads stop after a minute without work.
+     */
+    public static ConcurrencyLimitedExecutorService newExecutor(int maxConcurrency, String poolName)
+    {
+        ConcurrencyLimitedExecutorService.checkMaxConcurrency(maxConcurrency);
+        if (ConcurrencyLimitedExecutorService.isVirtualThreadSupported())
+        {
+            return new ConcurrencyLimitedExecutorService(ConcurrencyLimitedExecutorService.newVirtualThreadPerTaskExecutor(), maxConcurrency);
+        }
+        ThreadPoolExecutor pool = new ThreadPoolExecutor(
+                maxConcurrency,
+                maxConcurrency,
+                60L,
+                TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(),
+                new CollectionsThreadFactory(poolName, true));
+        pool.allowCoreThreadTimeOut(true);
+        // the pool never runs more tasks than there are permits, so no task waits for one on a pool thread
+        return new ConcurrencyLimitedExecutorService(pool, maxConcurrency);
+    }
+
+    /**
+     * Returns a new executor which limits the concurrency of the tasks it passes on to {@code delegate}. Every task is
+     * passed on at once and waits for a permit on the thread the delegate runs it on, so the delegate should either
+     * use virtual threads or run at most {@code maxConcurrency} tasks at a time. A delegate which starts a new
+     * platform thread per task, such as a cached thread pool, keeps a blocked thread for every waiting task.
+     */
+    public static ConcurrencyLimitedExecutorService wrap(ExecutorService delegate, int maxConcurrency)
+    {
+        return new ConcurrencyLimitedExecutorService(delegate, maxConcurrency);
+    }
+
+    public static boolean isVirtualThreadSupported()
+    {
+        return NEW_VIRTUAL_THREAD_PER_TASK_EXECUTOR != null;
+    }
+
+    private static MethodHandle findVirtualThreadPerTaskExecutor()
+    {
+        try
+        {
+            return MethodHandles.publicLookup().findStatic(
+                    Executors.class,
+                    "newVirtualThreadPerTaskExecutor",
+                    MethodType.methodType(ExecutorService.class));
+        }
+        catch (NoSuchMethodException | IllegalAccessException ignored)
+        {
+            return null;
+        }
+    }
+
+    private static ExecutorService newVirtualThreadPerTaskExecutor()
+    {
+        try
+        {
+            return (ExecutorService) NEW_VIRTUAL_THREAD_PER_TASK_EXECUTOR.invokeExact();
+        }
+        catch (RuntimeException | Error e)
+        {
+            throw e;
+        }
+        catch (Throwable e)
+        {
+            throw new RuntimeException(e);
+        }
+    }
+
+    public int getMaxConcurrency()
+    {
+        return this.maxConcurrency;
+    }
+
+    /**
+     * Returns the number of tasks which could start running right now without waiting for a permit.
+     */
+    public int availablePermits()
+    {
+        return this.permits.availablePermits();
+    }
+
+    @Override
+    public void execute(Runnable command)
+    {
+        if (command == null)
+        {
+            throw new NullPointerException();
+        }
+        this.delegate.execute(() ->
+        {
+            // waiting ignores interrupts because the task must still run, or callers waiting on a latch would hang
+            this.permits.acquireUninterruptibly();
+            try
+            {
+                command.run();
+            }
+            finally
+            {
+                this.permits.release();
+            }
+        });
+    }
+
+    @Override
+    public void shutdown()
+    {
+        this.delegate.shutdown();
+    }
+
+    @Override
+    public List<Runnable> shutdownNow()
+    {
+        return this.delegate.shutdownNow();
+    }
+
+    @Override
+    public boolean isShutdown()
+    {
+        return this.delegate.isShutdown();
+    }
+
+    @Override
+    public boolean isTerminated()
+    {
+        return this.delegate.isTerminated();
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException
+    {
+        return this.delegate.awaitTermination(timeout, unit);
+    }
+}
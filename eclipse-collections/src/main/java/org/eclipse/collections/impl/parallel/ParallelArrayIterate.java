@@ -10,9 +10,15 @@
 
 package org.eclipse.collections.impl.parallel;
 
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicReference;
 
 import org.eclipse.collections.api.block.procedure.Procedure;
+import org.eclipse.collections.api.block.procedure.primitive.IntProcedure;
+import org.eclipse.collections.impl.block.factory.Comparators;
 import org.eclipse.collections.impl.utility.ArrayIterate;
 
 import static org.eclipse.collections.impl.factory.Iterables.iList;
@@ -24,6 +30,8 @@ import static org.eclipse.collections.impl.factory.Iterables.iList;
  */
 public final class ParallelArrayIterate
 {
+    private static final int MIN_SORT_CHUNK_SIZE = 8_192;
+
     private ParallelArrayIterate()
     {
         throw new AssertionError("Suppress default constructor for noninstantiability");
@@ -73,6 +81,138 @@ public final class ParallelArrayIterate
         }
     }
 
+    /**
+     * Sorts the elements of {@code array} from {@code fromIndex}, inclusive, to {@code toIndex}, exclusive, using tasks
+     * on {@code executor}. The range is split into chunks which are sorted by separate tasks, and then neighbouring
+     * chunks are merged in rounds, each round in parallel, until one sorted run is left. Like
+     * {@link Arrays#sort(Object[], int, int, Comparator)} the sort is stable, and a null comparator sorts into the
+     * natural order of the elements.
+     *
+     * @since 14.0
+     */
+    public static <T> void sort(T[] array, int fromIndex, int toIndex, Comparator<? super T> comparator, Executor executor)
+    {
+        int size = toIndex - fromIndex;
+        int chunkCount = Math.min(ParallelIterate.getDefaultTaskCount(), size / MIN_SORT_CHUNK_SIZE);
+        if (chunkCount < 2)
+        {
+            Arrays.sort(array, fromIndex, toIndex, comparator);
+            return;
+        }
+        Comparator<? super T> nonNullComparator = comparator == null ? Comparators.naturalOrder() : comparator;
+
+        int[] runStarts = new int[chunkCount + 1];
+        for (int i = 0; i <= chunkCount; i++)
+        {
+            runStarts[i] = fromIndex + (int) ((long) size * i / chunkCount);
+        }
+        int[] chunkStarts = runStarts;
+        ParallelArrayIterate.runAll(chunkCount, executor, chunk ->
+                Arrays.sort(array, chunkStarts[chunk], chunkStarts[chunk + 1], nonNullComparator));
+
+        T[] source = array;
+        T[] target = Arrays.copyOf(array, array.length);
+        int runCount = chunkCount;
+        while (runCount > 1)
+        {
+            T[] mergeSource = source;
+            T[] mergeTarget = target;
+            int[] starts = runStarts;
+            int mergedRunCount = (runCount + 1) / 2;
+            ParallelArrayIterate.runAll(mergedRunCount, executor, pair -> {
+                int leftStart = starts[2 * pair];
+                int rightStart = starts[Math.min(2 * pair + 1, starts.length - 1)];
+                int rightEnd = starts[Math.min(2 * pair + 2, starts.length - 1)];
+                ParallelArrayIterate.merge(mergeSource, leftStart, rightStart, rightEnd, mergeTarget, nonNullComparator);
+            });
+            int[] mergedRunStarts = new int[mergedRunCount + 1];
+            for (int i = 0; i < mergedRunCount; i++)
+            {
+                mergedRunStarts[i] = runStarts[2 * i];
+            }
+            mergedRunStarts[mergedRunCount] = toIndex;
+            runStarts = mergedRunStarts;
+            runCount = mergedRunCount;
+            source = mergeTarget;
+            target = mergeSource;
+        }
+        if (source != array)
+        {
+            System.arraycopy(source, fromIndex, array, fromIndex, size);
+        }
+    }
+
+    /**
+     * Merges the sorted runs of {@code source} from {@code leftStart} to {@code rightStart} and from
+     * {@code rightStart} to {@code rightEnd} into the same range of {@code target}. Equal elements are taken from the
+     * left run first, which keeps the sort stable.
+     */
+    private static <T> void merge(T[] source, int leftStart, int rightStart, int rightEnd, T[] target, Comparator<? super T> comparator)
+    {
+        int left = leftStart;
+        int right = rightStart;
+        for (int i = leftStart; i < rightEnd; i++)
+        {
+            if (right >= rightEnd || left < rightStart && comparator.compare(source[left], source[right]) <= 0)
+            {
+                target[i] = source[left++];
+            }
+            else
+            {
+                target[i] = source[right++];
+            }
+        }
+    }
+
+    /**
+     * Runs {@code procedure} for every index below {@code count}, the first on the calling thread and the others on
+     * {@code executor}, and waits for all of them.
+     */
+    private static void runAll(int count, Executor executor, IntProcedure procedure)
+    {
+        AtomicReference<Throwable> error = new AtomicReference<>();
+        CountDownLatch latch = new CountDownLatch(count - 1);
+        for (int i = 1; i < count; i++)
+        {
+            int index = i;
+            executor.execute(() -> {
+                try
+                {
+                    procedure.value(index);
+                }
+                catch (Throwable newError)
+                {
+                    error.compareAndSet(null, newError);
+                }
+                finally
+                {
+                    latch.countDown();
+                }
+            });
+        }
+        try
+        {
+            procedure.value(0);
+        }
+        catch (Throwable newError)
+        {
+            error.compareAndSet(null, newError);
+        }
+        try
+        {
+            latch.await();
+        }
+        catch (InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Combine failed", e);
+        }
+        if (error.get() != null)
+        {
+            throw new RuntimeException("One or more parallel tasks failed", error.get());
+        }
+    }
+
     private static <T, BT extends Procedure<? super T>> void combineSingleProcedure(Combiner<BT> combiner, BT procedure)
     {
         if (combiner.useCombineOne())
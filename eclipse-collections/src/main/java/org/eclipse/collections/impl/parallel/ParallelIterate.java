@@ -50,7 +50,7 @@ import org.eclipse.collections.impl.block.procedure.MutatingAggregationProcedure
 import org.eclipse.collections.impl.block.procedure.NonMutatingAggregationProcedure;
 import org.eclipse.collections.impl.list.fixed.ArrayAdapter;
 import org.eclipse.collections.impl.map.mutable.ConcurrentHashMap;
-import org.eclipse.collections.impl.multimap.list.SynchronizedPutFastListMultimap;
+import org.eclipse.collections.impl.multimap.list.ConcurrentFastListMultimap;
 import org.eclipse.collections.impl.tuple.primitive.PrimitiveTuples;
 import org.eclipse.collections.impl.utility.Iterate;
 
@@ -927,7 +927,7 @@ public final class ParallelIterate
 
     /**
      * Same effect as {@link Iterate#groupBy(Iterable, Function)},
-     * but executed in parallel batches, and writing output into a SynchronizedPutFastListMultimap.
+     * but executed in parallel batches, and writing output into a ConcurrentFastListMultimap.
      */
     public static <K, V> MutableMultimap<K, V> groupBy(
             Iterable<V> iterable,
@@ -1169,7 +1169,7 @@ public final class ParallelIterate
 
     /**
      * Same effect as {@link Iterate#groupBy(Iterable, Function)},
-     * but executed in parallel batches, and writing output into a SynchronizedPutFastListMultimap.
+     * but executed in parallel batches, and writing output into a ConcurrentFastListMultimap.
      */
     public static <K, V> MutableMultimap<K, V> groupBy(
             Iterable<V> iterable,
@@ -1181,7 +1181,7 @@ public final class ParallelIterate
 
     /**
      * Same effect as {@link Iterate#groupBy(Iterable, Function)},
-     * but executed in parallel batches, and writing output into a SynchronizedPutFastListMultimap.
+     * but executed in parallel batches, and writing output into a ConcurrentFastListMultimap.
      */
     public static <K, V> MutableMultimap<K, V> groupBy(
             Iterable<V> iterable,
@@ -1189,7 +1189,7 @@ public final class ParallelIterate
             int batchSize,
             Executor executor)
     {
-        return ParallelIterate.groupBy(iterable, function, SynchronizedPutFastListMultimap.newMultimap(), batchSize, executor);
+        return ParallelIterate.groupBy(iterable, function, ConcurrentFastListMultimap.newMultimap(), batchSize, executor);
     }
 
     /**
@@ -1308,6 +1308,130 @@ public final class ParallelIterate
         return result;
     }
 
+    /**
+     * Same effect as {@link #forEach(Iterable, Procedure)}, but the batch size is chosen from the measured cost of the
+     * procedure instead of {@code DEFAULT_MIN_FORK_SIZE}, using the default {@link AdaptiveBatchSize}. Small or cheap
+     * iterations are run entirely on the calling thread.
+     *
+     * @since 14.0
+     */
+    public static <T> void forEachAdaptive(Iterable<T> iterable, Procedure<? super T> procedure)
+    {
+        ParallelIterate.forEachAdaptive(iterable, procedure, AdaptiveBatchSize.defaultBatchSize(), ParallelIterate.EXECUTOR_SERVICE);
+    }
+
+    /**
+     * Same effect as {@link #forEach(Iterable, Procedure, int, Executor)}, but the batch size is chosen by
+     * {@code adaptiveBatchSize} from the measured cost of the procedure. The first elements are run on the calling
+     * thread, which then works through the remaining batches alongside the tasks on the executor.
+     *
+     * @see AdaptiveBatchSize
+     * @since 14.0
+     */
+    public static <T> void forEachAdaptive(
+            Iterable<T> iterable,
+            Procedure<? super T> procedure,
+            AdaptiveBatchSize adaptiveBatchSize,
+            Executor executor)
+    {
+        if (Iterate.notEmpty(iterable))
+        {
+            List<T> list = iterable instanceof RandomAccess && iterable instanceof List
+                    ? (List<T>) iterable
+                    : ArrayAdapter.adapt((T[]) Iterate.toArray(iterable));
+            new AdaptiveProcedureRunner<>(list, procedure, adaptiveBatchSize).execute(executor);
+        }
+    }
+
+    /**
+     * Same effect as {@link #forEach(Iterable, Procedure)}, but intended for procedures which spend most of their time
+     * blocked, such as per element I/O. At most {@link #getDefaultMaxBlockingConcurrency()} batches run at once, on
+     * virtual threads where the runtime supports them and on a dedicated pool of that many platform threads otherwise,
+     * so the throughput is not capped by the size of the default pool.
+     *
+     * @see #newVirtualThreadExecutor(int)
+     * @since 14.0
+     */
+    public static <T> void forEachBlocking(Iterable<T> iterable, Procedure<? super T> procedure)
+    {
+        ParallelIterate.forEach(
+                iterable,
+                procedure,
+                ParallelIterate.calculateBlockingBatchSize(iterable),
+                BlockingExecutorHolder.EXECUTOR_SERVICE);
+    }
+
+    /**
+     * Same effect as {@link #collect(Iterable, Function)}, but intended for functions which spend most of their time
+     * blocked. The order of the result matches the order of the input.
+     *
+     * @see #forEachBlocking(Iterable, Procedure)
+     * @since 14.0
+     */
+    public static <T, V> Collection<V> collectBlocking(Iterable<T> iterable, Function<? super T, V> function)
+    {
+        return ParallelIterate.collect(
+                iterable,
+                function,
+                null,
+                ParallelIterate.calculateBlockingBatchSize(iterable),
+                BlockingExecutorHolder.EXECUTOR_SERVICE,
+                false);
+    }
+
+    /**
+     * Same effect as {@link #aggregateBy(Iterable, Function, Function0, Function2)}, but intended for functions which
+     * spend most of their time blocked.
+     *
+     * @see #forEachBlocking(Iterable, Procedure)
+     * @since 14.0
+     */
+    public static <T, K, V> MutableMap<K, V> aggregateByBlocking(
+            Iterable<T> iterable,
+            Function<? super T, ? extends K> groupBy,
+            Function0<? extends V> zeroValueFactory,
+            Function2<? super V, ? super T, ? extends V> nonMutatingAggregator)
+    {
+        return ParallelIterate.aggregateBy(
+                iterable,
+                groupBy,
+                zeroValueFactory,
+                nonMutatingAggregator,
+                ParallelIterate.calculateBlockingBatchSize(iterable),
+                BlockingExecutorHolder.EXECUTOR_SERVICE);
+    }
+
+    private static <T> int calculateBlockingBatchSize(Iterable<T> iterable)
+    {
+        int taskCount = ParallelIterate.getDefaultMaxBlockingConcurrency() * ParallelIterate.getTaskRatio();
+        return Math.max(1, Iterate.sizeOf(iterable) / taskCount);
+    }
+
+    /**
+     * Returns a brand new ExecutorService for procedures which block, which runs every task on a new virtual thread
+     * while letting at most {@code maxConcurrency} of them run at the same time. On runtimes without virtual threads,
+     * such as Java 17, the tasks are queued for a pool of at most {@code maxConcurrency} daemon platform threads
+     * instead, which stop after a minute without work. The result can be passed to any method which takes an
+     * Executor, or to {@code asParallel} to run a ParallelIterable the same way.
+     *
+     * @see ConcurrencyLimitedExecutorService
+     * @since 14.0
+     */
+    public static ExecutorService newVirtualThreadExecutor(int maxConcurrency)
+    {
+        return ConcurrencyLimitedExecutorService.newExecutor(maxConcurrency, ParallelIterate.class.getSimpleName() + "Blocking");
+    }
+
+    /**
+     * The number of blocking batches which the {@code *Blocking} methods let run at the same time.
+     *
+     * @since 14.0
+     */
+    public static int getDefaultMaxBlockingConcurrency()
+    {
+        return 256;
+    }
+
     /**
      * Returns a brand new ExecutorService using the specified poolName with the specified maximum thread pool size. The
      * same poolName may be used more than once resulting in multiple pools with the same name.
@@ -1352,6 +1476,16 @@ public final class ParallelIterate
         return TASK_RATIO;
     }
 
+    private static final class BlockingExecutorHolder
+    {
+        private static final ExecutorService EXECUTOR_SERVICE = ParallelIterate.newVirtualThreadExecutor(ParallelIterate.getDefaultMaxBlockingConcurrency());
+
+        private BlockingExecutorHolder()
+        {
+            throw new AssertionError("Suppress default constructor for noninstantiability");
+        }
+    }
+
     private static final class SumByDoubleProcedure<T, V> implements Procedure<T>, ProcedureFactory<SumByDoubleProcedure<T, V>>
     {
         private final MutableMap<V, DoubleDoublePair> map = Maps.mutable.of();
@@ -0,0 +1,227 @@
+/*
+ * Copyright (c) 2024 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.set.immutable;
+
+import java.io.Serializable;
+import java.util.Iterator;
+import java.util.Set;
+
+import org.eclipse.collections.api.block.procedure.Procedure;
+import org.eclipse.collections.impl.map.immutable.ImmutableChampMap;
+
+/**
+ * An ImmutableChampSet is a persistent ImmutableSet: {@link #newWith(Object)} and {@link #newWithout(Object)} take
+ * O(log n) time and share all but the changed path with the set they were made from. It keeps its elements as the
+ * keys of an {@link ImmutableChampMap}, the way a HashSet keeps them in a HashMap.
+ *
+ * @since 14.0
+ */
+public final class ImmutableChampSet<T>
+        extends AbstractImmutableSet<T>
+        implements Serializable
+{
+    private static final long serialVersionUID = 1L;
+
+    private static final Object PRESENT = Boolean.TRUE;
+    private static final ImmutableChampSet<?> EMPTY = new ImmutableChampSet<>(ImmutableChampMap.empty());
+
+    private final ImmutableChampMap<T, Object> map;
+
+    private ImmutableChampSet(ImmutableChampMap<T, Object> map)
+    {
+        this.map = map;
+    }
+
+    public static <T> ImmutableChampSet<T> empty()
+    {
+        return (ImmutableChampSet<T>) EMPTY;
+    }
+
+    public static <T> ImmutableChampSet<T> newSet(Iterable<? extends T> iterable)
+    {
+        if (iterable instanceof ImmutableChampSet<?>)
+        {
+            return (ImmutableChampSet<T>) iterable;
+        }
+        return ImmutableChampSet.<T>newBuilder().addAll(iterable).build();
+    }
+
+    public static <T> ImmutableChampSet<T> newSetWith(T... elements)
+    {
+        Builder<T> builder = ImmutableChampSet.newBuilder();
+        for (T element : elements)
+        {
+            builder.add(element);
+        }
+        return builder.build();
+    }
+
+    public static <T> Builder<T> newBuilder()
+    {
+        return new Builder<>(ImmutableChampMap.newBuilder());
+    }
+
+    /**
+     * Returns a builder which starts with the elements of this set.
+     */
+    public Builder<T> toBuilder()
+    {
+        return new Builder<>(this.map.toBuilder());
+    }
+
+    private ImmutableChampSet<T> with(ImmutableChampMap<T, Object> newMap)
+    {
+        if (newMap == this.map)
+        {
+            return this;
+        }
+        return newMap.isEmpty() ? ImmutableChampSet.empty() : new ImmutableChampSet<>(newMap);
+    }
+
+    @Override
+    public int size()
+    {
+        return this.map.size();
+    }
+
+    @Override
+    public boolean contains(Object object)
+    {
+        return this.map.containsKey(object);
+    }
+
+    @Override
+    public ImmutableChampSet<T> newWith(T element)
+    {
+        return this.with(this.map.newWithKeyValue(element, PRESENT));
+    }
+
+    @Override
+    public ImmutableChampSet<T> newWithout(T element)
+    {
+        return this.with(this.map.newWithoutKey(element));
+    }
+
+    @Override
+    public ImmutableChampSet<T> newWithAll(Iterable<? extends T> elements)
+    {
+        return this.toBuilder().addAll(elements).build();
+    }
+
+    @Override
+    public ImmutableChampSet<T> newWithoutAll(Iterable<? extends T> elements)
+    {
+        return this.with(this.map.newWithoutAllKeys(elements));
+    }
+
+    @Override
+    public Iterator<T> iterator()
+    {
+        return this.map.keySet().iterator();
+    }
+
+    @Override
+    public void each(Procedure<? super T> procedure)
+    {
+        this.map.forEachKey(procedure);
+    }
+
+    @Override
+    public T getFirst()
+    {
+        return this.isEmpty() ? null : this.iterator().next();
+    }
+
+    @Override
+    public T getLast()
+    {
+        T last = null;
+        for (T each : this)
+        {
+            last = each;
+        }
+        return last;
+    }
+
+    @Override
+    public boolean equals(Object other)
+    {
+        if (other == this)
+        {
+            return true;
+        }
+        if (!(other instanceof Set))
+        {
+            return false;
+        }
+        Set<?> set = (Set<?>) other;
+        return set.size() == this.size() && this.allSatisfy(set::contains);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int[] hashCode = new int[1];
+        this.each(each -> hashCode[0] += this.nullSafeHashCode(each));
+        return hashCode[0];
+    }
+
+    private Object writeReplace()
+    {
+        return new ImmutableChampSetSerializationProxy<>(this);
+    }
+
+    /**
+     * Collects elements for a new ImmutableChampSet, changing the nodes it has copied in place like
+     * {@link ImmutableChampMap.Builder}.
+     */
+    public static final class Builder<T>
+    {
+        private final ImmutableChampMap.Builder<T, Object> map;
+
+        private Builder(ImmutableChampMap.Builder<T, Object> map)
+        {
+            this.map = map;
+        }
+
+        public Builder<T> add(T element)
+        {
+            this.map.put(element, PRESENT);
+            return this;
+        }
+
+        public Builder<T> addAll(Iterable<? extends T> elements)
+        {
+            for (T each : elements)
+            {
+                this.map.put(each, PRESENT);
+            }
+            return this;
+        }
+
+        public Builder<T> remove(T element)
+        {
+            this.map.removeKey(element);
+            return this;
+        }
+
+        public int size()
+        {
+            return this.map.size();
+        }
+
+        public ImmutableChampSet<T> build()
+        {
+            ImmutableChampMap<T, Object> built = this.map.build();
+            return built.isEmpty() ? ImmutableChampSet.empty() : new ImmutableChampSet<>(built);
+        }
+    }
+}
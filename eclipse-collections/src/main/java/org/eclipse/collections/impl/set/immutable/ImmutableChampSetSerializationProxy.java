@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2024 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.set.immutable;
+
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+
+class ImmutableChampSetSerializationProxy<T> implements Externalizable
+{
+    private static final long serialVersionUID = 1L;
+
+    private ImmutableChampSet<T> set;
+
+    @SuppressWarnings("UnusedDeclaration")
+    public ImmutableChampSetSerializationProxy()
+    {
+        // Empty constructor for Externalizable class
+    }
+
+    ImmutableChampSetSerializationProxy(ImmutableChampSet<T> set)
+    {
+        this.set = set;
+    }
+
+    @Override
+    public void writeExternal(ObjectOutput out) throws IOException
+    {
+        out.writeInt(this.set.size());
+        for (T each : this.set)
+        {
+            out.writeObject(each);
+        }
+    }
+
+    @Override
+    public void readExternal(ObjectInput in) throws IOException, ClassNotFoundException
+    {
+        int size = in.readInt();
+        ImmutableChampSet.Builder<T> builder = ImmutableChampSet.newBuilder();
+        for (int i = 0; i < size; i++)
+        {
+            builder.add((T) in.readObject());
+        }
+        this.set = builder.build();
+    }
+
+    protected Object readResolve()
+    {
+        return this.set;
+    }
+}
@@ -0,0 +1,898 @@
+/*
+ * Copyright (c) 2024 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.set.mutable;
+
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+
+import org.eclipse.collections.api.block.procedure.Procedure;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.api.set.MutableSet;
+import org.eclipse.collections.api.set.ParallelUnsortedSetIterable;
+import org.eclipse.collections.impl.StripedCounter;
+import org.eclipse.collections.impl.lazy.parallel.set.NonParallelUnsortedSetIterable;
+import org.eclipse.collections.impl.list.mutable.FastList;
+import org.eclipse.collections.impl.map.mutable.ConcurrentHashMap;
+import org.eclipse.collections.impl.utility.ArrayIterate;
+import org.eclipse.collections.impl.utility.Iterate;
+import org.eclipse.collections.impl.utility.internal.IterableIterate;
+
+/**
+ * A ConcurrentUnifiedSet is a lock-free, thread-safe MutableSet. It uses the same table layout and cooperative resize
+ * protocol as {@link ConcurrentHashMap}, but each chained node holds only the element, so there is no value slot and
+ * no map entry object per element. The size is kept in a {@link StripedCounter}.
+ * <p>
+ * {@link #add(Object)}, {@link #remove(Object)} and {@link #contains(Object)} are linearizable. Iteration,
+ * {@link #size()} and the bulk methods are weakly consistent, as for {@link ConcurrentHashMap}. Null elements are
+ * supported.
+ *
+ * @since 14.0
+ */
+@SuppressWarnings({"rawtypes", "ObjectEquality", "ReferenceEquality"})
+public final class ConcurrentUnifiedSet<T>
+        extends AbstractMutableSet<T>
+        implements Externalizable
+{
+    private static final long serialVersionUID = 1L;
+
+    private static final Object NULL_KEY = new Object();
+    private static final Object RESIZE_SENTINEL = new Object();
+    private static final int DEFAULT_INITIAL_CAPACITY = 16;
+
+    /**
+     * The maximum capacity, used if a higher value is implicitly specified
+     * by either of the constructors with arguments.
+     * MUST be a power of two <= 1<<30.
+     */
+    private static final int MAXIMUM_CAPACITY = 1 << 30;
+
+    private static final AtomicReferenceFieldUpdater<ConcurrentUnifiedSet, AtomicReferenceArray> TABLE_UPDATER = AtomicReferenceFieldUpdater.newUpdater(ConcurrentUnifiedSet.class, AtomicReferenceArray.class, "table");
+    private static final Object RESIZED = new Object();
+    private static final Object RESIZING = new Object();
+
+    /**
+     * The table, resized as necessary. Length MUST Always be a power of two plus one, the last slot being reserved
+     * for the resize container.
+     */
+    private volatile AtomicReferenceArray table;
+
+    private final StripedCounter size;
+
+    public ConcurrentUnifiedSet()
+    {
+        this(DEFAULT_INITIAL_CAPACITY);
+    }
+
+    public ConcurrentUnifiedSet(int initialCapacity)
+    {
+        if (initialCapacity < 0)
+        {
+            throw new IllegalArgumentException("Illegal Initial Capacity: " + initialCapacity);
+        }
+        this.size = new StripedCounter();
+        this.table = ConcurrentUnifiedSet.allocateTable(initialCapacity);
+    }
+
+    public static <E> ConcurrentUnifiedSet<E> newSet()
+    {
+        return new ConcurrentUnifiedSet<>();
+    }
+
+    public static <E> ConcurrentUnifiedSet<E> newSet(int initialCapacity)
+    {
+        return new ConcurrentUnifiedSet<>(initialCapacity);
+    }
+
+    public static <E> ConcurrentUnifiedSet<E> newSet(Iterable<? extends E> source)
+    {
+        ConcurrentUnifiedSet<E> result = ConcurrentUnifiedSet.newSet(Iterate.sizeOf(source));
+        Iterate.addAllTo(source, result);
+        return result;
+    }
+
+    public static <E> ConcurrentUnifiedSet<E> newSetWith(E... elements)
+    {
+        ConcurrentUnifiedSet<E> result = ConcurrentUnifiedSet.newSet(elements.length);
+        ArrayIterate.addAllTo(elements, result);
+        return result;
+    }
+
+    private static AtomicReferenceArray allocateTable(int initialCapacity)
+    {
+        int threshold = Math.min(initialCapacity, MAXIMUM_CAPACITY);
+        threshold += threshold >> 1; // threshold = length * 0.75
+
+        int capacity = 1;
+        while (capacity < threshold && capacity < MAXIMUM_CAPACITY)
+        {
+            capacity <<= 1;
+        }
+        return new AtomicReferenceArray(capacity + 1);
+    }
+
+    private static Object toSentinelIfNull(Object key)
+    {
+        return key == null ? NULL_KEY : key;
+    }
+
+    private static <T> T nonSentinel(Object key)
+    {
+        return key == NULL_KEY ? null : (T) key;
+    }
+
+    private static int indexFor(int h, int length)
+    {
+        return h & length - 2;
+    }
+
+    private static int hash(Object key)
+    {
+        int h = key.hashCode();
+        h ^= h >>> 20 ^ h >>> 12;
+        h ^= h >>> 7 ^ h >>> 4;
+        return h;
+    }
+
+    @Override
+    public boolean add(T element)
+    {
+        Object key = ConcurrentUnifiedSet.toSentinelIfNull(element);
+        int hash = ConcurrentUnifiedSet.hash(key);
+        AtomicReferenceArray currentArray = this.table;
+        while (true)
+        {
+            int length = currentArray.length();
+            int index = ConcurrentUnifiedSet.indexFor(hash, length);
+            Object o = currentArray.get(index);
+            if (o == RESIZED || o == RESIZING)
+            {
+                currentArray = this.helpWithResizeWhileCurrentIndex(currentArray, index);
+            }
+            else
+            {
+                for (Node e = (Node) o; e != null; e = e.next)
+                {
+                    Object candidate = e.key;
+                    if (candidate == key || e.hash == hash && candidate.equals(key))
+                    {
+                        return false;
+                    }
+                }
+                if (currentArray.compareAndSet(index, o, new Node(key, hash, (Node) o)))
+                {
+                    this.incrementSizeAndPossiblyResize(currentArray, length, o);
+                    return true;
+                }
+            }
+        }
+    }
+
+    private void incrementSizeAndPossiblyResize(AtomicReferenceArray currentArray, int length, Object prev)
+    {
+        this.size.increment();
+        if (prev != null)
+        {
+            int localSize = this.size();
+            int threshold = (length >> 1) + (length >> 2); // threshold = length * 0.75
+            if (localSize + 1 > threshold)
+            {
+                this.resize(currentArray);
+            }
+        }
+    }
+
+    @Override
+    public boolean contains(Object element)
+    {
+        Object key = ConcurrentUnifiedSet.toSentinelIfNull(element);
+        int hash = ConcurrentUnifiedSet.hash(key);
+        AtomicReferenceArray currentArray = this.table;
+        while (true)
+        {
+            int length = currentArray.length();
+            int index = ConcurrentUnifiedSet.indexFor(hash, length);
+            Object o = currentArray.get(index);
+            if (o == RESIZED || o == RESIZING)
+            {
+                currentArray = this.helpWithResizeWhileCurrentIndex(currentArray, index);
+            }
+            else
+            {
+                for (Node e = (Node) o; e != null; e = e.next)
+                {
+                    Object candidate = e.key;
+                    if (candidate == key || e.hash == hash && candidate.equals(key))
+                    {
+                        return true;
+                    }
+                }
+                return false;
+            }
+        }
+    }
+
+    @Override
+    public boolean remove(Object element)
+    {
+        Object key = ConcurrentUnifiedSet.toSentinelIfNull(element);
+        int hash = ConcurrentUnifiedSet.hash(key);
+        AtomicReferenceArray currentArray = this.table;
+        //noinspection LabeledStatement
+        outer:
+        while (true)
+        {
+            int length = currentArray.length();
+            int index = ConcurrentUnifiedSet.indexFor(hash, length);
+            Object o = currentArray.get(index);
+            if (o == RESIZED || o == RESIZING)
+            {
+                currentArray = this.helpWithResizeWhileCurrentIndex(currentArray, index);
+            }
+            else
+            {
+                for (Node e = (Node) o; e != null; e = e.next)
+                {
+                    Object candidate = e.key;
+                    if (candidate == key || e.hash == hash && candidate.equals(key))
+                    {
+                        Node replacement = ConcurrentUnifiedSet.createReplacementChainForRemoval((Node) o, e);
+                        if (currentArray.compareAndSet(index, o, replacement))
+                        {
+                            this.size.decrement();
+                            return true;
+                        }
+                        //noinspection ContinueStatementWithLabel
+                        continue outer;
+                    }
+                }
+                return false;
+            }
+        }
+    }
+
+    private static Node createReplacementChainForRemoval(Node original, Node toRemove)
+    {
+        if (original == toRemove)
+        {
+            return original.next;
+        }
+        Node replacement = null;
+        for (Node e = original; e != null; e = e.next)
+        {
+            if (e != toRemove)
+            {
+                replacement = new Node(e.key, e.hash, replacement);
+            }
+        }
+        return replacement;
+    }
+
+    @Override
+    public int size()
+    {
+        return this.size.intValue();
+    }
+
+    @Override
+    public boolean isEmpty()
+    {
+        return this.size() == 0;
+    }
+
+    @Override
+    public void clear()
+    {
+        AtomicReferenceArray currentArray = this.table;
+        ResizeContainer resizeContainer;
+        do
+        {
+            resizeContainer = null;
+            for (int i = 0; i < currentArray.length() - 1; i++)
+            {
+                Object o = currentArray.get(i);
+                if (o == RESIZED || o == RESIZING)
+                {
+                    resizeContainer = (ResizeContainer) currentArray.get(currentArray.length() - 1);
+                }
+                else if (o != null && currentArray.compareAndSet(i, o, null))
+                {
+                    int removedNodes = 0;
+                    for (Node e = (Node) o; e != null; e = e.next)
+                    {
+                        removedNodes++;
+                    }
+                    this.size.add(-removedNodes);
+                }
+            }
+            if (resizeContainer != null)
+            {
+                if (resizeContainer.isNotDone())
+                {
+                    this.helpWithResize(currentArray);
+                    resizeContainer.waitForAllResizers();
+                }
+                currentArray = resizeContainer.nextArray;
+            }
+        }
+        while (resizeContainer != null);
+    }
+
+    private AtomicReferenceArray helpWithResizeWhileCurrentIndex(AtomicReferenceArray currentArray, int index)
+    {
+        AtomicReferenceArray newArray = this.helpWithResize(currentArray);
+        int helpCount = 0;
+        while (currentArray.get(index) != RESIZED)
+        {
+            helpCount++;
+            newArray = this.helpWithResize(currentArray);
+            if ((helpCount & 7) == 0)
+            {
+                Thread.yield();
+            }
+        }
+        return newArray;
+    }
+
+    private AtomicReferenceArray helpWithResize(AtomicReferenceArray currentArray)
+    {
+        ResizeContainer resizeContainer = (ResizeContainer) currentArray.get(currentArray.length() - 1);
+        AtomicReferenceArray newTable = resizeContainer.nextArray;
+        if (resizeContainer.getQueuePosition() > ResizeContainer.QUEUE_INCREMENT)
+        {
+            resizeContainer.incrementResizer();
+            this.reverseTransfer(currentArray, resizeContainer);
+            resizeContainer.decrementResizerAndNotify();
+        }
+        return newTable;
+    }
+
+    // the new size is a power of 2 + 1, as for ConcurrentHashMap
+    @SuppressWarnings("JLM_JSR166_UTILCONCURRENT_MONITORENTER")
+    private void resize(AtomicReferenceArray oldTable)
+    {
+        int oldCapacity = oldTable.length();
+        int end = oldCapacity - 1;
+        Object last = oldTable.get(end);
+        if (this.size() < end && last == RESIZE_SENTINEL)
+        {
+            return;
+        }
+        if (oldCapacity >= MAXIMUM_CAPACITY)
+        {
+            throw new RuntimeException("index is too large!");
+        }
+        ResizeContainer resizeContainer = null;
+        boolean ownResize = false;
+        if (last == null || last == RESIZE_SENTINEL)
+        {
+            synchronized (oldTable) // allocating a new array is too expensive to make this an atomic operation
+            {
+                if (oldTable.get(end) == null)
+                {
+                    oldTable.set(end, RESIZE_SENTINEL);
+                    resizeContainer = new ResizeContainer(new AtomicReferenceArray((end << 1) + 1), end);
+                    oldTable.set(end, resizeContainer);
+                    ownResize = true;
+                }
+            }
+        }
+        if (ownResize)
+        {
+            this.transfer(oldTable, resizeContainer);
+            AtomicReferenceArray src = this.table;
+            while (!TABLE_UPDATER.compareAndSet(this, oldTable, resizeContainer.nextArray))
+            {
+                // we're in a double resize situation; we'll have to go help until it's our turn to set the table
+                if (src != oldTable)
+                {
+                    this.helpWithResize(src);
+                }
+            }
+        }
+        else
+        {
+            this.helpWithResize(oldTable);
+        }
+    }
+
+    /*
+     * Transfer all nodes from src to dest tables
+     */
+    private void transfer(AtomicReferenceArray src, ResizeContainer resizeContainer)
+    {
+        AtomicReferenceArray dest = resizeContainer.nextArray;
+
+        for (int j = 0; j < src.length() - 1; )
+        {
+            Object o = src.get(j);
+            if (o == null)
+            {
+                if (src.compareAndSet(j, null, RESIZED))
+                {
+                    j++;
+                }
+            }
+            else if (o == RESIZED || o == RESIZING)
+            {
+                j = (j & ~(ResizeContainer.QUEUE_INCREMENT - 1)) + ResizeContainer.QUEUE_INCREMENT;
+                if (resizeContainer.resizers.get() == 1)
+                {
+                    break;
+                }
+            }
+            else if (src.compareAndSet(j, o, RESIZING))
+            {
+                for (Node e = (Node) o; e != null; e = e.next)
+                {
+                    ConcurrentUnifiedSet.unconditionalCopy(dest, e);
+                }
+                src.set(j, RESIZED);
+                j++;
+            }
+        }
+        resizeContainer.decrementResizerAndNotify();
+        resizeContainer.waitForAllResizers();
+    }
+
+    private void reverseTransfer(AtomicReferenceArray src, ResizeContainer resizeContainer)
+    {
+        AtomicReferenceArray dest = resizeContainer.nextArray;
+        while (resizeContainer.getQueuePosition() > 0)
+        {
+            int start = resizeContainer.subtractAndGetQueuePosition();
+            int end = start + ResizeContainer.QUEUE_INCREMENT;
+            if (end > 0)
+            {
+                if (start < 0)
+                {
+                    start = 0;
+                }
+                for (int j = end - 1; j >= start; )
+                {
+                    Object o = src.get(j);
+                    if (o == null)
+                    {
+                        if (src.compareAndSet(j, null, RESIZED))
+                        {
+                            j--;
+                        }
+                    }
+                    else if (o == RESIZED || o == RESIZING)
+                    {
+                        resizeContainer.zeroOutQueuePosition();
+                        return;
+                    }
+                    else if (src.compareAndSet(j, o, RESIZING))
+                    {
+                        for (Node e = (Node) o; e != null; e = e.next)
+                        {
+                            ConcurrentUnifiedSet.unconditionalCopy(dest, e);
+                        }
+                        src.set(j, RESIZED);
+                        j--;
+                    }
+                }
+            }
+        }
+    }
+
+    private static void unconditionalCopy(AtomicReferenceArray dest, Node toCopy)
+    {
+        int hash = toCopy.hash;
+        AtomicReferenceArray currentArray = dest;
+        while (true)
+        {
+            int length = currentArray.length();
+            int index = ConcurrentUnifiedSet.indexFor(hash, length);
+            Object o = currentArray.get(index);
+            if (o == RESIZED || o == RESIZING)
+            {
+                currentArray = ((ResizeContainer) currentArray.get(length - 1)).nextArray;
+            }
+            else
+            {
+                Node newNode;
+                if (o == null)
+                {
+                    // the last node of a chain can be shared, since it has no next node to rewrite
+                    newNode = toCopy.next == null ? toCopy : new Node(toCopy.key, hash, null);
+                }
+                else
+                {
+                    newNode = new Node(toCopy.key, hash, (Node) o);
+                }
+                if (currentArray.compareAndSet(index, o, newNode))
+                {
+                    return;
+                }
+            }
+        }
+    }
+
+    @Override
+    public void each(Procedure<? super T> procedure)
+    {
+        IterableIterate.forEach(this, procedure);
+    }
+
+    @Override
+    public void appendString(Appendable appendable, String start, String separator, String end)
+    {
+        IterableIterate.appendString(this, appendable, start, separator, end);
+    }
+
+    @Override
+    public Iterator<T> iterator()
+    {
+        return new SetIterator();
+    }
+
+    /**
+     * Returns the element the iterator would return first, or null if the set is empty. The table is walked through
+     * the iterator rather than directly, as in {@link UnifiedSet#getFirst()}, so that buckets which are being moved
+     * by a concurrent resize are followed into the new table.
+     */
+    @Override
+    public T getFirst()
+    {
+        Iterator<T> iterator = this.iterator();
+        return iterator.hasNext() ? iterator.next() : null;
+    }
+
+    /**
+     * Returns the element the iterator would return last, or null if the set is empty.
+     */
+    @Override
+    public T getLast()
+    {
+        T last = null;
+        for (Iterator<T> iterator = this.iterator(); iterator.hasNext(); )
+        {
+            last = iterator.next();
+        }
+        return last;
+    }
+
+    @Override
+    public ParallelUnsortedSetIterable<T> asParallel(ExecutorService executorService, int batchSize)
+    {
+        return new NonParallelUnsortedSetIterable<>(this);
+    }
+
+    @Override
+    public MutableSet<T> newEmpty()
+    {
+        return ConcurrentUnifiedSet.newSet();
+    }
+
+    @Override
+    public ConcurrentUnifiedSet<T> clone()
+    {
+        return ConcurrentUnifiedSet.newSet(this);
+    }
+
+    @Override
+    public ConcurrentUnifiedSet<T> with(T element)
+    {
+        this.add(element);
+        return this;
+    }
+
+    public ConcurrentUnifiedSet<T> with(T... elements)
+    {
+        this.addAll(Arrays.asList(elements));
+        return this;
+    }
+
+    @Override
+    public ConcurrentUnifiedSet<T> without(T element)
+    {
+        this.remove(element);
+        return this;
+    }
+
+    @Override
+    public ConcurrentUnifiedSet<T> withAll(Iterable<? extends T> elements)
+    {
+        this.addAllIterable(elements);
+        return this;
+    }
+
+    @Override
+    public ConcurrentUnifiedSet<T> withoutAll(Iterable<? extends T> elements)
+    {
+        this.removeAllIterable(elements);
+        return this;
+    }
+
+    @Override
+    public boolean equals(Object object)
+    {
+        if (this == object)
+        {
+            return true;
+        }
+        if (!(object instanceof Set))
+        {
+            return false;
+        }
+        Set<?> other = (Set<?>) object;
+        return this.size() == other.size() && this.containsAll(other);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int hashCode = 0;
+        for (T each : this)
+        {
+            hashCode += each == null ? 0 : each.hashCode();
+        }
+        return hashCode;
+    }
+
+    @Override
+    public void writeExternal(ObjectOutput out) throws IOException
+    {
+        MutableList<T> snapshot = FastList.newList(this);
+        out.writeInt(snapshot.size());
+        for (int i = 0; i < snapshot.size(); i++)
+        {
+            out.writeObject(snapshot.get(i));
+        }
+    }
+
+    @Override
+    public void readExternal(ObjectInput in) throws IOException, ClassNotFoundException
+    {
+        int size = in.readInt();
+        this.table = ConcurrentUnifiedSet.allocateTable(size);
+        for (int i = 0; i < size; i++)
+        {
+            this.add((T) in.readObject());
+        }
+    }
+
+    private static final class Node
+    {
+        private final Object key;
+        // cached so that a resize never calls back into hashCode(), which may iterate this set
+        private final int hash;
+        private final Node next;
+
+        private Node(Object key, int hash, Node next)
+        {
+            this.key = key;
+            this.hash = hash;
+            this.next = next;
+        }
+    }
+
+    private static final class IteratorState
+    {
+        private AtomicReferenceArray currentTable;
+        private int start;
+        private int end;
+
+        private IteratorState(AtomicReferenceArray currentTable)
+        {
+            this.currentTable = currentTable;
+            this.end = this.currentTable.length() - 1;
+        }
+
+        private IteratorState(AtomicReferenceArray currentTable, int start, int end)
+        {
+            this.currentTable = currentTable;
+            this.start = start;
+            this.end = end;
+        }
+    }
+
+    private final class SetIterator implements Iterator<T>
+    {
+        private List<IteratorState> todo;
+        private IteratorState currentState;
+        private Node next;
+        private int index;
+        private Node current;
+
+        private SetIterator()
+        {
+            this.currentState = new IteratorState(ConcurrentUnifiedSet.this.table);
+            this.findNext();
+        }
+
+        private void findNext()
+        {
+            while (this.index < this.currentState.end)
+            {
+                Object o = this.currentState.currentTable.get(this.index);
+                if (o == RESIZED || o == RESIZING)
+                {
+                    AtomicReferenceArray nextArray = ConcurrentUnifiedSet.this.helpWithResizeWhileCurrentIndex(this.currentState.currentTable, this.index);
+                    int endResized = this.index + 1;
+                    while (endResized < this.currentState.end)
+                    {
+                        if (this.currentState.currentTable.get(endResized) != RESIZED)
+                        {
+                            break;
+                        }
+                        endResized++;
+                    }
+                    if (this.todo == null)
+                    {
+                        this.todo = new FastList<>(4);
+                    }
+                    if (endResized < this.currentState.end)
+                    {
+                        this.todo.add(new IteratorState(this.currentState.currentTable, endResized, this.currentState.end));
+                    }
+                    int powerTwoLength = this.currentState.currentTable.length() - 1;
+                    this.todo.add(new IteratorState(nextArray, this.index + powerTwoLength, endResized + powerTwoLength));
+                    this.currentState.currentTable = nextArray;
+                    this.currentState.end = endResized;
+                    this.currentState.start = this.index;
+                }
+                else if (o != null)
+                {
+                    this.next = (Node) o;
+                    this.index++;
+                    break;
+                }
+                else
+                {
+                    this.index++;
+                }
+            }
+            if (this.next == null && this.index == this.currentState.end && this.todo != null && !this.todo.isEmpty())
+            {
+                this.currentState = this.todo.remove(this.todo.size() - 1);
+                this.index = this.currentState.start;
+                this.findNext();
+            }
+        }
+
+        @Override
+        public boolean hasNext()
+        {
+            return this.next != null;
+        }
+
+        @Override
+        public T next()
+        {
+            Node e = this.next;
+            if (e == null)
+            {
+                throw new NoSuchElementException();
+            }
+            if ((this.next = e.next) == null)
+            {
+                this.findNext();
+            }
+            this.current = e;
+            return ConcurrentUnifiedSet.nonSentinel(e.key);
+        }
+
+        @Override
+        public void remove()
+        {
+            if (this.current == null)
+            {
+                throw new IllegalStateException();
+            }
+            Object key = this.current.key;
+            this.current = null;
+            ConcurrentUnifiedSet.this.remove(ConcurrentUnifiedSet.nonSentinel(key));
+        }
+    }
+
+    private static final class ResizeContainer
+    {
+        private static final int QUEUE_INCREMENT = Math.min(1 << 10, Integer.highestOneBit(Runtime.getRuntime().availableProcessors()) << 4);
+        private final AtomicInteger resizers = new AtomicInteger(1);
+        private final AtomicReferenceArray nextArray;
+        private final AtomicInteger queuePosition;
+
+        private ResizeContainer(AtomicReferenceArray nextArray, int oldSize)
+        {
+            this.nextArray = nextArray;
+            this.queuePosition = new AtomicInteger(oldSize);
+        }
+
+        public void incrementResizer()
+        {
+            this.resizers.incrementAndGet();
+        }
+
+        public void decrementResizerAndNotify()
+        {
+            int remaining = this.resizers.decrementAndGet();
+            if (remaining == 0)
+            {
+                synchronized (this)
+                {
+                    this.notifyAll();
+                }
+            }
+        }
+
+        public int getQueuePosition()
+        {
+            return this.queuePosition.get();
+        }
+
+        public int subtractAndGetQueuePosition()
+        {
+            return this.queuePosition.addAndGet(-QUEUE_INCREMENT);
+        }
+
+        public void waitForAllResizers()
+        {
+            if (this.resizers.get() > 0)
+            {
+                for (int i = 0; i < 16; i++)
+                {
+                    if (this.resizers.get() == 0)
+                    {
+                        break;
+                    }
+                }
+                for (int i = 0; i < 16; i++)
+                {
+                    if (this.resizers.get() == 0)
+                    {
+                        break;
+                    }
+                    Thread.yield();
+                }
+            }
+            if (this.resizers.get() > 0)
+            {
+                synchronized (this)
+                {
+                    while (this.resizers.get() > 0)
+                    {
+                        try
+                        {
+                            this.wait();
+                        }
+                        catch (InterruptedException e)
+                        {
+                            // ignore
+                        }
+                    }
+                }
+            }
+        }
+
+        public boolean isNotDone()
+        {
+            return this.resizers.get() > 0;
+        }
+
+        public void zeroOutQueuePosition()
+        {
+            this.queuePosition.set(0);
+        }
+    }
+}
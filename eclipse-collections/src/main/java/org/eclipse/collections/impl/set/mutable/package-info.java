@@ -14,6 +14,9 @@
  *     This package contains the following mutable set implementations:
  * <ul>
  *     <li>
+ *          {@link org.eclipse.collections.impl.set.mutable.ConcurrentUnifiedSet} - a lock-free, thread safe set which stores only its elements in a ConcurrentHashMap style table.
+ *     </li>
+ *     <li>
  *          {@link org.eclipse.collections.impl.set.mutable.MultiReaderUnifiedSet} -  a thread safe wrapper around UnifiedSet.
  *     </li>
  *     <li>
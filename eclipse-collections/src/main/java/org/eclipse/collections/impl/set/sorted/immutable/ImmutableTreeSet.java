@@ -47,7 +47,7 @@ import org.eclipse.collections.impl.lazy.parallel.set.sorted.RootSortedSetBatch;
 import org.eclipse.collections.impl.lazy.parallel.set.sorted.SelectSortedSetBatch;
 import org.eclipse.collections.impl.lazy.parallel.set.sorted.SortedSetBatch;
 import org.eclipse.collections.impl.list.mutable.FastList;
-import org.eclipse.collections.impl.map.mutable.ConcurrentHashMap;
+import org.eclipse.collections.impl.set.mutable.ConcurrentUnifiedSet;
 import org.eclipse.collections.impl.utility.ArrayIterate;
 import org.eclipse.collections.impl.utility.Iterate;
 import org.eclipse.collections.impl.utility.ListIterate;
@@ -525,7 +525,7 @@ final class ImmutableTreeSet<T>
         }
 
         @Override
-        public SortedSetBatch<T> distinct(ConcurrentHashMap<T, Boolean> distinct)
+        public SortedSetBatch<T> distinct(ConcurrentUnifiedSet<T> distinct)
         {
             return this;
         }
@@ -0,0 +1,52 @@
+/*
+ * Copyright (c) 2024 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.bag.mutable;
+
+import org.openjdk.jcstress.annotations.Actor;
+import org.openjdk.jcstress.annotations.Arbiter;
+import org.openjdk.jcstress.annotations.Expect;
+import org.openjdk.jcstress.annotations.JCStressTest;
+import org.openjdk.jcstress.annotations.Outcome;
+import org.openjdk.jcstress.annotations.State;
+import org.openjdk.jcstress.infra.results.IIII_Result;
+
+/**
+ * Races an add against the removal of the last occurrence, which retires the counter of the item. The add must either
+ * land on the live counter or replace the retired one, so the occurrence is never lost.
+ */
+@JCStressTest
+@Outcome(id = "2, 1, 1, 1", expect = Expect.ACCEPTABLE, desc = "add before remove")
+@Outcome(id = "1, 1, 1, 1", expect = Expect.ACCEPTABLE, desc = "remove before add")
+@Outcome(expect = Expect.FORBIDDEN)
+@State
+public class ConcurrentHashBagAddRemoveTest
+{
+    private final ConcurrentHashBag<String> bag = ConcurrentHashBag.newBagWith("a");
+
+    @Actor
+    public void add(IIII_Result r)
+    {
+        r.r1 = this.bag.addOccurrences("a", 1);
+    }
+
+    @Actor
+    public void remove(IIII_Result r)
+    {
+        r.r2 = this.bag.removeOccurrences("a", 1) ? 1 : 0;
+    }
+
+    @Arbiter
+    public void after(IIII_Result r)
+    {
+        r.r3 = this.bag.occurrencesOf("a");
+        r.r4 = this.bag.size();
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright (c) 2024 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.bag.mutable;
+
+import org.openjdk.jcstress.annotations.Actor;
+import org.openjdk.jcstress.annotations.Arbiter;
+import org.openjdk.jcstress.annotations.Expect;
+import org.openjdk.jcstress.annotations.JCStressTest;
+import org.openjdk.jcstress.annotations.Outcome;
+import org.openjdk.jcstress.annotations.State;
+import org.openjdk.jcstress.infra.results.IIII_Result;
+
+/**
+ * Two threads add occurrences of an item which is not yet in the bag, so both race to create its counter. Each add
+ * must observe a distinct count.
+ */
+@JCStressTest
+@Outcome(id = "1, 3, 3, 3", expect = Expect.ACCEPTABLE, desc = "first actor created the counter")
+@Outcome(id = "3, 2, 3, 3", expect = Expect.ACCEPTABLE, desc = "second actor created the counter")
+@Outcome(expect = Expect.FORBIDDEN)
+@State
+public class ConcurrentHashBagAddTest
+{
+    private final ConcurrentHashBag<String> bag = ConcurrentHashBag.newBag();
+
+    @Actor
+    public void addOne(IIII_Result r)
+    {
+        r.r1 = this.bag.addOccurrences("a", 1);
+    }
+
+    @Actor
+    public void addTwo(IIII_Result r)
+    {
+        r.r2 = this.bag.addOccurrences("a", 2);
+    }
+
+    @Arbiter
+    public void after(IIII_Result r)
+    {
+        r.r3 = this.bag.occurrencesOf("a");
+        r.r4 = this.bag.size();
+    }
+}
@@ -0,0 +1,51 @@
+/*
+ * Copyright (c) 2024 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.map.mutable;
+
+import org.openjdk.jcstress.annotations.Actor;
+import org.openjdk.jcstress.annotations.Arbiter;
+import org.openjdk.jcstress.annotations.Expect;
+import org.openjdk.jcstress.annotations.JCStressTest;
+import org.openjdk.jcstress.annotations.Outcome;
+import org.openjdk.jcstress.annotations.State;
+import org.openjdk.jcstress.infra.results.II_Result;
+
+@JCStressTest
+@Outcome(id = "2, 2", expect = Expect.ACCEPTABLE)
+@Outcome(expect = Expect.FORBIDDEN)
+@State
+public class ConcurrentHashMapSizeTest
+{
+    private final ConcurrentHashMap<Integer, Boolean> map = ConcurrentHashMap.newMap(16, 2);
+
+    @Actor
+    public void putAndRemove1()
+    {
+        this.map.put(1, true);
+        this.map.put(3, true);
+        this.map.remove(3);
+    }
+
+    @Actor
+    public void putAndRemove2()
+    {
+        this.map.put(2, true);
+        this.map.put(4, true);
+        this.map.remove(4);
+    }
+
+    @Arbiter
+    public void after(II_Result r)
+    {
+        r.r1 = this.map.size();
+        r.r2 = (int) this.map.sizeEstimate();
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2024 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.multimap.list;
+
+import org.openjdk.jcstress.annotations.Actor;
+import org.openjdk.jcstress.annotations.Arbiter;
+import org.openjdk.jcstress.annotations.Expect;
+import org.openjdk.jcstress.annotations.JCStressTest;
+import org.openjdk.jcstress.annotations.Outcome;
+import org.openjdk.jcstress.annotations.State;
+import org.openjdk.jcstress.infra.results.IIII_Result;
+
+/**
+ * Races a put against the removal of the last value of the key, which retires the values of the key. The put must
+ * either land on the live values or replace the retired ones, so the value is never lost.
+ */
+@JCStressTest
+@Outcome(id = "1, 1, 1, 1", expect = Expect.ACCEPTABLE, desc = "put before or after remove")
+@Outcome(expect = Expect.FORBIDDEN)
+@State
+public class ConcurrentFastListMultimapPutRemoveTest
+{
+    private final ConcurrentFastListMultimap<String, String> multimap = ConcurrentFastListMultimap.newMultimap();
+
+    public ConcurrentFastListMultimapPutRemoveTest()
+    {
+        this.multimap.put("a", "1");
+    }
+
+    @Actor
+    public void put(IIII_Result r)
+    {
+        r.r1 = this.multimap.put("a", "2") ? 1 : 0;
+    }
+
+    @Actor
+    public void remove(IIII_Result r)
+    {
+        r.r2 = this.multimap.remove("a", "1") ? 1 : 0;
+    }
+
+    @Arbiter
+    public void after(IIII_Result r)
+    {
+        r.r3 = this.multimap.get("a").size();
+        r.r4 = this.multimap.size();
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2024 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.jmh;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.impl.list.Interval;
+import org.eclipse.collections.impl.parallel.AdaptiveBatchSize;
+import org.eclipse.collections.impl.parallel.ParallelIterate;
+import org.junit.Assert;
+import org.junit.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Sweeps the cost of the procedure from a few nanoseconds to tens of microseconds per element, and compares
+ * ParallelIterate.forEach with a fixed small batch size and with the default batch size against forEachAdaptive,
+ * which measures the procedure and sizes the batches to take about a millisecond each.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(2)
+@Warmup(iterations = 10, time = 2)
+@Measurement(iterations = 10, time = 2)
+public class AdaptiveBatchSizeTest
+{
+    private static final int SIZE = 100_000;
+    private static final int SMALL_BATCH_SIZE = 100;
+    private static final int DEFAULT_BATCH_SIZE = 10_000;
+
+    @Param({"0", "100", "10000"})
+    public long tokensPerElement = 100L;
+
+    private final MutableList<Integer> integers = Interval.oneTo(SIZE).toList();
+
+    private ExecutorService executorService;
+
+    @Setup(Level.Iteration)
+    public void setUp()
+    {
+        this.executorService = ParallelIterate.newPooledExecutor(AdaptiveBatchSizeTest.class.getSimpleName(), true);
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDown() throws InterruptedException
+    {
+        this.executorService.shutdownNow();
+        this.executorService.awaitTermination(1L, TimeUnit.SECONDS);
+    }
+
+    private void consume(Integer each, LongAdder sum)
+    {
+        Blackhole.consumeCPU(this.tokensPerElement);
+        sum.add(each);
+    }
+
+    @Benchmark
+    public long forEach_smallBatch()
+    {
+        LongAdder sum = new LongAdder();
+        ParallelIterate.forEach(this.integers, each -> this.consume(each, sum), SMALL_BATCH_SIZE, this.executorService);
+        return sum.sum();
+    }
+
+    @Benchmark
+    public long forEach_defaultBatch()
+    {
+        LongAdder sum = new LongAdder();
+        ParallelIterate.forEach(this.integers, each -> this.consume(each, sum), DEFAULT_BATCH_SIZE, this.executorService);
+        return sum.sum();
+    }
+
+    @Benchmark
+    public long forEach_adaptive()
+    {
+        LongAdder sum = new LongAdder();
+        ParallelIterate.forEachAdaptive(
+                this.integers,
+                each -> this.consume(each, sum),
+                AdaptiveBatchSize.defaultBatchSize(),
+                this.executorService);
+        return sum.sum();
+    }
+
+    @Test
+    public void sameResults()
+    {
+        this.setUp();
+        try
+        {
+            long expected = (long) SIZE * (SIZE + 1) / 2;
+            Assert.assertEquals(expected, this.forEach_smallBatch());
+            Assert.assertEquals(expected, this.forEach_defaultBatch());
+            Assert.assertEquals(expected, this.forEach_adaptive());
+        }
+        finally
+        {
+            this.executorService.shutdown();
+        }
+    }
+}
@@ -0,0 +1,181 @@
+/*
+ * Copyright (c) 2024 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.jmh;
+
+import java.util.Collection;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.api.map.MutableMap;
+import org.eclipse.collections.impl.list.Interval;
+import org.eclipse.collections.impl.parallel.ParallelIterate;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the default pooled executor with the virtual thread executor on a procedure which simulates one millisecond
+ * of I/O latency per element. The pooled executor can only have as many elements in flight as it has threads.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(2)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class BlockingProcedureTest
+{
+    private static final int SIZE = 2_000;
+    private static final int MAX_CONCURRENCY = 256;
+    private static final long LATENCY_NANOS = TimeUnit.MILLISECONDS.toNanos(1L);
+
+    private final MutableList<Integer> integers = Interval.oneTo(SIZE).toList();
+
+    private ExecutorService pooledExecutor;
+    private ExecutorService virtualThreadExecutor;
+
+    @Before
+    @Setup(Level.Iteration)
+    public void setUp()
+    {
+        this.pooledExecutor = ParallelIterate.newPooledExecutor("BlockingProcedureTest", true);
+        this.virtualThreadExecutor = ParallelIterate.newVirtualThreadExecutor(MAX_CONCURRENCY);
+    }
+
+    @After
+    @TearDown(Level.Iteration)
+    public void tearDown() throws InterruptedException
+    {
+        this.pooledExecutor.shutdownNow();
+        this.pooledExecutor.awaitTermination(1L, TimeUnit.SECONDS);
+        this.virtualThreadExecutor.shutdownNow();
+        this.virtualThreadExecutor.awaitTermination(1L, TimeUnit.SECONDS);
+    }
+
+    private static Integer lookup(Integer each)
+    {
+        LockSupport.parkNanos(LATENCY_NANOS);
+        return each;
+    }
+
+    private int batchSize(ExecutorService executor)
+    {
+        int taskCount = executor == this.pooledExecutor
+                ? ParallelIterate.getDefaultTaskCount()
+                : MAX_CONCURRENCY * ParallelIterate.getTaskRatio();
+        return Math.max(1, SIZE / taskCount);
+    }
+
+    private long forEach(ExecutorService executor)
+    {
+        LongAdder sum = new LongAdder();
+        ParallelIterate.forEach(this.integers, each -> sum.add(lookup(each)), this.batchSize(executor), executor);
+        return sum.sum();
+    }
+
+    private Collection<Integer> collect(ExecutorService executor)
+    {
+        return ParallelIterate.collect(this.integers, BlockingProcedureTest::lookup, null, this.batchSize(executor), executor, false);
+    }
+
+    private MutableMap<Integer, Integer> aggregateBy(ExecutorService executor)
+    {
+        return ParallelIterate.aggregateBy(
+                this.integers,
+                each -> lookup(each) % 10,
+                () -> 0,
+                Integer::sum,
+                this.batchSize(executor),
+                executor);
+    }
+
+    private MutableList<Integer> parallelCollect(ExecutorService executor)
+    {
+        return this.integers.asParallel(executor, this.batchSize(executor)).collect(BlockingProcedureTest::lookup).toList();
+    }
+
+    @Benchmark
+    public long forEach_pooled()
+    {
+        return this.forEach(this.pooledExecutor);
+    }
+
+    @Benchmark
+    public long forEach_virtual()
+    {
+        return this.forEach(this.virtualThreadExecutor);
+    }
+
+    @Benchmark
+    public Collection<Integer> collect_pooled()
+    {
+        return this.collect(this.pooledExecutor);
+    }
+
+    @Benchmark
+    public Collection<Integer> collect_virtual()
+    {
+        return this.collect(this.virtualThreadExecutor);
+    }
+
+    @Benchmark
+    public MutableMap<Integer, Integer> aggregateBy_pooled()
+    {
+        return this.aggregateBy(this.pooledExecutor);
+    }
+
+    @Benchmark
+    public MutableMap<Integer, Integer> aggregateBy_virtual()
+    {
+        return this.aggregateBy(this.virtualThreadExecutor);
+    }
+
+    @Benchmark
+    public MutableList<Integer> parallel_collect_pooled()
+    {
+        return this.parallelCollect(this.pooledExecutor);
+    }
+
+    @Benchmark
+    public MutableList<Integer> parallel_collect_virtual()
+    {
+        return this.parallelCollect(this.virtualThreadExecutor);
+    }
+
+    @Test
+    public void sameResults()
+    {
+        long expectedSum = (long) SIZE * (SIZE + 1) / 2;
+        Assert.assertEquals(expectedSum, this.forEach_pooled());
+        Assert.assertEquals(expectedSum, this.forEach_virtual());
+        Assert.assertEquals(this.integers, this.collect_pooled());
+        Assert.assertEquals(this.integers, this.collect_virtual());
+        Assert.assertEquals(this.aggregateBy_pooled(), this.aggregateBy_virtual());
+        Assert.assertEquals(this.integers, this.parallel_collect_pooled());
+        Assert.assertEquals(this.integers, this.parallel_collect_virtual());
+    }
+}
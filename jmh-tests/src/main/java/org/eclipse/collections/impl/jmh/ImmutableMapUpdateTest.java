@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2024 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.jmh;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.collections.api.map.ImmutableMap;
+import org.eclipse.collections.api.map.MutableMap;
+import org.eclipse.collections.impl.list.Interval;
+import org.eclipse.collections.impl.map.immutable.ImmutableChampMap;
+import org.eclipse.collections.impl.map.mutable.UnifiedMap;
+import org.junit.Assert;
+import org.junit.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares single-key updates of an ImmutableMap backed by a UnifiedMap, which copies the whole map, against an
+ * ImmutableChampMap, which copies only the path to the key.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(2)
+@Warmup(iterations = 10, time = 2)
+@Measurement(iterations = 10, time = 2)
+public class ImmutableMapUpdateTest
+{
+    @Param({"1000", "100000", "1000000"})
+    public int size = 100_000;
+
+    private ImmutableMap<Integer, Integer> unifiedMap;
+    private ImmutableMap<Integer, Integer> champMap;
+    private int key;
+
+    @Setup
+    public void setUp()
+    {
+        MutableMap<Integer, Integer> map = UnifiedMap.newMap(this.size);
+        Interval.zeroTo(this.size - 1).each(each -> map.put(each, each));
+        this.unifiedMap = map.toImmutable();
+        this.champMap = ImmutableChampMap.newMap(map);
+    }
+
+    private int nextKey()
+    {
+        this.key = (this.key + 7919) % this.size;
+        return this.key;
+    }
+
+    @Benchmark
+    public ImmutableMap<Integer, Integer> newWithKeyValue_unified()
+    {
+        return this.unifiedMap.newWithKeyValue(this.nextKey(), -1);
+    }
+
+    @Benchmark
+    public ImmutableMap<Integer, Integer> newWithKeyValue_champ()
+    {
+        return this.champMap.newWithKeyValue(this.nextKey(), -1);
+    }
+
+    @Benchmark
+    public ImmutableMap<Integer, Integer> newWithoutKey_unified()
+    {
+        return this.unifiedMap.newWithoutKey(this.nextKey());
+    }
+
+    @Benchmark
+    public ImmutableMap<Integer, Integer> newWithoutKey_champ()
+    {
+        return this.champMap.newWithoutKey(this.nextKey());
+    }
+
+    @Test
+    public void sameResults()
+    {
+        this.setUp();
+        this.key = 0;
+        ImmutableMap<Integer, Integer> unified = this.newWithKeyValue_unified();
+        this.key = 0;
+        Assert.assertEquals(unified, this.newWithKeyValue_champ());
+        this.key = 0;
+        ImmutableMap<Integer, Integer> unifiedWithout = this.newWithoutKey_unified();
+        this.key = 0;
+        Assert.assertEquals(unifiedWithout, this.newWithoutKey_champ());
+    }
+}
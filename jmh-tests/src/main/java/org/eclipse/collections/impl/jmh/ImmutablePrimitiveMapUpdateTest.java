@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2024 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.jmh;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.collections.api.map.primitive.ImmutableIntIntMap;
+import org.eclipse.collections.api.set.primitive.ImmutableLongSet;
+import org.eclipse.collections.impl.map.immutable.primitive.ImmutableIntIntChampMap;
+import org.eclipse.collections.impl.map.mutable.primitive.IntIntHashMap;
+import org.eclipse.collections.impl.set.immutable.primitive.ImmutableLongChampSet;
+import org.eclipse.collections.impl.set.mutable.primitive.LongHashSet;
+import org.junit.Assert;
+import org.junit.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares single-key updates of the hash-based primitive immutable maps and sets, which copy every entry, against
+ * ImmutableIntIntChampMap and ImmutableLongChampSet, which copy only the path to the key.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(2)
+@Warmup(iterations = 10, time = 2)
+@Measurement(iterations = 10, time = 2)
+public class ImmutablePrimitiveMapUpdateTest
+{
+    @Param({"1000", "100000", "1000000"})
+    public int size = 100_000;
+
+    private ImmutableIntIntMap hashMap;
+    private ImmutableIntIntMap champMap;
+    private ImmutableLongSet hashSet;
+    private ImmutableLongSet champSet;
+    private int key;
+
+    @Setup
+    public void setUp()
+    {
+        IntIntHashMap map = new IntIntHashMap(this.size);
+        LongHashSet set = new LongHashSet(this.size);
+        for (int i = 0; i < this.size; i++)
+        {
+            map.put(i, i);
+            set.add(i);
+        }
+        this.hashMap = map.toImmutable();
+        this.champMap = ImmutableIntIntChampMap.newMap(map);
+        this.hashSet = set.toImmutable();
+        this.champSet = ImmutableLongChampSet.newSet(set);
+    }
+
+    private int nextKey()
+    {
+        this.key = (this.key + 7919) % this.size;
+        return this.key;
+    }
+
+    @Benchmark
+    public ImmutableIntIntMap newWithKeyValue_hash()
+    {
+        return this.hashMap.newWithKeyValue(this.nextKey(), -1);
+    }
+
+    @Benchmark
+    public ImmutableIntIntMap newWithKeyValue_champ()
+    {
+        return this.champMap.newWithKeyValue(this.nextKey(), -1);
+    }
+
+    @Benchmark
+    public ImmutableIntIntMap newWithoutKey_hash()
+    {
+        return this.hashMap.newWithoutKey(this.nextKey());
+    }
+
+    @Benchmark
+    public ImmutableIntIntMap newWithoutKey_champ()
+    {
+        return this.champMap.newWithoutKey(this.nextKey());
+    }
+
+    @Benchmark
+    public ImmutableLongSet newWith_hash()
+    {
+        return this.hashSet.newWith(-this.nextKey() - 1L);
+    }
+
+    @Benchmark
+    public ImmutableLongSet newWith_champ()
+    {
+        return this.champSet.newWith(-this.nextKey() - 1L);
+    }
+
+    @Test
+    public void sameResults()
+    {
+        this.setUp();
+        this.key = 0;
+        ImmutableIntIntMap hash = this.newWithKeyValue_hash();
+        this.key = 0;
+        Assert.assertEquals(hash, this.newWithKeyValue_champ());
+        this.key = 0;
+        ImmutableIntIntMap hashWithout = this.newWithoutKey_hash();
+        this.key = 0;
+        Assert.assertEquals(hashWithout, this.newWithoutKey_champ());
+        this.key = 0;
+        ImmutableLongSet hashSetWith = this.newWith_hash();
+        this.key = 0;
+        Assert.assertEquals(hashSetWith, this.newWith_champ());
+    }
+}
@@ -0,0 +1,165 @@
+/*
+ * Copyright (c) 2024 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.jmh;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.collections.api.map.primitive.MutableLongLongMap;
+import org.eclipse.collections.api.set.primitive.MutableLongSet;
+import org.eclipse.collections.impl.map.mutable.primitive.LongLongHashMap;
+import org.eclipse.collections.impl.map.mutable.primitive.LongLongLinearProbingHashMap;
+import org.eclipse.collections.impl.set.mutable.primitive.LongHashSet;
+import org.eclipse.collections.impl.set.mutable.primitive.LongLinearProbingHashSet;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Simulates a long-lived session cache with a constant number of live keys: every step removes a live key, inserts
+ * and removes a transient key, then puts the live key back. Compares the tombstone-based hash map and set with their
+ * backward-shift deletion counterparts.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(2)
+@Warmup(iterations = 10, time = 2)
+@Measurement(iterations = 10, time = 2)
+public class LongLongMapChurnStressTest
+{
+    private static final int WINDOW = 200_000;
+    private static final int CHURN_COUNT = 1_000_000;
+
+    private long[] keys;
+    private MutableLongLongMap tombstoneMap;
+    private MutableLongLongMap linearProbingMap;
+    private MutableLongSet tombstoneSet;
+    private MutableLongSet linearProbingSet;
+    private int tombstoneOffset;
+    private int linearProbingOffset;
+    private int tombstoneSetOffset;
+    private int linearProbingSetOffset;
+
+    @Setup
+    public void setUp()
+    {
+        Random random = new Random(0x123456789ABCDL);
+        this.keys = new long[WINDOW + CHURN_COUNT];
+        for (int i = 0; i < this.keys.length; i++)
+        {
+            this.keys[i] = random.nextLong();
+        }
+
+        this.tombstoneMap = new LongLongHashMap();
+        this.linearProbingMap = new LongLongLinearProbingHashMap();
+        this.tombstoneSet = new LongHashSet();
+        this.linearProbingSet = new LongLinearProbingHashSet();
+        for (int i = 0; i < WINDOW; i++)
+        {
+            this.tombstoneMap.put(this.keys[i], i);
+            this.linearProbingMap.put(this.keys[i], i);
+            this.tombstoneSet.add(this.keys[i]);
+            this.linearProbingSet.add(this.keys[i]);
+        }
+    }
+
+    @Benchmark
+    public void tombstoneMapChurn()
+    {
+        this.tombstoneOffset = LongLongMapChurnStressTest.churn(this.tombstoneMap, this.keys, this.tombstoneOffset);
+    }
+
+    @Benchmark
+    public void linearProbingMapChurn()
+    {
+        this.linearProbingOffset = LongLongMapChurnStressTest.churn(this.linearProbingMap, this.keys, this.linearProbingOffset);
+    }
+
+    @Benchmark
+    public void tombstoneSetChurn()
+    {
+        this.tombstoneSetOffset = LongLongMapChurnStressTest.churn(this.tombstoneSet, this.keys, this.tombstoneSetOffset);
+    }
+
+    @Benchmark
+    public void linearProbingSetChurn()
+    {
+        this.linearProbingSetOffset = LongLongMapChurnStressTest.churn(this.linearProbingSet, this.keys, this.linearProbingSetOffset);
+    }
+
+    @Benchmark
+    public long tombstoneMapGetAfterChurn()
+    {
+        return LongLongMapChurnStressTest.getLive(this.tombstoneMap, this.keys, this.tombstoneOffset);
+    }
+
+    @Benchmark
+    public long linearProbingMapGetAfterChurn()
+    {
+        return LongLongMapChurnStressTest.getLive(this.linearProbingMap, this.keys, this.linearProbingOffset);
+    }
+
+    private static int churn(MutableLongLongMap map, long[] keys, int offset)
+    {
+        for (int i = 0; i < 1_000; i++)
+        {
+            int live = offset % WINDOW;
+            int transientKey = WINDOW + offset % CHURN_COUNT;
+            map.remove(keys[live]);
+            map.put(keys[transientKey], live);
+            map.remove(keys[transientKey]);
+            map.put(keys[live], live);
+            offset++;
+        }
+        if (map.size() != WINDOW)
+        {
+            throw new AssertionError("size is " + map.size());
+        }
+        return offset;
+    }
+
+    private static int churn(MutableLongSet set, long[] keys, int offset)
+    {
+        for (int i = 0; i < 1_000; i++)
+        {
+            int live = offset % WINDOW;
+            int transientKey = WINDOW + offset % CHURN_COUNT;
+            set.remove(keys[live]);
+            set.add(keys[transientKey]);
+            set.remove(keys[transientKey]);
+            set.add(keys[live]);
+            offset++;
+        }
+        if (set.size() != WINDOW)
+        {
+            throw new AssertionError("size is " + set.size());
+        }
+        return offset;
+    }
+
+    private static long getLive(MutableLongLongMap map, long[] keys, int offset)
+    {
+        long sum = 0L;
+        for (int i = 0; i < WINDOW; i++)
+        {
+            sum += map.get(keys[i]);
+        }
+        return sum + offset;
+    }
+}
@@ -0,0 +1,150 @@
+/*
+ * Copyright (c) 2024 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.jmh;
+
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.collections.api.bag.Bag;
+import org.eclipse.collections.api.block.function.Function;
+import org.eclipse.collections.api.map.MapIterable;
+import org.eclipse.collections.api.map.MutableMap;
+import org.eclipse.collections.api.map.primitive.ObjectLongMap;
+import org.eclipse.collections.api.multimap.Multimap;
+import org.eclipse.collections.impl.block.procedure.NonMutatingAggregationProcedure;
+import org.eclipse.collections.impl.list.mutable.FastList;
+import org.eclipse.collections.impl.map.mutable.ConcurrentHashMapUnsafe;
+import org.eclipse.collections.impl.multimap.list.SynchronizedPutFastListMultimap;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the grouping operations of ParallelIterable with a single shared concurrent result, which was how they were
+ * implemented before, across key cardinalities from a couple of hot keys to one key per element.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(2)
+@Warmup(iterations = 10, time = 2)
+@Measurement(iterations = 10, time = 2)
+public class ParallelGroupingTest
+{
+    private static final int SIZE = 1_000_000;
+    private static final int BATCH_SIZE = 10_000;
+
+    @Param({"2", "1000", "1000000"})
+    public int cardinality;
+
+    private final FastList<Integer> integers = FastList.newWithNValues(SIZE, new Random(42L)::nextInt);
+
+    private ExecutorService executorService;
+    private Function<Integer, Integer> key;
+
+    @Setup(Level.Iteration)
+    public void setUp()
+    {
+        this.executorService = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+        int cardinality = this.cardinality;
+        this.key = each -> Math.floorMod(each, cardinality);
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDown() throws InterruptedException
+    {
+        this.executorService.shutdownNow();
+        this.executorService.awaitTermination(1L, TimeUnit.SECONDS);
+    }
+
+    @Benchmark
+    public Multimap<Integer, Integer> groupBy_serial()
+    {
+        return this.integers.groupBy(this.key);
+    }
+
+    @Benchmark
+    public Multimap<Integer, Integer> groupBy_parallel_shared()
+    {
+        SynchronizedPutFastListMultimap<Integer, Integer> result = SynchronizedPutFastListMultimap.newMultimap();
+        this.integers.asParallel(this.executorService, BATCH_SIZE).forEach(each -> result.put(this.key.valueOf(each), each));
+        return result;
+    }
+
+    @Benchmark
+    public Multimap<Integer, Integer> groupBy_parallel()
+    {
+        return this.integers.asParallel(this.executorService, BATCH_SIZE).groupBy(this.key);
+    }
+
+    @Benchmark
+    public MapIterable<Integer, Long> aggregateBy_serial()
+    {
+        return this.integers.aggregateBy(this.key, () -> 0L, (sum, each) -> sum + each);
+    }
+
+    @Benchmark
+    public MapIterable<Integer, Long> aggregateBy_parallel_shared()
+    {
+        MutableMap<Integer, Long> result = ConcurrentHashMapUnsafe.newMap();
+        this.integers.asParallel(this.executorService, BATCH_SIZE).forEach(
+                new NonMutatingAggregationProcedure<>(result, this.key, () -> 0L, (Long sum, Integer each) -> sum + each));
+        return result;
+    }
+
+    @Benchmark
+    public MapIterable<Integer, Long> aggregateBy_parallel()
+    {
+        return this.integers.asParallel(this.executorService, BATCH_SIZE).aggregateBy(this.key, () -> 0L, (sum, each) -> sum + each);
+    }
+
+    @Benchmark
+    public MapIterable<Integer, Long> aggregateBy_parallel_combiner()
+    {
+        return this.integers.asParallel(this.executorService, BATCH_SIZE).aggregateBy(this.key, () -> 0L, (sum, each) -> sum + each, Long::sum);
+    }
+
+    @Benchmark
+    public Bag<Integer> countBy_serial()
+    {
+        return this.integers.countBy(this.key);
+    }
+
+    @Benchmark
+    public Bag<Integer> countBy_parallel()
+    {
+        return this.integers.asParallel(this.executorService, BATCH_SIZE).countBy(this.key);
+    }
+
+    @Benchmark
+    public ObjectLongMap<Integer> sumByLong_serial()
+    {
+        return this.integers.sumByLong(this.key, Integer::longValue);
+    }
+
+    @Benchmark
+    public ObjectLongMap<Integer> sumByLong_parallel()
+    {
+        return this.integers.asParallel(this.executorService, BATCH_SIZE).sumByLong(this.key, Integer::longValue);
+    }
+}
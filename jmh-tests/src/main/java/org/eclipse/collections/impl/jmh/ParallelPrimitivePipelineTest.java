@@ -0,0 +1,156 @@
+/*
+ * Copyright (c) 2024 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.jmh;
+
+import java.util.DoubleSummaryStatistics;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.collections.impl.jmh.domain.Position;
+import org.eclipse.collections.impl.jmh.domain.Positions;
+import org.junit.Assert;
+import org.junit.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares a three stage parallel pipeline over positions which collects the market values into boxed Doubles with
+ * the same pipeline using collectDouble, which keeps the values unboxed from the collect onwards.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(2)
+@Warmup(iterations = 10, time = 2)
+@Measurement(iterations = 10, time = 2)
+public class ParallelPrimitivePipelineTest
+{
+    private static final int BATCH_SIZE = 10_000;
+
+    private final Positions positions = new Positions().shuffle();
+
+    private ExecutorService executorService;
+
+    @Setup(Level.Iteration)
+    public void setUp()
+    {
+        this.executorService = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDown() throws InterruptedException
+    {
+        this.executorService.shutdownNow();
+        this.executorService.awaitTermination(1L, TimeUnit.SECONDS);
+    }
+
+    @Benchmark
+    public double sumOfLargeMarketValues_parallel_lazy_jdk()
+    {
+        return this.positions.getJdkPositions().parallelStream()
+                .filter(each -> each.getQuantity() > 10)
+                .mapToDouble(Position::getMarketValue)
+                .filter(each -> each > 1000.0)
+                .sum();
+    }
+
+    @Benchmark
+    public double sumOfLargeMarketValues_parallel_lazy_boxed_ec()
+    {
+        return this.positions.getEcPositions().asParallel(this.executorService, BATCH_SIZE)
+                .select(each -> each.getQuantity() > 10)
+                .collect(Position::getMarketValue)
+                .select(each -> each > 1000.0)
+                .sumOfDouble(Double::doubleValue);
+    }
+
+    @Benchmark
+    public double sumOfLargeMarketValues_parallel_lazy_primitive_ec()
+    {
+        return this.positions.getEcPositions().asParallel(this.executorService, BATCH_SIZE)
+                .select(each -> each.getQuantity() > 10)
+                .collectDouble(Position::getMarketValue)
+                .select(each -> each > 1000.0)
+                .sum();
+    }
+
+    @Benchmark
+    public DoubleSummaryStatistics statisticsOfLargeMarketValues_parallel_lazy_jdk()
+    {
+        return this.positions.getJdkPositions().parallelStream()
+                .filter(each -> each.getQuantity() > 10)
+                .mapToDouble(Position::getMarketValue)
+                .filter(each -> each > 1000.0)
+                .summaryStatistics();
+    }
+
+    @Benchmark
+    public DoubleSummaryStatistics statisticsOfLargeMarketValues_parallel_lazy_primitive_ec()
+    {
+        return this.positions.getEcPositions().asParallel(this.executorService, BATCH_SIZE)
+                .select(each -> each.getQuantity() > 10)
+                .collectDouble(Position::getMarketValue)
+                .select(each -> each > 1000.0)
+                .summaryStatistics();
+    }
+
+    @Benchmark
+    public int[] sortedQuantities_parallel_lazy_jdk()
+    {
+        return this.positions.getJdkPositions().parallelStream()
+                .mapToInt(Position::getQuantity)
+                .sorted()
+                .toArray();
+    }
+
+    @Benchmark
+    public int[] sortedQuantities_parallel_lazy_primitive_ec()
+    {
+        return this.positions.getEcPositions().asParallel(this.executorService, BATCH_SIZE)
+                .collectInt(Position::getQuantity)
+                .toSortedArray();
+    }
+
+    @Test
+    public void sumOfLargeMarketValues_ec()
+    {
+        this.setUp();
+        try
+        {
+            Assert.assertEquals(
+                    this.sumOfLargeMarketValues_parallel_lazy_jdk(),
+                    this.sumOfLargeMarketValues_parallel_lazy_primitive_ec(),
+                    0.001);
+            Assert.assertEquals(
+                    this.sumOfLargeMarketValues_parallel_lazy_boxed_ec(),
+                    this.sumOfLargeMarketValues_parallel_lazy_primitive_ec(),
+                    0.001);
+            Assert.assertArrayEquals(
+                    this.sortedQuantities_parallel_lazy_jdk(),
+                    this.sortedQuantities_parallel_lazy_primitive_ec());
+        }
+        finally
+        {
+            this.executorService.shutdown();
+        }
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2024 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.jmh;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.collections.api.list.primitive.MutableDoubleList;
+import org.eclipse.collections.api.list.primitive.MutableIntList;
+import org.eclipse.collections.api.list.primitive.MutableLongList;
+import org.eclipse.collections.impl.list.mutable.primitive.DoubleArrayList;
+import org.eclipse.collections.impl.list.mutable.primitive.IntArrayList;
+import org.eclipse.collections.impl.list.mutable.primitive.LongArrayList;
+import org.junit.Assert;
+import org.junit.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares sortThis, which uses Arrays.sort, against parallelSortThis, which uses a parallel radix sort, on int, long
+ * and double array lists, and sortThisBy, which computes each key once, against sorting with a comparator which calls
+ * the key function on every comparison.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(2)
+@Warmup(iterations = 10, time = 2)
+@Measurement(iterations = 10, time = 2)
+public class PrimitiveListSortTest
+{
+    private static final int KEY_FUNCTION_SIZE = 100_000;
+
+    @Param({"10000", "1000000", "10000000"})
+    public int size = 1_000_000;
+
+    private int[] ints;
+    private long[] longs;
+    private double[] doubles;
+
+    @Setup
+    public void setUp()
+    {
+        Random random = new Random(1L);
+        this.ints = random.ints(this.size).toArray();
+        this.longs = random.longs(this.size).toArray();
+        this.doubles = random.doubles(this.size, -1.0E9, 1.0E9).toArray();
+    }
+
+    @Benchmark
+    public MutableIntList sortThis_int()
+    {
+        return IntArrayList.newListWith(this.ints.clone()).sortThis();
+    }
+
+    @Benchmark
+    public MutableIntList parallelSortThis_int()
+    {
+        return IntArrayList.newListWith(this.ints.clone()).parallelSortThis();
+    }
+
+    @Benchmark
+    public MutableLongList sortThis_long()
+    {
+        return LongArrayList.newListWith(this.longs.clone()).sortThis();
+    }
+
+    @Benchmark
+    public MutableLongList parallelSortThis_long()
+    {
+        return LongArrayList.newListWith(this.longs.clone()).parallelSortThis();
+    }
+
+    @Benchmark
+    public MutableDoubleList sortThis_double()
+    {
+        return DoubleArrayList.newListWith(this.doubles.clone()).sortThis();
+    }
+
+    @Benchmark
+    public MutableDoubleList parallelSortThis_double()
+    {
+        return DoubleArrayList.newListWith(this.doubles.clone()).parallelSortThis();
+    }
+
+    @Benchmark
+    public MutableIntList sortThis_keyComparator()
+    {
+        return IntArrayList.newListWith(Arrays.copyOf(this.ints, Math.min(this.size, KEY_FUNCTION_SIZE)))
+                .sortThis((i1, i2) -> Integer.toHexString(i1).compareTo(Integer.toHexString(i2)));
+    }
+
+    @Benchmark
+    public MutableIntList sortThisBy_key()
+    {
+        return IntArrayList.newListWith(Arrays.copyOf(this.ints, Math.min(this.size, KEY_FUNCTION_SIZE)))
+                .sortThisBy(Integer::toHexString);
+    }
+
+    @Test
+    public void sameResults()
+    {
+        this.size = 1_000_000;
+        this.setUp();
+        Assert.assertEquals(this.sortThis_int(), this.parallelSortThis_int());
+        Assert.assertEquals(this.sortThis_long(), this.parallelSortThis_long());
+        Assert.assertEquals(this.sortThis_double(), this.parallelSortThis_double());
+        Assert.assertEquals(this.sortThis_keyComparator(), this.sortThisBy_key());
+    }
+}
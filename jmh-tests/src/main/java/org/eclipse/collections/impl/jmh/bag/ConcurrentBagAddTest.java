@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2024 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.jmh.bag;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.collections.api.bag.MutableBag;
+import org.eclipse.collections.impl.bag.mutable.ConcurrentHashBag;
+import org.eclipse.collections.impl.bag.mutable.HashBag;
+import org.eclipse.collections.impl.bag.mutable.MultiReaderHashBag;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Event counting from 32 threads into one shared bag: each operation adds an occurrence of one of a fixed set of
+ * items, and a small fraction of operations also read a count or the most frequent items. Compares the lock-free bag
+ * with the read-write-locked and the synchronized bags.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Threads(32)
+@Fork(2)
+@Warmup(iterations = 10, time = 2)
+@Measurement(iterations = 10, time = 2)
+public class ConcurrentBagAddTest
+{
+    @Param({"concurrent", "multiReader", "synchronized"})
+    public String type;
+
+    @Param({"16", "4096"})
+    public int distinctItems;
+
+    private MutableBag<String> bag;
+    private String[] items;
+
+    @Setup
+    public void setUp()
+    {
+        switch (this.type)
+        {
+            case "concurrent":
+                this.bag = ConcurrentHashBag.newBag();
+                break;
+            case "multiReader":
+                this.bag = MultiReaderHashBag.newBag();
+                break;
+            case "synchronized":
+                this.bag = HashBag.<String>newBag().asSynchronized();
+                break;
+            default:
+                throw new IllegalArgumentException(this.type);
+        }
+        this.items = new String[this.distinctItems];
+        for (int i = 0; i < this.distinctItems; i++)
+        {
+            this.items[i] = "item" + i;
+        }
+    }
+
+    private String nextItem()
+    {
+        return this.items[ThreadLocalRandom.current().nextInt(this.distinctItems)];
+    }
+
+    @Benchmark
+    public boolean add()
+    {
+        return this.bag.add(this.nextItem());
+    }
+
+    @Benchmark
+    public int addOccurrences()
+    {
+        return this.bag.addOccurrences(this.nextItem(), 3);
+    }
+
+    @Benchmark
+    public int addAndOccurrencesOf()
+    {
+        String item = this.nextItem();
+        this.bag.add(item);
+        return this.bag.occurrencesOf(item);
+    }
+
+    @Benchmark
+    public Object addAndTopOccurrences()
+    {
+        this.bag.add(this.nextItem());
+        if (ThreadLocalRandom.current().nextInt(1024) == 0)
+        {
+            return this.bag.topOccurrences(10);
+        }
+        return null;
+    }
+}
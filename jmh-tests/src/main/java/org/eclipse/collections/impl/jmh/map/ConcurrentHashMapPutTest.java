@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2024 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.jmh.map;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.collections.impl.map.mutable.ConcurrentHashMap;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Write bursts from all available cores against one shared map: every operation puts a thread-local key and removes
+ * it again, so the size counter is updated twice per operation while the table stays the same size. Compares the
+ * striped size counter with a single-cell counter and with the JDK map.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Threads(Threads.MAX)
+@Fork(2)
+@Warmup(iterations = 10, time = 2)
+@Measurement(iterations = 10, time = 2)
+public class ConcurrentHashMapPutTest
+{
+    private static final int KEYS_PER_THREAD = 1 << 12;
+
+    @Param({"ec", "ecSingleStripe", "jdk"})
+    public String type;
+
+    private final AtomicInteger threadCount = new AtomicInteger();
+    private Map<Integer, Integer> map;
+
+    @Setup
+    public void setUp()
+    {
+        switch (this.type)
+        {
+            case "ec":
+                this.map = ConcurrentHashMap.newMap(1 << 16);
+                break;
+            case "ecSingleStripe":
+                this.map = ConcurrentHashMap.newMap(1 << 16, 1);
+                break;
+            case "jdk":
+                this.map = new java.util.concurrent.ConcurrentHashMap<>(1 << 16);
+                break;
+            default:
+                throw new IllegalArgumentException(this.type);
+        }
+    }
+
+    @Benchmark
+    public Integer putRemove(ThreadKeys keys)
+    {
+        Integer key = keys.next();
+        this.map.put(key, key);
+        return this.map.remove(key);
+    }
+
+    @Benchmark
+    public int putRemoveSize(ThreadKeys keys)
+    {
+        Integer key = keys.next();
+        this.map.put(key, key);
+        this.map.remove(key);
+        return this.map.size();
+    }
+
+    @State(Scope.Thread)
+    public static class ThreadKeys
+    {
+        private Integer[] keys;
+        private int index;
+
+        @Setup
+        public void setUp(ConcurrentHashMapPutTest benchmark)
+        {
+            int offset = benchmark.threadCount.getAndIncrement() * KEYS_PER_THREAD;
+            this.keys = new Integer[KEYS_PER_THREAD];
+            for (int i = 0; i < KEYS_PER_THREAD; i++)
+            {
+                this.keys[i] = offset + i;
+            }
+        }
+
+        private Integer next()
+        {
+            Integer key = this.keys[this.index];
+            this.index = this.index + 1 & KEYS_PER_THREAD - 1;
+            return key;
+        }
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2024 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class StripedCounterTest
+{
+    @Test
+    public void basicLifecycle()
+    {
+        StripedCounter counter = new StripedCounter();
+
+        assertEquals(0L, counter.sum());
+        counter.increment();
+        counter.increment();
+        assertEquals(2L, counter.sum());
+        counter.add(16L);
+        assertEquals(18L, counter.sum());
+        counter.decrement();
+        assertEquals(17, counter.intValue());
+        assertEquals("17", counter.toString());
+
+        counter.reset();
+        assertEquals(0L, counter.sum());
+    }
+
+    @Test
+    public void intValueIsClamped()
+    {
+        StripedCounter counter = new StripedCounter();
+        counter.add(-5L);
+        assertEquals(-5L, counter.sum());
+        assertEquals(0, counter.intValue());
+        counter.add(Integer.MAX_VALUE + 10L);
+        assertEquals(Integer.MAX_VALUE, counter.intValue());
+    }
+
+    @Test
+    public void maxStripes()
+    {
+        assertEquals(1, new StripedCounter(1).getMaxStripes());
+        assertEquals(8, new StripedCounter(5).getMaxStripes());
+        assertEquals(64, new StripedCounter(64).getMaxStripes());
+        assertTrue(StripedCounter.DEFAULT_MAX_STRIPES >= Runtime.getRuntime().availableProcessors());
+        assertThrows(IllegalArgumentException.class, () -> new StripedCounter(0));
+    }
+
+    @Test
+    public void concurrentAdds() throws InterruptedException
+    {
+        this.assertConcurrentAdds(new StripedCounter());
+        this.assertConcurrentAdds(new StripedCounter(1));
+        this.assertConcurrentAdds(new StripedCounter(2));
+    }
+
+    private void assertConcurrentAdds(StripedCounter counter) throws InterruptedException
+    {
+        int threads = 8;
+        int addsPerThread = 100_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        try
+        {
+            for (int i = 0; i < threads; i++)
+            {
+                executor.execute(() ->
+                {
+                    try
+                    {
+                        start.await();
+                    }
+                    catch (InterruptedException e)
+                    {
+                        Thread.currentThread().interrupt();
+                        return;
+                    }
+                    for (int j = 0; j < addsPerThread; j++)
+                    {
+                        counter.increment();
+                        counter.add(2L);
+                        counter.decrement();
+                    }
+                });
+            }
+            start.countDown();
+        }
+        finally
+        {
+            executor.shutdown();
+        }
+        assertTrue(executor.awaitTermination(1L, TimeUnit.MINUTES));
+        assertEquals(2L * threads * addsPerThread, counter.sum());
+    }
+}
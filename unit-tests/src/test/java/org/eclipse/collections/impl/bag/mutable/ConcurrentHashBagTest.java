@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2024 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.bag.mutable;
+
+import org.eclipse.collections.api.bag.MutableBag;
+import org.eclipse.collections.api.tuple.primitive.ObjectIntPair;
+import org.eclipse.collections.impl.list.Interval;
+import org.eclipse.collections.impl.parallel.ParallelIterate;
+import org.eclipse.collections.impl.test.SerializeTestHelper;
+import org.eclipse.collections.impl.test.Verify;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ConcurrentHashBagTest extends MutableBagTestCase
+{
+    @Override
+    protected <T> MutableBag<T> newWith(T... littleElements)
+    {
+        return ConcurrentHashBag.newBagWith(littleElements);
+    }
+
+    @Override
+    protected <T> MutableBag<T> newWithOccurrences(ObjectIntPair<T>... elementsWithOccurrences)
+    {
+        MutableBag<T> bag = this.newWith();
+        for (ObjectIntPair<T> itemToAdd : elementsWithOccurrences)
+        {
+            bag.addOccurrences(itemToAdd.getOne(), itemToAdd.getTwo());
+        }
+        return bag;
+    }
+
+    @Test
+    public void newBagFromBag()
+    {
+        HashBag<Integer> source = HashBag.newBagWith(1, 2, 2, 3, 3, 3);
+        ConcurrentHashBag<Integer> bag = ConcurrentHashBag.newBag(source);
+        assertBagsEqual(source, bag);
+        Verify.assertSize(6, bag);
+    }
+
+    @Test
+    public void removeLastOccurrenceThenAdd()
+    {
+        ConcurrentHashBag<String> bag = ConcurrentHashBag.newBagWith("a", "a");
+        assertTrue(bag.removeOccurrences("a", 5));
+        assertFalse(bag.remove("a"));
+        assertEquals(0, bag.sizeDistinct());
+        assertEquals(1, bag.addOccurrences("a", 1));
+        assertTrue(bag.setOccurrences("a", 4));
+        assertFalse(bag.setOccurrences("a", 4));
+        assertEquals(4, bag.occurrencesOf("a"));
+        Verify.assertSize(4, bag);
+        assertTrue(bag.setOccurrences("a", 0));
+        Verify.assertEmpty(bag);
+        assertEquals(0, bag.sizeDistinct());
+    }
+
+    @Test
+    public void concurrentAddAndRemove()
+    {
+        ConcurrentHashBag<Integer> bag = ConcurrentHashBag.newBag();
+        ParallelIterate.forEach(Interval.zeroTo(99_999), each ->
+        {
+            bag.addOccurrences(each % 10, 2);
+            bag.remove(each % 10);
+        }, 1_000);
+        assertEquals(Interval.zeroTo(9).toSet(), bag.distinctView().toSet());
+        Verify.assertSize(100_000, bag);
+        bag.forEachWithOccurrences((each, occurrences) -> assertEquals(10_000, occurrences));
+        Verify.assertSize(10, bag.topOccurrences(1));
+    }
+
+    @Test
+    public void concurrentAddAndRemoveAllOccurrences()
+    {
+        ConcurrentHashBag<Integer> bag = ConcurrentHashBag.newBag();
+        ParallelIterate.forEach(Interval.zeroTo(99_999), each ->
+        {
+            bag.add(each % 10);
+            bag.removeOccurrences(each % 10, 1);
+        }, 1_000);
+        Verify.assertEmpty(bag);
+        assertEquals(0, bag.sizeDistinct());
+    }
+
+    @Test
+    public void serialization()
+    {
+        ConcurrentHashBag<String> bag = ConcurrentHashBag.newBagWith(null, "a", "a", "b");
+        MutableBag<String> copy = SerializeTestHelper.serializeDeserialize(bag);
+        Verify.assertInstanceOf(ConcurrentHashBag.class, copy);
+        assertBagsEqual(bag, copy);
+        Verify.assertSize(4, copy);
+    }
+}
@@ -11,15 +11,22 @@
 package org.eclipse.collections.impl.lazy.parallel;
 
 import java.io.IOException;
+import java.util.DoubleSummaryStatistics;
+import java.util.IntSummaryStatistics;
 import java.util.NoSuchElementException;
+import java.util.Random;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.regex.Pattern;
 
+import org.eclipse.collections.api.ParallelDoubleIterable;
+import org.eclipse.collections.api.ParallelIntIterable;
 import org.eclipse.collections.api.ParallelIterable;
+import org.eclipse.collections.api.ParallelLongIterable;
 import org.eclipse.collections.api.RichIterable;
+import org.eclipse.collections.api.bag.MutableBag;
 import org.eclipse.collections.api.block.function.Function;
 import org.eclipse.collections.api.block.function.Function0;
 import org.eclipse.collections.api.block.function.Function2;
@@ -54,9 +61,11 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
@@ -134,6 +143,37 @@ public abstract class ParallelIterableTestCase
                 HashBag.newBagWith(this.classUnderTest().toArray(new Object[10])));
     }
 
+    @Test
+    public void toArray_array_typed()
+    {
+        Integer[] smaller = this.classUnderTest().toArray(new Integer[0]);
+        assertEquals(this.getExpected().size(), smaller.length);
+        assertEquals(HashBag.newBagWith(this.getExpected().toArray()), HashBag.newBagWith(smaller));
+
+        Integer[] larger = new Integer[this.getExpected().size() + 2];
+        larger[this.getExpected().size() + 1] = 42;
+        assertSame(larger, this.classUnderTest().toArray(larger));
+        assertNull(larger[this.getExpected().size()]);
+        assertEquals(Integer.valueOf(42), larger[this.getExpected().size() + 1]);
+        if (this.isOrdered())
+        {
+            assertArrayEquals(this.getExpected().toArray(), smaller);
+        }
+    }
+
+    @Test
+    public void toArray_batchSizes()
+    {
+        MutableList<Integer> list = Interval.oneTo(20_000).toList().shuffleThis(new Random(1L));
+        Integer[] elements = list.toArray(new Integer[]{});
+        MutableBag<Integer> expected = this.getExpectedWith(elements).toBag();
+        for (Integer batchSize : BATCH_SIZES)
+        {
+            this.batchSize = batchSize;
+            assertEquals(expected, HashBag.newBagWith(this.newWith(elements).toArray()), "Batch size: " + this.batchSize);
+        }
+    }
+
     @Test
     public void forEach()
     {
@@ -582,6 +622,38 @@ public abstract class ParallelIterableTestCase
                 this.classUnderTest().toSortedListBy(String::valueOf));
     }
 
+    @Test
+    public void toSorted_batchSizes()
+    {
+        MutableList<Integer> list = Interval.oneTo(20_000).toList().shuffleThis(new Random(1L));
+        Integer[] elements = list.toArray(new Integer[]{});
+        RichIterable<Integer> expected = this.getExpectedWith(elements);
+        for (Integer batchSize : BATCH_SIZES)
+        {
+            this.batchSize = batchSize;
+            ParallelIterable<Integer> actual = this.newWith(elements);
+            assertEquals(expected.toSortedList(), actual.toSortedList(), "Batch size: " + this.batchSize);
+            assertEquals(
+                    expected.toSortedList(Comparators.reverseNaturalOrder()),
+                    actual.toSortedList(Comparators.reverseNaturalOrder()),
+                    "Batch size: " + this.batchSize);
+            Verify.assertSortedSetsEqual(expected.toSortedSet(), actual.toSortedSet());
+            assertEquals(expected.toSortedBag(), actual.toSortedBag(), "Batch size: " + this.batchSize);
+            assertEquals(expected.toBag(), actual.toBag(), "Batch size: " + this.batchSize);
+        }
+    }
+
+    @Test
+    public void toSortedListBy_stable()
+    {
+        if (this.isOrdered())
+        {
+            assertEquals(
+                    this.getExpected().toSortedListBy(each -> each % 2),
+                    this.classUnderTest().toSortedListBy(each -> each % 2));
+        }
+    }
+
     @Test
     public void toSet()
     {
@@ -853,6 +925,76 @@ public abstract class ParallelIterableTestCase
         assertEquals(
                 this.getExpected().aggregateInPlaceBy(isOddFunction, AtomicInteger::new, AtomicInteger::addAndGet).collect(atomicIntToInt),
                 this.classUnderTest().aggregateInPlaceBy(isOddFunction, AtomicInteger::new, AtomicInteger::addAndGet).collect(atomicIntToInt));
+        assertEquals(
+                this.getExpected().aggregateInPlaceBy(isOddFunction, AtomicInteger::new, AtomicInteger::addAndGet).collect(atomicIntToInt),
+                this.classUnderTest().aggregateInPlaceBy(isOddFunction, AtomicInteger::new, AtomicInteger::addAndGet, (left, right) -> left.addAndGet(right.get())).collect(atomicIntToInt));
+    }
+
+    @Test
+    public void countBy()
+    {
+        Function<Integer, Boolean> isOddFunction = object -> IntegerPredicates.isOdd().accept(object);
+
+        assertEquals(
+                this.getExpected().countBy(isOddFunction),
+                this.classUnderTest().countBy(isOddFunction));
+    }
+
+    @Test
+    public void sumByLong()
+    {
+        Function<Integer, Boolean> isOddFunction = object -> IntegerPredicates.isOdd().accept(object);
+
+        assertEquals(
+                this.getExpected().sumByLong(isOddFunction, Integer::longValue),
+                this.classUnderTest().sumByLong(isOddFunction, Integer::longValue));
+    }
+
+    @Test
+    public void grouping_keyCardinalities()
+    {
+        MutableList<Integer> list = Interval.oneTo(5_000).toList().shuffleThis(new Random(1L));
+        Integer[] elements = list.toArray(new Integer[]{});
+        RichIterable<Integer> expected = this.getExpectedWith(elements);
+        for (int cardinality : new int[]{1, 7, 5_000})
+        {
+            Function<Integer, Integer> key = each -> each % cardinality;
+            Function<Integer, MutableList<Integer>> keys = each -> Lists.mutable.with(each % cardinality, -1 - each % cardinality);
+            for (Integer batchSize : BATCH_SIZES)
+            {
+                this.batchSize = batchSize;
+                ParallelIterable<Integer> actual = this.newWith(elements);
+                String message = "Cardinality: " + cardinality + ", batch size: " + batchSize;
+                assertEquals(expected.groupBy(key), actual.groupBy(key), message);
+                assertEquals(expected.groupByEach(keys), actual.groupByEach(keys), message);
+                assertEquals(expected.countBy(key), actual.countBy(key), message);
+                assertEquals(expected.sumByLong(key, Integer::longValue), actual.sumByLong(key, Integer::longValue), message);
+                assertEquals(
+                        expected.aggregateBy(key, () -> 0, Integer::sum),
+                        actual.aggregateBy(key, () -> 0, Integer::sum),
+                        message);
+                assertEquals(
+                        expected.aggregateBy(key, () -> 0, Integer::sum),
+                        actual.aggregateBy(key, () -> 0, Integer::sum, Integer::sum),
+                        message);
+                assertEquals(
+                        expected.aggregateInPlaceBy(key, HashBag::new, MutableBag::add),
+                        actual.aggregateInPlaceBy(key, HashBag::new, MutableBag::add, MutableBag::addAll),
+                        message);
+                if (this.isOrdered())
+                {
+                    assertEquals(
+                            expected.aggregateBy(key, () -> "", (string, each) -> string + each + ','),
+                            actual.aggregateBy(key, () -> "", (string, each) -> string + each + ',', String::concat),
+                            message);
+                }
+            }
+        }
+        if (this.isUnique())
+        {
+            this.batchSize = 100;
+            assertEquals(expected.groupByUniqueKey(each -> each), this.newWith(elements).groupByUniqueKey(each -> each));
+        }
     }
 
     @Test
@@ -911,6 +1053,74 @@ public abstract class ParallelIterableTestCase
                 0.0);
     }
 
+    @Test
+    public void collectInt()
+    {
+        RichIterable<Integer> expected = this.getExpected();
+        ParallelIntIterable actual = this.classUnderTest().collectInt(Integer::intValue);
+
+        assertEquals(expected.sumOfInt(Integer::intValue), actual.sum());
+        assertEquals(expected.collectInt(Integer::intValue).maxIfEmpty(0), actual.maxIfEmpty(0));
+        assertEquals(expected.collectInt(Integer::intValue).toBag(), actual.toBag());
+        assertArrayEquals(expected.collectInt(Integer::intValue).toSortedArray(), actual.toSortedArray());
+        assertEquals(expected.count(IntegerPredicates.isOdd()), actual.count(each -> each % 2 != 0));
+        assertEquals(
+                expected.select(IntegerPredicates.isOdd()).collectInt(Integer::intValue).toBag(),
+                actual.select(each -> each % 2 != 0).toBag());
+        assertEquals(expected.anySatisfy(each -> each > 3), actual.anySatisfy(each -> each > 3));
+        assertEquals(expected.allSatisfy(each -> each > 1), actual.allSatisfy(each -> each > 1));
+
+        IntSummaryStatistics statistics = actual.select(each -> each % 2 == 0).summaryStatistics();
+        assertEquals(expected.count(IntegerPredicates.isEven()), statistics.getCount());
+        assertEquals(expected.select(IntegerPredicates.isEven()).sumOfInt(Integer::intValue), statistics.getSum());
+    }
+
+    @Test
+    public void collectInt_batchSizes()
+    {
+        MutableList<Integer> list = Interval.oneTo(20_000).toList().shuffleThis(new Random(1L));
+        Integer[] elements = list.toArray(new Integer[]{});
+        int[] expected = this.getExpectedWith(elements).collectInt(Integer::intValue).select(each -> each % 3 == 0).toSortedArray();
+
+        for (Integer batchSize : BATCH_SIZES)
+        {
+            this.batchSize = batchSize;
+
+            ParallelIntIterable actual = this.newWith(elements).collectInt(Integer::intValue);
+            assertArrayEquals(expected, actual.select(each -> each % 3 == 0).toSortedArray(), "Batch size: " + this.batchSize);
+            assertEquals(expected.length, actual.select(each -> each % 3 == 0).toBag().size(), "Batch size: " + this.batchSize);
+        }
+    }
+
+    @Test
+    public void collectLong()
+    {
+        RichIterable<Integer> expected = this.getExpected();
+        ParallelLongIterable actual = this.classUnderTest().collectLong(Integer::longValue);
+
+        assertEquals(expected.sumOfLong(Integer::longValue), actual.sum());
+        assertEquals(expected.collectLong(Integer::longValue).toBag(), actual.toBag());
+        assertArrayEquals(expected.collectLong(Integer::longValue).toSortedArray(), actual.toSortedArray());
+        assertEquals(
+                expected.select(IntegerPredicates.isOdd()).sumOfLong(Integer::longValue),
+                actual.select(each -> each % 2 != 0).summaryStatistics().getSum());
+    }
+
+    @Test
+    public void collectDouble()
+    {
+        RichIterable<Integer> expected = this.getExpected();
+        ParallelDoubleIterable actual = this.classUnderTest().collectDouble(Integer::doubleValue);
+
+        assertEquals(expected.sumOfDouble(Integer::doubleValue), actual.sum(), 0.0);
+        assertEquals(expected.collectDouble(Integer::doubleValue).toBag(), actual.toBag());
+        assertArrayEquals(expected.collectDouble(Integer::doubleValue).toSortedArray(), actual.toSortedArray());
+
+        DoubleSummaryStatistics statistics = actual.select(each -> each > 1.0).summaryStatistics();
+        assertEquals(expected.count(each -> each > 1), statistics.getCount());
+        assertEquals(expected.select(each -> each > 1).sumOfDouble(Integer::doubleValue), statistics.getSum(), 0.0);
+    }
+
     @Test
     public void sumOfDoubleConsistentRounding()
     {
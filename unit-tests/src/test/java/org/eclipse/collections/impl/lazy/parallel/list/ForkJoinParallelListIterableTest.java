@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2024 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.lazy.parallel.list;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.api.list.ParallelListIterable;
+import org.eclipse.collections.impl.list.Interval;
+import org.eclipse.collections.impl.list.mutable.FastList;
+import org.eclipse.collections.impl.test.Verify;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Runs the {@link ParallelListIterableTest} suite on the work-stealing backend, which is selected by passing a
+ * {@link ForkJoinPool} to asParallel.
+ */
+public class ForkJoinParallelListIterableTest extends ParallelListIterableTest
+{
+    @Override
+    @BeforeEach
+    public void setUp()
+    {
+        super.setUp();
+        this.executorService.shutdownNow();
+        this.executorService = new ForkJoinPool(10);
+    }
+
+    @Test
+    public void forEach_runsOnForkJoinWorkers()
+    {
+        this.classUnderTest().forEach(each -> assertTrue(Thread.currentThread() instanceof ForkJoinWorkerThread));
+    }
+
+    @Test
+    public void skewedSelect()
+    {
+        MutableList<Integer> list = Interval.oneTo(100_000).toList();
+        ParallelListIterable<Integer> skewed = list.asParallel(this.executorService, 100).select(each -> each > 99_000);
+        assertEquals(list.select(each -> each > 99_000), skewed.toList());
+        assertEquals(list.count(each -> each > 99_000), skewed.count(each -> true));
+        assertEquals(Integer.valueOf(99_001), skewed.min());
+        assertEquals(list.select(each -> each > 99_000).sumOfLong(Integer::longValue), skewed.sumOfLong(Integer::longValue));
+        assertTrue(skewed.anySatisfy(each -> each == 100_000));
+        assertTrue(skewed.allSatisfy(each -> each > 99_000));
+        assertEquals(Integer.valueOf(99_500), skewed.detect(each -> each == 99_500));
+        Verify.assertSize(1_000, FastList.newListWith(skewed.toArray()));
+    }
+}
@@ -83,4 +83,11 @@ public abstract class NonParallelListIterableTestCase extends ParallelListIterab
     {
         // Not applicable in serial
     }
+
+    @Override
+    @Test
+    public void detectFirst_stopsLaterBatchesWhileRunning()
+    {
+        // Not applicable in serial
+    }
 }
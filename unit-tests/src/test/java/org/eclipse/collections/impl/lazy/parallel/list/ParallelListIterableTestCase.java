@@ -10,14 +10,33 @@
 
 package org.eclipse.collections.impl.lazy.parallel.list;
 
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.list.ImmutableList;
 import org.eclipse.collections.api.list.ListIterable;
 import org.eclipse.collections.api.list.MutableList;
 import org.eclipse.collections.api.list.ParallelListIterable;
 import org.eclipse.collections.impl.lazy.parallel.ParallelIterableTestCase;
+import org.eclipse.collections.impl.list.Interval;
 import org.eclipse.collections.impl.list.mutable.FastList;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public abstract class ParallelListIterableTestCase extends ParallelIterableTestCase
 {
+    private static final ImmutableList<Integer> ORDERED_BATCH_SIZES = Lists.immutable.with(1, 3, 100, 10000);
+
     @Override
     protected abstract ParallelListIterable<Integer> classUnderTest();
 
@@ -47,4 +66,169 @@ public abstract class ParallelListIterableTestCase extends ParallelIterableTestC
     {
         return false;
     }
+
+    @Test
+    public void forEachOrdered()
+    {
+        MutableList<Integer> actual = FastList.newList();
+        this.classUnderTest().forEachOrdered(actual::add);
+        assertEquals(this.getExpected(), actual);
+    }
+
+    @Test
+    public void detectFirst()
+    {
+        ParallelListIterable<Integer> parallel = this.classUnderTest();
+        assertEquals(this.getExpected().detect(each -> each > 1), parallel.detectFirst(each -> each > 1));
+        assertEquals(this.getExpected().detect(each -> each < 4), parallel.detectFirst(each -> each < 4));
+        assertNull(parallel.detectFirst(each -> each > 4));
+    }
+
+    @Test
+    public void take()
+    {
+        ParallelListIterable<Integer> parallel = this.classUnderTest();
+        assertEquals(FastList.newList(), parallel.take(0));
+        assertEquals(this.getExpected().take(4), parallel.take(4));
+        assertEquals(this.getExpected(), parallel.take(10));
+        assertEquals(this.getExpected(), parallel.take(Integer.MAX_VALUE));
+        assertThrows(IllegalArgumentException.class, () -> parallel.take(-1));
+    }
+
+    @Test
+    public void drop()
+    {
+        ParallelListIterable<Integer> parallel = this.classUnderTest();
+        assertEquals(this.getExpected(), parallel.drop(0));
+        assertEquals(this.getExpected().drop(4), parallel.drop(4));
+        assertEquals(FastList.newList(), parallel.drop(10));
+        assertEquals(FastList.newList(), parallel.drop(Integer.MAX_VALUE));
+        assertThrows(IllegalArgumentException.class, () -> parallel.drop(-1));
+    }
+
+    @Test
+    public void zipWithIndex()
+    {
+        assertEquals(this.getExpected().zipWithIndex(), this.classUnderTest().zipWithIndex());
+    }
+
+    @Test
+    public void orderedOperations_matchSequential()
+    {
+        Integer[] elements = Interval.oneTo(20_000).toList().shuffleThis(new Random(1L)).toArray(new Integer[]{});
+        ListIterable<Integer> expected = this.getExpectedWith(elements);
+
+        for (Integer batchSize : ORDERED_BATCH_SIZES)
+        {
+            this.batchSize = batchSize;
+            ParallelListIterable<Integer> parallel = this.newWith(elements);
+            String message = "Batch size: " + batchSize;
+
+            MutableList<Integer> forEachOrdered = FastList.newList();
+            parallel.forEachOrdered(forEachOrdered::add);
+            assertEquals(expected, forEachOrdered, message);
+            assertEquals(expected, parallel.toList(), message);
+            assertEquals(expected.detect(each -> each % 997 == 0), parallel.detectFirst(each -> each % 997 == 0), message);
+            assertEquals(expected.take(1234), parallel.take(1234), message);
+            assertEquals(expected.drop(1234), parallel.drop(1234), message);
+            assertEquals(expected.zipWithIndex(), parallel.zipWithIndex(), message);
+            assertEquals(
+                    expected.aggregateBy(each -> each % 1_000, () -> "", (string, each) -> string + each + ','),
+                    parallel.aggregateBy(each -> each % 1_000, () -> "", (string, each) -> string + each + ','),
+                    message);
+            assertEquals(
+                    expected.aggregateInPlaceBy(each -> each % 7, FastList::new, MutableList::add),
+                    parallel.aggregateInPlaceBy(each -> each % 7, FastList::new, MutableList::add),
+                    message);
+        }
+    }
+
+    @Test
+    public void shortCircuit_stopsRemainingBatches()
+    {
+        // with a single thread the batches run one after another, so the batches after the match evaluate nothing
+        this.executorService.shutdownNow();
+        this.executorService = Executors.newSingleThreadExecutor();
+        this.batchSize = 100;
+        Integer[] elements = Interval.oneTo(20_000).toArray(new Integer[]{});
+        Integer first = this.getExpectedWith(elements).getFirst();
+        AtomicInteger evaluations = new AtomicInteger();
+
+        assertTrue(this.newWith(elements).anySatisfy(each -> evaluations.incrementAndGet() > 0 && each.equals(first)));
+        assertEquals(1, evaluations.getAndSet(0));
+
+        assertFalse(this.newWith(elements).allSatisfy(each -> evaluations.incrementAndGet() > 0 && !each.equals(first)));
+        assertEquals(1, evaluations.getAndSet(0));
+
+        assertEquals(first, this.newWith(elements).detect(each -> evaluations.incrementAndGet() > 0 && each.equals(first)));
+        assertEquals(1, evaluations.getAndSet(0));
+
+        assertEquals(first, this.newWith(elements).detectFirst(each -> evaluations.incrementAndGet() > 0 && each.equals(first)));
+        assertEquals(1, evaluations.get());
+    }
+
+    @Test
+    public void detectFirst_stopsLaterBatchesWhileRunning()
+    {
+        // the second batch is already running when the first batch matches, and must stop at its next element
+        this.executorService.shutdownNow();
+        this.executorService = Executors.newFixedThreadPool(2);
+        this.batchSize = 10_000;
+        Integer[] elements = new Integer[20_000];
+        Arrays.fill(elements, 2);
+        elements[0] = 1;
+        CountDownLatch secondBatchStarted = new CountDownLatch(1);
+        CountDownLatch firstBatchMatched = new CountDownLatch(1);
+        AtomicInteger visits = new AtomicInteger();
+
+        Integer found = this.newWith(elements)
+                .collect(each ->
+                {
+                    visits.incrementAndGet();
+                    return each;
+                })
+                .detectFirst(each ->
+                {
+                    if (each == 1)
+                    {
+                        await(secondBatchStarted);
+                        firstBatchMatched.countDown();
+                        return true;
+                    }
+                    if (secondBatchStarted.getCount() > 0)
+                    {
+                        secondBatchStarted.countDown();
+                        await(firstBatchMatched);
+                        sleep(100L);
+                    }
+                    return false;
+                });
+
+        assertEquals(Integer.valueOf(1), found);
+        assertTrue(visits.get() < this.batchSize, "Visits: " + visits.get());
+    }
+
+    private static void await(CountDownLatch latch)
+    {
+        try
+        {
+            assertTrue(latch.await(10L, TimeUnit.SECONDS));
+        }
+        catch (InterruptedException e)
+        {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private static void sleep(long millis)
+    {
+        try
+        {
+            Thread.sleep(millis);
+        }
+        catch (InterruptedException e)
+        {
+            throw new RuntimeException(e);
+        }
+    }
 }
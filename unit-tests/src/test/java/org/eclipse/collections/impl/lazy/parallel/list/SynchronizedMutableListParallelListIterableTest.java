@@ -231,4 +231,11 @@ public class SynchronizedMutableListParallelListIterableTest extends ParallelLis
         this.classUnderTest().forEach(CollectionAddProcedure.on(actual));
         assertEquals(this.getExpected().toBag(), actual);
     }
+
+    @Override
+    @Test
+    public void detectFirst_stopsLaterBatchesWhileRunning()
+    {
+        // Not applicable, the synchronized adapter runs its batches one after another
+    }
 }
@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) 2024 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.list.immutable;
+
+import java.util.Random;
+
+import org.eclipse.collections.api.list.ImmutableList;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.impl.list.Interval;
+import org.eclipse.collections.impl.list.mutable.FastList;
+import org.eclipse.collections.impl.test.SerializeTestHelper;
+import org.eclipse.collections.impl.test.Verify;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+/**
+ * JUnit test for {@link ImmutableTrieList}.
+ */
+public class ImmutableTrieListTest extends AbstractImmutableListTestCase
+{
+    private static final int LARGE_SIZE = 10_000;
+
+    @Override
+    protected ImmutableList<Integer> classUnderTest()
+    {
+        return ImmutableTrieList.newListWith(1, 2, 3);
+    }
+
+    @Test
+    public void newWith()
+    {
+        ImmutableList<Integer> list = ImmutableTrieList.newListWith(1, 2, 3);
+        ImmutableList<Integer> with = list.newWith(4);
+        assertNotEquals(list, with);
+        assertEquals(FastList.newListWith(1, 2, 3, 4), with);
+        assertEquals(FastList.newListWith(1, 2, 3), list);
+    }
+
+    @Test
+    public void newWith_large()
+    {
+        ImmutableTrieList<Integer> list = ImmutableTrieList.empty();
+        for (int i = 0; i < LARGE_SIZE; i++)
+        {
+            ImmutableTrieList<Integer> previous = list;
+            list = list.newWith(i);
+            Verify.assertSize(i, previous);
+        }
+        assertEquals(Interval.zeroTo(LARGE_SIZE - 1).toList(), list);
+        for (int i = 0; i < LARGE_SIZE; i++)
+        {
+            assertEquals(Integer.valueOf(i), list.get(i));
+        }
+    }
+
+    @Test
+    public void newWithout_large()
+    {
+        Random random = new Random(1L);
+        MutableList<Integer> expected = Interval.zeroTo(LARGE_SIZE - 1).toList();
+        ImmutableTrieList<Integer> list = ImmutableTrieList.newList(expected);
+        for (int i = 0; i < 1_000; i++)
+        {
+            Integer element = expected.get(random.nextInt(expected.size()));
+            expected.remove(element);
+            list = list.newWithout(element);
+            assertEquals(expected, list);
+        }
+        assertSame(list, list.newWithout(-1));
+    }
+
+    @Test
+    public void subList_large()
+    {
+        Random random = new Random(2L);
+        MutableList<Integer> expected = Interval.zeroTo(LARGE_SIZE - 1).toList();
+        ImmutableTrieList<Integer> list = ImmutableTrieList.newList(expected);
+        for (int i = 0; i < 200; i++)
+        {
+            int fromIndex = random.nextInt(LARGE_SIZE);
+            int toIndex = fromIndex + random.nextInt(LARGE_SIZE - fromIndex + 1);
+            assertEquals(expected.subList(fromIndex, toIndex), list.subList(fromIndex, toIndex));
+        }
+        assertSame(list, list.subList(0, LARGE_SIZE));
+    }
+
+    @Test
+    public void newWithAll_concatenatesTries()
+    {
+        Random random = new Random(3L);
+        MutableList<Integer> expected = FastList.newList();
+        ImmutableTrieList<Integer> list = ImmutableTrieList.empty();
+        for (int i = 0; i < 100; i++)
+        {
+            MutableList<Integer> other = Interval.oneTo(random.nextInt(1_000)).toList();
+            expected.addAll(other);
+            list = i % 2 == 0 ? list.newWithAll(ImmutableTrieList.newList(other)) : list.newWithAll(other);
+            assertEquals(expected, list);
+        }
+        MutableList<Integer> doubled = FastList.newList(expected);
+        doubled.addAll(expected);
+        assertEquals(doubled, list.newWithAll(list));
+    }
+
+    @Test
+    public void builder()
+    {
+        ImmutableTrieList.Builder<Integer> builder = ImmutableTrieList.newListWith(1, 2, 3).toBuilder();
+        builder.addAll(Interval.fromTo(4, LARGE_SIZE));
+        ImmutableTrieList<Integer> list = builder.build();
+        assertEquals(Interval.oneTo(LARGE_SIZE).toList(), list);
+
+        builder.add(LARGE_SIZE + 1);
+        assertEquals(Interval.oneTo(LARGE_SIZE + 1).toList(), builder.build());
+        Verify.assertSize(LARGE_SIZE, list);
+    }
+
+    @Test
+    public void serialization_large()
+    {
+        ImmutableTrieList<Integer> list = ImmutableTrieList.newList(Interval.oneTo(LARGE_SIZE));
+        assertEquals(list, SerializeTestHelper.serializeDeserialize(list));
+    }
+}
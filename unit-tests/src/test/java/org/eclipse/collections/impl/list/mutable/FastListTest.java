@@ -14,11 +14,15 @@ import java.io.ByteArrayOutputStream;
 import java.lang.ref.WeakReference;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.ListIterator;
 import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import org.eclipse.collections.api.LazyIterable;
 import org.eclipse.collections.api.block.function.Function0;
@@ -31,6 +35,7 @@ import org.eclipse.collections.api.list.ImmutableList;
 import org.eclipse.collections.api.list.MutableList;
 import org.eclipse.collections.api.set.MutableSet;
 import org.eclipse.collections.api.tuple.Twin;
+import org.eclipse.collections.impl.Counter;
 import org.eclipse.collections.impl.block.factory.Predicates;
 import org.eclipse.collections.impl.block.factory.Predicates2;
 import org.eclipse.collections.impl.block.factory.Procedures;
@@ -1240,4 +1245,68 @@ public class FastListTest extends AbstractListTestCase
     {
         assertThrows(IllegalArgumentException.class, () -> new FastList<>(-1));
     }
+
+    @Test
+    public void parallelSortThis()
+    {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try
+        {
+            // pairs of value and original position, sorted by value only, so ties show whether the sort is stable
+            FastList<Twin<Integer>> expected = FastList.newList();
+            Random random = new Random(42L);
+            for (int i = 0; i < 100_000; i++)
+            {
+                expected.add(Tuples.twin(random.nextInt(1_000), i));
+            }
+            FastList<Twin<Integer>> actual = FastList.newList(expected);
+            Comparator<Twin<Integer>> byValue = Comparator.comparing(Twin::getOne);
+            expected.sortThis(byValue);
+            assertSame(actual, actual.parallelSortThis(byValue, executor));
+            assertEquals(expected, actual);
+
+            FastList<Integer> integers = FastList.newList(Interval.oneTo(50_000));
+            integers.shuffleThis(random);
+            assertEquals(Interval.oneTo(50_000).toList(), integers.parallelSortThis(null, executor));
+            assertEquals(Interval.fromToBy(50_000, 1, -1).toList(), integers.parallelSortThis(Collections.reverseOrder(), executor));
+            assertEquals(FastList.newListWith(3, 2, 1), FastList.newListWith(1, 3, 2).parallelSortThis(Collections.reverseOrder(), executor));
+            assertEquals(FastList.newList(), FastList.<Integer>newList().parallelSortThis(null, executor));
+
+            RuntimeException exception = assertThrows(RuntimeException.class, () -> integers.parallelSortThis((i1, i2) -> {
+                throw new IllegalStateException();
+            }, executor));
+            assertTrue(exception.getCause() instanceof IllegalStateException);
+        }
+        finally
+        {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void sortThisBy_computesEachKeyOnce()
+    {
+        Counter counter = new Counter();
+        FastList<Integer> list = FastList.newList(Interval.oneTo(1_000));
+        list.shuffleThis();
+        list.sortThisBy(each -> {
+            counter.increment();
+            return String.valueOf(each);
+        });
+        assertEquals(1_000, counter.getCount());
+        assertEquals(Interval.oneTo(1_000).toSortedListBy(String::valueOf), list);
+    }
+
+    @Test
+    public void sortThisByPrimitive_isStable()
+    {
+        FastList<Integer> list = FastList.newList(Interval.fromTo(-50, 49));
+        MutableList<Integer> expected = Interval.fromTo(-50, 49).toList().sortThis(Comparator.comparing(each -> Math.floorMod(each, 10)));
+        assertEquals(expected, list.clone().sortThisByInt(each -> Math.floorMod(each, 10)));
+        assertEquals(expected, list.clone().sortThisByLong(each -> Math.floorMod(each, 10) - (long) Integer.MAX_VALUE * 4L));
+        assertEquals(expected, list.clone().sortThisByDouble(each -> Math.floorMod(each, 10) - 0.5));
+
+        MutableList<Integer> expectedDescending = Interval.fromTo(-50, 49).toList().sortThis(Comparator.comparing(each -> -Math.floorMod(each, 10)));
+        assertEquals(expectedDescending, list.clone().sortThisByInt(each -> -Math.floorMod(each, 10)));
+    }
 }
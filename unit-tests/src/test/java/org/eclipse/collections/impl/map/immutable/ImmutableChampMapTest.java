@@ -0,0 +1,152 @@
+/*
+ * Copyright (c) 2024 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.map.immutable;
+
+import java.util.Random;
+
+import org.eclipse.collections.api.map.ImmutableMap;
+import org.eclipse.collections.api.map.MutableMap;
+import org.eclipse.collections.impl.map.mutable.UnifiedMap;
+import org.eclipse.collections.impl.test.SerializeTestHelper;
+import org.eclipse.collections.impl.test.Verify;
+import org.eclipse.collections.impl.tuple.Tuples;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public class ImmutableChampMapTest extends ImmutableMapTestCase
+{
+    private static final int LARGE_SIZE = 10_000;
+
+    @Override
+    protected ImmutableMap<Integer, String> classUnderTest()
+    {
+        return ImmutableChampMap.newMapWith(Tuples.pair(1, "1"), Tuples.pair(2, "2"), Tuples.pair(3, "3"), Tuples.pair(4, "4"));
+    }
+
+    @Override
+    protected int size()
+    {
+        return 4;
+    }
+
+    @Test
+    @Override
+    public void testToString()
+    {
+        assertEquals("{1=1, 2=2, 3=3, 4=4}", this.classUnderTest().toString());
+    }
+
+    @Test
+    public void newWithKeyValue_keepsPreviousVersions()
+    {
+        Random random = new Random(1L);
+        MutableMap<Integer, Integer> expected = UnifiedMap.newMap();
+        ImmutableChampMap<Integer, Integer> map = ImmutableChampMap.empty();
+        for (int i = 0; i < LARGE_SIZE; i++)
+        {
+            int key = random.nextInt(LARGE_SIZE);
+            ImmutableChampMap<Integer, Integer> previous = map;
+            MutableMap<Integer, Integer> previousExpected = UnifiedMap.newMap(expected);
+            if (random.nextInt(3) == 0)
+            {
+                map = map.newWithoutKey(key);
+                expected.removeKey(key);
+            }
+            else
+            {
+                map = map.newWithKeyValue(key, i);
+                expected.put(key, i);
+            }
+            Verify.assertMapsEqual(previousExpected, previous);
+        }
+        Verify.assertMapsEqual(expected, map);
+        assertSame(map, map.newWithoutKey(-1));
+    }
+
+    @Test
+    public void collidingHashCodes()
+    {
+        ImmutableChampMap<CollidingKey, Integer> map = ImmutableChampMap.empty();
+        for (int i = 0; i < 100; i++)
+        {
+            map = map.newWithKeyValue(new CollidingKey(i), i);
+        }
+        assertEquals(100, map.size());
+        for (int i = 0; i < 100; i++)
+        {
+            assertEquals(Integer.valueOf(i), map.get(new CollidingKey(i)));
+        }
+        for (int i = 0; i < 99; i++)
+        {
+            map = map.newWithoutKey(new CollidingKey(i));
+        }
+        assertEquals(UnifiedMap.newWithKeysValues(new CollidingKey(99), 99), map);
+        assertNull(map.get(new CollidingKey(0)));
+    }
+
+    @Test
+    public void builder()
+    {
+        ImmutableChampMap<Integer, String> original = (ImmutableChampMap<Integer, String>) this.classUnderTest();
+        ImmutableChampMap.Builder<Integer, String> builder = original.toBuilder();
+        for (int i = 5; i <= LARGE_SIZE; i++)
+        {
+            builder.put(i, String.valueOf(i));
+        }
+        builder.removeKey(1);
+        ImmutableChampMap<Integer, String> built = builder.build();
+        assertEquals(LARGE_SIZE - 1, built.size());
+        assertNull(built.get(1));
+        assertEquals("5000", built.get(5000));
+
+        builder.put(1, "one");
+        assertEquals("one", builder.build().get(1));
+        assertNull(built.get(1));
+        assertEquals(this.classUnderTest(), original);
+    }
+
+    @Test
+    public void serialization_large()
+    {
+        MutableMap<Integer, String> expected = UnifiedMap.newMap();
+        for (int i = 0; i < LARGE_SIZE; i++)
+        {
+            expected.put(i, String.valueOf(i));
+        }
+        ImmutableChampMap<Integer, String> map = ImmutableChampMap.newMap(expected);
+        Verify.assertMapsEqual(expected, SerializeTestHelper.serializeDeserialize(map));
+    }
+
+    private static final class CollidingKey
+    {
+        private final int id;
+
+        private CollidingKey(int id)
+        {
+            this.id = id;
+        }
+
+        @Override
+        public boolean equals(Object other)
+        {
+            return other instanceof CollidingKey && ((CollidingKey) other).id == this.id;
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return 42;
+        }
+    }
+}
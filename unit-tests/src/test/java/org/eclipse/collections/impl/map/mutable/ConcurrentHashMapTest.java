@@ -24,6 +24,7 @@ import org.eclipse.collections.api.map.ConcurrentMutableMap;
 import org.eclipse.collections.api.map.MapIterable;
 import org.eclipse.collections.api.map.MutableMap;
 import org.eclipse.collections.api.partition.PartitionIterable;
+import org.eclipse.collections.api.tuple.Pair;
 import org.eclipse.collections.impl.bag.mutable.HashBag;
 import org.eclipse.collections.impl.block.factory.Functions;
 import org.eclipse.collections.impl.block.factory.IntegerPredicates;
@@ -34,12 +35,14 @@ import org.eclipse.collections.impl.parallel.ParallelIterate;
 import org.eclipse.collections.impl.set.mutable.UnifiedSet;
 import org.eclipse.collections.impl.test.Verify;
 import org.eclipse.collections.impl.tuple.ImmutableEntry;
+import org.eclipse.collections.impl.tuple.Tuples;
 import org.junit.jupiter.api.Test;
 
 import static org.eclipse.collections.impl.factory.Iterables.iSet;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -391,6 +394,57 @@ public class ConcurrentHashMapTest extends ConcurrentHashMapTestCase
         }, 1, this.executor);
     }
 
+    @Test
+    public void keyValuesAsParallel()
+    {
+        ConcurrentHashMap<Integer, Integer> map = ConcurrentHashMap.newMap(Interval.oneTo(1000).toMap(Functions.getIntegerPassThru(), each -> each * 2));
+        assertEquals(
+                Interval.oneTo(1000).select(IntegerPredicates.isEven()).collect(each -> Tuples.pair(each, each * 2)).toSet(),
+                map.keyValuesAsParallel(this.executor, 7).select(pair -> pair.getOne() % 2 == 0).toSet());
+        assertEquals(500, map.keyValuesAsParallel(this.executor, 7).count(pair -> pair.getOne() > 500));
+        assertEquals(1001000L, map.keyValuesAsParallel(this.executor, 7).sumOfLong(Pair::getTwo));
+        assertEquals(Tuples.pair(42, 84), map.keyValuesAsParallel(this.executor, 7).detect(pair -> pair.getOne() == 42));
+        assertNull(map.keyValuesAsParallel(this.executor, 7).detect(pair -> pair.getOne() > 1000));
+        assertThrows(NullPointerException.class, () -> map.keyValuesAsParallel(null, 7));
+        assertThrows(IllegalArgumentException.class, () -> map.keyValuesAsParallel(this.executor, 0));
+    }
+
+    @Test
+    public void keyValuesAsParallelDuringResize() throws InterruptedException
+    {
+        ConcurrentHashMap<Integer, Integer> map = ConcurrentHashMap.newMap(Interval.oneTo(1000).toMap(Functions.getIntegerPassThru(), Functions.getIntegerPassThru()));
+        Thread writer = new Thread(() -> Interval.fromTo(1001, 200000).each(each -> map.put(each, each)));
+        writer.start();
+        while (writer.isAlive())
+        {
+            assertEquals(1000, map.keyValuesAsParallel(this.executor, 16).count(pair -> pair.getOne() <= 1000));
+            assertEquals(500500L, map.keyValuesAsParallel(this.executor, 16).select(pair -> pair.getOne() <= 1000).sumOfLong(Pair::getTwo));
+        }
+        writer.join();
+        assertEquals(200000, map.keyValuesAsParallel(this.executor, 64).count(pair -> true));
+    }
+
+    @Test
+    public void removeIfInParallel()
+    {
+        ConcurrentHashMap<Integer, Integer> map = ConcurrentHashMap.newMap(Interval.oneTo(1000).toMap(Functions.getIntegerPassThru(), Functions.getIntegerPassThru()));
+        assertTrue(map.removeIfInParallel((key, value) -> value % 3 == 0, this.executor, 10));
+        assertEquals(Interval.oneTo(1000).reject(each -> each % 3 == 0).toSet(), map.keySet());
+        assertFalse(map.removeIfInParallel((key, value) -> value > 1000, this.executor, 10));
+        assertEquals(667, map.size());
+    }
+
+    @Test
+    public void parallelStream()
+    {
+        ConcurrentHashMap<Integer, Integer> map = ConcurrentHashMap.newMap(Interval.oneTo(1000).toMap(Functions.getIntegerPassThru(), each -> each * 2));
+        assertEquals(500500L, map.keySet().parallelStream().mapToLong(Integer::longValue).sum());
+        assertEquals(1001000L, map.values().parallelStream().mapToLong(Integer::longValue).sum());
+        assertEquals(1501500L, map.entrySet().parallelStream().mapToLong(entry -> entry.getKey() + entry.getValue()).sum());
+        assertEquals(1000L, map.keySet().spliterator().estimateSize());
+        assertNotNull(map.keySet().spliterator().trySplit());
+    }
+
     @Test
     public void emptyToString()
     {
@@ -81,6 +81,24 @@ public abstract class ConcurrentHashMapTestCase extends MutableMapTestCase
                 HashBag.newBag(map.values()).toStringOfItemToCount());
     }
 
+    @Test
+    public void concurrentPutAndRemoveSize()
+    {
+        ConcurrentMutableMap<Integer, Integer> map = this.newMap();
+        ParallelIterate.forEach(Interval.oneTo(10_000), each ->
+        {
+            map.put(each, each);
+            map.put(-each, each);
+            map.remove(-each);
+        }, 1, this.executor);
+        assertEquals(10_000, map.size());
+        assertEquals(10_000L, map.sizeEstimate());
+        ParallelIterate.forEach(Interval.oneTo(10_000), each -> map.remove(each), 1, this.executor);
+        assertEquals(0, map.size());
+        assertEquals(0L, map.sizeEstimate());
+        assertTrue(map.isEmpty());
+    }
+
     @Override
     @Test
     public void updateValueWith()
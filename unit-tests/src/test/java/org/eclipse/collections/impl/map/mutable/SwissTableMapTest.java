@@ -0,0 +1,175 @@
+/*
+ * Copyright (c) 2024 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.map.mutable;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+import org.eclipse.collections.api.map.MutableMap;
+import org.eclipse.collections.impl.list.Interval;
+import org.eclipse.collections.impl.test.Verify;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class SwissTableMapTest extends MutableMapTestCase
+{
+    @Override
+    public <K, V> MutableMap<K, V> newMap()
+    {
+        return SwissTableMap.newMap();
+    }
+
+    @Override
+    public <K, V> MutableMap<K, V> newMapWithKeyValue(K key, V value)
+    {
+        return SwissTableMap.newWithKeysValues(key, value);
+    }
+
+    @Override
+    public <K, V> MutableMap<K, V> newMapWithKeysValues(K key1, V value1, K key2, V value2)
+    {
+        return SwissTableMap.newWithKeysValues(key1, value1, key2, value2);
+    }
+
+    @Override
+    public <K, V> MutableMap<K, V> newMapWithKeysValues(
+            K key1, V value1, K key2, V value2, K key3, V value3)
+    {
+        return SwissTableMap.newWithKeysValues(key1, value1, key2, value2, key3, value3);
+    }
+
+    @Override
+    public <K, V> MutableMap<K, V> newMapWithKeysValues(
+            K key1, V value1, K key2, V value2, K key3, V value3, K key4, V value4)
+    {
+        return SwissTableMap.newWithKeysValues(key1, value1, key2, value2, key3, value3, key4, value4);
+    }
+
+    @Test
+    public void newMap_throws()
+    {
+        assertThrows(IllegalArgumentException.class, () -> new SwissTableMap<Integer, Integer>(-1));
+    }
+
+    @Test
+    public void putGetRemoveManyCollidingKeys()
+    {
+        MutableMap<CollidingKey, Integer> map = SwissTableMap.newMap();
+        Map<CollidingKey, Integer> expected = new HashMap<>();
+        for (int i = 0; i < 1000; i++)
+        {
+            map.put(new CollidingKey(i), i);
+            expected.put(new CollidingKey(i), i);
+        }
+        assertEquals(expected, map);
+        for (int i = 0; i < 1000; i += 2)
+        {
+            assertEquals(Integer.valueOf(i), map.remove(new CollidingKey(i)));
+            expected.remove(new CollidingKey(i));
+        }
+        assertEquals(expected, map);
+        for (int i = 0; i < 1000; i++)
+        {
+            assertEquals(i % 2 == 1, map.containsKey(new CollidingKey(i)));
+        }
+    }
+
+    @Test
+    public void churnDoesNotLoseEntries()
+    {
+        MutableMap<Integer, Integer> map = SwissTableMap.newMap();
+        for (int round = 0; round < 50; round++)
+        {
+            for (int i = 0; i < 100; i++)
+            {
+                map.put(round * 100 + i, i);
+            }
+            for (int i = 0; i < 100; i++)
+            {
+                if (i % 10 != 0)
+                {
+                    map.remove(round * 100 + i);
+                }
+            }
+        }
+        Verify.assertSize(500, map);
+        for (int round = 0; round < 50; round++)
+        {
+            for (int i = 0; i < 100; i++)
+            {
+                assertEquals(i % 10 == 0, map.containsKey(round * 100 + i));
+            }
+        }
+    }
+
+    @Test
+    public void nullKeyAndNullValue()
+    {
+        MutableMap<Integer, Integer> map = SwissTableMap.newMap();
+        assertNull(map.put(null, 1));
+        assertNull(map.put(0, null));
+        assertEquals(Integer.valueOf(1), map.get(null));
+        assertTrue(map.containsKey(0));
+        assertNull(map.get(0));
+        assertEquals(Integer.valueOf(1), map.remove(null));
+        assertFalse(map.containsKey(null));
+        Verify.assertSize(1, map);
+    }
+
+    @Test
+    public void iteratorRemove()
+    {
+        MutableMap<Integer, Integer> map = SwissTableMap.newMap();
+        Interval.oneTo(100).each(each -> map.put(each, each));
+        Iterator<Integer> iterator = map.keySet().iterator();
+        int count = 0;
+        while (iterator.hasNext())
+        {
+            Integer next = iterator.next();
+            count++;
+            if (next % 2 == 0)
+            {
+                iterator.remove();
+            }
+        }
+        assertEquals(100, count);
+        Verify.assertSize(50, map);
+        assertEquals(Interval.oneToBy(100, 2).toSet(), map.keySet());
+    }
+
+    private static final class CollidingKey
+    {
+        private final int value;
+
+        private CollidingKey(int value)
+        {
+            this.value = value;
+        }
+
+        @Override
+        public boolean equals(Object o)
+        {
+            return o instanceof CollidingKey && ((CollidingKey) o).value == this.value;
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return this.value & 7;
+        }
+    }
+}
@@ -0,0 +1,193 @@
+/*
+ * Copyright (c) 2024 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.multimap.list;
+
+import java.util.Iterator;
+
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.api.tuple.Pair;
+import org.eclipse.collections.impl.bag.mutable.HashBag;
+import org.eclipse.collections.impl.list.Interval;
+import org.eclipse.collections.impl.list.mutable.FastList;
+import org.eclipse.collections.impl.parallel.ParallelIterate;
+import org.eclipse.collections.impl.test.SerializeTestHelper;
+import org.eclipse.collections.impl.test.Verify;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test of {@link ConcurrentFastListMultimap}.
+ */
+public class ConcurrentFastListMultimapTest extends AbstractMutableListMultimapTestCase
+{
+    @Override
+    public <K, V> ConcurrentFastListMultimap<K, V> newMultimap()
+    {
+        return ConcurrentFastListMultimap.newMultimap();
+    }
+
+    @Override
+    public <K, V> ConcurrentFastListMultimap<K, V> newMultimapWithKeyValue(K key, V value)
+    {
+        ConcurrentFastListMultimap<K, V> mutableMultimap = this.newMultimap();
+        mutableMultimap.put(key, value);
+        return mutableMultimap;
+    }
+
+    @Override
+    public <K, V> ConcurrentFastListMultimap<K, V> newMultimapWithKeysValues(K key1, V value1, K key2, V value2)
+    {
+        ConcurrentFastListMultimap<K, V> mutableMultimap = this.newMultimap();
+        mutableMultimap.put(key1, value1);
+        mutableMultimap.put(key2, value2);
+        return mutableMultimap;
+    }
+
+    @Override
+    public <K, V> ConcurrentFastListMultimap<K, V> newMultimapWithKeysValues(
+            K key1, V value1,
+            K key2, V value2,
+            K key3, V value3)
+    {
+        ConcurrentFastListMultimap<K, V> mutableMultimap = this.newMultimap();
+        mutableMultimap.put(key1, value1);
+        mutableMultimap.put(key2, value2);
+        mutableMultimap.put(key3, value3);
+        return mutableMultimap;
+    }
+
+    @Override
+    public <K, V> ConcurrentFastListMultimap<K, V> newMultimapWithKeysValues(
+            K key1, V value1,
+            K key2, V value2,
+            K key3, V value3,
+            K key4, V value4)
+    {
+        ConcurrentFastListMultimap<K, V> mutableMultimap = this.newMultimap();
+        mutableMultimap.put(key1, value1);
+        mutableMultimap.put(key2, value2);
+        mutableMultimap.put(key3, value3);
+        mutableMultimap.put(key4, value4);
+        return mutableMultimap;
+    }
+
+    @SafeVarargs
+    @Override
+    public final <K, V> ConcurrentFastListMultimap<K, V> newMultimap(Pair<K, V>... pairs)
+    {
+        return ConcurrentFastListMultimap.newMultimap(pairs);
+    }
+
+    @Override
+    public <K, V> ConcurrentFastListMultimap<K, V> newMultimapFromPairs(Iterable<Pair<K, V>> inputIterable)
+    {
+        return ConcurrentFastListMultimap.newMultimap(inputIterable);
+    }
+
+    @SafeVarargs
+    @Override
+    protected final <V> FastList<V> createCollection(V... args)
+    {
+        return FastList.newListWith(args);
+    }
+
+    @Test
+    public void promotedValues()
+    {
+        ConcurrentFastListMultimap<String, Integer> multimap = this.newMultimap();
+        Interval.oneTo(100).each(each -> multimap.put("A", each % 50));
+        multimap.put("A", null);
+        Verify.assertSize(101, multimap);
+        assertEquals(Interval.oneTo(100).collect(each -> each % 50).toList().with(null), multimap.get("A"));
+        assertTrue(multimap.remove("A", 10));
+        assertTrue(multimap.remove("A", null));
+        assertTrue(multimap.containsKeyAndValue("A", 10));
+        Verify.assertSize(99, multimap);
+        MutableList<Integer> view = multimap.get("A");
+        Verify.assertSize(99, multimap.removeAll("A"));
+        Verify.assertEmpty(view);
+        assertFalse(multimap.containsKey("A"));
+        Verify.assertEmpty(multimap);
+    }
+
+    @Test
+    public void readsBeforeAndAfterPromotion()
+    {
+        ConcurrentFastListMultimap<String, Integer> multimap = this.newMultimap();
+        multimap.put("A", 1);
+        MutableList<Integer> view = multimap.get("A");
+        for (int i = 1; i <= 20; i++)
+        {
+            int size = i;
+            MutableList<Integer> expected = Interval.oneTo(size).toList();
+            assertEquals(Integer.valueOf(1), view.get(0));
+            assertEquals(Integer.valueOf(size), view.get(size - 1));
+            assertThrows(IndexOutOfBoundsException.class, () -> view.get(size));
+            assertThrows(IndexOutOfBoundsException.class, () -> view.get(-1));
+            MutableList<Integer> each = FastList.newList();
+            view.each(each::add);
+            assertEquals(expected, each);
+            assertEquals(expected, FastList.newList(view));
+            assertEquals(expected, view);
+            assertEquals(view, expected);
+            assertEquals(expected.hashCode(), view.hashCode());
+            multimap.put("A", size + 1);
+        }
+
+        Iterator<Integer> iterator = view.iterator();
+        multimap.put("A", 22);
+        assertEquals(Interval.oneTo(21).toList(), FastList.newList(() -> iterator));
+        assertThrows(UnsupportedOperationException.class, () -> view.iterator().remove());
+    }
+
+    @Test
+    public void concurrentPutAndRemove()
+    {
+        ConcurrentFastListMultimap<Integer, Integer> multimap = this.newMultimap();
+        ParallelIterate.forEach(Interval.zeroTo(99_999), each ->
+        {
+            multimap.put(each % 10, each);
+            multimap.put(each % 10, -each);
+            multimap.remove(each % 10, -each);
+        }, 1_000);
+        Verify.assertSize(100_000, multimap);
+        assertEquals(10, multimap.sizeDistinct());
+        multimap.forEachKeyMultiValues((key, values) -> assertEquals(Interval.fromToBy(key, 99_999, 10).toBag(), HashBag.newBag(values)));
+    }
+
+    @Test
+    public void concurrentPutAndRemoveLastValue()
+    {
+        ConcurrentFastListMultimap<Integer, Integer> multimap = this.newMultimap();
+        ParallelIterate.forEach(Interval.zeroTo(99_999), each ->
+        {
+            multimap.put(each % 10, each);
+            assertTrue(multimap.remove(each % 10, each));
+        }, 1_000);
+        Verify.assertEmpty(multimap);
+        assertEquals(0, multimap.sizeDistinct());
+    }
+
+    @Test
+    public void serializationOfPromotedValues()
+    {
+        ConcurrentFastListMultimap<String, Integer> multimap = this.newMultimap();
+        multimap.putAll("A", Interval.oneTo(20));
+        multimap.put("B", null);
+        ConcurrentFastListMultimap<String, Integer> copy = SerializeTestHelper.serializeDeserialize(multimap);
+        assertEquals(multimap, copy);
+        Verify.assertSize(21, copy);
+    }
+}
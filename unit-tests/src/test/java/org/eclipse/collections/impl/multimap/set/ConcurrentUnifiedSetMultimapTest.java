@@ -0,0 +1,188 @@
+/*
+ * Copyright (c) 2024 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.multimap.set;
+
+import org.eclipse.collections.api.multimap.MutableMultimap;
+import org.eclipse.collections.api.tuple.Pair;
+import org.eclipse.collections.api.set.MutableSet;
+import org.eclipse.collections.impl.list.Interval;
+import org.eclipse.collections.impl.parallel.ParallelIterate;
+import org.eclipse.collections.impl.set.mutable.UnifiedSet;
+import org.eclipse.collections.impl.test.Verify;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test of {@link ConcurrentUnifiedSetMultimap}.
+ */
+public class ConcurrentUnifiedSetMultimapTest extends AbstractMutableSetMultimapTestCase
+{
+    @Override
+    protected <K, V> ConcurrentUnifiedSetMultimap<K, V> newMultimap()
+    {
+        return ConcurrentUnifiedSetMultimap.newMultimap();
+    }
+
+    @Override
+    protected <K, V> ConcurrentUnifiedSetMultimap<K, V> newMultimapWithKeyValue(K key, V value)
+    {
+        ConcurrentUnifiedSetMultimap<K, V> mutableMultimap = this.newMultimap();
+        mutableMultimap.put(key, value);
+        return mutableMultimap;
+    }
+
+    @Override
+    protected <K, V> ConcurrentUnifiedSetMultimap<K, V> newMultimapWithKeysValues(K key1, V value1, K key2, V value2)
+    {
+        ConcurrentUnifiedSetMultimap<K, V> mutableMultimap = this.newMultimap();
+        mutableMultimap.put(key1, value1);
+        mutableMultimap.put(key2, value2);
+        return mutableMultimap;
+    }
+
+    @Override
+    protected <K, V> ConcurrentUnifiedSetMultimap<K, V> newMultimapWithKeysValues(
+            K key1, V value1,
+            K key2, V value2,
+            K key3, V value3)
+    {
+        ConcurrentUnifiedSetMultimap<K, V> mutableMultimap = this.newMultimap();
+        mutableMultimap.put(key1, value1);
+        mutableMultimap.put(key2, value2);
+        mutableMultimap.put(key3, value3);
+        return mutableMultimap;
+    }
+
+    @Override
+    protected <K, V> ConcurrentUnifiedSetMultimap<K, V> newMultimapWithKeysValues(
+            K key1, V value1,
+            K key2, V value2,
+            K key3, V value3,
+            K key4, V value4)
+    {
+        ConcurrentUnifiedSetMultimap<K, V> mutableMultimap = this.newMultimap();
+        mutableMultimap.put(key1, value1);
+        mutableMultimap.put(key2, value2);
+        mutableMultimap.put(key3, value3);
+        mutableMultimap.put(key4, value4);
+        return mutableMultimap;
+    }
+
+    @SafeVarargs
+    @Override
+    protected final <K, V> ConcurrentUnifiedSetMultimap<K, V> newMultimap(Pair<K, V>... pairs)
+    {
+        return ConcurrentUnifiedSetMultimap.newMultimap(pairs);
+    }
+
+    @Override
+    protected <K, V> ConcurrentUnifiedSetMultimap<K, V> newMultimapFromPairs(Iterable<Pair<K, V>> inputIterable)
+    {
+        return ConcurrentUnifiedSetMultimap.newMultimap(inputIterable);
+    }
+
+    @SafeVarargs
+    @Override
+    protected final <V> UnifiedSet<V> createCollection(V... args)
+    {
+        return UnifiedSet.newSetWith(args);
+    }
+
+    @Test
+    @Override
+    public void testToString()
+    {
+        super.testToString();
+
+        MutableMultimap<String, Integer> multimap =
+                this.newMultimapWithKeysValues("One", 1, "One", 2);
+        String toString = multimap.toString();
+        assertTrue("{One=[1, 2]}".equals(toString) || "{One=[2, 1]}".equals(toString));
+    }
+
+    @Test
+    public void promotedValues()
+    {
+        ConcurrentUnifiedSetMultimap<String, Integer> multimap = this.newMultimap();
+        Interval.oneTo(100).each(each -> multimap.put("A", each % 50));
+        assertTrue(multimap.put("A", null));
+        assertFalse(multimap.put("A", null));
+        Verify.assertSize(51, multimap);
+        assertEquals(Interval.zeroTo(49).toSet().with(null), multimap.get("A"));
+        assertTrue(multimap.remove("A", 10));
+        assertFalse(multimap.remove("A", 10));
+        assertTrue(multimap.remove("A", null));
+        Verify.assertSize(49, multimap);
+        MutableSet<Integer> view = multimap.get("A");
+        Verify.assertSize(49, multimap.replaceValues("A", Interval.oneTo(3)));
+        Verify.assertEmpty(view);
+        assertEquals(UnifiedSet.newSetWith(1, 2, 3), multimap.get("A"));
+        Verify.assertSize(3, multimap);
+    }
+
+    @Test
+    public void readsBeforeAndAfterPromotion()
+    {
+        ConcurrentUnifiedSetMultimap<String, Integer> multimap = this.newMultimap();
+        multimap.put("A", 1);
+        MutableSet<Integer> view = multimap.get("A");
+        for (int size = 1; size <= 20; size++)
+        {
+            MutableSet<Integer> expected = Interval.oneTo(size).toSet();
+            assertTrue(expected.contains(view.getFirst()));
+            assertTrue(expected.contains(view.getLast()));
+            MutableSet<Integer> each = UnifiedSet.newSet();
+            view.each(each::add);
+            assertEquals(expected, each);
+            assertEquals(expected, UnifiedSet.newSet(view));
+            assertEquals(expected, view);
+            assertEquals(view, expected);
+            assertEquals(expected.hashCode(), view.hashCode());
+            assertNotEquals(view, Interval.oneTo(size + 1).toSet());
+            assertNotEquals(view, Interval.oneTo(size).toList());
+            multimap.put("A", size + 1);
+        }
+        multimap.put("B", null);
+        assertEquals(UnifiedSet.newSetWith((Integer) null), multimap.get("B"));
+        assertEquals(0, multimap.get("B").hashCode());
+    }
+
+    @Test
+    public void concurrentPutAndRemove()
+    {
+        ConcurrentUnifiedSetMultimap<Integer, Integer> multimap = this.newMultimap();
+        ParallelIterate.forEach(Interval.zeroTo(99_999), each ->
+        {
+            multimap.put(each % 10, each % 1_000);
+            multimap.put(each % 10, -each);
+            multimap.remove(each % 10, -each);
+        }, 1_000);
+        Verify.assertSize(1_000, multimap);
+        multimap.forEachKeyMultiValues((key, values) -> assertEquals(Interval.fromToBy(key, 999, 10).toSet(), values));
+    }
+
+    @Test
+    public void concurrentGetIfAbsentPutAllAndRemoveAll()
+    {
+        ConcurrentUnifiedSetMultimap<Integer, Integer> multimap = this.newMultimap();
+        ParallelIterate.forEach(Interval.zeroTo(99_999), each ->
+        {
+            multimap.getIfAbsentPutAll(each % 10, Interval.oneTo(3));
+            multimap.removeAll(each % 10);
+        }, 1_000);
+        Verify.assertEmpty(multimap);
+        assertEquals(0, multimap.sizeDistinct());
+    }
+}
@@ -0,0 +1,160 @@
+/*
+ * Copyright (c) 2024 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.parallel;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.impl.list.Interval;
+import org.eclipse.collections.impl.list.mutable.FastList;
+import org.eclipse.collections.impl.set.mutable.UnifiedSet;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class AdaptiveBatchSizeTest
+{
+    private final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+    @AfterEach
+    public void tearDown()
+    {
+        this.executor.shutdownNow();
+    }
+
+    @Test
+    public void forEachAdaptive_visitsEveryElementOnce()
+    {
+        ParallelIterate.forEachAdaptive(FastList.newList(), each -> {
+            throw new AssertionError();
+        });
+        for (int size : new int[]{1, 2, 10, 1_000, 100_000})
+        {
+            AtomicIntegerArray visits = new AtomicIntegerArray(size);
+            ParallelIterate.forEachAdaptive(Interval.zeroTo(size - 1), visits::incrementAndGet);
+            for (int i = 0; i < size; i++)
+            {
+                assertEquals(1, visits.get(i), "Size: " + size + ", index: " + i);
+            }
+        }
+    }
+
+    @Test
+    public void forEachAdaptive_nonRandomAccess()
+    {
+        LongAdder sum = new LongAdder();
+        ParallelIterate.forEachAdaptive(UnifiedSet.newSet(Interval.oneTo(50_000)), each -> sum.add(each));
+        assertEquals(50_000L * 50_001L / 2L, sum.sum());
+    }
+
+    @Test
+    public void forEachAdaptive_expensiveProcedureGetsSmallBatches()
+    {
+        MutableList<int[]> chosen = FastList.newList();
+        AdaptiveBatchSize adaptiveBatchSize = AdaptiveBatchSize.defaultBatchSize()
+                .withTargetTaskDuration(1L, TimeUnit.MILLISECONDS)
+                .withTaskCount(4)
+                .withListener((size, sampleSize, sampleNanos, batchSize, taskCount) -> chosen.add(new int[]{size, sampleSize, batchSize, taskCount}));
+        LongAdder sum = new LongAdder();
+        ParallelIterate.forEachAdaptive(Interval.oneTo(40), each -> {
+            AdaptiveBatchSizeTest.sleep();
+            sum.add(each);
+        }, adaptiveBatchSize, this.executor);
+
+        assertEquals(820L, sum.sum());
+        assertEquals(1, chosen.size());
+        // every element takes at least the target duration, so the sample stops after one element
+        assertEquals(40, chosen.getFirst()[0]);
+        assertEquals(1, chosen.getFirst()[1]);
+        assertEquals(1, chosen.getFirst()[2]);
+        assertEquals(4, chosen.getFirst()[3]);
+    }
+
+    @Test
+    public void forEachAdaptive_cheapProcedureRunsOnCallingThread()
+    {
+        MutableList<int[]> chosen = FastList.newList();
+        AdaptiveBatchSize adaptiveBatchSize = AdaptiveBatchSize.defaultBatchSize()
+                .withTargetTaskDuration(1L, TimeUnit.HOURS)
+                .withTaskCount(1)
+                .withListener((size, sampleSize, sampleNanos, batchSize, taskCount) -> chosen.add(new int[]{sampleSize, batchSize, taskCount}));
+        LongAdder sum = new LongAdder();
+        ParallelIterate.forEachAdaptive(Interval.oneTo(1_000), each -> sum.add(each), adaptiveBatchSize, this.executor);
+
+        assertEquals(500_500L, sum.sum());
+        assertEquals(1_000, chosen.getFirst()[0]);
+        assertEquals(0, chosen.getFirst()[1]);
+        assertEquals(0, chosen.getFirst()[2]);
+    }
+
+    @Test
+    public void forEachAdaptive_failure()
+    {
+        AdaptiveBatchSize adaptiveBatchSize = AdaptiveBatchSize.defaultBatchSize().withBatchSizeRange(1, 10);
+        RuntimeException exception = assertThrows(RuntimeException.class, () -> ParallelIterate.forEachAdaptive(Interval.oneTo(100_000), each -> {
+            if (each == 90_000)
+            {
+                throw new IllegalStateException();
+            }
+        }, adaptiveBatchSize, this.executor));
+        assertTrue(exception.getCause() instanceof IllegalStateException);
+    }
+
+    @Test
+    public void batchSizeFor()
+    {
+        AdaptiveBatchSize adaptiveBatchSize = AdaptiveBatchSize.defaultBatchSize()
+                .withTargetTaskDuration(1L, TimeUnit.MILLISECONDS)
+                .withTaskCount(4);
+        // one nanosecond per element: a million elements fill the target, but then a task would get no work
+        assertEquals(250_000, adaptiveBatchSize.batchSizeFor(1_000_000, 1_000, 1_000L));
+        assertEquals(1_000_000, adaptiveBatchSize.batchSizeFor(10_000_000, 1_000, 1_000L));
+        // one microsecond per element
+        assertEquals(1_000, adaptiveBatchSize.batchSizeFor(10_000_000, 1_000, 1_000_000L));
+        // ten milliseconds per element
+        assertEquals(1, adaptiveBatchSize.batchSizeFor(100, 1, 10_000_000L));
+
+        AdaptiveBatchSize range = adaptiveBatchSize.withBatchSizeRange(10, 500);
+        assertEquals(500, range.batchSizeFor(10_000_000, 1_000, 1_000L));
+        assertEquals(10, range.batchSizeFor(100, 1, 10_000_000L));
+        assertEquals(3, range.batchSizeFor(3, 1, 1L));
+    }
+
+    @Test
+    public void invalidSettings()
+    {
+        AdaptiveBatchSize adaptiveBatchSize = AdaptiveBatchSize.defaultBatchSize();
+        assertThrows(IllegalArgumentException.class, () -> adaptiveBatchSize.withTargetTaskDuration(0L, TimeUnit.MILLISECONDS));
+        assertThrows(IllegalArgumentException.class, () -> adaptiveBatchSize.withBatchSizeRange(0, 10));
+        assertThrows(IllegalArgumentException.class, () -> adaptiveBatchSize.withBatchSizeRange(10, 9));
+        assertThrows(IllegalArgumentException.class, () -> adaptiveBatchSize.withTaskCount(0));
+    }
+
+    private static void sleep()
+    {
+        try
+        {
+            Thread.sleep(1L);
+        }
+        catch (InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        }
+    }
+}
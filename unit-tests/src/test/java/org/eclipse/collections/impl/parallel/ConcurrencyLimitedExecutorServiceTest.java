@@ -0,0 +1,171 @@
+/*
+ * Copyright (c) 2024 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.parallel;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.api.map.MutableMap;
+import org.eclipse.collections.api.set.MutableSet;
+import org.eclipse.collections.impl.list.Interval;
+import org.eclipse.collections.impl.map.mutable.UnifiedMap;
+import org.eclipse.collections.impl.set.mutable.ConcurrentUnifiedSet;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ConcurrencyLimitedExecutorServiceTest
+{
+    private static final int MAX_CONCURRENCY = 4;
+
+    private final ExecutorService executor = ParallelIterate.newVirtualThreadExecutor(MAX_CONCURRENCY);
+    private final AtomicInteger running = new AtomicInteger();
+    private final AtomicInteger maxRunning = new AtomicInteger();
+
+    @AfterEach
+    public void tearDown() throws InterruptedException
+    {
+        this.executor.shutdown();
+        assertTrue(this.executor.awaitTermination(10L, TimeUnit.SECONDS));
+    }
+
+    private void block(Integer each)
+    {
+        this.maxRunning.accumulateAndGet(this.running.incrementAndGet(), Math::max);
+        try
+        {
+            Thread.sleep(1L);
+        }
+        catch (InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        }
+        finally
+        {
+            this.running.decrementAndGet();
+        }
+    }
+
+    @Test
+    public void forEachIsLimited()
+    {
+        MutableList<Integer> list = Interval.oneTo(200).toList();
+        AtomicInteger count = new AtomicInteger();
+        ParallelIterate.forEach(list, each ->
+        {
+            this.block(each);
+            count.incrementAndGet();
+        }, 1, this.executor);
+        assertEquals(200, count.get());
+        assertTrue(this.maxRunning.get() <= MAX_CONCURRENCY);
+    }
+
+    @Test
+    public void platformThreadsAreLimited()
+    {
+        MutableSet<Thread> threads = ConcurrentUnifiedSet.newSet();
+        ParallelIterate.forEach(Interval.oneTo(200), each ->
+        {
+            this.block(each);
+            threads.add(Thread.currentThread());
+        }, 1, this.executor);
+        if (!ConcurrencyLimitedExecutorService.isVirtualThreadSupported())
+        {
+            assertTrue(threads.size() <= MAX_CONCURRENCY);
+        }
+    }
+
+    @Test
+    public void collectIsLimitedAndOrdered()
+    {
+        MutableList<Integer> list = Interval.oneTo(200).toList();
+        MutableList<Integer> result = ParallelIterate.collect(list, each ->
+        {
+            this.block(each);
+            return each * 2;
+        }, null, 1, this.executor, false);
+        assertEquals(list.collect(each -> each * 2), result);
+        assertTrue(this.maxRunning.get() <= MAX_CONCURRENCY);
+    }
+
+    @Test
+    public void aggregateByIsLimited()
+    {
+        MutableList<Integer> list = Interval.oneTo(200).toList();
+        MutableMap<String, Integer> result = ParallelIterate.aggregateBy(list, each ->
+        {
+            this.block(each);
+            return each % 2 == 0 ? "Even" : "Odd";
+        }, () -> 0, Integer::sum, 1, this.executor);
+        assertEquals(UnifiedMap.newWithKeysValues("Even", 10100, "Odd", 10000), result);
+        assertTrue(this.maxRunning.get() <= MAX_CONCURRENCY);
+    }
+
+    @Test
+    public void asParallel()
+    {
+        MutableList<Integer> list = Interval.oneTo(200).toList();
+        MutableList<Integer> result = list.asParallel(this.executor, 1).collect(each ->
+        {
+            this.block(each);
+            return each + 1;
+        }).toList();
+        assertEquals(Interval.fromTo(2, 201).toList(), result);
+        assertTrue(this.maxRunning.get() <= MAX_CONCURRENCY);
+    }
+
+    @Test
+    public void blockingMethods()
+    {
+        MutableList<Integer> list = Interval.oneTo(1000).toList();
+        AtomicInteger sum = new AtomicInteger();
+        ParallelIterate.forEachBlocking(list, sum::addAndGet);
+        assertEquals(500500, sum.get());
+        assertEquals(list.collect(String::valueOf), ParallelIterate.collectBlocking(list, String::valueOf));
+        assertEquals(
+                list.aggregateBy(each -> each % 3, () -> 0, Integer::sum),
+                ParallelIterate.aggregateByBlocking(list, each -> each % 3, () -> 0, Integer::sum));
+    }
+
+    @Test
+    public void exceptionIsPropagated()
+    {
+        assertThrows(RuntimeException.class, () -> ParallelIterate.forEach(Interval.oneTo(10), each ->
+        {
+            throw new IllegalStateException();
+        }, 1, this.executor));
+    }
+
+    @Test
+    public void wrap()
+    {
+        ExecutorService pool = Executors.newCachedThreadPool();
+        ConcurrencyLimitedExecutorService limited = ConcurrencyLimitedExecutorService.wrap(pool, 2);
+        ParallelIterate.forEach(Interval.oneTo(50), this::block, 1, limited);
+        assertTrue(this.maxRunning.get() <= 2);
+        assertEquals(2, limited.getMaxConcurrency());
+        limited.shutdown();
+        assertTrue(pool.isShutdown());
+    }
+
+    @Test
+    public void maxConcurrencyMustBePositive()
+    {
+        assertThrows(IllegalArgumentException.class, () -> ParallelIterate.newVirtualThreadExecutor(0));
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2024 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.set.immutable;
+
+import java.util.Random;
+
+import org.eclipse.collections.api.set.ImmutableSet;
+import org.eclipse.collections.api.set.MutableSet;
+import org.eclipse.collections.impl.list.Interval;
+import org.eclipse.collections.impl.set.mutable.UnifiedSet;
+import org.eclipse.collections.impl.test.SerializeTestHelper;
+import org.eclipse.collections.impl.test.Verify;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public class ImmutableChampSetTest
+        extends AbstractImmutableSetTestCase
+{
+    private static final int LARGE_SIZE = 10_000;
+
+    @Override
+    protected ImmutableSet<Integer> classUnderTest()
+    {
+        return ImmutableChampSet.newSetWith(1, 2, 3, 4);
+    }
+
+    @Test
+    public void newWith_keepsPreviousVersions()
+    {
+        Random random = new Random(1L);
+        MutableSet<Integer> expected = UnifiedSet.newSet();
+        ImmutableChampSet<Integer> set = ImmutableChampSet.empty();
+        for (int i = 0; i < LARGE_SIZE; i++)
+        {
+            int element = random.nextInt(LARGE_SIZE);
+            ImmutableChampSet<Integer> previous = set;
+            MutableSet<Integer> previousExpected = UnifiedSet.newSet(expected);
+            if (random.nextInt(3) == 0)
+            {
+                set = set.newWithout(element);
+                expected.remove(element);
+            }
+            else
+            {
+                set = set.newWith(element);
+                expected.add(element);
+            }
+            assertEquals(previousExpected, previous);
+        }
+        assertEquals(expected, set);
+        assertSame(set, set.newWithout(-1));
+    }
+
+    @Test
+    public void builder()
+    {
+        ImmutableChampSet.Builder<Integer> builder = ImmutableChampSet.<Integer>newSetWith(1, 2, 3).toBuilder();
+        builder.addAll(Interval.oneTo(LARGE_SIZE));
+        builder.remove(1);
+        ImmutableChampSet<Integer> set = builder.build();
+        assertEquals(Interval.fromTo(2, LARGE_SIZE).toSet(), set);
+
+        builder.add(1);
+        Verify.assertContains(1, builder.build().castToSet());
+        Verify.assertNotContains(1, set.castToSet());
+    }
+
+    @Test
+    public void serialization_large()
+    {
+        ImmutableChampSet<Integer> set = ImmutableChampSet.newSet(Interval.oneTo(LARGE_SIZE));
+        assertEquals(set, SerializeTestHelper.serializeDeserialize(set));
+    }
+}
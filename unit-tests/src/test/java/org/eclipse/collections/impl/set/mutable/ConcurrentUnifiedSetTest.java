@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2024 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.set.mutable;
+
+import java.util.Collections;
+
+import org.eclipse.collections.api.collection.MutableCollection;
+import org.eclipse.collections.api.set.MutableSet;
+import org.eclipse.collections.impl.list.Interval;
+import org.eclipse.collections.impl.parallel.ParallelIterate;
+import org.eclipse.collections.impl.test.SerializeTestHelper;
+import org.eclipse.collections.impl.test.Verify;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * JUnit test for {@link ConcurrentUnifiedSet}.
+ */
+public class ConcurrentUnifiedSetTest extends AbstractMutableSetTestCase
+{
+    @Override
+    protected <T> ConcurrentUnifiedSet<T> newWith(T... littleElements)
+    {
+        return ConcurrentUnifiedSet.newSetWith(littleElements);
+    }
+
+    @Override
+    @Test
+    public void testToString()
+    {
+        MutableCollection<Object> collection = this.newWith(1);
+        collection.add(collection);
+        String simpleName = collection.getClass().getSimpleName();
+        String string = collection.toString();
+        assertTrue(
+                ("[1, (this " + simpleName + ")]").equals(string)
+                        || ("[(this " + simpleName + "), 1]").equals(string));
+    }
+
+    /**
+     * Colliding elements share a chain, which is not kept in insertion order.
+     */
+    @Override
+    @Test
+    public void frequentCollisions()
+    {
+        MutableSet<String> set1 = this.newWith(FREQUENT_COLLISIONS);
+        MutableSet<String> set2 = this.newWith(FREQUENT_COLLISIONS);
+        String removed1 = FREQUENT_COLLISIONS[FREQUENT_COLLISIONS.length - 1];
+        String removed2 = FREQUENT_COLLISIONS[FREQUENT_COLLISIONS.length - 2];
+        set2.remove(removed1);
+        set2.remove(removed2);
+
+        assertTrue(set1.retainAll(set2));
+        assertEquals(set2, set1);
+        Verify.assertSize(FREQUENT_COLLISIONS.length - 2, set1);
+    }
+
+    @Test
+    public void addAndRemoveNull()
+    {
+        ConcurrentUnifiedSet<String> set = ConcurrentUnifiedSet.newSet();
+        assertTrue(set.add(null));
+        assertFalse(set.add(null));
+        assertTrue(set.contains(null));
+        Verify.assertSize(1, set);
+        assertEquals(UnifiedSet.newSetWith((String) null), set);
+        assertTrue(set.remove(null));
+        assertFalse(set.contains(null));
+        Verify.assertEmpty(set);
+    }
+
+    @Test
+    public void resize()
+    {
+        ConcurrentUnifiedSet<Integer> set = ConcurrentUnifiedSet.newSet(1);
+        Interval.oneTo(10_000).each(set::add);
+        assertEquals(Interval.oneTo(10_000).toSet(), set);
+        Interval.oneTo(10_000).select(each -> each % 2 == 0).forEach(set::remove);
+        assertEquals(Interval.oneTo(10_000).select(each -> each % 2 == 1).toSet(), set);
+        set.clear();
+        Verify.assertEmpty(set);
+    }
+
+    @Test
+    public void resizeWhenContainingItself()
+    {
+        ConcurrentUnifiedSet<Object> set = ConcurrentUnifiedSet.newSet(1);
+        set.add(set);
+        Interval.oneTo(1_000).each(set::add);
+        Verify.assertSize(1_001, set);
+        assertTrue(set.anySatisfy(each -> each == set));
+        assertTrue(set.containsAllIterable(Interval.oneTo(1_000)));
+    }
+
+    @Test
+    public void concurrentAdd()
+    {
+        ConcurrentUnifiedSet<Integer> set = ConcurrentUnifiedSet.newSet();
+        ParallelIterate.forEach(Interval.zeroTo(99_999), each -> set.add(each % 50_000), 1_000);
+        Verify.assertSize(50_000, set);
+        assertEquals(Interval.zeroTo(49_999).toSet(), set);
+    }
+
+    @Test
+    public void concurrentAddAndRemove()
+    {
+        ConcurrentUnifiedSet<Integer> set = ConcurrentUnifiedSet.newSet();
+        ParallelIterate.forEach(Interval.zeroTo(99_999), each ->
+        {
+            set.add(each);
+            if (each % 2 == 0)
+            {
+                set.remove(each);
+            }
+        }, 1_000);
+        assertEquals(Interval.zeroTo(99_999).select(each -> each % 2 == 1).toSet(), set);
+        Verify.assertSize(50_000, set);
+    }
+
+    @Test
+    public void serialization()
+    {
+        ConcurrentUnifiedSet<String> set = ConcurrentUnifiedSet.newSetWith(null, "a", "b");
+        MutableSet<String> copy = SerializeTestHelper.serializeDeserialize(set);
+        Verify.assertInstanceOf(ConcurrentUnifiedSet.class, copy);
+        assertEquals(set, copy);
+        assertEquals(Collections.emptySet(), SerializeTestHelper.serializeDeserialize(ConcurrentUnifiedSet.newSet()));
+    }
+}